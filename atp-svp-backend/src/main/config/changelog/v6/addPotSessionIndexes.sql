@@ -0,0 +1,31 @@
+-- liquibase formatted sql
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_sessions_started runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_sessions_started_session_id_idx
+    ON public.pot_sessions USING btree (started, session_id);
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_session_page_session_id_name runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_session_page_session_id_name_idx
+    ON public.pot_session_page USING btree (pot_session_id, name);
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_session_page_impacting_status runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_session_page_impacting_status_idx
+    ON public.pot_session_page USING btree (pot_session_id, validation_status)
+    WHERE validation_status != 0 AND validation_status != 5 AND validation_status != 3;
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_session_tab_impacting_status runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_session_tab_impacting_status_idx
+    ON public.pot_session_tab USING btree (pot_session_page_id, validation_status)
+    WHERE validation_status != 0 AND validation_status != 5;
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_session_parameter_session_id runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_session_parameter_pot_session_id_index
+    ON public.pot_session_parameter USING btree (pot_session_id);
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_session_parameter_tab_id runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_session_parameter_pot_session_tab_id_index
+    ON public.pot_session_parameter USING btree (pot_session_tab_id);
+
+-- changeset atp-svp-dev-v6:Create_idx_pot_session_tab_page_id runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pot_session_tab_pot_session_page_id_index
+    ON public.pot_session_tab USING btree (pot_session_page_id);
@@ -18,13 +18,18 @@ package org.qubership.atp.svp.config;
 
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.qubership.atp.svp.core.executor.SessionFairTaskExecutor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @EnableAsync
 @Configuration
 public class AsyncConfig {
@@ -41,37 +46,55 @@ public class AsyncConfig {
     private int validationThreadPoolMaxSize;
     @Value("${svp.validation.thread.pool.queue.capacity}")
     private int validationThreadPoolQueueCapacity;
+    @Value("${svp.sources.loading.thread.pool.core.size}")
+    private int sourcesLoadingThreadPoolCoreSize;
+    @Value("${svp.sources.loading.thread.pool.max.size}")
+    private int sourcesLoadingThreadPoolMaxSize;
+    @Value("${svp.sources.loading.thread.pool.queue.capacity}")
+    private int sourcesLoadingThreadPoolQueueCapacity;
+    @Value("${svp.executor.session.concurrency.limit:20}")
+    private int sessionConcurrencyLimit;
 
     /**
      * Custom async task executor for getting info process.
+     * Threads are shared fairly between sessions, see {@link SessionFairTaskExecutor}.
      *
      * @return TaskExecutor instance.
      */
     @Bean("GettingInfoProcessExecutor")
-    public TaskExecutor getAsyncExecutorForGettingInfoProcess() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(gettingInfoThreadPoolCoreSize);
-        executor.setMaxPoolSize(gettingInfoThreadPoolMaxSize);
-        executor.setWaitForTasksToCompleteOnShutdown(false);
-        executor.setQueueCapacity(gettingInfoThreadPoolQueueCapacity);
-        executor.setThreadNamePrefix("Async-GettingInfoProcessExecutor-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        return executor;
+    public TaskExecutor getAsyncExecutorForGettingInfoProcess(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SessionFairTaskExecutor("GettingInfoProcessExecutor", gettingInfoThreadPoolCoreSize,
+                gettingInfoThreadPoolMaxSize, gettingInfoThreadPoolQueueCapacity, sessionConcurrencyLimit,
+                meterRegistry.getIfAvailable());
     }
 
     /**
      * Custom async task executor for validation process.
+     * Threads are shared fairly between sessions, see {@link SessionFairTaskExecutor}.
      *
      * @return TaskExecutor instance.
      */
     @Bean("ValidationProcessExecutor")
-    public TaskExecutor getAsyncExecutorForValidationProcess() {
+    public TaskExecutor getAsyncExecutorForValidationProcess(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SessionFairTaskExecutor("ValidationProcessExecutor", validationThreadPoolCoreSize,
+                validationThreadPoolMaxSize, validationThreadPoolQueueCapacity, sessionConcurrencyLimit,
+                meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Custom async task executor for concurrent loading of the parameter sources.
+     * When the pool is exhausted the source is loaded in the thread of the parameter.
+     *
+     * @return AsyncTaskExecutor instance.
+     */
+    @Bean("SourcesLoadingExecutor")
+    public AsyncTaskExecutor getAsyncExecutorForSourcesLoading() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(validationThreadPoolCoreSize);
-        executor.setMaxPoolSize(validationThreadPoolMaxSize);
+        executor.setCorePoolSize(sourcesLoadingThreadPoolCoreSize);
+        executor.setMaxPoolSize(sourcesLoadingThreadPoolMaxSize);
         executor.setWaitForTasksToCompleteOnShutdown(false);
-        executor.setQueueCapacity(validationThreadPoolQueueCapacity);
-        executor.setThreadNamePrefix("Async-ValidationProcessExecutor-");
+        executor.setQueueCapacity(sourcesLoadingThreadPoolQueueCapacity);
+        executor.setThreadNamePrefix("Async-SourcesLoadingExecutor-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         return executor;
     }
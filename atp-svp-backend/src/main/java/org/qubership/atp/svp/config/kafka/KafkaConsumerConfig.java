@@ -27,6 +27,7 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.UUIDDeserializer;
+import org.qubership.atp.svp.kafka.PodAddressedDeserializer;
 import org.qubership.atp.svp.model.api.kafka.ProjectEvent;
 import org.qubership.atp.svp.model.kafka.LogCollectorKafkaMessage;
 import org.qubership.atp.svp.model.kafka.SvpKafkaMessage;
@@ -62,6 +63,9 @@ public class KafkaConsumerConfig implements KafkaListenerConfigurer {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetResetConfig;
 
+    @Value("${service.pod-name}" + ":${spring.application.name}" + ":${server.port}")
+    private String podName;
+
     private static final String TOOL_NAME = "atp-svp";
 
     @Autowired
@@ -122,6 +126,7 @@ public class KafkaConsumerConfig implements KafkaListenerConfigurer {
 
     /**
      * Bean for creating ConcurrentKafkaListenerContainerFactory, used for init Kafka listeners.
+     * Messages addressed to other pods are not deserialized and are skipped by the record filter.
      *
      * @return {@link ConcurrentKafkaListenerContainerFactory} type of key {@link UUID},
      *         type of value {@link SvpKafkaMessage}.
@@ -132,12 +137,14 @@ public class KafkaConsumerConfig implements KafkaListenerConfigurer {
         ConcurrentKafkaListenerContainerFactory<UUID, SvpKafkaMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setRecordFilterStrategy(consumerRecord -> Objects.isNull(consumerRecord.value()));
         return factory;
     }
 
     private ConsumerFactory consumerFactory() {
         return new DefaultKafkaConsumerFactory(consumerConfigs(), new UUIDDeserializer(),
-                generateJsonDeserializer(SvpKafkaMessage.class, false, true));
+                new PodAddressedDeserializer<>(generateJsonDeserializer(SvpKafkaMessage.class, false, true),
+                        podName));
     }
 
     private Properties consumerConfigs() {
@@ -26,6 +26,7 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.kafka.common.serialization.UUIDSerializer;
 import org.qubership.atp.svp.kafka.KafkaSendlerService;
+import org.qubership.atp.svp.service.SessionService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,6 +50,15 @@ public class KafkaProducerConfig {
     @Value("${kafka.topic.end.svp.replication}")
     private short replication;
 
+    @Value("${kafka.producer.linger.ms:20}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch.size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.compression.type:lz4}")
+    private String compressionType;
+
     /**
      * Creates KafkaAdmin.
      *
@@ -63,6 +73,7 @@ public class KafkaProducerConfig {
 
     /**
      * Creates ProducerFactory.
+     * Messages are collected into batches for up to linger time and batches are compressed.
      *
      * @return ProducerFactory.
      */
@@ -72,6 +83,9 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, UUIDSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -91,12 +105,12 @@ public class KafkaProducerConfig {
     }
 
     /**
-     * Creates KafkaSandlerService.
+     * Creates KafkaSandlerService, messages are addressed to the pod of the session.
      *
      * @return KafkaSandlerService.
      */
     @Bean
-    public KafkaSendlerService endExecutionNotificationService() {
-        return new KafkaSendlerService(svpKafkaTopic, kafkaTemplate());
+    public KafkaSendlerService endExecutionNotificationService(SessionService sessionService) {
+        return new KafkaSendlerService(svpKafkaTopic, kafkaTemplate(), sessionService::getSessionPodName);
     }
 }
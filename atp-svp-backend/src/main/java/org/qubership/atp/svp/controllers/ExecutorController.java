@@ -16,9 +16,12 @@
 
 package org.qubership.atp.svp.controllers;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.qubership.atp.integration.configuration.configuration.AuditAction;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.svp.annotations.ControllerWithCatalogPrefix;
@@ -28,12 +31,10 @@ import org.qubership.atp.svp.model.api.GetParameterResultRequest;
 import org.qubership.atp.svp.model.api.ram.SessionDto;
 import org.qubership.atp.svp.model.api.tsg.PreconfiguredValidation;
 import org.qubership.atp.svp.model.messages.SutParameterResultMessage;
-import org.qubership.atp.svp.model.pot.PotFile;
+import org.qubership.atp.svp.model.pot.StreamingPotFile;
 import org.qubership.atp.svp.service.ExecutorService;
 import org.qubership.atp.svp.service.PotSessionService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -78,21 +79,29 @@ public class ExecutorController /*implements ExecutorControllerApi*/ {
     }
 
     /**
-     * Generates zip or doc with POT and returns stream to download it.
+     * Generates zip or doc with POT and writes it directly to the response.
      */
     @PostMapping(value = "/get-pot")
     @AuditAction(auditAction = "Generate POT document for session: {{#request.sessionId}}")
     @PreAuthorize("@entityAccess.checkAccess(#projectId, \"EXECUTE\")")
-    public ResponseEntity<Resource> getPotReportForSession(@PathVariable(value = "projectId") UUID projectId,
-                                                           @RequestBody GetInfoRequest request) {
+    public void getPotReportForSession(@PathVariable(value = "projectId") UUID projectId,
+                                       @RequestBody GetInfoRequest request,
+                                       HttpServletResponse response) throws IOException {
         MdcUtils.put(MdcField.ENVIRONMENT_ID.toString(), request.getEnvironmentId());
         MdcUtils.put(MdcField.SESSION_ID.toString(), request.getSessionId());
-        PotFile potFile = executorService.getPotReportForSession(request.getSessionId());
-        InputStreamResource resource = new InputStreamResource(new ByteArrayInputStream(potFile.getBytes()));
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + potFile.getName())
-                .body(resource);
+        writePotFile(executorService.getStreamingPotReportForSession(projectId, request.getSessionId()), response);
+    }
+
+    /**
+     * Generates zip with POT of each session and writes it directly to the response.
+     */
+    @PostMapping(value = "/get-pots")
+    @AuditAction(auditAction = "Generate POT archive for sessions: {{#sessionIds}}")
+    @PreAuthorize("@entityAccess.checkAccess(#projectId, \"EXECUTE\")")
+    public void getPotReportForSessions(@PathVariable(value = "projectId") UUID projectId,
+                                        @RequestBody List<UUID> sessionIds,
+                                        HttpServletResponse response) throws IOException {
+        writePotFile(executorService.getStreamingPotReportForSessions(projectId, sessionIds), response);
     }
 
     /**
@@ -111,21 +120,17 @@ public class ExecutorController /*implements ExecutorControllerApi*/ {
 
     /**
      * Synchronize getting info and generation POT for selected pages
-     * Generates zip or doc with POT and returns stream to download it.
+     * Generates zip or doc with POT and writes it directly to the response.
      */
     @PreAuthorize("@entityAccess.checkAccess(#projectId, \"EXECUTE\")")
     @AuditAction(auditAction = "Synchronize get POT for project: {{#projectId}}")
     @PostMapping("/get-pot-sync")
-    public ResponseEntity<Resource> getPotSync(@PathVariable(value = "projectId") UUID projectId,
-                                               @RequestBody GetInfoRequest request) {
+    public void getPotSync(@PathVariable(value = "projectId") UUID projectId,
+                           @RequestBody GetInfoRequest request,
+                           HttpServletResponse response) throws IOException {
         MdcUtils.put(MdcField.ENVIRONMENT_ID.toString(), request.getEnvironmentId());
         MdcUtils.put(MdcField.SESSION_ID.toString(), request.getSessionId());
-        PotFile potFile = executorService.getPotSync(projectId, request);
-        InputStreamResource resource = new InputStreamResource(new ByteArrayInputStream(potFile.getBytes()));
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + potFile.getName())
-                .body(resource);
+        writePotFile(executorService.getPotSync(projectId, request), response);
     }
 
     /**
@@ -177,4 +182,11 @@ public class ExecutorController /*implements ExecutorControllerApi*/ {
         MdcUtils.put(MdcField.SESSION_ID.toString(), request.getSessionId());
         return executorService.getPreconfiguredValidationResults(projectId, request);
     }
+
+    private void writePotFile(StreamingPotFile potFile, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + potFile.getName());
+        potFile.writeTo(response.getOutputStream());
+        response.flushBuffer();
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.core.executor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.atp.svp.core.enums.EngineType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits number of sources of the same engine type loaded at the moment,
+ * so sessions do not exhaust connections of one data source type.
+ */
+@Component
+public class EngineTypeConcurrencyLimiter {
+
+    private final Map<EngineType, Semaphore> permits = new EnumMap<>(EngineType.class);
+
+    /**
+     * Constructor for {@link EngineTypeConcurrencyLimiter} instance.
+     */
+    @Autowired
+    public EngineTypeConcurrencyLimiter(@Value("${svp.sources.loading.engine-type.concurrency.limit:50}")
+                                        int engineTypeConcurrencyLimit) {
+        for (EngineType engineType : EngineType.values()) {
+            permits.put(engineType, new Semaphore(Math.max(engineTypeConcurrencyLimit, 1), true));
+        }
+    }
+
+    /**
+     * Waits for a permit to load a source of the engine type, sources without engine type are not limited.
+     *
+     * @return false if the permit was not acquired within the timeout.
+     */
+    public boolean tryAcquire(EngineType engineType, long timeoutMs) throws InterruptedException {
+        return Objects.isNull(engineType) || permits.get(engineType).tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Releases the permit acquired by {@link #tryAcquire(EngineType, long)}.
+     */
+    public void release(EngineType engineType) {
+        if (Objects.nonNull(engineType)) {
+            permits.get(engineType).release();
+        }
+    }
+}
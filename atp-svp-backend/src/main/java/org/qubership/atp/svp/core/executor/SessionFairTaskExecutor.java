@@ -0,0 +1,406 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.core.executor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+import org.qubership.atp.svp.mdc.MdcField;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Task executor which shares threads fairly between sessions.
+ * <br>
+ * Tasks are queued per session and sessions are served in round-robin order,
+ * so a session with many parameters does not delay other sessions.
+ * Number of concurrently running tasks of one session is limited.
+ * <br>
+ * Task belongs to the session of the task which submits it (tasks of the session publish next events
+ * of the same session) or to the session from MDC for tasks submitted by request threads.
+ * Tasks without session are queued together without the session limit.
+ * <br>
+ * Threads are started on demand up to max pool size, threads above core pool size are stopped after
+ * keep alive time without tasks. When the queue is full the task is run in the caller thread,
+ * which slows down the submitting side.
+ * <br>
+ * Queue capacity 0 or less keeps the hand-off behaviour of a thread pool without a queue:
+ * the task is accepted while the number of queued and running tasks is below max pool size.
+ */
+@Slf4j
+public class SessionFairTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private static final String NO_SESSION = "";
+    private static final long KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final String METRIC_PREFIX = "atp.svp.executor.";
+    private static final ThreadLocal<String> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final String name;
+    private final int corePoolSize;
+    private final int maxPoolSize;
+    private final int queueCapacity;
+    private final int sessionConcurrencyLimit;
+    private final CustomizableThreadFactory threadFactory;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition taskReady = lock.newCondition();
+    private final Map<String, SessionTasks> sessions = new HashMap<>();
+    private final Deque<SessionTasks> readySessions = new ArrayDeque<>();
+    private final Set<Thread> workers = new HashSet<>();
+    private int idleWorkers;
+    private int queuedTasks;
+    private int activeTasks;
+    private boolean shutdown;
+
+    private final AtomicLong rejectedTasks = new AtomicLong();
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    /**
+     * Creates executor, metrics are not registered if meter registry is null.
+     */
+    public SessionFairTaskExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                   int sessionConcurrencyLimit, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.corePoolSize = corePoolSize;
+        this.maxPoolSize = Math.max(maxPoolSize, 1);
+        this.queueCapacity = queueCapacity;
+        this.sessionConcurrencyLimit = Math.max(sessionConcurrencyLimit, 1);
+        this.threadFactory = new CustomizableThreadFactory("Async-" + name + "-");
+        if (Objects.isNull(meterRegistry)) {
+            this.waitTimer = null;
+            this.executionTimer = null;
+        } else {
+            registerGauge(meterRegistry, "queued.tasks", "tasks waiting in the queue",
+                    executor -> executor.getQueuedTasks());
+            registerGauge(meterRegistry, "active.tasks", "threads running tasks",
+                    executor -> executor.getActiveTasks());
+            registerGauge(meterRegistry, "pool.size", "started threads", executor -> executor.getPoolSize());
+            registerGauge(meterRegistry, "sessions", "sessions with queued or running tasks",
+                    executor -> executor.getSessionsCount());
+            FunctionCounter.builder(METRIC_PREFIX + "rejected.tasks", rejectedTasks, AtomicLong::get)
+                    .description("tasks run in the caller thread because the queue was full")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder(METRIC_PREFIX + "task.wait")
+                    .description("time of the task in the queue")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            this.executionTimer = Timer.builder(METRIC_PREFIX + "task.execution")
+                    .description("execution time of the task")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String sessionKey = currentSessionKey();
+        long submittedNanos = System.nanoTime();
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new TaskRejectedException("Executor " + name + " is shut down");
+            }
+            if (hasRoomForTask()) {
+                SessionTasks sessionTasks = sessions.computeIfAbsent(sessionKey, SessionTasks::new);
+                sessionTasks.tasks.add(new QueuedTask(task, submittedNanos));
+                queuedTasks++;
+                scheduleIfReady(sessionTasks);
+                if (readySessions.size() > idleWorkers && workers.size() < maxPoolSize) {
+                    startWorker();
+                }
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejectedTasks.incrementAndGet();
+        log.debug("Queue of {} is full, task is run in the caller thread.", name);
+        task.run();
+    }
+
+    @Override
+    @Deprecated
+    public void execute(Runnable task, long startTimeout) {
+        execute(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Stops threads of the executor, queued tasks are not executed and running tasks are interrupted.
+     */
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            shutdown = true;
+            readySessions.clear();
+            sessions.clear();
+            queuedTasks = 0;
+            workers.forEach(Thread::interrupt);
+            taskReady.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns count of tasks waiting in the queue.
+     */
+    public int getQueuedTasks() {
+        lock.lock();
+        try {
+            return queuedTasks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns count of running tasks.
+     */
+    public int getActiveTasks() {
+        lock.lock();
+        try {
+            return activeTasks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns count of started threads.
+     */
+    public int getPoolSize() {
+        lock.lock();
+        try {
+            return workers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns count of sessions which have queued or running tasks.
+     */
+    public int getSessionsCount() {
+        lock.lock();
+        try {
+            return sessions.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedTasks() {
+        return rejectedTasks.get();
+    }
+
+    /**
+     * Returns session of the task running in the current thread or session from MDC.
+     */
+    static String currentSessionKey() {
+        String sessionKey = CURRENT_SESSION.get();
+        if (Objects.isNull(sessionKey)) {
+            sessionKey = MDC.get(MdcField.SESSION_ID.toString());
+        }
+        return Objects.isNull(sessionKey) ? NO_SESSION : sessionKey;
+    }
+
+    /**
+     * Checks whether one more task can be queued. Must be called under the lock.
+     */
+    private boolean hasRoomForTask() {
+        if (queueCapacity > 0) {
+            return queuedTasks < queueCapacity;
+        }
+        return queuedTasks + activeTasks < maxPoolSize;
+    }
+
+    /**
+     * Puts the session to the end of ready sessions if it has queued tasks and is not at the limit.
+     * Must be called under the lock.
+     */
+    private void scheduleIfReady(SessionTasks sessionTasks) {
+        int limit = NO_SESSION.equals(sessionTasks.key) ? maxPoolSize : sessionConcurrencyLimit;
+        if (!sessionTasks.scheduled && !sessionTasks.tasks.isEmpty() && sessionTasks.running < limit) {
+            sessionTasks.scheduled = true;
+            readySessions.add(sessionTasks);
+            taskReady.signal();
+        }
+    }
+
+    private void startWorker() {
+        Thread worker = threadFactory.newThread(this::runWorker);
+        workers.add(worker);
+        worker.start();
+    }
+
+    private void runWorker() {
+        while (true) {
+            SessionTasks sessionTasks;
+            QueuedTask task;
+            lock.lock();
+            try {
+                if (!awaitReadySession()) {
+                    workers.remove(Thread.currentThread());
+                    return;
+                }
+                sessionTasks = readySessions.poll();
+                sessionTasks.scheduled = false;
+                task = sessionTasks.tasks.poll();
+                queuedTasks--;
+                sessionTasks.running++;
+                activeTasks++;
+                // The session goes to the end of the queue, so sessions take turns
+                scheduleIfReady(sessionTasks);
+            } finally {
+                lock.unlock();
+            }
+            runTask(task, sessionTasks.key);
+            lock.lock();
+            try {
+                sessionTasks.running--;
+                activeTasks--;
+                if (sessionTasks.running == 0 && sessionTasks.tasks.isEmpty()) {
+                    sessions.remove(sessionTasks.key, sessionTasks);
+                } else {
+                    scheduleIfReady(sessionTasks);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Waits for a ready session under the lock.
+     *
+     * @return false if the worker should be stopped.
+     */
+    private boolean awaitReadySession() {
+        long remainingNanos = KEEP_ALIVE_NANOS;
+        while (readySessions.isEmpty()) {
+            if (shutdown) {
+                return false;
+            }
+            if (remainingNanos <= 0) {
+                if (workers.size() > corePoolSize) {
+                    return false;
+                }
+                remainingNanos = KEEP_ALIVE_NANOS;
+            }
+            idleWorkers++;
+            try {
+                remainingNanos = taskReady.awaitNanos(remainingNanos);
+            } catch (InterruptedException e) {
+                if (shutdown) {
+                    return false;
+                }
+            } finally {
+                idleWorkers--;
+            }
+        }
+        return !shutdown;
+    }
+
+    private void runTask(QueuedTask task, String sessionKey) {
+        long startedNanos = System.nanoTime();
+        if (Objects.nonNull(waitTimer)) {
+            waitTimer.record(startedNanos - task.submittedNanos, TimeUnit.NANOSECONDS);
+        }
+        CURRENT_SESSION.set(sessionKey);
+        try {
+            task.runnable.run();
+        } catch (RuntimeException e) {
+            log.error("Task of {} failed.", name, e);
+        } finally {
+            CURRENT_SESSION.remove();
+            Thread.interrupted();
+            if (Objects.nonNull(executionTimer)) {
+                executionTimer.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void registerGauge(MeterRegistry meterRegistry, String name, String description,
+                               ToDoubleFunction<SessionFairTaskExecutor> function) {
+        Gauge.builder(METRIC_PREFIX + name, this, function)
+                .description(description)
+                .tag("name", this.name)
+                .register(meterRegistry);
+    }
+
+    private static class SessionTasks {
+
+        private final String key;
+        private final Deque<QueuedTask> tasks = new ArrayDeque<>();
+        private int running;
+        private boolean scheduled;
+
+        private SessionTasks(String key) {
+            this.key = key;
+        }
+    }
+
+    private static class QueuedTask {
+
+        private final Runnable runnable;
+        private final long submittedNanos;
+
+        private QueuedTask(Runnable runnable, long submittedNanos) {
+            this.runnable = runnable;
+            this.submittedNanos = submittedNanos;
+        }
+    }
+}
@@ -16,37 +16,76 @@
 
 package org.qubership.atp.svp.kafka;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.qubership.atp.svp.core.enums.ResultType;
 import org.qubership.atp.svp.model.kafka.SvpKafkaMessage;
 import org.qubership.atp.svp.utils.Utils;
 import org.springframework.kafka.core.KafkaTemplate;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@AllArgsConstructor
 public class KafkaSendlerService {
 
+    /**
+     * Header with name of the pod which holds web socket of the session.
+     * Messages with the header are skipped by other pods before deserialization.
+     */
+    public static final String TARGET_POD_HEADER = "svp_target_pod";
+
     private final KafkaTemplate<UUID, String> kafkaTemplate;
     private final String topicName;
+    private final Function<UUID, Optional<String>> sessionPodResolver;
 
     /**
-     * Constructor for KafkaSandlerService.
+     * Constructor for KafkaSandlerService, messages are sent to all pods.
      */
     public KafkaSendlerService(String topicName, KafkaTemplate<UUID, String> kafkaTemplate) {
+        this(topicName, kafkaTemplate, sessionId -> Optional.empty());
+    }
+
+    /**
+     * Constructor for KafkaSandlerService, messages are addressed to the pod of the session
+     * returned by the resolver.
+     */
+    public KafkaSendlerService(String topicName, KafkaTemplate<UUID, String> kafkaTemplate,
+                               Function<UUID, Optional<String>> sessionPodResolver) {
         this.topicName = topicName;
         this.kafkaTemplate = kafkaTemplate;
+        this.sessionPodResolver = sessionPodResolver;
     }
 
     /**
      * Send message to Kafka.
+     * Session completion is awaited by any pod which received synchronous request,
+     * so {@link ResultType#SESSION} messages are always sent to all pods.
      */
     public void sendMessage(UUID sessionId, SvpKafkaMessage msg) {
+        send(sessionId, msg, msg.getType() != ResultType.SESSION);
+    }
+
+    /**
+     * Send message to Kafka for all pods, e.g. when the pod addressed by the message doesn't hold
+     * web socket of the session anymore.
+     */
+    public void broadcastMessage(UUID sessionId, SvpKafkaMessage msg) {
+        send(sessionId, msg, false);
+    }
+
+    private void send(UUID sessionId, SvpKafkaMessage msg, boolean addressToSessionPod) {
         try {
             String payload = Utils.mapper.writeValueAsString(msg);
-            kafkaTemplate.send(topicName, sessionId, payload);
+            ProducerRecord<UUID, String> record = new ProducerRecord<>(topicName, sessionId, payload);
+            if (addressToSessionPod) {
+                sessionPodResolver.apply(sessionId).ifPresent(podName ->
+                        record.headers().add(TARGET_POD_HEADER, podName.getBytes(StandardCharsets.UTF_8)));
+            }
+            kafkaTemplate.send(record);
         } catch (Exception e) {
             log.error(String.format("Cannot put terminate event to kafka for session - {}", sessionId), e);
             throw new RuntimeException(e);
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Deserializer of messages addressed to pods by {@link KafkaSendlerService#TARGET_POD_HEADER}.
+ * <br>
+ * Messages addressed to another pod are not deserialized, null is returned instead,
+ * so they can be skipped by the record filter of the listener container.
+ * Messages without the header are addressed to all pods.
+ */
+public class PodAddressedDeserializer<T> implements Deserializer<T> {
+
+    private final Deserializer<T> delegate;
+    private final byte[] podName;
+
+    public PodAddressedDeserializer(Deserializer<T> delegate, String podName) {
+        this.delegate = delegate;
+        this.podName = podName.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (isAddressedToAnotherPod(headers)) {
+            return null;
+        }
+        return delegate.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private boolean isAddressedToAnotherPod(Headers headers) {
+        if (Objects.isNull(headers)) {
+            return false;
+        }
+        Header targetPod = headers.lastHeader(KafkaSendlerService.TARGET_POD_HEADER);
+        return Objects.nonNull(targetPod) && !Arrays.equals(podName, targetPod.value());
+    }
+}
@@ -23,6 +23,7 @@ import javax.validation.Valid;
 import org.qubership.atp.svp.model.api.kafka.EventType;
 import org.qubership.atp.svp.model.api.kafka.ProjectEvent;
 import org.qubership.atp.svp.model.db.ProjectConfigsEntity;
+import org.qubership.atp.svp.repo.impl.EnvironmentRepository;
 import org.qubership.atp.svp.service.direct.ProjectConfigService;
 import org.qubership.atp.svp.service.jpa.FolderServiceJpa;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,11 +43,17 @@ public class ProjectEventKafkaListener implements ProjectEventListener<ProjectEv
 
     private final ProjectConfigService projectService;
     private final FolderServiceJpa folderServiceJpa;
+    private final EnvironmentRepository environmentRepository;
 
+    /**
+     * Constructor for class.
+     */
     @Autowired
-    public ProjectEventKafkaListener(ProjectConfigService projectService, FolderServiceJpa folderServiceJpa) {
+    public ProjectEventKafkaListener(ProjectConfigService projectService, FolderServiceJpa folderServiceJpa,
+                                     EnvironmentRepository environmentRepository) {
         this.projectService = projectService;
         this.folderServiceJpa = folderServiceJpa;
+        this.environmentRepository = environmentRepository;
     }
 
     @Override
@@ -59,6 +66,7 @@ public class ProjectEventKafkaListener implements ProjectEventListener<ProjectEv
         UUID projectId = projectEvent.getProjectId();
         EventType type = projectEvent.getType();
         String message = "{} the Project: '{}', Id: '{}', by event Kafka";
+        environmentRepository.evictProject(projectId);
         switch (type) {
             case CREATE: {
                 log.info(message, type, projectName, projectId);
@@ -16,15 +16,18 @@
 
 package org.qubership.atp.svp.kafka;
 
+import java.util.Objects;
 import java.util.UUID;
 
 import javax.validation.Valid;
 
+import org.qubership.atp.svp.core.enums.ResultType;
 import org.qubership.atp.svp.core.enums.ValidationStatus;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.kafka.SvpKafkaMessage;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionParameterRepository;
 import org.qubership.atp.svp.service.AbstractMessagingService;
+import org.qubership.atp.svp.service.direct.SessionCompletionRegistry;
 import org.qubership.atp.svp.service.direct.SessionServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -48,31 +51,48 @@ public class SvpKafkaListener extends AbstractMessagingService {
 
     private final SessionServiceImpl sessionServiceImpl;
     private final PotSessionParameterRepository repository;
+    private final SessionCompletionRegistry sessionCompletionRegistry;
+    private final KafkaSendlerService kafkaSendlerService;
 
     /**
      * The constructor of SvpKafkaListener.
      */
     @Autowired
     public SvpKafkaListener(SessionServiceImpl sessionServiceImpl,
-                            PotSessionParameterRepository repository) {
+                            PotSessionParameterRepository repository,
+                            SessionCompletionRegistry sessionCompletionRegistry,
+                            KafkaSendlerService kafkaSendlerService) {
         this.sessionServiceImpl = sessionServiceImpl;
         this.repository = repository;
+        this.sessionCompletionRegistry = sessionCompletionRegistry;
+        this.kafkaSendlerService = kafkaSendlerService;
     }
 
     /**
      * Kafka SVP listener.
+     * Message addressed to this pod is sent to all pods again if web socket of the session is not here,
+     * because the sender could resolve pod of the session from its cache before the web socket was reconnected
+     * to another pod.
      */
-
     @KafkaListener(id = "${service.pod-name}",
             topics = "${kafka.topic.end.svp}",
             containerFactory = "stringSvpKafkaListenerContainerFactory",
             groupId = "${service.pod-name}"
     )
     public void listen(@Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) UUID sessionId,
-                       @Payload @Valid @NonNull SvpKafkaMessage svpKafkaMessage) {
+                       @Payload @Valid @NonNull SvpKafkaMessage svpKafkaMessage,
+                       @Header(value = KafkaSendlerService.TARGET_POD_HEADER, required = false) byte[] targetPod) {
         log.debug("[{} consumer group] get a message from kafka", groupId);
+        if (svpKafkaMessage.getType() == ResultType.SESSION) {
+            sessionCompletionRegistry.complete(sessionId);
+        }
         if (sessionServiceImpl.hasSession(sessionId)) {
             sendResultToWs(sessionId, svpKafkaMessage);
+        } else if (Objects.nonNull(targetPod)) {
+            log.debug("Web socket of the session {} is not on the pod {}, message is sent to all pods",
+                    sessionId, groupId);
+            sessionServiceImpl.evictSessionPod(sessionId);
+            kafkaSendlerService.broadcastMessage(sessionId, svpKafkaMessage);
         }
     }
 
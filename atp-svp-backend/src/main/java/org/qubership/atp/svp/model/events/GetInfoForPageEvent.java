@@ -20,6 +20,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.qubership.atp.svp.model.db.PageConfigurationEntity;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -40,4 +41,7 @@ public class GetInfoForPageEvent {
 
     @NonNull
     private AtomicInteger countOfUnprocessedPagesUnderSession;
+
+    @NonNull
+    private SessionExecutionContext executionContext;
 }
@@ -19,6 +19,8 @@ package org.qubership.atp.svp.model.events;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -44,4 +46,7 @@ public class GetInfoForTabEvent {
 
     @NonNull
     private AtomicInteger countOfUnprocessedPagesUnderSession;
+
+    @NonNull
+    private SessionExecutionContext executionContext;
 }
@@ -19,6 +19,8 @@ package org.qubership.atp.svp.model.events;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -41,4 +43,7 @@ public class GetInfoForTabsUnderPageEvent {
 
     @NonNull
     private AtomicInteger countOfUnprocessedPagesUnderSession;
+
+    @NonNull
+    private SessionExecutionContext executionContext;
 }
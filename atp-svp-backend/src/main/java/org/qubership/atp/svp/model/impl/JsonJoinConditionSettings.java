@@ -42,7 +42,7 @@ public class JsonJoinConditionSettings {
     private String pathReferenceSutParameterName;
 
     /**
-     * The field in which we copy the clone of the object of the reference json table to join.
+     * The field in which we keep the reference json table to join, the table is not changed by the join.
      */
     private JsonTable referenceTable;
 
@@ -27,10 +27,29 @@ import lombok.Data;
 public class SutParameterResultMessage {
 
     private UUID sessionId;
+    private UUID parameterId;
+    /**
+     * False if ER and AR values of the parameter are not included into the message,
+     * the full result should be requested by get-parameter-result endpoint.
+     */
+    private boolean fullResult;
     private PotSessionParameter parameter;
 
     public SutParameterResultMessage(UUID sessionId, PotSessionParameterEntity parameter) {
+        this(sessionId, parameter, true);
+    }
+
+    private SutParameterResultMessage(UUID sessionId, PotSessionParameterEntity parameter, boolean fullResult) {
         this.sessionId = sessionId;
-        this.parameter = new PotSessionParameter(parameter);
+        this.parameterId = parameter.getParameterId();
+        this.fullResult = fullResult;
+        this.parameter = fullResult ? new PotSessionParameter(parameter) : PotSessionParameter.summaryOf(parameter);
+    }
+
+    /**
+     * Creates message with ids, validation status and error description of the parameter only.
+     */
+    public static SutParameterResultMessage compact(UUID sessionId, PotSessionParameterEntity parameter) {
+        return new SutParameterResultMessage(sessionId, parameter, false);
     }
 }
@@ -57,6 +57,22 @@ public class PotSessionParameter {
         this.er = parameter.getEr();
     }
 
+    /**
+     * Creates POT session parameter without ER and AR values.
+     * Validation info contains only status and error description of the validation.
+     */
+    public static PotSessionParameter summaryOf(PotSessionParameterEntity parameter) {
+        PotSessionParameter summary = new PotSessionParameter(parameter.getPage(), parameter.getTab(),
+                parameter.getGroup(), new SutParameter(parameter.getParameterConfig()),
+                parameter.isSynchronousLoading());
+        ValidationInfo validationInfo = parameter.getValidationInfo();
+        if (validationInfo != null) {
+            summary.setValidationInfo(new ValidationInfo(validationInfo.getStatus(),
+                    validationInfo.getErrorDescription()));
+        }
+        return summary;
+    }
+
     /**
      * Initializes POT session parameter with initial validation info.
      */
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.model.pot;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Execution context of the session shared by pages and tabs of one execution.
+ * <br>
+ * Keeps execution configuration of the session (it is not changed during execution)
+ * and gives access to actual execution variables of the session, so pages and tabs do not
+ * reload the session from the database. The database is used only for persistence.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionExecutionContext {
+
+    @NonNull
+    private final UUID sessionId;
+    @NonNull
+    private final SessionExecutionConfiguration executionConfiguration;
+    @NonNull
+    private final Supplier<ConcurrentHashMap<String, ExecutionVariable>> executionVariables;
+
+    /**
+     * Returns copy of actual execution variables of the session.
+     */
+    public ConcurrentHashMap<String, ExecutionVariable> getExecutionVariables() {
+        return executionVariables.get();
+    }
+}
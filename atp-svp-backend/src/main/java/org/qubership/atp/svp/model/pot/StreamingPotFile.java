@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.model.pot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * POT file which content is generated while it is written to the stream,
+ * so the whole file is not kept in memory.
+ */
+@Getter
+@AllArgsConstructor
+public class StreamingPotFile {
+
+    private String name;
+    private ContentWriter contentWriter;
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        contentWriter.writeTo(outputStream);
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
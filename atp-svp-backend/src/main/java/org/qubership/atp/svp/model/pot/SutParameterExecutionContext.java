@@ -45,6 +45,8 @@ public class SutParameterExecutionContext extends AbstractParameterExecutionCont
     private AtomicInteger countOfUnprocessedTabsUnderPage;
     @NonNull
     private AtomicInteger countOfUnprocessedPagesUnderSession;
+    @Nullable
+    private SessionExecutionContext sessionExecutionContext;
 
     /**
      * Fill object sut parameter execution context.
@@ -62,6 +64,7 @@ public class SutParameterExecutionContext extends AbstractParameterExecutionCont
      * @param countOfUnprocessedTabsUnderPage count of unprocessed Tabs under Page.
      * @param countOfUnprocessedPagesUnderSession count of unprocessed Pages under PotSession.
      * @param responseSearchId search id obtained from the response to the start search method or from the Kafka key.
+     * @param sessionExecutionContext execution context of the session which is passed to the next steps.
      */
     @Builder
     public SutParameterExecutionContext(@NonNull UUID sessionId,
@@ -74,13 +77,15 @@ public class SutParameterExecutionContext extends AbstractParameterExecutionCont
                                         @NonNull AtomicInteger countOfUnprocessedParametersUnderTab,
                                         @NonNull AtomicInteger countOfUnprocessedTabsUnderPage,
                                         @NonNull AtomicInteger countOfUnprocessedPagesUnderSession,
-                                        @Nullable UUID responseSearchId) {
+                                        @Nullable UUID responseSearchId,
+                                        @Nullable SessionExecutionContext sessionExecutionContext) {
         super(sessionId, parameterStarted, sessionConfiguration, executionVariables,
                 parameter, isDeferredSearchResult, responseSearchId);
         this.countOfUnprocessedSynchronousParametersUnderPage = countOfUnprocessedSynchronousParametersUnderPage;
         this.countOfUnprocessedParametersUnderTab = countOfUnprocessedParametersUnderTab;
         this.countOfUnprocessedTabsUnderPage = countOfUnprocessedTabsUnderPage;
         this.countOfUnprocessedPagesUnderSession = countOfUnprocessedPagesUnderSession;
+        this.sessionExecutionContext = sessionExecutionContext;
     }
 
     @Override
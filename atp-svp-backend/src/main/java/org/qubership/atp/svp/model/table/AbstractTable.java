@@ -32,6 +32,8 @@ import lombok.NoArgsConstructor;
         property = "type")
 public abstract class AbstractTable implements Serializable {
 
+    private static final Gson GSON = new Gson();
+
     /**
      * Decorative name of the table. Set in UI.
      */
@@ -55,6 +57,6 @@ public abstract class AbstractTable implements Serializable {
 
     @Override
     public String toString() {
-        return new Gson().toJson(this);
+        return GSON.toJson(this);
     }
 }
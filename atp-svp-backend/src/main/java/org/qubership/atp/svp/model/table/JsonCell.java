@@ -37,4 +37,9 @@ public abstract class JsonCell implements Serializable {
     public JsonCell(String columnHeader) {
         this.columnHeader = columnHeader;
     }
+
+    /**
+     * Creates copy of the cell, so the copy can be changed without changing of the source table.
+     */
+    public abstract JsonCell copy();
 }
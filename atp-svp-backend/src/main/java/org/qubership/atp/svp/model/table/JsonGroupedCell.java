@@ -43,4 +43,9 @@ public class JsonGroupedCell extends JsonCell implements Serializable {
         super(columnHeader);
         this.groupedValue = groupedValue;
     }
+
+    @Override
+    public JsonGroupedCell copy() {
+        return new JsonGroupedCell(getColumnHeader(), groupedValue);
+    }
 }
@@ -38,4 +38,9 @@ public class JsonSimpleCell extends JsonCell implements Serializable {
         super(columnHeader);
         this.simpleValue = simpleValue;
     }
+
+    @Override
+    public JsonSimpleCell copy() {
+        return new JsonSimpleCell(getColumnHeader(), simpleValue);
+    }
 }
@@ -24,6 +24,7 @@ import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,6 +41,12 @@ public class Table extends AbstractTable {
      */
     private List<Map<String, String>> rows;
 
+    /**
+     * True if query result exceeded size limits and only part of rows was read.
+     * Transient to be excluded from table JSON used for comparing of tables.
+     */
+    private transient boolean truncated;
+
     /**
      * Creates table instance.
      */
@@ -56,6 +63,11 @@ public class Table extends AbstractTable {
         this.rows = rows;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isTruncated() {
+        return truncated;
+    }
+
     /**
      * Contains table rows.
      */
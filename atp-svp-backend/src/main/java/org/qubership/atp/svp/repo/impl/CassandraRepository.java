@@ -16,10 +16,8 @@
 
 package org.qubership.atp.svp.repo.impl;
 
-import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,26 +25,24 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.atp.svp.core.exceptions.ConnectionDbException;
 import org.qubership.atp.svp.core.exceptions.SqlScriptExecuteException;
 import org.qubership.atp.svp.model.environments.DBServer;
 import org.qubership.atp.svp.model.table.Table;
+import org.qubership.atp.svp.repo.impl.pool.CassandraSessionPool;
+import org.qubership.atp.svp.repo.impl.pool.CassandraSessionPool.CassandraSessionLease;
 import org.qubership.atp.svp.repo.impl.pool.DiffServersConnectionPool;
 import org.qubership.atp.svp.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
-import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.Session;
-import com.datastax.driver.core.SocketOptions;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.UDTValue;
-import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
-import com.datastax.driver.core.policies.LoadBalancingPolicy;
-import com.datastax.driver.core.policies.WhiteListPolicy;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -57,6 +53,13 @@ public class CassandraRepository {
     private static final String TIMEOUT_PATTERN = "Timeout during query execution [timeout = %s %s; query = %s]";
     private static final ObjectMapper mapper = new ObjectMapper();
 
+    private final CassandraSessionPool sessionPool;
+
+    @Autowired
+    public CassandraRepository(CassandraSessionPool sessionPool) {
+        this.sessionPool = sessionPool;
+    }
+
     /**
      * Execute query.
      *
@@ -68,20 +71,18 @@ public class CassandraRepository {
         if (server.isServerEmpty()) {
             throw new RuntimeException("Please, check connection field in Environments");
         }
-        try (Cluster cluster = createCluster(server)) {
-            try (Session session = connectToDb(server, cluster)) {
-                try {
-                    ResultSet resultSet = session.executeAsync(query)
-                            .get(DiffServersConnectionPool.getExecutionTimeout(), TimeUnit.SECONDS);
-                    return resultAsTable(resultSet);
-                } catch (TimeoutException e) {
-                    String errorMessage = String.format(TIMEOUT_PATTERN,
-                            DiffServersConnectionPool.getExecutionTimeout(), "seconds", query);
-                    throw Utils.error(LOGGER, errorMessage, null, RuntimeException.class);
-                } catch (Exception e) {
-                    String errorMessage = "Could not execute query [" + query + "]\n" + e.getMessage();
-                    throw Utils.error(LOGGER, errorMessage, e, SqlScriptExecuteException.class);
-                }
+        try (CassandraSessionLease lease = sessionPool.acquire(server)) {
+            try {
+                ResultSet resultSet = executeAsync(lease, query)
+                        .get(DiffServersConnectionPool.getExecutionTimeout(), TimeUnit.SECONDS);
+                return resultAsTable(resultSet);
+            } catch (TimeoutException e) {
+                String errorMessage = String.format(TIMEOUT_PATTERN,
+                        DiffServersConnectionPool.getExecutionTimeout(), "seconds", query);
+                throw Utils.error(LOGGER, errorMessage, null, RuntimeException.class);
+            } catch (Exception e) {
+                String errorMessage = "Could not execute query [" + query + "]\n" + e.getMessage();
+                throw Utils.error(LOGGER, errorMessage, e, SqlScriptExecuteException.class);
             }
         }
     }
@@ -97,32 +98,29 @@ public class CassandraRepository {
         if (server.isServerEmpty()) {
             throw new RuntimeException("Please, check connection field in Environments");
         }
-        try (Cluster cluster = createCluster(server)) {
-            try (Session session = connectToDb(server, cluster)) {
-                try {
-                    ResultSet resultSet = session.executeAsync(query)
-                            .get(DiffServersConnectionPool.getExecutionTimeout(), TimeUnit.SECONDS);
-                    Row row = resultSet.one();
-                    return row.getString(0);
-                } catch (TimeoutException e) {
-                    String errorMessage = String.format(TIMEOUT_PATTERN,
-                            DiffServersConnectionPool.getExecutionTimeout(), "seconds", query);
-                    throw Utils.error(LOGGER, errorMessage, null, RuntimeException.class);
-                } catch (Exception e) {
-                    String errorMessage = "Could not execute query [" + query + "]\n" + e.getMessage();
-                    throw Utils.error(LOGGER, errorMessage, e, SqlScriptExecuteException.class);
-                }
+        try (CassandraSessionLease lease = sessionPool.acquire(server)) {
+            try {
+                ResultSet resultSet = executeAsync(lease, query)
+                        .get(DiffServersConnectionPool.getExecutionTimeout(), TimeUnit.SECONDS);
+                Row row = resultSet.one();
+                return row.getString(0);
+            } catch (TimeoutException e) {
+                String errorMessage = String.format(TIMEOUT_PATTERN,
+                        DiffServersConnectionPool.getExecutionTimeout(), "seconds", query);
+                throw Utils.error(LOGGER, errorMessage, null, RuntimeException.class);
+            } catch (Exception e) {
+                String errorMessage = "Could not execute query [" + query + "]\n" + e.getMessage();
+                throw Utils.error(LOGGER, errorMessage, e, SqlScriptExecuteException.class);
             }
         }
     }
 
-    private Session connectToDb(DBServer server, Cluster cluster) {
-        try {
-            return cluster.connect(server.getScheme());
-        } catch (Exception e) {
-            String errorMessage = "Can't connect to Cassandra server";
-            throw Utils.error(LOGGER, errorMessage, e, ConnectionDbException.class);
-        }
+    /**
+     * Executes query as simple statement. Variables are already substituted into the query text,
+     * so almost each query is unique and preparing it would cost an extra round trip without reuse.
+     */
+    private ResultSetFuture executeAsync(CassandraSessionLease lease, String query) {
+        return lease.getSession().executeAsync(new SimpleStatement(query));
     }
 
     private Table resultAsTable(ResultSet rs) {
@@ -191,20 +189,4 @@ public class CassandraRepository {
         });
         return listSubCell;
     }
-
-    private Cluster createCluster(DBServer server) {
-        LoadBalancingPolicy loadBalancingPolicy = new WhiteListPolicy(DCAwareRoundRobinPolicy.builder().build(),
-                Collections.singleton(new InetSocketAddress(server.getHost(), server.getPort())));
-        Cluster.Builder builder = Cluster.builder()
-                .addContactPoints(server.getHost())
-                .withLoadBalancingPolicy(loadBalancingPolicy)
-                .withPort(server.getPort())
-                .withoutJMXReporting()
-                .withCredentials(server.getUser(), server.getPassword());
-        int timeout = Math.toIntExact(TimeUnit.SECONDS.toMillis(30L));
-        SocketOptions opts = new SocketOptions().setConnectTimeoutMillis(timeout)
-                .setReadTimeoutMillis(timeout);
-        builder.withSocketOptions(opts);
-        return builder.build();
-    }
 }
@@ -16,8 +16,17 @@
 
 package org.qubership.atp.svp.repo.impl;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
 
 import org.qubership.atp.svp.model.environments.Environment;
 import org.qubership.atp.svp.model.environments.LazyEnvironment;
@@ -26,18 +35,41 @@ import org.qubership.atp.svp.model.environments.System;
 import org.qubership.atp.svp.repo.feign.EnvironmentFeignClient;
 import org.qubership.atp.svp.repo.feign.EnvironmentsProjectFeignClient;
 import org.qubership.atp.svp.utils.DtoConvertService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Repository;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Access to projects, environments and systems of atp-environments.
+ * <br>
+ * Projects, environments and systems are cached, because they are requested by each session and parameter,
+ * but are changed rarely. Entries are reloaded in background after the refresh period (the stale value is
+ * returned while reloading) and are expired after the expiration period since they were loaded.
+ */
 @Repository
 @Slf4j
 public class EnvironmentRepository {
 
+    private static final String CACHE_NAME_PREFIX = "atp.svp.environments.";
+
     private final DtoConvertService dtoConvertService;
     private final EnvironmentFeignClient environmentFeignClient;
     private final EnvironmentsProjectFeignClient environmentsProjectFeignClient;
+    private final ExecutorService refreshExecutor =
+            Executors.newFixedThreadPool(2, new CustomizableThreadFactory("EnvironmentsCacheRefresh-"));
+    private final LoadingCache<UUID, Project> projects;
+    private final LoadingCache<UUID, Environment> environments;
+    private final LoadingCache<UUID, List<System>> systems;
 
     /**
      * Constructor for class.
@@ -45,10 +77,33 @@ public class EnvironmentRepository {
     @Autowired
     public EnvironmentRepository(DtoConvertService dtoConvertService,
                                  EnvironmentFeignClient environmentFeignClient,
-                                 EnvironmentsProjectFeignClient environmentsProjectFeignClient) {
+                                 EnvironmentsProjectFeignClient environmentsProjectFeignClient,
+                                 @Value("${svp.environments.cache.max.size:1000}") long cacheMaxSize,
+                                 @Value("${svp.environments.cache.refresh.sec:60}") long refreshSec,
+                                 @Value("${svp.environments.cache.expire.sec:600}") long expireSec,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        this(dtoConvertService, environmentFeignClient, environmentsProjectFeignClient, cacheMaxSize, refreshSec,
+                expireSec, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Constructor for class.
+     */
+    public EnvironmentRepository(DtoConvertService dtoConvertService,
+                                 EnvironmentFeignClient environmentFeignClient,
+                                 EnvironmentsProjectFeignClient environmentsProjectFeignClient,
+                                 long cacheMaxSize, long refreshSec, long expireSec, MeterRegistry meterRegistry) {
         this.dtoConvertService = dtoConvertService;
         this.environmentFeignClient = environmentFeignClient;
         this.environmentsProjectFeignClient = environmentsProjectFeignClient;
+        this.projects = buildCache(cacheMaxSize, refreshSec, expireSec, this::loadProject);
+        this.environments = buildCache(cacheMaxSize, refreshSec, expireSec, this::loadEnvironment);
+        this.systems = buildCache(cacheMaxSize, refreshSec, expireSec, this::loadSystems);
+        if (Objects.nonNull(meterRegistry)) {
+            GuavaCacheMetrics.monitor(meterRegistry, projects, CACHE_NAME_PREFIX + "projects");
+            GuavaCacheMetrics.monitor(meterRegistry, environments, CACHE_NAME_PREFIX + "environments");
+            GuavaCacheMetrics.monitor(meterRegistry, systems, CACHE_NAME_PREFIX + "systems");
+        }
     }
 
     public List<Project> getProjects() {
@@ -61,8 +116,7 @@ public class EnvironmentRepository {
      * Get Project.
      */
     public Project getProject(UUID projectId) {
-        return dtoConvertService.convert(environmentsProjectFeignClient.getShortProject(projectId, false)
-                .getBody(), Project.class);
+        return getCached(projects, projectId);
     }
 
     public List<LazyEnvironment> getEnvironmentsByProjectId(UUID projectId) {
@@ -71,13 +125,11 @@ public class EnvironmentRepository {
     }
 
     public List<System> getSystemsByEnvironmentId(UUID environmentId) {
-        return dtoConvertService.convertList(environmentFeignClient.getSystemV2(environmentId,
-                "Business Solution", true).getBody(), System.class);
+        return getCached(systems, environmentId);
     }
 
     public Environment getEnvironmentById(UUID environmentId) {
-        return dtoConvertService.convert(environmentFeignClient.getEnvironment(environmentId,
-                true).getBody(), Environment.class);
+        return getCached(environments, environmentId);
     }
 
     public List<String> getSystemsName(UUID projectId) {
@@ -87,4 +139,86 @@ public class EnvironmentRepository {
     public List<String> getConnectionsName(UUID projectId) {
         return environmentsProjectFeignClient.getConnectionsName(projectId).getBody();
     }
+
+    /**
+     * Evicts cached project, its environments and systems of its environments.
+     * Systems are cached by environment id, so they are evicted for cached environments of the project
+     * and for environments of the project known by atp-environments.
+     */
+    public void evictProject(UUID projectId) {
+        projects.invalidate(projectId);
+        Set<UUID> environmentIds = new HashSet<>();
+        environments.asMap().values().removeIf(environment -> {
+            if (projectId.equals(environment.getProjectId())) {
+                environmentIds.add(environment.getId());
+                return true;
+            }
+            return false;
+        });
+        environmentIds.addAll(getEnvironmentIds(projectId));
+        systems.invalidateAll(environmentIds);
+        log.info("Cached environments of the project {} were evicted.", projectId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private Set<UUID> getEnvironmentIds(UUID projectId) {
+        Set<UUID> environmentIds = new HashSet<>();
+        try {
+            for (LazyEnvironment environment : getEnvironmentsByProjectId(projectId)) {
+                environmentIds.add(UUID.fromString(environment.getId()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not get environments of the project {}, only systems of cached environments "
+                    + "were evicted.", projectId, e);
+        }
+        return environmentIds;
+    }
+
+    private Project loadProject(UUID projectId) {
+        return dtoConvertService.convert(environmentsProjectFeignClient.getShortProject(projectId, false)
+                .getBody(), Project.class);
+    }
+
+    private List<System> loadSystems(UUID environmentId) {
+        return dtoConvertService.convertList(environmentFeignClient.getSystemV2(environmentId,
+                "Business Solution", true).getBody(), System.class);
+    }
+
+    private Environment loadEnvironment(UUID environmentId) {
+        return dtoConvertService.convert(environmentFeignClient.getEnvironment(environmentId,
+                true).getBody(), Environment.class);
+    }
+
+    private <V> LoadingCache<UUID, V> buildCache(long maxSize, long refreshSec, long expireSec,
+                                                 Function<UUID, V> loader) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshSec, TimeUnit.SECONDS)
+                .expireAfterWrite(expireSec, TimeUnit.SECONDS)
+                .recordStats()
+                .build(CacheLoader.asyncReloading(new CacheLoader<UUID, V>() {
+                    @Override
+                    public V load(UUID key) {
+                        return loader.apply(key);
+                    }
+                }, refreshExecutor));
+    }
+
+    /**
+     * Returns cached value, original exception of the loading is thrown as is.
+     */
+    private static <V> V getCached(LoadingCache<UUID, V> cache, UUID key) {
+        try {
+            return cache.getUnchecked(key);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.svp.core.enums.ValidationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Set-based operations with POT sessions which are too heavy for entity-by-entity processing in JPA.
+ * <br>
+ * Sessions are deleted with one statement per table for a batch of sessions
+ * (parameters, tabs, pages and then sessions), each batch is deleted in its own transaction.
+ */
+@Repository
+@Slf4j
+public class PotSessionBulkRepository {
+
+    private static final String SELECT_EXISTING_SESSIONS =
+            "SELECT session_id FROM pot_sessions WHERE session_id = ANY(?)";
+    private static final String SELECT_PAGES_AND_TABS_BY_STATUS = "SELECT p.pot_session_id, p.name page_name, "
+            + "t.name tab_name FROM pot_session_page p LEFT JOIN pot_session_tab t ON t.pot_session_page_id = p.id "
+            + "WHERE p.pot_session_id = ANY(?) AND p.validation_status = ?";
+    private static final String DELETE_TAB_PARAMETERS = "DELETE FROM pot_session_parameter "
+            + "WHERE pot_session_tab_id IN (SELECT t.id FROM pot_session_tab t "
+            + "JOIN pot_session_page p ON t.pot_session_page_id = p.id WHERE p.pot_session_id = ANY(?))";
+    private static final String DELETE_COMMON_PARAMETERS =
+            "DELETE FROM pot_session_parameter WHERE pot_session_id = ANY(?)";
+    private static final String DELETE_TABS = "DELETE FROM pot_session_tab "
+            + "WHERE pot_session_page_id IN (SELECT id FROM pot_session_page WHERE pot_session_id = ANY(?))";
+    private static final String DELETE_PAGES = "DELETE FROM pot_session_page WHERE pot_session_id = ANY(?)";
+    private static final String DELETE_SESSIONS = "DELETE FROM pot_sessions WHERE session_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * Constructor for class.
+     */
+    @Autowired
+    public PotSessionBulkRepository(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                    @Value("${svp.session.bulk.delete.batch.size:20}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Returns ids of sessions which exist in the database.
+     */
+    public Set<UUID> findExistingSessionIds(List<UUID> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EXISTING_SESSIONS);
+            statement.setArray(1, toUuidArray(connection, sessionIds));
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getObject(1, UUID.class)));
+    }
+
+    /**
+     * Returns names of pages with the validation status and names of all their tabs by session id.
+     */
+    public Map<UUID, Map<String, List<String>>> findPagesAndTabsByStatus(List<UUID> sessionIds,
+                                                                         ValidationStatus status) {
+        Map<UUID, Map<String, List<String>>> pagesBySession = new LinkedHashMap<>();
+        if (sessionIds.isEmpty()) {
+            return pagesBySession;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_PAGES_AND_TABS_BY_STATUS);
+            statement.setArray(1, toUuidArray(connection, sessionIds));
+            statement.setInt(2, status.ordinal());
+            return statement;
+        }, resultSet -> {
+            List<String> tabs = pagesBySession
+                    .computeIfAbsent(resultSet.getObject("pot_session_id", UUID.class), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(resultSet.getString("page_name"), name -> new ArrayList<>());
+            String tabName = resultSet.getString("tab_name");
+            if (Objects.nonNull(tabName)) {
+                tabs.add(tabName);
+            }
+        });
+        return pagesBySession;
+    }
+
+    /**
+     * Deletes sessions with their pages, tabs and parameters by batches of sessions.
+     * The callback is called with sessions of the batch after the deletion of the batch is committed.
+     *
+     * @return count of deleted sessions.
+     */
+    public int deleteSessions(List<UUID> sessionIds, Consumer<List<UUID>> onCommitted) {
+        int deletedSessions = 0;
+        for (List<UUID> batch : Lists.partition(sessionIds, batchSize)) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        onCommitted.accept(batch);
+                    }
+                });
+                return deleteBatch(batch);
+            });
+            deletedSessions += Objects.isNull(deleted) ? 0 : deleted;
+        }
+        return deletedSessions;
+    }
+
+    private int deleteBatch(List<UUID> sessionIds) {
+        int deletedParameters = update(DELETE_TAB_PARAMETERS, sessionIds);
+        deletedParameters += update(DELETE_COMMON_PARAMETERS, sessionIds);
+        int deletedTabs = update(DELETE_TABS, sessionIds);
+        int deletedPages = update(DELETE_PAGES, sessionIds);
+        int deletedSessions = update(DELETE_SESSIONS, sessionIds);
+        log.debug("Deleted {} sessions, {} pages, {} tabs and {} parameters.", deletedSessions, deletedPages,
+                deletedTabs, deletedParameters);
+        return deletedSessions;
+    }
+
+    private int update(String sql, List<UUID> sessionIds) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, toUuidArray(connection, sessionIds));
+            return statement;
+        });
+    }
+
+    private static Array toUuidArray(Connection connection, List<UUID> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.toArray());
+    }
+}
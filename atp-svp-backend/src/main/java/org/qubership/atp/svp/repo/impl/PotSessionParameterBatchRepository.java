@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes results of POT session parameters by batches.
+ * <br>
+ * Parameters are updated without reading them first (they are already stored when the tab is started),
+ * so with hibernate.jdbc.batch_size the whole batch is sent with a few JDBC batches in one transaction.
+ */
+@Repository
+public class PotSessionParameterBatchRepository {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor for class.
+     */
+    @Autowired
+    public PotSessionParameterBatchRepository(EntityManager entityManager,
+                                              PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Updates the parameters in one transaction.
+     * If a parameter is passed several times, its last state is written.
+     */
+    public void updateAll(List<PotSessionParameterEntity> parameters) {
+        Map<UUID, PotSessionParameterEntity> lastStates = new LinkedHashMap<>();
+        parameters.forEach(parameter -> lastStates.put(parameter.getParameterId(), parameter));
+        Collection<PotSessionParameterEntity> uniqueParameters = lastStates.values();
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            uniqueParameters.forEach(session::update);
+            session.flush();
+            session.clear();
+        });
+    }
+}
@@ -16,39 +16,98 @@
 
 package org.qubership.atp.svp.repo.impl;
 
+import java.net.URI;
+import java.time.Duration;
+
+import javax.annotation.PreDestroy;
+
 import org.qubership.atp.svp.model.environments.Server;
 import org.qubership.atp.svp.model.impl.HttpSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Executes SOAP requests with one shared {@link WebClient}.
+ * <br>
+ * Connections to SOAP servers are kept in a bounded pool and reused between requests,
+ * size of the response kept in memory is limited by {@code soap.client.max.response.bytes}.
+ */
 @Repository
 public class SoapRepositoryImpl {
 
+    private static final String SOAP_ACTION_HEADER = "SOAPAction";
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+
+    /**
+     * Creates SOAP repository with shared connection pool.
+     */
+    @Autowired
+    public SoapRepositoryImpl(@Value("${soap.client.max.connections:50}") int maxConnections,
+                              @Value("${soap.client.pending.acquire.timeout.ms:45000}") long pendingAcquireTimeoutMs,
+                              @Value("${soap.client.idle.timeout.ms:60000}") long idleTimeoutMs,
+                              @Value("${soap.client.response.timeout.ms:180000}") long responseTimeoutMs,
+                              @Value("${soap.client.max.response.bytes:16777216}") int maxResponseBytes) {
+        this.connectionProvider = ConnectionProvider.builder("svp-soap")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .pendingAcquireMaxCount(-1)
+                .maxIdleTime(Duration.ofMillis(idleTimeoutMs))
+                .evictInBackground(Duration.ofMillis(idleTimeoutMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxResponseBytes))
+                        .build())
+                .build();
+    }
+
     /**
      * Executes SOAP request and returns result as String.
+     * Response body is returned regardless of HTTP status, so SOAP faults are returned as is.
      *
      * @param server   - HTTP server from env service
      * @param settings - query HTTP settings
      * @return SOAP xml response as String.
      */
-    public static String soapRequest(Server server, HttpSettings settings) {
+    public String soapRequest(Server server, HttpSettings settings) {
+        return exchange(server, settings).block();
+    }
+
+    private Mono<String> exchange(Server server, HttpSettings settings) {
         String baseUrl = server.getConnection().getParameters().get("url");
-        WebClient.Builder clientBuilder = WebClient
-                .builder()
-                .baseUrl(baseUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_XML_VALUE)
-                .defaultHeader("SOAPAction", "");
-        settings.getHeaders().forEach(clientBuilder::defaultHeader);
-        ClientResponse block = clientBuilder.build()
-                .post()
-                .uri(settings.getQuery())
-                .body(BodyInserters.fromObject(settings.getBody()))
-                .exchange()
-                .block();
-        return block.bodyToMono(String.class).block();
+        URI uri = new DefaultUriBuilderFactory(baseUrl).expand(settings.getQuery());
+        return webClient.post()
+                .uri(uri)
+                .headers(headers -> {
+                    headers.set(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_XML_VALUE);
+                    headers.set(SOAP_ACTION_HEADER, "");
+                    settings.getHeaders().forEach(headers::set);
+                })
+                .bodyValue(settings.getBody())
+                .exchangeToMono(response -> response.bodyToMono(String.class));
+    }
+
+    /**
+     * Closes pooled connections on application shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        connectionProvider.dispose();
     }
 }
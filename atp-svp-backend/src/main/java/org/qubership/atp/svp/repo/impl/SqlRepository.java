@@ -16,6 +16,9 @@
 
 package org.qubership.atp.svp.repo.impl;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -41,12 +44,12 @@ import org.qubership.atp.svp.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import oracle.sql.CLOB;
 
 /**
  * Taken from ATP MIA.
@@ -58,22 +61,64 @@ public class SqlRepository {
     private static ConnectionPool serverPool;
     private static final ExecutorService executorService = Executors.newCachedThreadPool();
     private static final String TIMEOUT_PATTERN = "Timeout during query execution [timeout = %s %s; query = %s]";
+    private static final int CLOB_READ_BUFFER_SIZE = 8192;
+    private static int fetchSize;
+    private static int maxRows;
+    private static long maxBytes;
+    private static int maxClobChars;
 
-    public SqlRepository(ConnectionPool connectionPool) {
+    /**
+     * Creates repository with limits for reading of query results.
+     *
+     * Limits are disabled by default: zero or negative limit means that the value is not limited.
+     *
+     * @param fetchSize JDBC fetch size
+     * @param maxRows max count of rows read from query result
+     * @param maxBytes max size of values (in bytes of UTF-16 chars) read from query result
+     * @param maxClobChars max count of chars read from CLOB value
+     */
+    public SqlRepository(ConnectionPool connectionPool,
+                         @Value("${db.query.fetch.size:500}") int fetchSize,
+                         @Value("${db.query.max.rows:0}") int maxRows,
+                         @Value("${db.query.max.bytes:0}") long maxBytes,
+                         @Value("${db.query.clob.max.chars:0}") int maxClobChars) {
         serverPool = connectionPool;
+        SqlRepository.fetchSize = fetchSize;
+        SqlRepository.maxRows = maxRows > 0 ? maxRows : Integer.MAX_VALUE;
+        SqlRepository.maxBytes = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+        SqlRepository.maxClobChars = maxClobChars > 0 ? maxClobChars : Integer.MAX_VALUE;
     }
 
     /**
      * Execute query.
+     * If query result exceeds max rows or max bytes limits, only rows within the limits are read
+     * and the table is marked as truncated.
      *
      * @param server server
      * @param query query
      * @return DbTable
      */
     public static Table executeQuery(DBServer server, String query) {
+        return executeQuery(server, query, maxRows, true);
+    }
+
+    /**
+     * Executes query and reads rows within the limit.
+     *
+     * @param isTruncationDetected whether one row more than the limit is fetched to mark the table as truncated,
+     *                             rows beyond the limit are not requested at all otherwise
+     */
+    private static Table executeQuery(DBServer server, String query, int rowsLimit, boolean isTruncationDetected) {
         try (DiffServerConnection c = serverPool.createAndGetConnection(server)) {
             Map<String, String> mdcMap = MDC.getCopyOfContextMap();
             try (PreparedStatement statement = c.getConnection().prepareStatement(query)) {
+                int rowsToFetch = 0;
+                if (rowsLimit != Integer.MAX_VALUE) {
+                    // one row more than the limit to detect truncated result
+                    rowsToFetch = isTruncationDetected ? rowsLimit + 1 : rowsLimit;
+                }
+                statement.setFetchSize(rowsToFetch == 0 ? fetchSize : Math.min(fetchSize, rowsToFetch));
+                statement.setMaxRows(rowsToFetch);
                 ResultSet rs = executorService.submit((Callable<ResultSet>) () -> {
                             MdcUtils.setContextMap(mdcMap);
                             return statement.executeQuery();
@@ -86,8 +131,15 @@ public class SqlRepository {
                     String columnName = rsmd.getColumnName(i).toUpperCase();
                     headers.add(columnName);
                 }
-                return new Table(headers, Utils.streamOf(new RsIter(rs, headers, columnsCount))
-                        .collect(Collectors.toList()));
+                RsIter rsIter = new RsIter(rs, headers, columnsCount, rowsLimit);
+                Table table = new Table(headers, Utils.streamOf(rsIter).collect(Collectors.toList()));
+                if (rsIter.truncated) {
+                    LOGGER.warn("Result of query was truncated to {} rows by limits [max rows = {}; max bytes = {}; "
+                            + "max CLOB chars = {}]; query = {}", table.getRows().size(), rowsLimit, maxBytes,
+                            maxClobChars, query);
+                    table.setTruncated(true);
+                }
+                return table;
             } catch (TimeoutException e) {
                 String errorMessage = String.format(TIMEOUT_PATTERN,
                         DiffServersConnectionPool.getExecutionTimeout(), "seconds", query);
@@ -104,7 +156,8 @@ public class SqlRepository {
      */
     public static String executeQueryAndGetFirstValue(DBServer server, String query) throws IndexOutOfBoundsException {
         try {
-            Table table = executeQuery(server, query);
+            // only the first row is requested, other rows of the result are not a truncation
+            Table table = executeQuery(server, query, 1, false);
             return table.getRows().get(0).values().iterator().next();
         } catch (IndexOutOfBoundsException e) {
             String errorMessage = String.format("No rows found for query %s", query);
@@ -112,37 +165,75 @@ public class SqlRepository {
         }
     }
 
+    /**
+     * Reads rows of result set one by one within max rows and max bytes limits.
+     */
     private static class RsIter extends AbstractIterator<Map<String, String>> {
 
         private final ResultSet rs;
         private final List<String> columnsNames;
         private final int columnsCount;
+        private final int rowsLimit;
+        private int rowsRead;
+        private long bytesRead;
+        private boolean truncated;
 
-        private RsIter(ResultSet rs, List<String> columnsNames, int columnsCount) {
+        private RsIter(ResultSet rs, List<String> columnsNames, int columnsCount, int rowsLimit) {
             this.rs = rs;
             this.columnsNames = columnsNames;
             this.columnsCount = columnsCount;
+            this.rowsLimit = rowsLimit;
         }
 
         @Override
         protected Map<String, String> computeNext() {
             try {
-                if (rs.next()) {
-                    Map<String, String> row = Maps.newHashMapWithExpectedSize(columnsCount);
-                    for (int i = 1; i <= columnsCount; i++) {
-                        Object rsObject = rs.getObject(i);
-                        if (rsObject instanceof CLOB) {
-                            rsObject = ((CLOB) rsObject).getSubString(1, ((CLOB) rsObject).getBufferSize());
-                        }
-                        row.put(columnsNames.get(i - 1).toUpperCase(), Objects.toString(rsObject));
-                    }
-                    return row;
+                if (!rs.next()) {
+                    return endOfData();
+                }
+                if (rowsRead >= rowsLimit) {
+                    truncated = true;
+                    return endOfData();
+                }
+                Map<String, String> row = Maps.newHashMapWithExpectedSize(columnsCount);
+                long rowBytes = 0;
+                for (int i = 1; i <= columnsCount; i++) {
+                    Object rsObject = rs.getObject(i);
+                    String value = rsObject instanceof Clob
+                            ? readClob((Clob) rsObject)
+                            : Objects.toString(rsObject);
+                    rowBytes += (long) value.length() * Character.BYTES;
+                    row.put(columnsNames.get(i - 1), value);
+                }
+                if (bytesRead + rowBytes > maxBytes && rowsRead > 0) {
+                    truncated = true;
+                    return endOfData();
                 }
-                return endOfData();
-            } catch (SQLException e) {
+                bytesRead += rowBytes;
+                rowsRead++;
+                return row;
+            } catch (SQLException | IOException e) {
                 String errorMessage = "Could not get row from result set.";
                 throw Utils.error(LOGGER, errorMessage, e, RuntimeException.class);
             }
         }
+
+        // reads not more than maxClobChars chars of CLOB value
+        private String readClob(Clob clob) throws SQLException, IOException {
+            try (Reader reader = clob.getCharacterStream()) {
+                StringBuilder value = new StringBuilder();
+                char[] buffer = new char[CLOB_READ_BUFFER_SIZE];
+                int read;
+                while ((read = reader.read(buffer, 0, Math.min(buffer.length, maxClobChars - value.length()))) > 0) {
+                    value.append(buffer, 0, read);
+                }
+                if (value.length() >= maxClobChars && reader.read() != -1) {
+                    truncated = true;
+                }
+                return value.toString();
+            } finally {
+                clob.free();
+            }
+        }
     }
 }
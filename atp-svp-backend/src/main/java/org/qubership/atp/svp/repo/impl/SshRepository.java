@@ -16,16 +16,15 @@
 
 package org.qubership.atp.svp.repo.impl;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PipedOutputStream;
 import java.io.PrintStream;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.Map;
-import java.util.Properties;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -36,14 +35,17 @@ import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.svp.core.exceptions.SshTimeOutException;
 import org.qubership.atp.svp.model.environments.Server;
+import org.qubership.atp.svp.repo.impl.pool.SshSessionPool;
+import org.qubership.atp.svp.repo.impl.pool.SshSessionPool.SshSessionLease;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StopWatch;
 
 import com.jcraft.jsch.Channel;
 import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelShell;
-import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +56,22 @@ public class SshRepository {
 
     private static final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(20);
     private static final String INTERRUPT_SIGNAL = "INT";
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final SshSessionPool sshSessionPool;
+    private final int maxOutputChars;
+
+    /**
+     * Creates repository executing commands in pooled SSH sessions.
+     *
+     * @param maxOutputChars max count of chars read from command output, not limited if less than 1
+     */
+    @Autowired
+    public SshRepository(SshSessionPool sshSessionPool,
+                         @Value("${ssh.output.max.chars:0}") int maxOutputChars) {
+        this.sshSessionPool = sshSessionPool;
+        this.maxOutputChars = maxOutputChars;
+    }
 
     /**
      * Execute command SSH.
@@ -65,15 +83,12 @@ public class SshRepository {
      */
     public String executeCommandSsh(Server connectionProperties, String command)
             throws JSchException {
-        Session session = createSession(connectionProperties);
         String host = connectionProperties.getHost();
-        try {
-            log.info("Connecting with SSH host. Host: [{}]. Command: [{}].", host, command);
-            session.connect();
+        try (SshSessionLease lease = sshSessionPool.acquire(connectionProperties)) {
             log.debug("Start execute SSH command on the host. Host: [{}]. Command: [{}].", host, command);
             StopWatch stopWatch = new StopWatch();
             stopWatch.start();
-            String sshCommandResult = runCommand(session, connectionProperties, command);
+            String sshCommandResult = runCommand(lease.getSession(), connectionProperties, command);
             stopWatch.stop();
             log.debug("Executed SSH command on the host. Host: [{}]. Command: [{}]. Time in seconds: [{}].",
                     host, command, stopWatch.getTotalTimeSeconds());
@@ -81,9 +96,6 @@ public class SshRepository {
         } catch (JSchException e) {
             log.error("Error while connecting with SSH host. Host: [{}]. Command: [{}].", host, command, e);
             throw e;
-        } finally {
-            session.disconnect();
-            log.info("Disconnected with SSH host. Host: [{}]. Command: [{}].", host, command);
         }
     }
 
@@ -122,7 +134,7 @@ public class SshRepository {
             InputStream errorIn;
             StringBuilder stdOutBuilder = new StringBuilder();
             OffsetDateTime started = OffsetDateTime.now();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(channel.getInputStream()))) {
+            try (Reader reader = new InputStreamReader(channel.getInputStream(), StandardCharsets.UTF_8)) {
                 errorIn = channel.getErrStream();
                 channel.connect(connectionProperties.getTimeoutConnect());
 
@@ -179,7 +191,7 @@ public class SshRepository {
                 input.print("exit\n");
                 input.flush();
                 interruptExecutionOnTimeout(connectionProperties.getTimeoutExecute(), channel, command, isExecution);
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(channel.getInputStream()))) {
+                try (Reader reader = new InputStreamReader(channel.getInputStream(), StandardCharsets.UTF_8)) {
                     readingResponse(command, channelType, reader, stdOutBuilder);
                 }
             }
@@ -194,17 +206,40 @@ public class SshRepository {
     }
 
 
-    private void readingResponse(String command, SshChannelType channelType, BufferedReader reader,
+    private void readingResponse(String command, SshChannelType channelType, Reader reader,
                                  StringBuilder stdOutBuilder) throws IOException {
-        log.debug("Start reader lines with Command: [{}], Channel type: [{}].", command, channelType);
-        String line;
-        while ((line = reader.readLine()) != null) {
-            log.debug("Reader line: [{}],\n", line);
-            stdOutBuilder.append(line).append("\n");
+        log.debug("Start reading response with Command: [{}], Channel type: [{}].", command, channelType);
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            stdOutBuilder.append(buffer, 0, read);
+            if (maxOutputChars > 0 && stdOutBuilder.length() >= maxOutputChars) {
+                stdOutBuilder.setLength(maxOutputChars);
+                log.warn("SSH command output was truncated to {} chars. Command: [{}].", maxOutputChars, command);
+                break;
+            }
         }
-        if (stdOutBuilder.length() > 0) {
-            stdOutBuilder.setLength(stdOutBuilder.length() - 1);
+        normalizeLineSeparators(stdOutBuilder);
+        log.debug("Read {} chars of response with Command: [{}].", stdOutBuilder.length(), command);
+    }
+
+    // the same result as joining lines read by BufferedReader.readLine() with "\n"
+    private void normalizeLineSeparators(StringBuilder stdOutBuilder) {
+        int length = 0;
+        for (int i = 0; i < stdOutBuilder.length(); i++) {
+            char symbol = stdOutBuilder.charAt(i);
+            if (symbol == '\r') {
+                if (i + 1 < stdOutBuilder.length() && stdOutBuilder.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                symbol = '\n';
+            }
+            stdOutBuilder.setCharAt(length++, symbol);
         }
+        if (length > 0 && stdOutBuilder.charAt(length - 1) == '\n') {
+            length--;
+        }
+        stdOutBuilder.setLength(length);
     }
 
     private void interruptExecutionOnTimeout(int timeout, Channel channel, String command, AtomicBoolean isExecution) {
@@ -227,48 +262,4 @@ public class SshRepository {
     private SshChannelType useChannel(Server connectionSettings) {
         return connectionSettings.isShell() ? SshChannelType.SHELL : SshChannelType.EXEC;
     }
-
-    private Session createSession(Server connectionProperties) {
-        String host = connectionProperties.getHost();
-        int port = connectionProperties.getPort();
-        String login = connectionProperties.getUser();
-        String password = connectionProperties.getPass();
-        String key = connectionProperties.getKey();
-        String passphrase = connectionProperties.getPassPhrase();
-        try {
-            JSch jsch = new JSch();
-            if (StringUtils.isNotBlank(key)) {
-                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-                byte[] passphraseBytes = null;
-                if (passphrase != null && !passphrase.isEmpty()) {
-                    passphraseBytes = passphrase.getBytes(StandardCharsets.UTF_8);
-                }
-                jsch.addIdentity("id_rsa", keyBytes, null, passphraseBytes);
-            }
-            Session session = jsch.getSession(login, host, port);
-            session.setConfig(createSessionProperties(session));
-            session.setServerAliveInterval(connectionProperties.getTimeoutServAliveInterval());
-            session.setServerAliveCountMax(Integer.MAX_VALUE);
-            session.setTimeout(connectionProperties.getTimeoutConnect());
-            session.setPassword(password);
-            return session;
-        } catch (JSchException e) {
-            String messageTemplate = "Can't open ssh connection. Host: [%s], Port: [%s], Login: [%s].";
-            String message = String.format(messageTemplate, host, port, login);
-            log.error(message, e);
-            throw new RuntimeException(message, e);
-        }
-    }
-
-    private Properties createSessionProperties(Session session) {
-        Properties config = new Properties();
-        config.put("StrictHostKeyChecking", "no");
-        config.put("PreferredAuthentications", "publickey,keyboard-interactive,password");
-        config.put("cipher.c2s", session.getConfig("cipher.c2s") + ",ssh-rsa,signature.dss");
-        config.put("cipher.s2c", session.getConfig("cipher.s2c") + ",ssh-rsa,signature.dss");
-        config.put("server_host_key", session.getConfig("server_host_key") + ",ssh-rsa,signature.dss");
-        config.put("PubkeyAcceptedAlgorithms", session.getConfig("PubkeyAcceptedAlgorithms") + ",ssh-rsa,signature"
-                + ".dss");
-        return config;
-    }
 }
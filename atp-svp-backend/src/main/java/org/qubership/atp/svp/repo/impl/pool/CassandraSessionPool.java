@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl.pool;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.svp.core.exceptions.ConnectionDbException;
+import org.qubership.atp.svp.model.environments.DBServer;
+import org.qubership.atp.svp.utils.Utils;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SocketOptions;
+import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.WhiteListPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one Cassandra {@link Cluster} and {@link Session} per DB server (server and credentials).
+ * <br>
+ * Sessions are leased by {@link #acquire(DBServer)} and released by {@link CassandraSessionLease#close()}.
+ * Sessions without leases which have not been used for {@code db.close.delay} seconds are closed.
+ */
+@Service
+@Slf4j
+public class CassandraSessionPool {
+
+    private static final int SOCKET_TIMEOUT_MS = Math.toIntExact(TimeUnit.SECONDS.toMillis(30L));
+
+    private final Map<DBServer, PooledSession> sessions = new ConcurrentHashMap<>();
+    private final Function<DBServer, Cluster> clusterFactory;
+    private final long closeDelayMs;
+    private final ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * Creates pool of Cassandra sessions.
+     */
+    @Autowired
+    public CassandraSessionPool(@Value("${db.close.delay:180}") String closeDelay) {
+        this(closeDelay, CassandraSessionPool::createCluster);
+    }
+
+    /**
+     * Creates pool of Cassandra sessions with clusters created by {@code clusterFactory}.
+     */
+    CassandraSessionPool(String closeDelay, Function<DBServer, Cluster> clusterFactory) {
+        this.closeDelayMs = TimeUnit.SECONDS.toMillis(
+                Utils.parseLongValueOrDefault(closeDelay, 180, "db.close.delay"));
+        this.clusterFactory = clusterFactory;
+        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
+        cleanupService.scheduleAtFixedRate(() -> {
+            MdcUtils.setContextMap(mdcMap);
+            closeIdleSessions(System.currentTimeMillis() - closeDelayMs);
+        }, closeDelayMs, closeDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Leases session connected to the server.
+     * Session (and cluster) is created on the first request to the server.
+     */
+    public CassandraSessionLease acquire(DBServer server) {
+        while (true) {
+            PooledSession pooledSession = sessions.computeIfAbsent(server, this::createPooledSession);
+            synchronized (pooledSession) {
+                if (!pooledSession.closed) {
+                    pooledSession.leases++;
+                    return new CassandraSessionLease(pooledSession);
+                }
+            }
+        }
+    }
+
+    private PooledSession createPooledSession(DBServer server) {
+        Cluster cluster = clusterFactory.apply(server);
+        try {
+            Session session = cluster.connect(server.getScheme());
+            log.info("Cassandra session for server [{}:{}] was created", server.getHost(), server.getPort());
+            return new PooledSession(cluster, session);
+        } catch (Exception e) {
+            cluster.close();
+            String errorMessage = "Can't connect to Cassandra server";
+            throw Utils.error(log, errorMessage, e, ConnectionDbException.class);
+        }
+    }
+
+    /**
+     * Closes sessions without leases released before {@code idleSince}.
+     */
+    void closeIdleSessions(long idleSince) {
+        sessions.forEach((server, pooledSession) -> {
+            synchronized (pooledSession) {
+                if (pooledSession.leases > 0 || pooledSession.lastReleased >= idleSince) {
+                    return;
+                }
+                pooledSession.closed = true;
+                sessions.remove(server, pooledSession);
+            }
+            pooledSession.close();
+            log.info("Cassandra session for server [{}:{}] was closed as unused", server.getHost(), server.getPort());
+        });
+    }
+
+    /**
+     * Closes all sessions on application shutdown.
+     */
+    @PreDestroy
+    public void closeAll() {
+        cleanupService.shutdownNow();
+        sessions.values().forEach(pooledSession -> {
+            synchronized (pooledSession) {
+                pooledSession.closed = true;
+            }
+            pooledSession.close();
+        });
+        sessions.clear();
+    }
+
+    private static Cluster createCluster(DBServer server) {
+        LoadBalancingPolicy loadBalancingPolicy = new WhiteListPolicy(DCAwareRoundRobinPolicy.builder().build(),
+                Collections.singleton(new InetSocketAddress(server.getHost(), server.getPort())));
+        SocketOptions opts = new SocketOptions().setConnectTimeoutMillis(SOCKET_TIMEOUT_MS)
+                .setReadTimeoutMillis(SOCKET_TIMEOUT_MS);
+        return Cluster.builder()
+                .addContactPoints(server.getHost())
+                .withLoadBalancingPolicy(loadBalancingPolicy)
+                .withPort(server.getPort())
+                .withoutJMXReporting()
+                .withCredentials(server.getUser(), server.getPassword())
+                .withSocketOptions(opts)
+                .build();
+    }
+
+    private class PooledSession {
+
+        private final Cluster cluster;
+        private final Session session;
+        private int leases;
+        private long lastReleased = System.currentTimeMillis();
+        private boolean closed;
+
+        private PooledSession(Cluster cluster, Session session) {
+            this.cluster = cluster;
+            this.session = session;
+        }
+
+        private synchronized void release() {
+            leases--;
+            lastReleased = System.currentTimeMillis();
+        }
+
+        private void close() {
+            session.closeAsync();
+            cluster.closeAsync();
+        }
+    }
+
+    /**
+     * Lease of pooled Cassandra session. Must be closed after use.
+     */
+    public static class CassandraSessionLease implements AutoCloseable {
+
+        private final PooledSession pooledSession;
+
+        private CassandraSessionLease(PooledSession pooledSession) {
+            this.pooledSession = pooledSession;
+        }
+
+        public Session getSession() {
+            return pooledSession.session;
+        }
+
+        @Override
+        public void close() {
+            pooledSession.release();
+        }
+    }
+}
@@ -21,6 +21,4 @@ import org.qubership.atp.svp.model.environments.DBServer;
 public interface ConnectionPool {
 
     DiffServerConnection createAndGetConnection(DBServer server);
-
-    DiffServerConnection createAndGetConnection(DBServer server, long aliveLength);
 }
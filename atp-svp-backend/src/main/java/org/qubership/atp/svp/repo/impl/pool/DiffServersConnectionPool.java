@@ -16,65 +16,102 @@
 
 package org.qubership.atp.svp.repo.impl.pool;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.PreDestroy;
 
-import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.svp.core.enums.DbType;
 import org.qubership.atp.svp.core.exceptions.ConnectionDbException;
 import org.qubership.atp.svp.model.environments.DBServer;
 import org.qubership.atp.svp.utils.Utils;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.cache.RemovalListener;
+import com.google.common.hash.Hashing;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Keeps bounded pool of JDBC connections (HikariCP) per DB server.
+ * <br>
+ * Connections are validated on borrow, idle connections are closed after idle timeout,
+ * threads waiting for a connection are served in order of arrival.
+ * Pools of servers which have not been used for {@code db.close.delay} seconds are closed.
+ * <br>
+ * Pools and their metrics are named by the server id (hash of the connection string and user),
+ * so hosts and credentials of connection strings are not exposed and the number of tag values is bounded
+ * by the number of servers instead of the number of connection string variations.
+ */
 @Service
 @Slf4j
 public class DiffServersConnectionPool implements ConnectionPool {
 
-    private static LoadingCache<DBServer, DiffServerConnection> connectionCache;
+    private static final String ACTIVE_CONNECTIONS_GAUGE = "atp.svp.db.pool.connections.active";
+    private static final String IDLE_CONNECTIONS_GAUGE = "atp.svp.db.pool.connections.idle";
+    private static final String PENDING_CONNECTIONS_GAUGE = "atp.svp.db.pool.connections.pending";
+    private static final String SERVER_TAG_NAME = "server";
+    private static final int SERVER_ID_LENGTH = 16;
+
     private static long executionTimeout;
     private static long cleanCacheTimeout;
 
+    private final Map<DBServer, ServerPool> serverPools = new ConcurrentHashMap<>();
+    private final int maxPoolSize;
+    private final long connectionTimeoutMs;
+    private final long idleTimeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor();
+
     /**
      * Creates connection pool for DB connections.
      */
+    @Autowired
     public DiffServersConnectionPool(@Value("${db.close.delay:180}") String cleanTimeout,
-                                     @Value("${db.alive.length:200}") String aliveLengthStr) {
+                                     @Value("${db.alive.length:200}") String aliveLengthStr,
+                                     @Value("${db.pool.max.size:10}") int maxPoolSize,
+                                     @Value("${db.pool.connection.timeout.ms:30000}") long connectionTimeoutMs,
+                                     @Value("${db.pool.idle.timeout.ms:60000}") long idleTimeoutMs,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this(cleanTimeout, aliveLengthStr, maxPoolSize, connectionTimeoutMs, idleTimeoutMs,
+                meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Creates connection pool for DB connections with metrics registered in {@code meterRegistry} (if not null).
+     */
+    public DiffServersConnectionPool(String cleanTimeout, String aliveLengthStr, int maxPoolSize,
+                                     long connectionTimeoutMs, long idleTimeoutMs, MeterRegistry meterRegistry) {
         parseDbDelayValues(cleanTimeout, aliveLengthStr);
-        connectionCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(DiffServersConnectionPool.cleanCacheTimeout, TimeUnit.SECONDS)
-                .softValues()
-                .removalListener((RemovalListener<DBServer, DiffServerConnection>) notification ->
-                        notification.getValue().isExpired(DiffServersConnectionPool.cleanCacheTimeout))
-                .build(new CacheLoader<DBServer, DiffServerConnection>() {
-                    @Override
-                    public DiffServerConnection load(@NotNull DBServer server) throws Exception {
-                        return new DiffServerConnection(DriverManager.getConnection(server.getConnectionStr(),
-                                server.getUser(), server.getPassword()), -1);
-                    }
-                });
-        // Schedule cache cleanup every cleanCacheTimeout
-        ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor();
+        this.maxPoolSize = maxPoolSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.meterRegistry = meterRegistry;
+        // Schedule cleanup of unused pools every cleanCacheTimeout
         Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        service.scheduleAtFixedRate(() -> {
-                    MdcUtils.setContextMap(mdcMap);
-                    connectionCache.cleanUp();
-                }, 0,
-                cleanCacheTimeout, TimeUnit.SECONDS);
+        cleanupService.scheduleAtFixedRate(() -> {
+            MdcUtils.setContextMap(mdcMap);
+            closeUnusedPools();
+        }, cleanCacheTimeout, cleanCacheTimeout, TimeUnit.SECONDS);
     }
 
     private void parseDbDelayValues(String timeDiffStr, String aliveLengthStr) {
@@ -86,53 +123,162 @@ public class DiffServersConnectionPool implements ConnectionPool {
         return executionTimeout;
     }
 
-    @Override
-    public DiffServerConnection createAndGetConnection(DBServer server) {
-        return createAndGetConnection(server, executionTimeout);
-    }
-
     /**
-     * Checks if there is available connection in Cache.
-     * If it is then returns already opened connection
-     * otherwise creates a new one and overrides old.
+     * Borrows connection from the pool of the server.
+     * The pool is created on the first request to the server.
+     * Connection is returned to the pool on {@link DiffServerConnection#close()}.
      *
-     * @param server      - server
-     * @param aliveLength - limit for connection live
+     * @param server - server
      * @return opened connection
      */
     @Override
-    public DiffServerConnection createAndGetConnection(DBServer server, long aliveLength) {
+    public DiffServerConnection createAndGetConnection(DBServer server) {
+        // The pool is marked as borrowed atomically with lookup, so it can't be closed as unused meanwhile
+        ServerPool serverPool = serverPools.compute(server, (key, existingPool) -> {
+            ServerPool pool = Objects.isNull(existingPool) ? createServerPool(key) : existingPool;
+            pool.borrowers.incrementAndGet();
+            pool.lastUsed = System.currentTimeMillis();
+            return pool;
+        });
         try {
-            if (connectionCache.asMap().containsKey(server) && connectionCache.getUnchecked(server).isFree()) {
-                return connectionCache.get(server);
-            } else {
-                Connection connection = driverPreloadAndGetConnection(server);
-                DiffServerConnection diffServerConnection = new DiffServerConnection(connection, -1);
-                connectionCache.put(server, diffServerConnection);
-                return diffServerConnection;
+            return new DiffServerConnection(serverPool.dataSource.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            if (!serverPool.isInitialized() && serverPools.remove(server, serverPool)) {
+                // pool could not be started (wrong url, credentials, etc.), next request will create new one
+                serverPool.close();
             }
-        } catch (ExecutionException e) {
-            String errorMessage = "Error while retrieving server [" + server.getConnectionStr() + "] from LoadingCache";
-            throw Utils.error(log, errorMessage, e, RuntimeException.class);
+            String errorMessage = "Can't connect to sql server [" + server.getConnectionStr() + "]";
+            throw Utils.error(log, errorMessage, e, ConnectionDbException.class);
+        } finally {
+            serverPool.borrowers.decrementAndGet();
         }
     }
 
-    // loads suitable driver and creates connection via DriverManager
-    private static Connection driverPreloadAndGetConnection(DBServer server) {
+    /**
+     * Returns id of the server used in names of pools and metrics instead of the connection string.
+     */
+    static String getServerId(DBServer server) {
+        return Hashing.sha256()
+                .hashString(server.getConnectionStr() + "|" + server.getUser(), StandardCharsets.UTF_8)
+                .toString()
+                .substring(0, SERVER_ID_LENGTH);
+    }
+
+    /**
+     * Returns pool of connections of the server (for monitoring and tests).
+     */
+    HikariPoolMXBean getPoolStatistics(DBServer server) {
+        ServerPool serverPool = serverPools.get(server);
+        return Objects.isNull(serverPool) ? null : serverPool.dataSource.getHikariPoolMXBean();
+    }
+
+    private ServerPool createServerPool(DBServer server) {
+        preloadDriver(server);
+        String serverId = getServerId(server);
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("svp-db-pool-" + serverId);
+        dataSource.setJdbcUrl(server.getConnectionStr());
+        dataSource.setUsername(server.getUser());
+        dataSource.setPassword(server.getPassword());
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setIdleTimeout(idleTimeoutMs);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        log.info("Connection pool for sql server [{}] was created, max size: {}", serverId, maxPoolSize);
+        ServerPool serverPool = new ServerPool(dataSource, serverId);
+        registerGauges(serverPool, serverId);
+        return serverPool;
+    }
+
+    private void registerGauges(ServerPool serverPool, String serverId) {
+        if (Objects.isNull(meterRegistry)) {
+            return;
+        }
+        serverPool.meters.add(registerGauge(ACTIVE_CONNECTIONS_GAUGE, "active connections to sql server",
+                serverId, serverPool, pool -> pool.statistic(HikariPoolMXBean::getActiveConnections)));
+        serverPool.meters.add(registerGauge(IDLE_CONNECTIONS_GAUGE, "idle connections to sql server",
+                serverId, serverPool, pool -> pool.statistic(HikariPoolMXBean::getIdleConnections)));
+        serverPool.meters.add(registerGauge(PENDING_CONNECTIONS_GAUGE, "threads waiting for connection to sql server",
+                serverId, serverPool, pool -> pool.statistic(HikariPoolMXBean::getThreadsAwaitingConnection)));
+    }
+
+    private Meter registerGauge(String name, String description, String serverId, ServerPool serverPool,
+                                ToDoubleFunction<ServerPool> function) {
+        return Gauge.builder(name, serverPool, function)
+                .description(description)
+                .tag(SERVER_TAG_NAME, serverId)
+                .register(meterRegistry);
+    }
+
+    private void closeUnusedPools() {
+        long unusedSince = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(cleanCacheTimeout);
+        List<ServerPool> unusedPools = new ArrayList<>();
+        serverPools.keySet().forEach(server -> serverPools.computeIfPresent(server, (key, serverPool) -> {
+            if (serverPool.borrowers.get() == 0 && serverPool.lastUsed < unusedSince
+                    && serverPool.statistic(HikariPoolMXBean::getActiveConnections) == 0) {
+                unusedPools.add(serverPool);
+                return null;
+            }
+            return serverPool;
+        }));
+        unusedPools.forEach(serverPool -> {
+            serverPool.close();
+            log.info("Connection pool for sql server [{}] was closed as unused", serverPool.serverId);
+        });
+    }
+
+    /**
+     * Closes all pools on application shutdown.
+     */
+    @PreDestroy
+    public void closeAll() {
+        cleanupService.shutdownNow();
+        serverPools.values().forEach(ServerPool::close);
+        serverPools.clear();
+    }
+
+    // loads suitable driver for DriverManager
+    private static void preloadDriver(DBServer server) {
         try {
             for (DbType dbType : DbType.values()) {
                 if (server.getConnectionStr().toLowerCase().contains(dbType.toString().toLowerCase())) {
                     Class.forName(DbType.getDriverName(dbType));
                 }
             }
-            return DriverManager.getConnection(server.getConnectionStr(), server.getUser(), server.getPassword());
         } catch (ClassNotFoundException e) {
             String errorMessage = "Could not create connection "
                     + "because can't load driver class for [" + server.getConnectionStr() + "]";
             throw Utils.error(log, errorMessage, e, ConnectionDbException.class);
-        } catch (SQLException e) {
-            String errorMessage = "Can't connect to sql server [" + server.getConnectionStr() + "]";
-            throw Utils.error(log, errorMessage, e, ConnectionDbException.class);
+        }
+    }
+
+    private class ServerPool {
+
+        private final HikariDataSource dataSource;
+        private final String serverId;
+        private final List<Meter> meters = new ArrayList<>();
+        private final AtomicInteger borrowers = new AtomicInteger();
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private ServerPool(HikariDataSource dataSource, String serverId) {
+            this.dataSource = dataSource;
+            this.serverId = serverId;
+        }
+
+        private boolean isInitialized() {
+            return Objects.nonNull(dataSource.getHikariPoolMXBean());
+        }
+
+        private int statistic(ToIntFunction<HikariPoolMXBean> statistic) {
+            HikariPoolMXBean poolBean = dataSource.getHikariPoolMXBean();
+            return Objects.isNull(poolBean) ? 0 : statistic.applyAsInt(poolBean);
+        }
+
+        private void close() {
+            if (Objects.nonNull(meterRegistry)) {
+                meters.forEach(meterRegistry::remove);
+            }
+            dataSource.close();
         }
     }
 }
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl.pool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.svp.model.environments.Server;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps authenticated SSH sessions per host, port and credentials.
+ * <br>
+ * Sessions are leased by {@link #acquire(Server)}, each command opens its own channel in the leased session.
+ * Count of concurrent channels per session is limited by {@code ssh.session.max.channels}.
+ * Sessions which have been idle longer than {@code ssh.session.keepalive.check.ms} are checked before reuse
+ * by opening of a channel, which waits for the answer of the server. Broken session is replaced by a new one
+ * for next leases and is disconnected when all its current leases are closed.
+ * Sessions not used for {@code ssh.session.idle.timeout.sec} are disconnected.
+ * <br>
+ * Session is connected outside of the pool locks, other threads leasing the same session wait for the connection.
+ */
+@Service
+@Slf4j
+public class SshSessionPool {
+
+    private static final int SERVER_ALIVE_COUNT_MAX = 3;
+    private static final String ALIVE_CHECK_CHANNEL_TYPE = "session";
+
+    private final Map<SessionKey, PooledSession> sessions = new ConcurrentHashMap<>();
+    private final SessionFactory sessionFactory;
+    private final int maxChannels;
+    private final long keepAliveCheckMs;
+    private final long idleTimeoutMs;
+    private final ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * Creates pool of SSH sessions.
+     */
+    @Autowired
+    public SshSessionPool(@Value("${ssh.session.max.channels:10}") int maxChannels,
+                          @Value("${ssh.session.keepalive.check.ms:30000}") long keepAliveCheckMs,
+                          @Value("${ssh.session.idle.timeout.sec:300}") long idleTimeoutSec) {
+        this(maxChannels, keepAliveCheckMs, idleTimeoutSec, SshSessionPool::createSession);
+    }
+
+    /**
+     * Creates pool of SSH sessions created by {@code sessionFactory}.
+     */
+    SshSessionPool(int maxChannels, long keepAliveCheckMs, long idleTimeoutSec, SessionFactory sessionFactory) {
+        this.maxChannels = maxChannels;
+        this.keepAliveCheckMs = keepAliveCheckMs;
+        this.idleTimeoutMs = TimeUnit.SECONDS.toMillis(idleTimeoutSec);
+        this.sessionFactory = sessionFactory;
+        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
+        cleanupService.scheduleAtFixedRate(() -> {
+            MdcUtils.setContextMap(mdcMap);
+            closeIdleSessions(System.currentTimeMillis() - idleTimeoutMs);
+        }, idleTimeoutMs, idleTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Leases connected session to the server.
+     * Waits for a free channel not longer than connect timeout of the server.
+     *
+     * @throws JSchException if session can't be connected or there is no free channel in time.
+     */
+    public SshSessionLease acquire(Server server) throws JSchException {
+        SessionKey key = new SessionKey(server);
+        while (true) {
+            PooledSession pooledSession = sessions.computeIfAbsent(key, k -> new PooledSession());
+            pooledSession.acquireChannel(server);
+            try {
+                SshSessionLease lease = pooledSession.lease(server);
+                if (Objects.nonNull(lease)) {
+                    return lease;
+                }
+            } catch (JSchException | RuntimeException e) {
+                pooledSession.releaseChannel();
+                throw e;
+            }
+            // session was closed as idle meanwhile
+            pooledSession.releaseChannel();
+        }
+    }
+
+    /**
+     * Disconnects sessions without leases which have not been used since {@code idleSince}.
+     */
+    void closeIdleSessions(long idleSince) {
+        sessions.forEach((key, pooledSession) -> {
+            if (pooledSession.closeIfIdle(idleSince)) {
+                sessions.remove(key, pooledSession);
+                log.info("SSH session was closed as unused. Host: [{}].", key.host);
+            }
+        });
+    }
+
+    /**
+     * Disconnects all sessions on application shutdown.
+     */
+    @PreDestroy
+    public void closeAll() {
+        cleanupService.shutdownNow();
+        sessions.values().forEach(PooledSession::close);
+        sessions.clear();
+    }
+
+    private static Session createSession(Server connectionProperties) throws JSchException {
+        String host = connectionProperties.getHost();
+        int port = connectionProperties.getPort();
+        String login = connectionProperties.getUser();
+        String key = connectionProperties.getKey();
+        String passphrase = connectionProperties.getPassPhrase();
+        JSch jsch = new JSch();
+        if (StringUtils.isNotBlank(key)) {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] passphraseBytes = null;
+            if (passphrase != null && !passphrase.isEmpty()) {
+                passphraseBytes = passphrase.getBytes(StandardCharsets.UTF_8);
+            }
+            jsch.addIdentity("id_rsa", keyBytes, null, passphraseBytes);
+        }
+        Session session = jsch.getSession(login, host, port);
+        session.setConfig(createSessionProperties(session));
+        session.setServerAliveInterval(connectionProperties.getTimeoutServAliveInterval());
+        // broken pooled session is disconnected after several keepalive messages without answer
+        session.setServerAliveCountMax(SERVER_ALIVE_COUNT_MAX);
+        session.setTimeout(connectionProperties.getTimeoutConnect());
+        session.setPassword(connectionProperties.getPass());
+        return session;
+    }
+
+    private static Properties createSessionProperties(Session session) {
+        Properties config = new Properties();
+        config.put("StrictHostKeyChecking", "no");
+        config.put("PreferredAuthentications", "publickey,keyboard-interactive,password");
+        config.put("cipher.c2s", session.getConfig("cipher.c2s") + ",ssh-rsa,signature.dss");
+        config.put("cipher.s2c", session.getConfig("cipher.s2c") + ",ssh-rsa,signature.dss");
+        config.put("server_host_key", session.getConfig("server_host_key") + ",ssh-rsa,signature.dss");
+        config.put("PubkeyAcceptedAlgorithms", session.getConfig("PubkeyAcceptedAlgorithms") + ",ssh-rsa,signature"
+                + ".dss");
+        return config;
+    }
+
+    /**
+     * Creates not connected SSH session.
+     */
+    @FunctionalInterface
+    interface SessionFactory {
+
+        Session create(Server server) throws JSchException;
+    }
+
+    private class PooledSession {
+
+        private final Semaphore channels = new Semaphore(maxChannels, true);
+        // guarded by this
+        private ConnectedSession current;
+        private long lastUsed = System.currentTimeMillis();
+        private boolean closed;
+
+        private void acquireChannel(Server server) throws JSchException {
+            try {
+                if (!channels.tryAcquire(server.getTimeoutConnect(), TimeUnit.MILLISECONDS)) {
+                    throw new JSchException("No free SSH channel for host [" + server.getHost() + "] in "
+                            + server.getTimeoutConnect() + " ms, max channels per session: " + maxChannels);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JSchException("Interrupted while waiting for free SSH channel", e);
+            }
+        }
+
+        private void releaseChannel() {
+            channels.release();
+        }
+
+        // returns null if pooled session is already closed
+        private SshSessionLease lease(Server server) throws JSchException {
+            while (true) {
+                ConnectedSession connectedSession;
+                boolean shouldConnect = false;
+                long idleSince;
+                synchronized (this) {
+                    if (closed) {
+                        return null;
+                    }
+                    if (Objects.isNull(current)) {
+                        current = new ConnectedSession();
+                        shouldConnect = true;
+                    }
+                    connectedSession = current;
+                    connectedSession.leases++;
+                    idleSince = lastUsed;
+                    lastUsed = System.currentTimeMillis();
+                }
+                Session session;
+                try {
+                    session = shouldConnect
+                            ? connectedSession.connect(server)
+                            : connectedSession.await();
+                } catch (JSchException | RuntimeException e) {
+                    retire(connectedSession);
+                    throw e;
+                }
+                if (shouldConnect || isAlive(session, server, idleSince)) {
+                    return new SshSessionLease(this, connectedSession, session);
+                }
+                log.info("SSH session is broken and will be reconnected. Host: [{}].", server.getHost());
+                retire(connectedSession);
+            }
+        }
+
+        private boolean isAlive(Session session, Server server, long idleSince) {
+            if (!session.isConnected()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - idleSince < keepAliveCheckMs) {
+                return true;
+            }
+            Channel channel = null;
+            try {
+                // unlike keepalive message, opening of a channel waits for the answer of the server
+                channel = session.openChannel(ALIVE_CHECK_CHANNEL_TYPE);
+                channel.connect(server.getTimeoutConnect());
+                return true;
+            } catch (Exception e) {
+                log.debug("Alive check of SSH session failed", e);
+                return false;
+            } finally {
+                if (Objects.nonNull(channel)) {
+                    channel.disconnect();
+                }
+            }
+        }
+
+        // connected session is not given to next leases and is disconnected after release of the current ones
+        private void retire(ConnectedSession connectedSession) {
+            synchronized (this) {
+                if (current == connectedSession) {
+                    current = null;
+                }
+                connectedSession.retired = true;
+            }
+            release(connectedSession, false);
+        }
+
+        private void release(ConnectedSession connectedSession, boolean releaseChannel) {
+            boolean shouldDisconnect;
+            synchronized (this) {
+                lastUsed = System.currentTimeMillis();
+                shouldDisconnect = --connectedSession.leases == 0 && connectedSession.retired;
+            }
+            if (shouldDisconnect) {
+                connectedSession.disconnect();
+            }
+            if (releaseChannel) {
+                channels.release();
+            }
+        }
+
+        private boolean closeIfIdle(long idleSince) {
+            ConnectedSession toDisconnect;
+            synchronized (this) {
+                if (lastUsed >= idleSince || channels.availablePermits() < maxChannels) {
+                    return false;
+                }
+                toDisconnect = markClosed();
+            }
+            if (Objects.nonNull(toDisconnect)) {
+                toDisconnect.disconnect();
+            }
+            return true;
+        }
+
+        private void close() {
+            ConnectedSession toDisconnect;
+            synchronized (this) {
+                toDisconnect = markClosed();
+            }
+            if (Objects.nonNull(toDisconnect)) {
+                toDisconnect.disconnect();
+            }
+        }
+
+        // returns connected session which can be disconnected at once, leased session is disconnected on release
+        private ConnectedSession markClosed() {
+            closed = true;
+            ConnectedSession toDisconnect = null;
+            if (Objects.nonNull(current)) {
+                current.retired = true;
+                if (current.leases == 0) {
+                    toDisconnect = current;
+                }
+                current = null;
+            }
+            return toDisconnect;
+        }
+    }
+
+    /**
+     * SSH session of the pooled session with count of its leases.
+     * Replaced by a new one when session is broken.
+     */
+    private class ConnectedSession {
+
+        private final CompletableFuture<Session> connection = new CompletableFuture<>();
+        // guarded by pooled session
+        private int leases;
+        private boolean retired;
+
+        private Session connect(Server server) throws JSchException {
+            try {
+                Session session = sessionFactory.create(server);
+                log.info("Connecting with SSH host. Host: [{}].", server.getHost());
+                session.connect();
+                connection.complete(session);
+                return session;
+            } catch (JSchException | RuntimeException e) {
+                connection.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        private Session await() throws JSchException {
+            try {
+                return connection.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JSchException("Interrupted while waiting for SSH session connection", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof JSchException) {
+                    throw (JSchException) e.getCause();
+                }
+                throw new JSchException("Could not connect SSH session", e.getCause());
+            }
+        }
+
+        private void disconnect() {
+            if (connection.isDone() && !connection.isCompletedExceptionally()) {
+                connection.join().disconnect();
+            }
+        }
+    }
+
+    /**
+     * Lease of pooled SSH session. Must be closed after use.
+     */
+    public static class SshSessionLease implements AutoCloseable {
+
+        private final PooledSession pooledSession;
+        private final ConnectedSession connectedSession;
+        private final Session session;
+
+        private SshSessionLease(PooledSession pooledSession, ConnectedSession connectedSession, Session session) {
+            this.pooledSession = pooledSession;
+            this.connectedSession = connectedSession;
+            this.session = session;
+        }
+
+        public Session getSession() {
+            return session;
+        }
+
+        @Override
+        public void close() {
+            pooledSession.release(connectedSession, true);
+        }
+    }
+
+    private static class SessionKey {
+
+        private final String host;
+        private final int port;
+        private final String user;
+        private final String password;
+        private final String key;
+        private final String passphrase;
+
+        private SessionKey(Server server) {
+            this.host = server.getHost();
+            this.port = server.getPort();
+            this.user = server.getUser();
+            this.password = server.getPass();
+            this.key = server.getKey();
+            this.passphrase = server.getPassPhrase();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SessionKey)) {
+                return false;
+            }
+            SessionKey that = (SessionKey) o;
+            return port == that.port
+                    && Objects.equals(host, that.host)
+                    && Objects.equals(user, that.user)
+                    && Objects.equals(password, that.password)
+                    && Objects.equals(key, that.key)
+                    && Objects.equals(passphrase, that.passphrase);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, port, user, password, key, passphrase);
+        }
+    }
+}
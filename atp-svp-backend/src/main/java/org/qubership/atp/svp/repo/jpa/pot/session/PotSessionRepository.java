@@ -20,11 +20,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.qubership.atp.svp.core.enums.ValidationStatus;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
-import org.qubership.atp.svp.model.pot.ExecutionVariable;
 import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -61,9 +59,10 @@ public interface PotSessionRepository extends JpaRepository<PotSessionEntity, UU
     boolean isSessionPagesLoadingAlreadyStarted(UUID sessionId);
 
     @Modifying
-    @Query("update PotSessionEntity p set p.executionVariables = :variables WHERE p.sessionId = :sessionId")
-    void updateVariables(@Param("variables") ConcurrentHashMap<String, ExecutionVariable> variables,
-                         @Param("sessionId") UUID sessionId);
+    @Query(value = "UPDATE pot_sessions SET execution_variables = "
+            + "coalesce(execution_variables, cast('{}' as jsonb)) || cast(:variables as jsonb) "
+            + "WHERE session_id = :sessionId", nativeQuery = true)
+    void mergeVariables(@Param("variables") String variables, @Param("sessionId") UUID sessionId);
 
     @Modifying
     @Query("UPDATE PotSessionEntity p SET  "
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.scheduled;
+
+import org.qubership.atp.svp.service.direct.ExecutionVariablesStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ChangedExecutionVariablesWriter {
+
+    private final ExecutionVariablesStore executionVariablesStore;
+
+    @Autowired
+    public ChangedExecutionVariablesWriter(ExecutionVariablesStore executionVariablesStore) {
+        this.executionVariablesStore = executionVariablesStore;
+    }
+
+    /**
+     * Scheduled task which writes changed execution variables of running sessions to the database
+     * and removes variables of sessions deleted from the database from memory.
+     * <br>
+     * Variables are also written at the end of each tab, so this task only limits
+     * the time changes can stay in memory for long tabs.
+     */
+    @Scheduled(fixedRateString = "${svp.execution-variables.flush.interval.ms:5000}")
+    public void writeChangedExecutionVariables() {
+        log.debug("ChangedExecutionVariablesWriter - running...");
+        executionVariablesStore.getSessionsWithChangedVariables().forEach(sessionId -> {
+            try {
+                executionVariablesStore.flush(sessionId);
+            } catch (Throwable e) {
+                log.error("An error occurred while writing execution variables for session {}. \nMessage: {}",
+                        sessionId, e.getMessage());
+            }
+        });
+        try {
+            executionVariablesStore.evictRemovedSessions();
+        } catch (Throwable e) {
+            log.error("An error occurred while evicting execution variables of removed sessions. \nMessage: {}",
+                    e.getMessage());
+        }
+        log.debug("ChangedExecutionVariablesWriter - done.");
+    }
+}
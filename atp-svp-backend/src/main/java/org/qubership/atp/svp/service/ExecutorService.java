@@ -16,16 +16,19 @@
 
 package org.qubership.atp.svp.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.qubership.atp.svp.model.api.GetInfoRequest;
 import org.qubership.atp.svp.model.api.ram.SessionDto;
 import org.qubership.atp.svp.model.api.tsg.PreconfiguredValidation;
-import org.qubership.atp.svp.model.pot.PotFile;
+import org.qubership.atp.svp.model.pot.StreamingPotFile;
 
 public interface ExecutorService {
 
-    PotFile getPotReportForSession(UUID sessionId);
+    StreamingPotFile getStreamingPotReportForSession(UUID projectId, UUID sessionId);
+
+    StreamingPotFile getStreamingPotReportForSessions(UUID projectId, List<UUID> sessionIds);
 
     UUID getInfo(UUID projectId, GetInfoRequest request);
 
@@ -35,7 +38,7 @@ public interface ExecutorService {
 
     PreconfiguredValidation getPreconfiguredValidationResults(UUID projectId, GetInfoRequest request);
 
-    PotFile getPotSync(UUID projectId, GetInfoRequest request);
+    StreamingPotFile getPotSync(UUID projectId, GetInfoRequest request);
 
     SessionDto getInfoSessionDtoRam(UUID projectId, GetInfoRequest request);
 }
@@ -16,10 +16,17 @@
 
 package org.qubership.atp.svp.service;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
 import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
-import org.qubership.atp.svp.model.pot.PotFile;
+import org.qubership.atp.svp.model.pot.StreamingPotFile;
 
 public interface PotGenerationEngine {
 
-    PotFile generatePot(PotSessionEntity session);
+    StreamingPotFile generateStreamingPot(PotSessionEntity session);
+
+    StreamingPotFile generateStreamingPotArchive(List<UUID> sessionIds,
+                                                 Function<UUID, PotSessionEntity> sessionLoader);
 }
@@ -16,8 +16,15 @@
 
 package org.qubership.atp.svp.service;
 
+import java.io.OutputStream;
+
 import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
 
 public interface PotGenerator {
     byte[] generatePotFile(PotSessionEntity session, boolean isFullInfoNeededInPot);
+
+    /**
+     * Writes POT document of the session to the stream, the stream is not closed.
+     */
+    void writePotFile(PotSessionEntity session, boolean isFullInfoNeededInPot, OutputStream outputStream);
 }
@@ -19,12 +19,9 @@ package org.qubership.atp.svp.service;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.qubership.atp.svp.core.exceptions.StoringSessionPageException;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionPageEntity;
-import org.qubership.atp.svp.model.pot.ExecutionVariable;
-import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
 
 public interface PotSessionPageService {
 
@@ -39,10 +36,6 @@ public interface PotSessionPageService {
 
     OffsetDateTime getSessionStartedDate(UUID sessionId);
 
-    SessionExecutionConfiguration getExecutionConfigurationForSession(UUID sessionId);
-
-    ConcurrentHashMap<String, ExecutionVariable> getExecutionVariablesForSession(UUID sessionId);
-
     void updatePotSessionPage(PotSessionPageEntity page) throws StoringSessionPageException;
 
 }
@@ -30,6 +30,8 @@ public interface PotSessionParameterService {
 
     void sendParameterResultToSession(AbstractParameterExecutionContext context);
 
+    void sendParameterResultToSession(UUID sessionId, PotSessionParameterEntity parameter);
+
     void updatePotSessionParameter(AbstractParameterExecutionContext context);
 
     void addVariable(AbstractParameterExecutionContext context);
@@ -29,6 +29,7 @@ import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.pot.ExecutionVariable;
 import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 
 public interface PotSessionService {
 
@@ -40,6 +41,8 @@ public interface PotSessionService {
 
     ConcurrentHashMap<String, ExecutionVariable> getVariables(UUID sessionId);
 
+    SessionExecutionContext createExecutionContext(PotSessionEntity session);
+
     boolean isAlreadyValidated(UUID sessionId);
 
     boolean shouldCommonParametersLoadedForSession(UUID sessionId);
@@ -69,5 +72,7 @@ public interface PotSessionService {
 
     void addVariable(UUID sessionId, ConcurrentHashMap<String, ExecutionVariable> executionVariables);
 
+    void flushVariables(UUID sessionId);
+
     ConcurrentHashMap<String, ExecutionVariable> getExecutionVariables(UUID sessionId);
 }
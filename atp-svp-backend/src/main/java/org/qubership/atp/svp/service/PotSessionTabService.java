@@ -18,21 +18,14 @@ package org.qubership.atp.svp.service;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.qubership.atp.svp.core.exceptions.StoringSessionTabException;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
-import org.qubership.atp.svp.model.pot.ExecutionVariable;
-import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
 
 public interface PotSessionTabService {
 
     PotSessionTabEntity getTabById(UUID tabId);
 
-    SessionExecutionConfiguration getExecutionConfigurationForSession(UUID sessionId);
-
-    ConcurrentHashMap<String, ExecutionVariable> getExecutionVariablesForSession(UUID sessionId);
-
     OffsetDateTime getSessionStartedDate(UUID sessionId);
 
     void validateTab(UUID sessionId, String pageName, String tabName, PotSessionTabEntity tab)
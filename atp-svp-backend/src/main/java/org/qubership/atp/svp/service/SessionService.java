@@ -17,6 +17,7 @@
 package org.qubership.atp.svp.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SessionService {
@@ -25,6 +26,16 @@ public interface SessionService {
 
     boolean hasSession(UUID sessionId);
 
+    /**
+     * Returns name of the pod which holds web socket of the session, if the session is registered.
+     */
+    Optional<String> getSessionPodName(UUID sessionId);
+
+    /**
+     * Forgets cached pod of the session, so the pod is requested from the database next time.
+     */
+    void evictSessionPod(UUID sessionId);
+
     List<String> getSessions();
 
     void removeSession(UUID sessionId);
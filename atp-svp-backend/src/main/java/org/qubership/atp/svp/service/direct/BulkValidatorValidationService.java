@@ -20,12 +20,21 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+
 import org.qubership.atp.svp.core.enums.ValidationStatus;
 import org.qubership.atp.svp.core.exceptions.InvalidBulkValidatorApiUsageException;
 import org.qubership.atp.svp.core.exceptions.ValidationException;
@@ -51,8 +60,11 @@ import org.qubership.automation.pc.compareresult.DiffMessage;
 import org.qubership.automation.pc.compareresult.ResultType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -74,11 +86,33 @@ public class BulkValidatorValidationService {
     @Value("${atp.bv.url}")
     private String bvUrl;
 
+    private final ExecutorService bulkValidatorExecutor;
+    private final Cache<UUID, Map<String, List<String>>> testCaseIdsByNameCache;
+
+    /**
+     * Constructor for {@link BulkValidatorValidationService} instance.
+     *
+     * @param parallelism max count of rows validated in Bulk Validator at the same time
+     * @param testCasesCacheTtlSec time to live of Bulk Validator test case ids found by names
+     */
     @Autowired
     public BulkValidatorValidationService(BulkValidatorRepository bulkValidatorRepository,
-                                          ExecutionVariablesService executionVariablesService) {
+                                          ExecutionVariablesService executionVariablesService,
+                                          @Value("${svp.bulk-validator.parallelism:10}") int parallelism,
+                                          @Value("${svp.bulk-validator.test-cases.cache.ttl.sec:300}")
+                                          long testCasesCacheTtlSec) {
         this.bulkValidatorRepository = bulkValidatorRepository;
         this.executionVariablesService = executionVariablesService;
+        this.bulkValidatorExecutor = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("BulkValidatorExecutor-"));
+        this.testCaseIdsByNameCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(testCasesCacheTtlSec, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkValidatorExecutor.shutdownNow();
     }
 
     /**
@@ -220,7 +254,7 @@ public class BulkValidatorValidationService {
                 return UUID.fromString(bvValidation.getTestCaseId());
             } else {
                 GettingTestCaseIdsResponse gettingTestCaseIdsResponse =
-                        bulkValidatorRepository.getTestCaseIds(bvProjectId, Collections.singletonList(testCase));
+                        getTestCaseIds(bvProjectId, Collections.singletonList(testCase));
                 checkResponse(gettingTestCaseIdsResponse);
                 String testCaseId = gettingTestCaseIdsResponse.getTestCases().values()
                         .stream().findFirst().get().stream().findFirst().get();
@@ -256,7 +290,7 @@ public class BulkValidatorValidationService {
                     .matches(UUID_REGEXP_MATCHER)).collect(Collectors.toList());
             if (!testCasesNames.isEmpty()) {
                 GettingTestCaseIdsResponse gettingTestCaseIdsResponse =
-                        bulkValidatorRepository.getTestCaseIds(bvProjectId, testCasesNames);
+                        getTestCaseIds(bvProjectId, testCasesNames);
                 gettingTestCaseIdsResponse.getTestCases().values().forEach(testCases::addAll);
                 testCases.removeAll(testCasesNames);
                 bvValidation.setTestCaseIds(testCases);
@@ -272,37 +306,94 @@ public class BulkValidatorValidationService {
     }
 
     /**
-     * Validate data with Bulk Validator by next steps:
-     * 1) Creation test runs for current row with Bulk Validator
-     * 2) Run comparing process for all test runs
-     * 3) Fill differences from comparing process responses.
+     * Returns ids of Bulk Validator test cases by names.
+     * Ids found before are taken from the cache of the project, only the rest names are requested from
+     * Bulk Validator.
+     */
+    private GettingTestCaseIdsResponse getTestCaseIds(UUID bvProjectId, List<String> names) {
+        Map<String, List<String>> cachedTestCaseIds = testCaseIdsByNameCache.asMap()
+                .computeIfAbsent(bvProjectId, projectId -> new ConcurrentHashMap<>());
+        Map<String, List<String>> testCaseIds = new LinkedHashMap<>();
+        List<String> notCachedNames = new ArrayList<>();
+        names.forEach(name -> {
+            List<String> ids = cachedTestCaseIds.get(name);
+            if (Objects.isNull(ids)) {
+                notCachedNames.add(name);
+            } else {
+                testCaseIds.put(name, ids);
+            }
+        });
+        GettingTestCaseIdsResponse response = new GettingTestCaseIdsResponse();
+        response.setNotFoundTcNames(new ArrayList<>());
+        if (!notCachedNames.isEmpty()) {
+            GettingTestCaseIdsResponse bvResponse = bulkValidatorRepository.getTestCaseIds(bvProjectId,
+                    notCachedNames);
+            if (Objects.nonNull(bvResponse.getTestCases())) {
+                cachedTestCaseIds.putAll(bvResponse.getTestCases());
+                testCaseIds.putAll(bvResponse.getTestCases());
+            }
+            if (Objects.nonNull(bvResponse.getNotFoundTcNames())) {
+                response.setNotFoundTcNames(bvResponse.getNotFoundTcNames());
+            }
+        }
+        response.setTestCases(testCaseIds);
+        return response;
+    }
+
+    /**
+     * Validate rows with Bulk Validator.
+     * Rows are validated concurrently (test runs creation and comparing process), the number of rows
+     * validated at the same time is limited by svp.bulk-validator.parallelism.
+     * Differences are filled in the order of rows.
      *
      * @param bvProjectId - project ID in Bulk Validator
      * @param bvValidation - validation settings
-     * @param validationData - data for validation with Bulk Validator
+     * @param rows - data for validation with Bulk Validator
      * @param diffs - differences between actual and expected result
-     *         in the format given by actualDiffPath param
+     * @param arName - name of actual result for differences path
+     * @param firstRowIdx - index of the first row for differences path
      * @param <T> - type of validation data
-     * @return Bulk Validator comparing process responses.
+     * @return Bulk Validator comparing process responses for each row.
      */
-    public <T> List<ComparingProcessResponse> validateDataWithBulkValidator(UUID bvProjectId,
-                                                                            BulkValidatorValidation bvValidation,
-                                                                            T validationData, List<DiffMessage> diffs,
-                                                                            String arName, int rowIdx)
+    public <T> List<List<ComparingProcessResponse>> validateRowsWithBulkValidator(UUID bvProjectId,
+                                                                                  BulkValidatorValidation bvValidation,
+                                                                                  List<T> rows,
+                                                                                  List<DiffMessage> diffs,
+                                                                                  String arName, int firstRowIdx)
             throws ValidationException {
-
-        List<ValidationObject> validationObjects = getListValidationObjects(validationData, bvValidation);
-        try {
-            List<UUID> testRunIds = createTestRunsForRow(bvProjectId, bvValidation.getTestCaseIds(), validationObjects);
-            List<ComparingProcessResponse> comparingResponses = bulkValidatorRepository.compare(bvProjectId,
-                    testRunIds);
-            fillDiffsFromComparingResponses(validationData, bvValidation, validationObjects,
-                    comparingResponses, diffs, arName, rowIdx);
-            return comparingResponses;
-        } catch (RuntimeException e) {
-            throw new ValidationException("Could not validate data: " + validationData
-                    + " with Bulk Validator with settings: " + bvValidation + "\n message: " + e.getMessage(), e);
+        List<List<ValidationObject>> rowsValidationObjects = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            rowsValidationObjects.add(getListValidationObjects(row, bvValidation));
         }
+        List<CompletableFuture<List<ComparingProcessResponse>>> rowsResponses = rowsValidationObjects.stream()
+                .map(validationObjects -> CompletableFuture.supplyAsync(() ->
+                        validateRow(bvProjectId, bvValidation.getTestCaseIds(), validationObjects),
+                        bulkValidatorExecutor))
+                .collect(Collectors.toList());
+        List<List<ComparingProcessResponse>> comparingResponses = new ArrayList<>(rows.size());
+        for (int idx = 0; idx < rows.size(); idx++) {
+            T row = rows.get(idx);
+            try {
+                List<ComparingProcessResponse> rowResponses = rowsResponses.get(idx).join();
+                fillDiffsFromComparingResponses(row, bvValidation, rowsValidationObjects.get(idx),
+                        rowResponses, diffs, arName, firstRowIdx + idx);
+                comparingResponses.add(rowResponses);
+            } catch (RuntimeException e) {
+                rowsResponses.forEach(rowResponses -> rowResponses.cancel(false));
+                Throwable cause = e instanceof CompletionException && Objects.nonNull(e.getCause())
+                        ? e.getCause() : e;
+                throw new ValidationException("Could not validate data: " + row
+                        + " with Bulk Validator with settings: " + bvValidation + "\n message: "
+                        + cause.getMessage(), cause);
+            }
+        }
+        return comparingResponses;
+    }
+
+    private List<ComparingProcessResponse> validateRow(UUID bvProjectId, List<String> testCaseIds,
+                                                       List<ValidationObject> validationObjects) {
+        List<UUID> testRunIds = createTestRunsForRow(bvProjectId, testCaseIds, validationObjects);
+        return bulkValidatorRepository.compare(bvProjectId, testRunIds);
     }
 
     /**
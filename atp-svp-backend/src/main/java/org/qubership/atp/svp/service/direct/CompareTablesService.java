@@ -16,11 +16,17 @@
 
 package org.qubership.atp.svp.service.direct;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.qubership.atp.svp.core.enums.ValidationStatus;
@@ -32,8 +38,7 @@ import org.qubership.atp.svp.model.pot.values.TableValueObject;
 import org.qubership.atp.svp.model.table.Table;
 import org.qubership.automation.pc.comparator.impl.table.FatTableComparator;
 import org.qubership.automation.pc.compareresult.DiffMessage;
-import org.qubership.automation.pc.configuration.parameters.Parameters;
-import org.qubership.automation.pc.core.exceptions.ComparatorException;
+import org.qubership.automation.pc.compareresult.ResultType;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
@@ -42,8 +47,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CompareTablesService {
 
-    private final FatTableComparator tableComparator = new FatTableComparator();
-
     /**
      * The method compare tables and set Validation info for PotSessionParameter.
      */
@@ -58,8 +61,6 @@ public class CompareTablesService {
         List<String> keyColumns = parameter.getParameterConfig().getErConfig()
                 .getTableValidationSettings().getKeyColumns()
                 .stream().map(String::toUpperCase).collect(Collectors.toList());
-        Parameters parameters = new Parameters();
-        keyColumns.forEach(key -> parameters.put("primaryKey", key));
         boolean diffsFound = false;
         for (int arTableIdx = 0; arTableIdx < parameter.getArValues().size(); arTableIdx++) {
             if (parameter.getArValues().get(arTableIdx) instanceof TableValueObject) {
@@ -71,20 +72,15 @@ public class CompareTablesService {
                     arTable = sortArTable(leadTable, arTable, keyColumns);
                 }
                 // Compare tables
-                try {
-                    List<DiffMessage> diffs = tableComparator.compare(leadTable.toString(),
-                            arTable.toString(), parameters);
-                    if (!diffs.isEmpty()) {
-                        diffsFound = true;
-                    }
-                    if (highlightDifferences) {
-                        tableValidationInfo.setDiffs(diffs);
-                    }
-                } catch (ComparatorException ex) {
-                    throw new ValidationException("Error occurred on trying to validate '"
-                            + parameter.getPath() + "' as TABLE vs TABLE!", ex);
+                List<DiffMessage> diffs = hasSameContent(leadTable, arTable)
+                        ? new ArrayList<>()
+                        : compareRows(leadTable, arTable);
+                if (!diffs.isEmpty()) {
+                    diffsFound = true;
+                }
+                if (highlightDifferences) {
+                    tableValidationInfo.setDiffs(diffs);
                 }
-
                 info.addTableValidation(tableValidationInfo);
             } else {
                 log.warn("Table validation skipped!");
@@ -95,32 +91,94 @@ public class CompareTablesService {
         parameter.setValidationInfo(info);
     }
 
-    private Table sortArTable(Table er, Table ar, List<String> keyColumns) {
-        List<Map<String, String>> unprocessedArRows = ar.getRows();
-        List<Map<String, String>> orderedArRows = new ArrayList<>();
-        for (int erIdx = 0; erIdx < er.getRows().size(); erIdx++) {
-            Map<String, String> erRow = er.getRow(erIdx);
-            boolean pairFound = false;
-            List<String> erRowValues = new ArrayList<>(keyColumns.size());
-            keyColumns.forEach(key -> erRowValues.add(erRow.get(key)));
-            Iterator<Map<String, String>> iterator = unprocessedArRows.iterator();
-            while (iterator.hasNext()) {
-                Map<String, String> arRow = iterator.next();
-                List<String> arRowValues = new ArrayList<>(keyColumns.size());
-                keyColumns.forEach(key -> arRowValues.add(arRow.get(key)));
-                if (erRowValues.equals(arRowValues)) {
-                    orderedArRows.add(arRow);
-                    iterator.remove();
-                    pairFound = true;
-                    break;
+    /**
+     * Checks that tables are equal, so cells of the tables are not compared one by one.
+     */
+    private boolean hasSameContent(Table er, Table ar) {
+        return Objects.equals(er.getName(), ar.getName())
+                && Objects.equals(er.getHeaders(), ar.getHeaders())
+                && Objects.equals(er.getRows(), ar.getRows());
+    }
+
+    /**
+     * Compares cells of ER and AR rows with the same index. AR rows are already aligned to ER rows by key columns.
+     * Diffs are in the format of {@link FatTableComparator} highlights, cell is addressed as
+     * "table name|row index|column". Cells of ER rows without AR row are MISSED,
+     * cells of AR rows without ER row are EXTRA, other different cells are MODIFIED.
+     */
+    private List<DiffMessage> compareRows(Table er, Table ar) {
+        Set<String> columns = new LinkedHashSet<>(er.getHeaders());
+        columns.addAll(ar.getHeaders());
+        List<DiffMessage> diffs = new ArrayList<>();
+        int rowsCount = Math.max(er.getRows().size(), ar.getRows().size());
+        for (int rowIdx = 0; rowIdx < rowsCount; rowIdx++) {
+            Map<String, String> erRow = rowIdx < er.getRows().size() ? er.getRow(rowIdx) : null;
+            Map<String, String> arRow = rowIdx < ar.getRows().size() ? ar.getRow(rowIdx) : null;
+            ResultType result;
+            if (erRow == null) {
+                result = ResultType.EXTRA;
+            } else if (arRow == null || arRow.isEmpty() && !erRow.isEmpty()) {
+                result = ResultType.MISSED;
+            } else {
+                result = ResultType.MODIFIED;
+            }
+            for (String column : columns) {
+                String erValue = erRow == null ? null : erRow.get(column);
+                String arValue = arRow == null ? null : arRow.get(column);
+                if (Objects.equals(erValue, arValue)) {
+                    continue;
+                }
+                DiffMessage diff = new DiffMessage();
+                if (erRow != null) {
+                    diff.setExpected(getCellPath(er, rowIdx, column));
+                    diff.setExpectedValue(erValue);
                 }
+                if (arRow != null) {
+                    diff.setActual(getCellPath(ar, rowIdx, column));
+                    diff.setActualValue(arValue);
+                }
+                diff.setResult(result);
+                diffs.add(diff);
             }
-            if (!pairFound) {
+        }
+        return diffs;
+    }
+
+    private String getCellPath(Table table, int rowIdx, String column) {
+        return table.getName() + "|" + rowIdx + "|" + column;
+    }
+
+    /**
+     * Orders AR rows as rows of ER with the same key values. For each ER row the first not matched AR row
+     * with the same key is taken, or empty row if there is no such AR row. Not matched AR rows are added at the end.
+     */
+    private Table sortArTable(Table er, Table ar, List<String> keyColumns) {
+        Map<List<String>, Deque<Map<String, String>>> arRowsByKey = new HashMap<>();
+        ar.getRows().forEach(arRow -> arRowsByKey
+                .computeIfAbsent(getKeyValues(arRow, keyColumns), key -> new ArrayDeque<>())
+                .add(arRow));
+        Set<Map<String, String>> matchedArRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Map<String, String>> orderedArRows = new ArrayList<>(Math.max(er.getRows().size(), ar.getRows().size()));
+        for (Map<String, String> erRow : er.getRows()) {
+            Deque<Map<String, String>> arRows = arRowsByKey.get(getKeyValues(erRow, keyColumns));
+            if (arRows == null || arRows.isEmpty()) {
                 orderedArRows.add(Collections.emptyMap());
+            } else {
+                Map<String, String> arRow = arRows.poll();
+                orderedArRows.add(arRow);
+                matchedArRows.add(arRow);
             }
         }
-        orderedArRows.addAll(unprocessedArRows);
+        ar.getRows().stream()
+                .filter(arRow -> !matchedArRows.contains(arRow))
+                .forEach(orderedArRows::add);
         ar.setRows(orderedArRows);
         return ar;
     }
+
+    private List<String> getKeyValues(Map<String, String> row, List<String> keyColumns) {
+        List<String> keyValues = new ArrayList<>(keyColumns.size());
+        keyColumns.forEach(key -> keyValues.add(row.get(key)));
+        return keyValues;
+    }
 }
@@ -16,13 +16,17 @@
 
 package org.qubership.atp.svp.service.direct;
 
-import java.time.Duration;
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.qubership.atp.svp.core.enums.ValidationStatus;
 import org.qubership.atp.svp.model.events.ValidateTabEvent;
@@ -62,34 +66,53 @@ public class DeferredSearchServiceImpl extends AbstractMessagingService implemen
     /**
      * Cache for every search contains necessary execution context of parameter.
      */
-    private ConcurrentHashMap<UUID, AbstractParameterExecutionContext> deferredSearches = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, DeferredSearch> deferredSearches = new ConcurrentHashMap<>();
+    /**
+     * Index of request search ids by session id, so searches of the session are killed without scanning the cache.
+     */
+    private final ConcurrentHashMap<UUID, Set<UUID>> deferredSearchesBySession = new ConcurrentHashMap<>();
+    /**
+     * Search ids ordered by expiration time, so only expired searches are visited by the expiration.
+     * Searches evicted or replaced before expiration stay in the queue until their time
+     * and are skipped then, because the generation in the cache differs.
+     */
+    private final DelayQueue<ExpiringSearch> expiringSearches = new DelayQueue<>();
+    private final AtomicLong searchGenerations = new AtomicLong();
 
     @Override
     public Optional<AbstractParameterExecutionContext> findContextByRequestSearchId(UUID requestSearchId) {
-        return Optional.ofNullable(deferredSearches.get(requestSearchId));
+        return Optional.ofNullable(deferredSearches.get(requestSearchId)).map(search -> search.context);
     }
 
     @Override
     public void storeContextByRequestSearchId(UUID requestSearchId, AbstractParameterExecutionContext context) {
-        deferredSearches.put(requestSearchId, context);
+        long generation = searchGenerations.incrementAndGet();
+        DeferredSearch replacedSearch = deferredSearches.put(requestSearchId, new DeferredSearch(context, generation));
+        if (Objects.nonNull(replacedSearch)) {
+            removeFromSessionIndex(requestSearchId, replacedSearch.context);
+        }
+        addToSessionIndex(requestSearchId, context);
+        expiringSearches.add(new ExpiringSearch(requestSearchId, generation, getExpirationTimeMillis(context)));
     }
 
     @Override
     public void evictContextByRequestSearchId(UUID requestSearchId) {
-        deferredSearches.remove(requestSearchId);
+        DeferredSearch search = deferredSearches.remove(requestSearchId);
+        if (Objects.nonNull(search)) {
+            removeFromSessionIndex(requestSearchId, search.context);
+        }
     }
 
     @Override
-    public synchronized void killAllDeferredSearchResultsByExpiredSessionId(UUID sessionId) {
+    public void killAllDeferredSearchResultsByExpiredSessionId(UUID sessionId) {
+        Set<UUID> requestSearchIds = deferredSearchesBySession.remove(sessionId);
+        if (Objects.isNull(requestSearchIds)) {
+            return;
+        }
         List<UUID> killedSearchesId = new ArrayList<>();
-        deferredSearches.keySet().stream()
-                .filter(requestSearchId -> isDeferredSearchResultBelongsToSession(requestSearchId, sessionId))
-                .forEach(requestSearchId -> {
-                    UUID responseSearchId = deferredSearches.get(requestSearchId).getResponseSearchId();
-                    killedSearchesId.add(responseSearchId);
-                    killDeferredSearchResult(requestSearchId,
-                            "Session was expired and all deferred results was evicted from cache");
-                });
+        requestSearchIds.forEach(requestSearchId -> killDeferredSearchResultIfPresent(requestSearchId,
+                "Session was expired and all deferred results was evicted from cache")
+                .ifPresent(context -> killedSearchesId.add(context.getResponseSearchId())));
         if (!killedSearchesId.isEmpty()) {
             logCollectorRepository.cancelSearches(killedSearchesId);
         }
@@ -97,16 +120,18 @@ public class DeferredSearchServiceImpl extends AbstractMessagingService implemen
 
     @Override
     @Transactional
-    public synchronized void killExpiredDeferredSearchResults() {
+    public void killExpiredDeferredSearchResults() {
         List<UUID> killedSearchesId = new ArrayList<>();
-        deferredSearches.keySet().stream()
-                .filter(this::isDeferredSearchResultExpired)
-                .forEach(requestSearchId -> {
-                    UUID responseSearchId = deferredSearches.get(requestSearchId).getResponseSearchId();
-                    killedSearchesId.add(responseSearchId);
-                    killDeferredSearchResult(requestSearchId,
-                            "Deferred result was expired and evicted from cache");
-                });
+        ExpiringSearch expiredSearch;
+        while ((expiredSearch = expiringSearches.poll()) != null) {
+            // The search could be processed or replaced before the expiration
+            DeferredSearch search = deferredSearches.get(expiredSearch.requestSearchId);
+            if (Objects.nonNull(search) && search.generation == expiredSearch.generation
+                    && deferredSearches.remove(expiredSearch.requestSearchId, search)) {
+                killedSearchesId.add(killRemovedSearch(expiredSearch.requestSearchId, search.context,
+                        "Deferred result was expired and evicted from cache").getResponseSearchId());
+            }
+        }
         if (!killedSearchesId.isEmpty()) {
             logCollectorRepository.cancelSearches(killedSearchesId);
         }
@@ -114,17 +139,61 @@ public class DeferredSearchServiceImpl extends AbstractMessagingService implemen
 
     @Override
     @Transactional
-    public synchronized void killDeferredSearchResult(UUID requestSearchId, String messageAboutKilling) {
-        findContextByRequestSearchId(requestSearchId).ifPresent(parameterContext -> {
-            parameterContext.getParameter().getArValues().clear();
-            ValidationInfo validationInfoForKilledResult =
-                    new ValidationInfo(ValidationStatus.WARNING, messageAboutKilling);
-            parameterContext.getParameter().setValidationInfo(validationInfoForKilledResult);
-            getMessageService(parameterContext.getSessionId())
-                    .sendSutParameterResult(parameterContext.getSessionId(), parameterContext.getParameter());
-            parameterContext.decrementCountOfUnprocessedParameters();
-            evictContextByRequestSearchId(requestSearchId);
-            startTabValidation(parameterContext);
+    public void killDeferredSearchResult(UUID requestSearchId, String messageAboutKilling) {
+        killDeferredSearchResultIfPresent(requestSearchId, messageAboutKilling);
+    }
+
+    /**
+     * Kills the search if it is still in the cache.
+     * Removing from the cache is the claim for the killing, so the search is not killed twice.
+     *
+     * @return context of the killed search.
+     */
+    private Optional<AbstractParameterExecutionContext> killDeferredSearchResultIfPresent(UUID requestSearchId,
+                                                                                          String messageAboutKilling) {
+        DeferredSearch search = deferredSearches.remove(requestSearchId);
+        if (Objects.isNull(search)) {
+            return Optional.empty();
+        }
+        return Optional.of(killRemovedSearch(requestSearchId, search.context, messageAboutKilling));
+    }
+
+    /**
+     * Kills the search which is already removed from the cache by the caller.
+     *
+     * @return context of the killed search.
+     */
+    private AbstractParameterExecutionContext killRemovedSearch(UUID requestSearchId,
+                                                                AbstractParameterExecutionContext parameterContext,
+                                                                String messageAboutKilling) {
+        removeFromSessionIndex(requestSearchId, parameterContext);
+        parameterContext.getParameter().getArValues().clear();
+        ValidationInfo validationInfoForKilledResult =
+                new ValidationInfo(ValidationStatus.WARNING, messageAboutKilling);
+        parameterContext.getParameter().setValidationInfo(validationInfoForKilledResult);
+        getMessageService(parameterContext.getSessionId())
+                .sendSutParameterResult(parameterContext.getSessionId(), parameterContext.getParameter());
+        parameterContext.decrementCountOfUnprocessedParameters();
+        startTabValidation(parameterContext);
+        return parameterContext;
+    }
+
+    /**
+     * Adds the search to the index of its session inside the computation of the session entry,
+     * so the set is never added to after it is removed as empty or killed with the session.
+     */
+    private void addToSessionIndex(UUID requestSearchId, AbstractParameterExecutionContext context) {
+        deferredSearchesBySession.compute(context.getSessionId(), (sessionId, requestSearchIds) -> {
+            Set<UUID> searchIds = Objects.isNull(requestSearchIds) ? ConcurrentHashMap.newKeySet() : requestSearchIds;
+            searchIds.add(requestSearchId);
+            return searchIds;
+        });
+    }
+
+    private void removeFromSessionIndex(UUID requestSearchId, AbstractParameterExecutionContext context) {
+        deferredSearchesBySession.computeIfPresent(context.getSessionId(), (sessionId, requestSearchIds) -> {
+            requestSearchIds.remove(requestSearchId);
+            return requestSearchIds.isEmpty() ? null : requestSearchIds;
         });
     }
 
@@ -143,31 +212,51 @@ public class DeferredSearchServiceImpl extends AbstractMessagingService implemen
         eventPublisher.publishEvent(validateTabEvent);
     }
 
-    private boolean isDeferredSearchResultExpired(UUID requestSearchId) {
-        try {
-            Optional<AbstractParameterExecutionContext> parameterContext =
-                    findContextByRequestSearchId(requestSearchId);
-            return parameterContext.isPresent()
-                    && Duration.between(parameterContext.get().getParameterStarted(), OffsetDateTime.now())
-                    .getSeconds() > deferredSearchResultsLifespan;
-        } catch (Exception e) {
-            log.error("Comparison of the context creation date was failed from the deferred results cache "
-                    + "with the current time. \nMessage: {}", e.getMessage());
-            return false;
+    /**
+     * Returns time when the search expires: start of the parameter plus the lifespan.
+     * The search is expired after the lifespan since now if start of the parameter is unknown.
+     */
+    private long getExpirationTimeMillis(AbstractParameterExecutionContext context) {
+        long lifespanMillis = TimeUnit.SECONDS.toMillis(deferredSearchResultsLifespan);
+        if (Objects.isNull(context.getParameterStarted())) {
+            log.error("Start time of the parameter is absent in the context of the deferred search, "
+                    + "the search will be expired after the lifespan since now.");
+            return System.currentTimeMillis() + lifespanMillis;
+        }
+        return context.getParameterStarted().toInstant().toEpochMilli() + lifespanMillis;
+    }
+
+    private static class DeferredSearch {
+
+        private final AbstractParameterExecutionContext context;
+        private final long generation;
+
+        private DeferredSearch(AbstractParameterExecutionContext context, long generation) {
+            this.context = context;
+            this.generation = generation;
         }
     }
 
-    private boolean isDeferredSearchResultBelongsToSession(UUID requestSearchId, UUID sessionId) {
-        try {
-            Optional<AbstractParameterExecutionContext> parameterContext =
-                    findContextByRequestSearchId(requestSearchId);
-            return parameterContext.isPresent()
-                    && parameterContext.get().getSessionId().equals(sessionId);
-        } catch (Exception e) {
-            log.error("Comparison of session ID's was failed from the deferred results cache "
-                            + "with the expected session ID: {}. \nMessage: {}",
-                    sessionId, e.getMessage());
-            return false;
+    private static class ExpiringSearch implements Delayed {
+
+        private final UUID requestSearchId;
+        private final long generation;
+        private final long expirationTimeMillis;
+
+        private ExpiringSearch(UUID requestSearchId, long generation, long expirationTimeMillis) {
+            this.requestSearchId = requestSearchId;
+            this.generation = generation;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expirationTimeMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expirationTimeMillis, ((ExpiringSearch) other).expirationTimeMillis);
         }
     }
 }
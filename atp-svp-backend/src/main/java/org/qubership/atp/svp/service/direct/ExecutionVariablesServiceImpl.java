@@ -20,6 +20,7 @@ import static org.keycloak.util.JsonSerialization.mapper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -53,33 +54,68 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.ValueNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 @Service
 public class ExecutionVariablesServiceImpl implements ExecutionVariablesService {
 
     private static final String VARIABLE_REGEXP_MATCHER = ".*?\\$\\{.*?}.*?";
-    private static final String VARIABLE_REGEXP_PATTERN = "\\$\\{[^\\=\\[\\]\\&\\',]+\\}";
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{[^\\=\\[\\]\\&\\',]+\\}");
+    private static final long MAX_CACHED_TEMPLATES_LENGTH = 16 * 1024 * 1024;
+
+    private final Cache<String, SourceTemplate> templates = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_TEMPLATES_LENGTH)
+            .weigher((String source, SourceTemplate template) -> source.length())
+            .build();
 
     /**
      * Returns source string with key parameters, common parameters and execution actual results as variable values.
      * <br>
      * Pattern for replace key and common parameters variables to its value is: ${key_parameter_name}
      * Pattern for replace SUT parameters variables to its value is: ${group_name.sut_parameter_name}.
+     * <br>
+     * Variable names are case-insensitive. Source is scanned once, the tokenized source is cached.
+     * Values are inserted as is, variables inside of values are not substituted.
      */
     @Override
     public String getSourceWithExecutionVariables(String sourceStr,
                                                   ConcurrentHashMap<String, ExecutionVariable> executionVariables) {
-        if (!Strings.isNullOrEmpty(sourceStr)) {
-            for (Map.Entry<String, ExecutionVariable> entry : executionVariables.entrySet()) {
-                sourceStr = substituteVariable(sourceStr, entry.getValue());
+        if (!Strings.isNullOrEmpty(sourceStr) && sourceStr.contains(SourceTemplate.PLACEHOLDER_START)) {
+            SourceTemplate template = getTemplate(sourceStr);
+            if (template.hasPlaceholders()) {
+                Map<String, String> values = getSimpleValuesByName(executionVariables);
+                sourceStr = template.substitute(values::get);
             }
             checkSourceOnVariable(sourceStr);
         }
         return sourceStr;
     }
 
+    private SourceTemplate getTemplate(String sourceStr) {
+        SourceTemplate template = templates.getIfPresent(sourceStr);
+        if (template == null) {
+            template = SourceTemplate.parse(sourceStr);
+            templates.put(sourceStr, template);
+        }
+        return template;
+    }
+
+    private Map<String, String> getSimpleValuesByName(Map<String, ExecutionVariable> executionVariables) {
+        Map<String, String> values = new HashMap<>(executionVariables.size() * 2);
+        for (ExecutionVariable variable : executionVariables.values()) {
+            if (variable instanceof SimpleExecutionVariable) {
+                String value = ((SimpleExecutionVariable) variable).getSimpleValue();
+                if (!Strings.isNullOrEmpty(value)) {
+                    values.putIfAbsent(SourceTemplate.normalizeName(variable.getName()), value);
+                }
+            }
+        }
+        return values;
+    }
+
     private void checkSourceOnVariable(String sourceStr) {
-        Matcher matcher = Pattern.compile(VARIABLE_REGEXP_PATTERN).matcher(sourceStr);
+        Matcher matcher = VARIABLE_PATTERN.matcher(sourceStr);
         StringBuilder builder = new StringBuilder();
         while (matcher.find()) {
             builder.append("\"").append(matcher.group()).append("\" ");
@@ -90,17 +126,6 @@ public class ExecutionVariablesServiceImpl implements ExecutionVariablesService
         }
     }
 
-    private String substituteVariable(String sourceStr, ExecutionVariable variable) {
-        if (variable instanceof SimpleExecutionVariable) {
-            String varName = Pattern.quote(variable.getName());
-            String varValue = Matcher.quoteReplacement(((SimpleExecutionVariable) variable).getSimpleValue());
-            if (!Strings.isNullOrEmpty(varValue)) {
-                sourceStr = sourceStr.replaceAll("(?i)\\$\\{" + varName + "}", varValue);
-            }
-        }
-        return sourceStr;
-    }
-
     /**
      * Returns {@link JsonParseSettings} with key parameters, common parameters
      * and execution actual results as variable values.
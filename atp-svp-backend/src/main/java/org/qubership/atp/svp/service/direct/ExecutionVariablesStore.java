@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.transaction.Transactional;
+
+import org.qubership.atp.svp.model.pot.ExecutionVariable;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepository;
+import org.qubership.atp.svp.utils.Utils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind storage of execution variables of running sessions.
+ * <br>
+ * Keeps the live variables map of each session in memory, so parameters processed later
+ * (next tabs and pages) see variables from the parameters processed before without re-reading the session.
+ * Changed variables are collected and written to the database by {@link #flush(UUID)}
+ * as a single partial jsonb update instead of rewriting the whole map after each parameter.
+ * <br>
+ * Sessions which are not accessed during the expiration period are removed from memory
+ * (sessions finished on another pod or synchronous sessions are never evicted explicitly on this pod),
+ * sessions deleted from the database by any pod are removed by {@link #evictRemovedSessions()}.
+ * Variables of a session missing in memory are loaded from the database again.
+ */
+@Component
+@Slf4j
+public class ExecutionVariablesStore {
+
+    private final PotSessionRepository potSessionRepository;
+    private final PotSessionBulkRepository potSessionBulkRepository;
+    private final Cache<UUID, SessionVariables> cache;
+    private final ConcurrentMap<UUID, SessionVariables> sessions;
+
+    /**
+     * Constructor for class.
+     */
+    @Autowired
+    public ExecutionVariablesStore(PotSessionRepository potSessionRepository,
+                                   PotSessionBulkRepository potSessionBulkRepository,
+                                   @Value("${svp.execution-variables.cache.expire-after-access.sec:600}")
+                                   long expireAfterAccessSec) {
+        this.potSessionRepository = potSessionRepository;
+        this.potSessionBulkRepository = potSessionBulkRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterAccess(expireAfterAccessSec, TimeUnit.SECONDS)
+                .<UUID, SessionVariables>removalListener(notification -> {
+                    if (notification.getCause() == RemovalCause.EXPIRED
+                            && !notification.getValue().changedNames.isEmpty()) {
+                        log.warn("[Session - {}] Execution variables {} were not written before expiration.",
+                                notification.getKey(), notification.getValue().changedNames);
+                    }
+                })
+                .build();
+        this.sessions = cache.asMap();
+    }
+
+    /**
+     * Registers variables of the session which are already stored in the database.
+     */
+    public void register(UUID sessionId, Map<String, ExecutionVariable> persistedVariables) {
+        sessions.put(sessionId, new SessionVariables(persistedVariables));
+    }
+
+    /**
+     * Returns copy of actual variables of the session.
+     * If session is not registered yet, variables are loaded by the loader (from the database).
+     */
+    public ConcurrentHashMap<String, ExecutionVariable> getVariables(
+            UUID sessionId, Supplier<ConcurrentHashMap<String, ExecutionVariable>> loader) {
+        SessionVariables sessionVariables = sessions.computeIfAbsent(sessionId,
+                id -> new SessionVariables(loader.get()));
+        return new ConcurrentHashMap<>(sessionVariables.live);
+    }
+
+    /**
+     * Merges variables into the live map of the session.
+     * Only variables which differ from the current ones are marked to be written on the next flush.
+     * If session is not registered yet, its variables are loaded by the loader first.
+     */
+    public void addVariables(UUID sessionId, Map<String, ExecutionVariable> variables,
+                             Supplier<ConcurrentHashMap<String, ExecutionVariable>> loader) {
+        SessionVariables sessionVariables = sessions.computeIfAbsent(sessionId,
+                id -> new SessionVariables(loader.get()));
+        synchronized (sessionVariables) {
+            variables.forEach((name, variable) -> {
+                if (sessionVariables.live.get(name) != variable) {
+                    sessionVariables.live.put(name, variable);
+                    sessionVariables.changedNames.add(name);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns copy of actual variables of the session to save it with the whole session entity.
+     * All changes are considered as written after this call.
+     */
+    public ConcurrentHashMap<String, ExecutionVariable> getVariablesForFullSave(UUID sessionId) {
+        SessionVariables sessionVariables = sessions.get(sessionId);
+        if (sessionVariables == null) {
+            return null;
+        }
+        synchronized (sessionVariables) {
+            sessionVariables.changedNames.clear();
+            return new ConcurrentHashMap<>(sessionVariables.live);
+        }
+    }
+
+    /**
+     * Writes changed variables of the session to the database with one partial update.
+     */
+    @Transactional
+    public void flush(UUID sessionId) {
+        SessionVariables sessionVariables = sessions.get(sessionId);
+        if (sessionVariables == null) {
+            return;
+        }
+        synchronized (sessionVariables) {
+            if (sessionVariables.changedNames.isEmpty()) {
+                return;
+            }
+            Map<String, ExecutionVariable> changedVariables = new HashMap<>();
+            sessionVariables.changedNames.forEach(name ->
+                    changedVariables.put(name, sessionVariables.live.get(name)));
+            try {
+                potSessionRepository.mergeVariables(Utils.mapper.writeValueAsString(changedVariables), sessionId);
+                sessionVariables.changedNames.clear();
+                log.debug("[Session - {}] {} execution variables were written.", sessionId, changedVariables.size());
+            } catch (JsonProcessingException e) {
+                log.error("[Session - {}] Could not serialize execution variables!", sessionId, e);
+            }
+        }
+    }
+
+    /**
+     * Returns ids of sessions which have variables not written to the database yet.
+     */
+    public Set<UUID> getSessionsWithChangedVariables() {
+        Set<UUID> sessionIds = ConcurrentHashMap.newKeySet();
+        sessions.forEach((sessionId, sessionVariables) -> {
+            if (!sessionVariables.changedNames.isEmpty()) {
+                sessionIds.add(sessionId);
+            }
+        });
+        return sessionIds;
+    }
+
+    /**
+     * Removes variables of the session from memory.
+     */
+    public void evict(UUID sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * Removes expired sessions and sessions which were deleted from the database (by any pod) from memory.
+     */
+    public void evictRemovedSessions() {
+        cache.cleanUp();
+        List<UUID> sessionIds = new ArrayList<>(sessions.keySet());
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        Set<UUID> existingSessionIds = potSessionBulkRepository.findExistingSessionIds(sessionIds);
+        sessionIds.stream()
+                .filter(sessionId -> !existingSessionIds.contains(sessionId))
+                .forEach(sessionId -> {
+                    sessions.remove(sessionId);
+                    log.debug("[Session - {}] Execution variables of removed session were evicted.", sessionId);
+                });
+    }
+
+    private static class SessionVariables {
+
+        private final ConcurrentHashMap<String, ExecutionVariable> live;
+        private final Set<String> changedNames = ConcurrentHashMap.newKeySet();
+
+        private SessionVariables(Map<String, ExecutionVariable> variables) {
+            this.live = variables == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(variables);
+        }
+    }
+}
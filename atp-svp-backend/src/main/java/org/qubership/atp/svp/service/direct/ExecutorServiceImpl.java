@@ -23,10 +23,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.svp.core.exceptions.execution.ExecutionCheckNamesException;
+import org.qubership.atp.svp.core.exceptions.execution.ExecutionSessionNotFoundException;
 import org.qubership.atp.svp.core.exceptions.execution.GetPotSyncTimeoutException;
 import org.qubership.atp.svp.model.api.GetInfoRequest;
 import org.qubership.atp.svp.model.api.ram.SessionDto;
@@ -38,8 +43,8 @@ import org.qubership.atp.svp.model.events.GetInfoForCommonParametersEvent;
 import org.qubership.atp.svp.model.events.GetInfoForSessionEvent;
 import org.qubership.atp.svp.model.impl.LogCollectorSearchPeriod;
 import org.qubership.atp.svp.model.logcollector.LogCollectorConfiguration;
-import org.qubership.atp.svp.model.pot.PotFile;
 import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.StreamingPotFile;
 import org.qubership.atp.svp.service.AbstractRepositoryConfigService;
 import org.qubership.atp.svp.service.ExecutorService;
 import org.qubership.atp.svp.service.IntegrationService;
@@ -47,6 +52,7 @@ import org.qubership.atp.svp.service.PotGenerationEngine;
 import org.qubership.atp.svp.service.PotSessionService;
 import org.qubership.atp.svp.service.jpa.FolderServiceJpa;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -63,10 +69,15 @@ public class ExecutorServiceImpl extends AbstractRepositoryConfigService impleme
     private final SessionDtoProcessorService sessionDtoProcessorService;
     private final FolderServiceJpa folderServiceJpa;
     private final ProjectConfigService projectConfigService;
+    private final SessionCompletionRegistry sessionCompletionRegistry;
     private static final int DEFAULT_TIMEOUT_RANGE = 900;
     private static final int MAX_TIMEOUT_RANGE = 1500;
+    private static final long VALIDATED_SESSION_CHECK_INTERVAL_MS = 1000;
     public static final String DEFAULT_FOLDER_NAME = "Default";
 
+    @Value("${svp.session.sync.fallback-check.interval.ms:10000}")
+    private long fallbackCheckIntervalMs;
+
     /**
      * Main constructor for initializing ExecutorService.
      */
@@ -77,7 +88,8 @@ public class ExecutorServiceImpl extends AbstractRepositoryConfigService impleme
                                ApplicationEventPublisher eventPublisher,
                                SessionDtoProcessorService sessionDtoProcessorService,
                                FolderServiceJpa folderServiceJpa,
-                               ProjectConfigService projectConfigService) {
+                               ProjectConfigService projectConfigService,
+                               SessionCompletionRegistry sessionCompletionRegistry) {
         this.potSessionService = potSessionService;
         this.integrationService = integrationService;
         this.potEngine = potEngine;
@@ -85,17 +97,42 @@ public class ExecutorServiceImpl extends AbstractRepositoryConfigService impleme
         this.sessionDtoProcessorService = sessionDtoProcessorService;
         this.folderServiceJpa = folderServiceJpa;
         this.projectConfigService = projectConfigService;
+        this.sessionCompletionRegistry = sessionCompletionRegistry;
     }
 
     /**
-     * Returns generated POT report file or zip archive with session parameters results.
-     * File will be generated from PotSession which find by sessionId cache.
+     * Returns POT report file or zip archive with session parameters results
+     * which is generated while it is written to the response.
+     * The session is loaded and checked to belong to the project before anything is written.
      *
      * @return POT report as docx file or zip archive.
      */
     @Override
-    public PotFile getPotReportForSession(UUID sessionId) {
-        return potEngine.generatePot(potSessionService.findSessionById(sessionId));
+    public StreamingPotFile getStreamingPotReportForSession(UUID projectId, UUID sessionId) {
+        PotSessionEntity session = potSessionService.findSessionById(sessionId);
+        checkSessionProject(projectId, sessionId, session.getExecutionConfiguration());
+        return potEngine.generateStreamingPot(session);
+    }
+
+    /**
+     * Returns zip archive with POT reports of the sessions which is generated while it is written to the response.
+     * Only configurations of the sessions are read to check the project before anything is written,
+     * each session is loaded when its report is written.
+     *
+     * @return zip archive with POT reports.
+     */
+    @Override
+    public StreamingPotFile getStreamingPotReportForSessions(UUID projectId, List<UUID> sessionIds) {
+        sessionIds.forEach(sessionId -> checkSessionProject(projectId, sessionId,
+                potSessionService.getSessionExecutionConfiguration(sessionId)));
+        return potEngine.generateStreamingPotArchive(sessionIds, potSessionService::findSessionById);
+    }
+
+    private void checkSessionProject(UUID projectId, UUID sessionId, SessionExecutionConfiguration configuration) {
+        if (!projectId.equals(configuration.getProjectId())) {
+            log.warn("Session {} does not belong to the project {}", sessionId, projectId);
+            throw new ExecutionSessionNotFoundException();
+        }
     }
 
     /**
@@ -114,16 +151,16 @@ public class ExecutorServiceImpl extends AbstractRepositoryConfigService impleme
 
     /**
      * Synchronize getting info and generation POT
-     * Returns generated POT report file or zip archive with session parameters results.
-     * File will be generated from PotSession which find by sessionId cache.
+     * Returns POT report file or zip archive with session parameters results
+     * which is generated while it is written to the response.
      *
      * @return POT report as docx file or zip archive.
      */
     @Override
-    public PotFile getPotSync(UUID projectId, GetInfoRequest request) {
+    public StreamingPotFile getPotSync(UUID projectId, GetInfoRequest request) {
         log.info("ExecutorServiceImpl - getPotSync for project: {}, request: {}  Started", projectId, request);
         PotSessionEntity session = getSessionSync(projectId, request);
-        return potEngine.generatePot(session);
+        return potEngine.generateStreamingPot(session);
     }
 
     /**
@@ -165,6 +202,11 @@ public class ExecutorServiceImpl extends AbstractRepositoryConfigService impleme
         }
     }
 
+    /**
+     * Waits until the session is marked as validated in the database.
+     * The session is completed by {@link SessionCompletionRegistry} after validation,
+     * before that the database is checked only as a fallback once per fallback check interval.
+     */
     private void waitSession(PotSessionEntity session, int timeOutRange) {
         if (timeOutRange <= 0) {
             timeOutRange = DEFAULT_TIMEOUT_RANGE;
@@ -173,16 +215,36 @@ public class ExecutorServiceImpl extends AbstractRepositoryConfigService impleme
         }
         UUID sessionId = session.getSessionId();
         log.info("[Session - {}] Start waiting for the session to continue", sessionId);
-        do {
-            try {
-                Thread.sleep(1000);
-                if (Duration.between(session.getStarted(), OffsetDateTime.now()).getSeconds() > timeOutRange) {
+        OffsetDateTime deadline = session.getStarted().plusSeconds(timeOutRange);
+        CompletableFuture<Void> completion = sessionCompletionRegistry.register(sessionId);
+        try {
+            while (!potSessionService.isAlreadyValidated(sessionId)) {
+                long remainingMs = Duration.between(OffsetDateTime.now(), deadline).toMillis();
+                if (remainingMs <= 0) {
+                    throw new GetPotSyncTimeoutException();
+                }
+                try {
+                    if (completion.isDone()) {
+                        // Completion is notified before the session is marked as validated in the database,
+                        // the session is finished only when it is validated (as for sessions without completion)
+                        Thread.sleep(Math.min(remainingMs, VALIDATED_SESSION_CHECK_INTERVAL_MS));
+                    } else {
+                        completion.get(Math.min(remainingMs, Math.max(fallbackCheckIntervalMs, 1000)),
+                                TimeUnit.MILLISECONDS);
+                    }
+                } catch (TimeoutException e) {
+                    log.debug("[Session - {}] Session is not completed yet, checking the database", sessionId);
+                } catch (ExecutionException e) {
+                    log.error("Unexpected error in waitSession", e);
+                } catch (InterruptedException e) {
+                    log.error("Waiting for the session {} was interrupted", sessionId, e);
+                    Thread.currentThread().interrupt();
                     throw new GetPotSyncTimeoutException();
                 }
-            } catch (InterruptedException e) {
-                log.error("Unexpected error in waitSession", e);
             }
-        } while (!potSessionService.isAlreadyValidated(sessionId));
+        } finally {
+            sessionCompletionRegistry.unregister(sessionId, completion);
+        }
         log.info("[Session - {}] Finished waiting for the session", sessionId);
     }
 
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.repo.impl.PotSessionParameterBatchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind storage of results of parameters under tabs.
+ * <br>
+ * Results are accumulated per tab and written by batches when the batch size is reached,
+ * when the tab is completed ({@link #flushTab(UUID)} before the tab validation)
+ * or by timer for results waiting longer than the flush interval.
+ * Results are detached from the parameter when its processing ends: the queued snapshot shares result values
+ * with the parameter, which are not changed after that, and has its own list of AR values.
+ * <br>
+ * The action after write (sending of the result to WebSocket or Kafka) of each parameter is run
+ * only after its result is written, in the order the results were added for the tab.
+ * Batches of one tab are written one by one, so results of the tab are always sent before the tab status.
+ * Results are added without waiting for the batches of the tab which are being written.
+ */
+@Component
+@Slf4j
+public class ParameterResultsWriter {
+
+    private final PotSessionParameterBatchRepository potSessionParameterBatchRepository;
+    private final int batchSize;
+    private final ConcurrentHashMap<UUID, TabResults> tabs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushExecutor =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("ParameterResultsFlush-"));
+
+    /**
+     * Constructor for class.
+     */
+    @Autowired
+    public ParameterResultsWriter(PotSessionParameterBatchRepository potSessionParameterBatchRepository,
+                                  @Value("${svp.parameter.results.batch.size:50}") int batchSize,
+                                  @Value("${svp.parameter.results.flush.interval.ms:200}") long flushIntervalMs) {
+        this.potSessionParameterBatchRepository = potSessionParameterBatchRepository;
+        this.batchSize = Math.max(batchSize, 1);
+        flushExecutor.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds snapshot of the parameter result to the batch of its tab, processing of the parameter must be ended.
+     * The action is run with the written snapshot after it is written.
+     */
+    public void write(UUID tabId, PotSessionParameterEntity parameter,
+                      Consumer<PotSessionParameterEntity> afterWrite) {
+        PendingResult result = new PendingResult(detachResult(parameter), afterWrite);
+        while (true) {
+            TabResults results = tabs.computeIfAbsent(tabId, id -> new TabResults());
+            boolean batchIsFull;
+            synchronized (results) {
+                // Results are closed if they were flushed and removed concurrently, new ones are created then
+                if (results.closed) {
+                    continue;
+                }
+                results.pending.add(result);
+                batchIsFull = results.pending.size() >= batchSize;
+            }
+            if (batchIsFull) {
+                writeFullBatches(tabId, results);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Writes all results of the tab which are not written yet.
+     * Waits for the batches of the tab which are being written by other threads.
+     */
+    public void flushTab(UUID tabId) {
+        TabResults results = tabs.get(tabId);
+        if (results != null) {
+            synchronized (results) {
+                results.closed = true;
+                tabs.remove(tabId, results);
+            }
+            writeAll(tabId, results);
+        }
+    }
+
+    /**
+     * Writes results of all tabs, used by timer and on shutdown.
+     * Tabs without new results since the previous flush are forgotten.
+     */
+    public void flushAll() {
+        tabs.forEach((tabId, results) -> {
+            synchronized (results) {
+                if (results.pending.isEmpty() && !results.writeLock.isLocked()) {
+                    results.closed = true;
+                    tabs.remove(tabId, results);
+                    return;
+                }
+            }
+            writeAll(tabId, results);
+        });
+    }
+
+    /**
+     * Flushes results which are not written yet on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+        flushAll();
+    }
+
+    /**
+     * Writes full batches of the tab unless they are being written by another thread.
+     * The thread writing the tab writes batches filled during its write too,
+     * the rest of them is written by timer or on the tab flush.
+     */
+    private void writeFullBatches(UUID tabId, TabResults results) {
+        if (!results.writeLock.tryLock()) {
+            return;
+        }
+        try {
+            List<PendingResult> batch = results.drainIfFull(batchSize);
+            while (!batch.isEmpty()) {
+                writeBatch(tabId, batch);
+                batch = results.drainIfFull(batchSize);
+            }
+        } finally {
+            results.writeLock.unlock();
+        }
+    }
+
+    private void writeAll(UUID tabId, TabResults results) {
+        results.writeLock.lock();
+        try {
+            writeBatch(tabId, results.drain());
+        } finally {
+            results.writeLock.unlock();
+        }
+    }
+
+    private void writeBatch(UUID tabId, List<PendingResult> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            potSessionParameterBatchRepository.updateAll(batch.stream()
+                    .map(result -> result.parameter)
+                    .collect(Collectors.toList()));
+            log.debug("[Tab - {}] Results of {} parameters were written.", tabId, batch.size());
+            batch.forEach(PendingResult::runAfterWrite);
+        } catch (Exception e) {
+            log.error("[Tab - {}] Could not write batch of {} parameters, parameters will be written one by one.",
+                    tabId, batch.size(), e);
+            batch.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(PendingResult result) {
+        try {
+            potSessionParameterBatchRepository.updateAll(Collections.singletonList(result.parameter));
+            result.runAfterWrite();
+        } catch (Exception e) {
+            log.error("Unexpected error occurred during the save parameter: {}", result.parameter.getPath(), e);
+        }
+    }
+
+    /**
+     * Creates snapshot of the parameter result. Result values are not changed after processing of the parameter
+     * and are shared, the list of AR values is copied as it is the only one changed in place.
+     * Configuration, tab and session of the parameter are not changed during the execution and are shared.
+     */
+    private static PotSessionParameterEntity detachResult(PotSessionParameterEntity parameter) {
+        PotSessionParameterEntity snapshot = new PotSessionParameterEntity();
+        snapshot.setParameterId(parameter.getParameterId());
+        snapshot.setPage(parameter.getPage());
+        snapshot.setTab(parameter.getTab());
+        snapshot.setGroup(parameter.getGroup());
+        snapshot.setSynchronousLoading(parameter.isSynchronousLoading());
+        snapshot.setParameterConfig(parameter.getParameterConfig());
+        snapshot.setPotSessionTabEntity(parameter.getPotSessionTabEntity());
+        snapshot.setPotSessionEntity(parameter.getPotSessionEntity());
+        snapshot.setEr(parameter.getEr());
+        snapshot.setArValues(Objects.isNull(parameter.getArValues()) ? null
+                : Collections.unmodifiableList(new ArrayList<>(parameter.getArValues())));
+        snapshot.setValidationInfo(parameter.getValidationInfo());
+        return snapshot;
+    }
+
+    private static class TabResults {
+
+        private final List<PendingResult> pending = new ArrayList<>();
+        // Batches are drained and written under the lock, so batches of the tab are written in the order of adding
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private boolean closed;
+
+        private synchronized List<PendingResult> drain() {
+            List<PendingResult> batch = new ArrayList<>(pending);
+            pending.clear();
+            return batch;
+        }
+
+        private synchronized List<PendingResult> drainIfFull(int batchSize) {
+            return pending.size() >= batchSize ? drain() : Collections.emptyList();
+        }
+    }
+
+    private static class PendingResult {
+
+        private final PotSessionParameterEntity parameter;
+        private final Consumer<PotSessionParameterEntity> afterWrite;
+
+        private PendingResult(PotSessionParameterEntity parameter, Consumer<PotSessionParameterEntity> afterWrite) {
+            this.parameter = parameter;
+            this.afterWrite = afterWrite;
+        }
+
+        private void runAfterWrite() {
+            try {
+                afterWrite.accept(parameter);
+            } catch (Exception e) {
+                log.error("Unexpected error occurred after the save parameter: {}", parameter.getPath(), e);
+            }
+        }
+    }
+}
@@ -16,20 +16,21 @@
 
 package org.qubership.atp.svp.service.direct;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
-import org.qubership.atp.svp.core.exceptions.pot.PotGenerationZipException;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionPageEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
-import org.qubership.atp.svp.model.pot.PotFile;
+import org.qubership.atp.svp.model.pot.StreamingPotFile;
 import org.qubership.atp.svp.model.pot.values.AbstractValueObject;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionPageRepository;
 import org.qubership.atp.svp.service.PotGenerationEngine;
@@ -43,8 +44,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PotGenerationEngineImpl implements PotGenerationEngine {
 
-    private final String potNameFormat = "POT_%s_%s";
-    private final SimpleDateFormat potDateFormat = new SimpleDateFormat("yyyyMMddHHmmss");
+    private static final String POT_NAME_FORMAT = "POT_%s_%s";
+    private static final String POT_ARCHIVE_NAME_FORMAT = "POT_%s.zip";
+    private static final DateTimeFormatter POT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
     private PotGenerator potGenerator;
     private MetricsService metricsService;
@@ -64,51 +66,70 @@ public class PotGenerationEngineImpl implements PotGenerationEngine {
     }
 
     @Override
-    public PotFile generatePot(PotSessionEntity session) {
+    public StreamingPotFile generateStreamingPot(PotSessionEntity session) {
         metricsService.incrementPotRequestCounter(session.getExecutionConfiguration().getProjectId());
-        log.info("POT generating started");
         boolean isFullInfoNeededInPot = session.getExecutionConfiguration().getIsFullInfoNeededInPot();
-        byte[] potFile = potGenerator.generatePotFile(session, isFullInfoNeededInPot);
-        log.info("POT word file was generated");
         String potName = generateName(session);
-        return isFullInfoNeededInPot ? getZipPotReport(session, potName, potFile)
-                : getDocxPotReport(potName, potFile);
+        if (!isFullInfoNeededInPot) {
+            return new StreamingPotFile(potName + ".docx", outputStream -> {
+                log.info("POT generating started");
+                potGenerator.writePotFile(session, false, outputStream);
+                log.info("POT Generating successfully ended");
+            });
+        }
+        // Pages with uploaded files are loaded before anything is written to the response
+        List<PotSessionPageEntity> pages =
+                potSessionPageRepository.findByPotSessionEntitySessionId(session.getSessionId());
+        return new StreamingPotFile(potName + ".zip", outputStream -> {
+            log.info("ZIP generating started");
+            ZipOutputStream zos = new ZipOutputStream(outputStream);
+            writeSessionZipEntries(zos, session, potName, "", pages);
+            zos.finish();
+            log.info("ZIP POT generating with full uploaded info successfully ended");
+        });
     }
 
-    private PotFile getDocxPotReport(String potName, byte[] potFile) {
-        log.info("POT Generating successfully ended");
-        return new PotFile(potName + ".docx", potFile);
+    /**
+     * Generates ZIP archive with POT of each session in the folder named as the session id.
+     * Sessions are loaded and their documents are generated one by one while the archive is written.
+     */
+    @Override
+    public StreamingPotFile generateStreamingPotArchive(List<UUID> sessionIds,
+                                                        Function<UUID, PotSessionEntity> sessionLoader) {
+        String archiveName = String.format(POT_ARCHIVE_NAME_FORMAT, LocalDateTime.now().format(POT_DATE_FORMAT));
+        return new StreamingPotFile(archiveName, outputStream -> {
+            log.info("ZIP generating for {} sessions started", sessionIds.size());
+            ZipOutputStream zos = new ZipOutputStream(outputStream);
+            for (UUID sessionId : sessionIds) {
+                PotSessionEntity session = sessionLoader.apply(sessionId);
+                metricsService.incrementPotRequestCounter(session.getExecutionConfiguration().getProjectId());
+                List<PotSessionPageEntity> pages = session.getExecutionConfiguration().getIsFullInfoNeededInPot()
+                        ? potSessionPageRepository.findByPotSessionEntitySessionId(sessionId)
+                        : Collections.emptyList();
+                writeSessionZipEntries(zos, session, generateName(session), sessionId + "/", pages);
+            }
+            zos.finish();
+            log.info("ZIP POT generating for {} sessions successfully ended", sessionIds.size());
+        });
     }
 
-    private PotFile getZipPotReport(PotSessionEntity session, String potName,
-                                    byte[] potFile) {
-        try {
-            log.info("ZIP generating started");
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ZipOutputStream zos = new ZipOutputStream(baos);
-            writeZipEntry(zos, potName + ".docx", potFile);
-
-            List<PotSessionPageEntity> pages =
-                    potSessionPageRepository.findByPotSessionEntitySessionId(session.getSessionId());
-
-            for (PotSessionPageEntity page : pages) {
-                for (PotSessionTabEntity tab : page.getPotSessionTabs()) {
-                    for (PotSessionParameterEntity parameter : tab.getPotSessionParameterEntities()) {
-                        for (AbstractValueObject arValue : parameter.getArValues()) {
-                            if (arValue.getValueAsFile() != null) {
-                                writeZipEntry(zos, arValue.getValueAsFile().getName(),
-                                        arValue.getValueAsFile().getBytes());
-                            }
+    private void writeSessionZipEntries(ZipOutputStream zos, PotSessionEntity session, String potName,
+                                        String folder, List<PotSessionPageEntity> pages) throws IOException {
+        zos.putNextEntry(new ZipEntry(folder + potName + ".docx"));
+        potGenerator.writePotFile(session, session.getExecutionConfiguration().getIsFullInfoNeededInPot(), zos);
+        zos.closeEntry();
+        log.info("POT word file was generated");
+        for (PotSessionPageEntity page : pages) {
+            for (PotSessionTabEntity tab : page.getPotSessionTabs()) {
+                for (PotSessionParameterEntity parameter : tab.getPotSessionParameterEntities()) {
+                    for (AbstractValueObject arValue : parameter.getArValues()) {
+                        if (arValue.getValueAsFile() != null) {
+                            writeZipEntry(zos, folder + arValue.getValueAsFile().getName(),
+                                    arValue.getValueAsFile().getBytes());
                         }
                     }
                 }
             }
-            zos.close();
-            log.info("ZIP POT generating with full uploaded info successfully ended");
-            return new PotFile(potName + ".zip", baos.toByteArray());
-        } catch (IOException e) {
-            log.error("I/O error when trying to create ZIP file with POT", e);
-            throw new PotGenerationZipException();
         }
     }
 
@@ -120,8 +141,8 @@ public class PotGenerationEngineImpl implements PotGenerationEngine {
     }
 
     private String generateName(PotSessionEntity session) {
-        return String.format(potNameFormat, session.getExecutionConfiguration().getEnvironment().getName(),
-                        potDateFormat.format(new Date()))
+        return String.format(POT_NAME_FORMAT, session.getExecutionConfiguration().getEnvironment().getName(),
+                        LocalDateTime.now().format(POT_DATE_FORMAT))
                 .replaceAll(" ", "_")
                 .replaceAll(":", "_");
     }
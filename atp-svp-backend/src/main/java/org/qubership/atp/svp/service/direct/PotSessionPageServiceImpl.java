@@ -21,7 +21,6 @@ import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.transaction.Transactional;
 
@@ -30,8 +29,6 @@ import org.qubership.atp.svp.core.exceptions.StoringSessionPageException;
 import org.qubership.atp.svp.core.exceptions.execution.ExecutionPotSessionPageNotFoundException;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionPageEntity;
-import org.qubership.atp.svp.model.pot.ExecutionVariable;
-import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionPageRepository;
 import org.qubership.atp.svp.service.AbstractMessagingService;
 import org.qubership.atp.svp.service.PotSessionPageService;
@@ -75,16 +72,6 @@ public class PotSessionPageServiceImpl extends AbstractMessagingService implemen
         return potSessionPageRepository.findById(pageId).orElseThrow(ExecutionPotSessionPageNotFoundException::new);
     }
 
-    @Override
-    public SessionExecutionConfiguration getExecutionConfigurationForSession(UUID sessionId) {
-        return potSessionService.findSessionById(sessionId).getExecutionConfiguration();
-    }
-
-    @Override
-    public ConcurrentHashMap<String, ExecutionVariable> getExecutionVariablesForSession(UUID sessionId) {
-        return potSessionService.findSessionById(sessionId).getExecutionVariables();
-    }
-
     @Override
     public OffsetDateTime getSessionStartedDate(UUID sessionId) {
         return potSessionService.findSessionById(sessionId).getStarted();
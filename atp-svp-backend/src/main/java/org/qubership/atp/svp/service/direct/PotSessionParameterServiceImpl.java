@@ -17,17 +17,28 @@
 package org.qubership.atp.svp.service.direct;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.transaction.Transactional;
 
 import org.apache.commons.lang.StringUtils;
 import org.qubership.atp.svp.core.enums.DisplayType;
+import org.qubership.atp.svp.core.enums.EngineType;
 import org.qubership.atp.svp.core.enums.ValidationStatus;
+import org.qubership.atp.svp.core.enums.ValidationType;
 import org.qubership.atp.svp.core.exceptions.GettingValueException;
 import org.qubership.atp.svp.core.exceptions.ValidationException;
+import org.qubership.atp.svp.core.executor.EngineTypeConcurrencyLimiter;
 import org.qubership.atp.svp.model.db.SutParameterEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.impl.Source;
@@ -48,6 +59,9 @@ import org.qubership.atp.svp.service.DisplayTypeServiceFactory;
 import org.qubership.atp.svp.service.PotSessionParameterService;
 import org.qubership.atp.svp.service.PotSessionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import joptsimple.internal.Strings;
@@ -61,6 +75,9 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
     private final PotSessionParameterRepository potSessionParameterRepository;
 
     private final PotSessionService potSessionService;
+    private final AsyncTaskExecutor sourcesLoadingExecutor;
+    private final long sourcesLoadingTimeoutMs;
+    private final EngineTypeConcurrencyLimiter engineTypeConcurrencyLimiter;
 
     /**
      * Constructor for {@link PotSessionParameterServiceImpl} instance.
@@ -68,10 +85,18 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
     @Autowired
     public PotSessionParameterServiceImpl(DisplayTypeServiceFactory displayTypeServiceFactory,
                                           PotSessionParameterRepository potSessionParameterRepository,
-                                          PotSessionService potSessionService) {
+                                          PotSessionService potSessionService,
+                                          @Qualifier("SourcesLoadingExecutor")
+                                          AsyncTaskExecutor sourcesLoadingExecutor,
+                                          @Value("${svp.sources.loading.timeout.ms:300000}")
+                                          long sourcesLoadingTimeoutMs,
+                                          EngineTypeConcurrencyLimiter engineTypeConcurrencyLimiter) {
         this.displayTypeServiceFactory = displayTypeServiceFactory;
         this.potSessionParameterRepository = potSessionParameterRepository;
         this.potSessionService = potSessionService;
+        this.sourcesLoadingExecutor = sourcesLoadingExecutor;
+        this.sourcesLoadingTimeoutMs = sourcesLoadingTimeoutMs;
+        this.engineTypeConcurrencyLimiter = engineTypeConcurrencyLimiter;
     }
 
     @Override
@@ -79,19 +104,63 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
         SessionExecutionConfiguration executionConfiguration = context.getSessionConfiguration();
         log.info("[Session - {}] Getting info for parameter: {}. Session execution configuration: {}.",
                 context.getSessionId(), context.getParameter().getPath(), executionConfiguration);
-        loadActualResults(context);
-        if (executionConfiguration.getIsPotGenerationMode()) {
-            processParameterResultsForPotReport(context.getParameter());
-        }
-        if (context.getParameter().shouldHaveExpectedResult()) {
-            loadExpectedResult(context);
+        PreloadedSources preloadedSources = startLoadingIndependentSources(context);
+        try {
+            loadActualResults(context, preloadedSources);
+            if (executionConfiguration.getIsPotGenerationMode()) {
+                processParameterResultsForPotReport(context.getParameter());
+            }
+            if (context.getParameter().shouldHaveExpectedResult()) {
+                loadExpectedResult(context, preloadedSources);
+            }
+        } finally {
+            preloadedSources.cancelNotCompleted();
         }
         setValidationStatusForParameterWithError(context);
         log.info("[Session - {}] Finished getting info for parameter: {}.",
                 context.getSessionId(), context.getParameter().getPath());
     }
 
-    private void loadActualResults(AbstractParameterExecutionContext context) {
+    /**
+     * Starts loading of additional sources and custom expected result source on the sources loading executor,
+     * so the main source is loaded in the current thread at the same time.
+     * <br>
+     * Sources are loaded one by one (nothing is started here) if any source of the parameter is Log Collector search,
+     * because Log Collector results change the state of the deferred search in the context.
+     */
+    private PreloadedSources startLoadingIndependentSources(AbstractParameterExecutionContext context) {
+        PreloadedSources preloadedSources = new PreloadedSources(System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(sourcesLoadingTimeoutMs));
+        List<Source> independentSources = getIndependentSources(context.getParameter());
+        if (!independentSources.isEmpty()) {
+            log.debug("[Session - {}] Loading {} sources concurrently for {}.", context.getSessionId(),
+                    independentSources.size() + 1, context.getParameter().getPath());
+            independentSources.forEach(source -> preloadedSources.put(source,
+                    sourcesLoadingExecutor.submit(() -> getResultBodyForSource(context, source))));
+        }
+        return preloadedSources;
+    }
+
+    private List<Source> getIndependentSources(PotSessionParameterEntity parameter) {
+        List<Source> independentSources = new ArrayList<>();
+        SutParameterEntity parameterConfiguration = parameter.getParameterConfig();
+        if (Objects.nonNull(parameterConfiguration.getAdditionalSources())) {
+            independentSources.addAll(parameterConfiguration.getAdditionalSources());
+        }
+        if (parameter.shouldHaveExpectedResult()
+                && parameterConfiguration.getErConfig().getType() == ValidationType.CUSTOM) {
+            independentSources.add(parameterConfiguration.getErConfig().getDataSource());
+        }
+        boolean hasLogCollectorSource = isLogCollectorSource(parameterConfiguration.getSource())
+                || independentSources.stream().anyMatch(this::isLogCollectorSource);
+        return hasLogCollectorSource ? new ArrayList<>() : independentSources;
+    }
+
+    private boolean isLogCollectorSource(Source source) {
+        return Objects.isNull(source) || source.getEngineType() == EngineType.LOG_COLLECTOR;
+    }
+
+    private void loadActualResults(AbstractParameterExecutionContext context, PreloadedSources preloadedSources) {
         log.info("[Session - {}] Loading actual results for {}...", context.getSessionId(),
                 context.getParameter().getPath());
         SutParameterEntity parameterConfiguration = context.getParameter().getParameterConfig();
@@ -100,7 +169,8 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
         //Exclude LC since the functionality of additional AR has not yet been implemented
         if (!(arValue instanceof LogCollectorValueObject)) {
             for (Source additionalSource : parameterConfiguration.getAdditionalSources()) {
-                AbstractValueObject additionalArValue = getResultBodyForSource(context, additionalSource);
+                AbstractValueObject additionalArValue = getResultBodyForSource(context, additionalSource,
+                        preloadedSources);
                 storeNonDeferredActualResultToContext(additionalArValue, context);
             }
         }
@@ -121,7 +191,7 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
         }
     }
 
-    private void loadExpectedResult(AbstractParameterExecutionContext context) {
+    private void loadExpectedResult(AbstractParameterExecutionContext context, PreloadedSources preloadedSources) {
         log.info("[Session - {}] Loading expected result for {}...", context.getSessionId(),
                 context.getParameter().getPath());
         SutParameterEntity parameterConfiguration = context.getParameter().getParameterConfig();
@@ -131,7 +201,7 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
                 break;
             case CUSTOM:
                 context.getParameter().setEr(getResultBodyForSource(context,
-                        parameterConfiguration.getErConfig().getDataSource()));
+                        parameterConfiguration.getErConfig().getDataSource(), preloadedSources));
                 break;
             default:
                 log.warn("Unknown ER Type for getting expected result!");
@@ -150,13 +220,50 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
         }
     }
 
+    private AbstractValueObject getResultBodyForSource(AbstractParameterExecutionContext context, Source source,
+                                                       PreloadedSources preloadedSources) {
+        Future<AbstractValueObject> preloadedResult = preloadedSources.get(source);
+        if (Objects.isNull(preloadedResult)) {
+            return getResultBodyForSource(context, source);
+        }
+        long remainingNanos = preloadedSources.getDeadlineNanos() - System.nanoTime();
+        try {
+            return preloadedResult.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            preloadedResult.cancel(true);
+            log.warn("[Session - {}] Source of the parameter {} was not loaded within {} ms.",
+                    context.getSessionId(), context.getParameter().getPath(), sourcesLoadingTimeoutMs);
+            return new ErrorValueObject("Source was not loaded within " + sourcesLoadingTimeoutMs + " ms");
+        } catch (InterruptedException e) {
+            preloadedResult.cancel(true);
+            Thread.currentThread().interrupt();
+            return new ErrorValueObject("Loading of the source was interrupted");
+        } catch (ExecutionException e) {
+            return new ErrorValueObject(e.getCause().getMessage());
+        }
+    }
+
     private AbstractValueObject getResultBodyForSource(AbstractParameterExecutionContext context, Source source) {
         log.info("SutParameterExecutor - getResultBodyForSource - system: {}, connection: {}",
                 source.getSystem(), source.getConnection());
+        EngineType engineType = source.getEngineType();
         try {
-            DisplayType parameterDisplayType = context.getParameter().getParameterConfig().getDisplayType();
-            DisplayTypeService displayTypeService = displayTypeServiceFactory.getServiceForType(parameterDisplayType);
-            return displayTypeService.getValueFromSource(source, context);
+            if (!engineTypeConcurrencyLimiter.tryAcquire(engineType, sourcesLoadingTimeoutMs)) {
+                log.warn("[Session - {}] Source of the parameter {} was not loaded, {} sources are loaded too long.",
+                        context.getSessionId(), context.getParameter().getPath(), engineType);
+                return new ErrorValueObject("Source was not loaded within " + sourcesLoadingTimeoutMs + " ms");
+            }
+            try {
+                DisplayType parameterDisplayType = context.getParameter().getParameterConfig().getDisplayType();
+                DisplayTypeService displayTypeService =
+                        displayTypeServiceFactory.getServiceForType(parameterDisplayType);
+                return displayTypeService.getValueFromSource(source, context);
+            } finally {
+                engineTypeConcurrencyLimiter.release(engineType);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ErrorValueObject("Loading of the source was interrupted");
         } catch (GettingValueException e) {
             context.setDeferredSearchResult(false);
             if (Objects.nonNull(e.getSqlMessage())) {
@@ -253,8 +360,11 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
 
     @Override
     public void sendParameterResultToSession(AbstractParameterExecutionContext context) {
-        PotSessionParameterEntity parameter = context.getParameter();
-        UUID sessionId = context.getSessionId();
+        sendParameterResultToSession(context.getSessionId(), context.getParameter());
+    }
+
+    @Override
+    public void sendParameterResultToSession(UUID sessionId, PotSessionParameterEntity parameter) {
         log.info("Session: {}. Send results with status {} for parameter {}", sessionId,
                 parameter.getValidationInfo().getStatus(), parameter.getPath());
         getMessageService(sessionId).sendSutParameterResult(sessionId, parameter);
@@ -284,4 +394,33 @@ public class PotSessionParameterServiceImpl extends AbstractMessagingService imp
     public List<PotSessionParameterEntity> getPotSessionParameters(UUID tabId, boolean isSynchronous) {
         return potSessionParameterRepository.findByPotSessionTabEntityIdAndSynchronousLoading(tabId, isSynchronous);
     }
+
+    /**
+     * Results of the sources which are loaded concurrently, with the deadline for the whole parameter.
+     */
+    private static class PreloadedSources {
+
+        private final Map<Source, Future<AbstractValueObject>> results = new IdentityHashMap<>();
+        private final long deadlineNanos;
+
+        private PreloadedSources(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private void put(Source source, Future<AbstractValueObject> result) {
+            results.put(source, result);
+        }
+
+        private Future<AbstractValueObject> get(Source source) {
+            return results.get(source);
+        }
+
+        private long getDeadlineNanos() {
+            return deadlineNanos;
+        }
+
+        private void cancelNotCompleted() {
+            results.values().forEach(result -> result.cancel(true));
+        }
+    }
 }
@@ -16,11 +16,18 @@
 
 package org.qubership.atp.svp.service.direct;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
@@ -39,6 +46,8 @@ import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
 import org.qubership.atp.svp.model.pot.ExecutionVariable;
 import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepository;
 import org.qubership.atp.svp.service.AbstractMessagingService;
 import org.qubership.atp.svp.service.PotSessionService;
@@ -49,17 +58,27 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.util.concurrent.Striped;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class PotSessionServiceImpl extends AbstractMessagingService implements PotSessionService {
 
+    private static final int KILLING_SESSION_LOCK_STRIPES = 64;
+
     private final DeferredSearchServiceImpl deferredSearchService;
     private final ExecutionVariablesServiceImpl executionVariablesService;
     private final ValidationService validationService;
     private final PotSessionRepository potSessionRepository;
     private final SessionServiceImpl sessionServiceImpl;
+    private final ExecutionVariablesStore executionVariablesStore;
+    private final PotSessionBulkRepository potSessionBulkRepository;
+    /**
+     * Locks of sessions which are being killed, so a session is killed once without a global lock.
+     * Locks are striped by session id and never removed, so threads killing one session always use the same lock.
+     */
+    private final Striped<Lock> killingSessionLocks = Striped.lock(KILLING_SESSION_LOCK_STRIPES);
 
     @Value("${svp.session.lifespan}")
     private Integer sessionLifespan;
@@ -72,12 +91,16 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
                                  ExecutionVariablesServiceImpl executionVariablesService,
                                  ValidationService validationService,
                                  PotSessionRepository potSessionRepository,
-                                 SessionServiceImpl sessionServiceImpl) {
+                                 SessionServiceImpl sessionServiceImpl,
+                                 ExecutionVariablesStore executionVariablesStore,
+                                 PotSessionBulkRepository potSessionBulkRepository) {
         this.deferredSearchService = deferredSearchService;
         this.executionVariablesService = executionVariablesService;
         this.validationService = validationService;
         this.potSessionRepository = potSessionRepository;
         this.sessionServiceImpl = sessionServiceImpl;
+        this.executionVariablesStore = executionVariablesStore;
+        this.potSessionBulkRepository = potSessionBulkRepository;
     }
 
     /**
@@ -89,13 +112,17 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
             ValidationService validationService,
             Integer sessionLifespan,
             PotSessionRepository potSessionRepository,
-            SessionServiceImpl sessionServiceImpl) {
+            SessionServiceImpl sessionServiceImpl,
+            ExecutionVariablesStore executionVariablesStore,
+            PotSessionBulkRepository potSessionBulkRepository) {
         this.deferredSearchService = deferredSearchService;
         this.executionVariablesService = executionVariablesService;
         this.validationService = validationService;
         this.sessionLifespan = sessionLifespan;
         this.potSessionRepository = potSessionRepository;
         this.sessionServiceImpl = sessionServiceImpl;
+        this.executionVariablesStore = executionVariablesStore;
+        this.potSessionBulkRepository = potSessionBulkRepository;
     }
 
     @Override
@@ -111,6 +138,7 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
         PotSessionEntity potSession = new PotSessionEntity(sessionExecutionConfiguration, keyParameters,
                 variables, request.getPagesName());
         UUID sessionId = potSessionRepository.saveAndFlush(potSession).getSessionId();
+        executionVariablesStore.register(sessionId, variables);
         log.info("PotSessionServiceImpl - startSession - SUCCESS - sessionId: {}", sessionId);
         return sessionId;
     }
@@ -123,6 +151,9 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
     @Override
     public SessionExecutionConfiguration getSessionExecutionConfiguration(UUID sessionId) {
         String variables = potSessionRepository.getSessionExecutionConfiguration(sessionId);
+        if (variables == null) {
+            throw new ExecutionSessionNotFoundException();
+        }
         try {
             return Utils.mapper.readValue(variables, SessionExecutionConfiguration.class);
         } catch (JsonProcessingException e) {
@@ -133,7 +164,19 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
 
     @Override
     public ConcurrentHashMap<String, ExecutionVariable> getVariables(UUID sessionId) {
-        return findSessionById(sessionId).getExecutionVariables();
+        return executionVariablesStore.getVariables(sessionId,
+                () -> findSessionById(sessionId).getExecutionVariables());
+    }
+
+    /**
+     * Creates execution context of the session from the loaded session entity.
+     * Execution variables of the context are read from {@link ExecutionVariablesStore}.
+     */
+    @Override
+    public SessionExecutionContext createExecutionContext(PotSessionEntity session) {
+        UUID sessionId = session.getSessionId();
+        return new SessionExecutionContext(sessionId, session.getExecutionConfiguration(),
+                () -> getVariables(sessionId));
     }
 
     @Override
@@ -148,25 +191,40 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
 
     @Override
     public ConcurrentHashMap<String, ExecutionVariable> getExecutionVariables(UUID sessionId) {
-        return findSessionById(sessionId).getExecutionVariables();
+        return getVariables(sessionId);
     }
 
+    /**
+     * Adds variables to the live variables of session.
+     * Variables are written to the database by {@link #flushVariables(UUID)}.
+     */
     @Override
-    @Transactional
     public void addVariable(UUID sessionId, ConcurrentHashMap<String, ExecutionVariable> executionVariables) {
-        potSessionRepository.updateVariables(executionVariables, sessionId);
-        potSessionRepository.flush();
+        executionVariablesStore.addVariables(sessionId, executionVariables,
+                () -> findSessionById(sessionId).getExecutionVariables());
+    }
+
+    @Override
+    public void flushVariables(UUID sessionId) {
+        executionVariablesStore.flush(sessionId);
     }
 
     @Override
     @Transactional
     public PotSessionEntity updateSession(PotSessionEntity session) {
+        ConcurrentHashMap<String, ExecutionVariable> variables =
+                executionVariablesStore.getVariablesForFullSave(session.getSessionId());
+        if (variables != null) {
+            session.setExecutionVariables(variables);
+        }
         return potSessionRepository.saveAndFlush(session);
     }
 
     @Override
     @Transactional
     public void updateSessionForGetInfo(UUID sessionId, SessionExecutionConfiguration executionConfiguration) {
+        executionVariablesStore.flush(sessionId);
+        executionVariablesStore.evict(sessionId);
         potSessionRepository.updateSession(sessionId, executionConfiguration);
         potSessionRepository.flush();
     }
@@ -205,6 +263,7 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
     @Override
     @Transactional
     public void addValidationStatusForSession(PotSessionEntity potSession) {
+        executionVariablesStore.flush(potSession.getSessionId());
         if (potSession.getExecutionConfiguration().shouldSendSessionResults()) {
             Set<ValidationStatus> pageStatuses =
                     potSessionRepository.getImpactingValidationStatus(potSession.getSessionId());
@@ -224,58 +283,141 @@ public class PotSessionServiceImpl extends AbstractMessagingService implements P
     }
 
     @Override
-    public synchronized void killSession(UUID sessionId) throws StoringSessionException {
+    public void killSession(UUID sessionId) throws StoringSessionException {
+        if (killSessions(Collections.singletonList(sessionId)).isEmpty()) {
+            throw new StoringSessionException(new ExecutionSessionNotFoundException());
+        }
+    }
+
+    @Override
+    public void killExpiredSessions() throws StoringSessionException {
         try {
-            PotSessionEntity potSession = findSessionById(sessionId);
-            deferredSearchService.killAllDeferredSearchResultsByExpiredSessionId(sessionId);
-            setValidationStatusesForPagesAndTabsInExpiredSession(potSession);
-            addValidationStatusForSession(potSession);
-            getMessageService(sessionId).sendSessionExpiredMessage(sessionId);
-            sessionServiceImpl.removeSession(sessionId);
-            removeSession(sessionId);
-            log.info("Session {} has been killed!", sessionId);
+            List<String> sessionsId = sessionServiceImpl.getSessions();
+            if (sessionsId.isEmpty()) {
+                return;
+            }
+            List<UUID> ids = sessionsId.stream().map(UUID::fromString).collect(Collectors.toList());
+            List<UUID> expiredSessions = potSessionRepository.getExpiredSessionId(sessionLifespan, ids).stream()
+                    .map(UUID::fromString)
+                    .collect(Collectors.toList());
+            killSessions(expiredSessions);
+        } catch (StoringSessionException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new StoringSessionException(ex);
         }
     }
 
-    private void removeSession(UUID sessionId) throws StoringSessionException {
+    /**
+     * Kills the sessions which exist in the database.
+     * Sessions which are being killed by another thread at the moment are retried one by one
+     * when that thread releases them.
+     *
+     * @return ids of killed sessions.
+     */
+    private List<UUID> killSessions(List<UUID> sessionIds) throws StoringSessionException {
+        List<UUID> killedSessionIds = new ArrayList<>();
+        Map<UUID, Lock> acquiredLocks = new LinkedHashMap<>();
+        List<UUID> skippedSessionIds = new ArrayList<>();
+        try {
+            for (UUID sessionId : sessionIds) {
+                Lock lock = killingSessionLocks.get(sessionId);
+                if (lock.tryLock()) {
+                    acquiredLocks.put(sessionId, lock);
+                } else {
+                    log.info("Session {} is being killed by another thread, it will be retried.", sessionId);
+                    skippedSessionIds.add(sessionId);
+                }
+            }
+            killedSessionIds.addAll(killLockedSessions(new ArrayList<>(acquiredLocks.keySet())));
+        } finally {
+            acquiredLocks.values().forEach(Lock::unlock);
+        }
+        for (UUID sessionId : skippedSessionIds) {
+            // Only one lock is held at a time here, so waiting threads do not block each other
+            Lock lock = killingSessionLocks.get(sessionId);
+            lock.lock();
+            try {
+                killedSessionIds.addAll(killLockedSessions(Collections.singletonList(sessionId)));
+            } finally {
+                lock.unlock();
+            }
+        }
+        return killedSessionIds;
+    }
+
+    /**
+     * Deletes the sessions with set-based statements, the sessions must be locked by the current thread.
+     * Statuses of the sessions are collected before deletion, the sessions are notified about
+     * after deletion is committed.
+     *
+     * @return ids of sessions which existed and were deleted.
+     */
+    private List<UUID> killLockedSessions(List<UUID> sessionIds) throws StoringSessionException {
+        if (sessionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
         try {
-            potSessionRepository.deleteBySessionId(sessionId);
+            Set<UUID> existingSessionIds = potSessionBulkRepository.findExistingSessionIds(sessionIds);
+            List<UUID> killedSessionIds = sessionIds.stream()
+                    .filter(existingSessionIds::contains)
+                    .collect(Collectors.toList());
+            if (killedSessionIds.isEmpty()) {
+                return killedSessionIds;
+            }
+            Map<UUID, Map<String, List<String>>> inProgressPages =
+                    potSessionBulkRepository.findPagesAndTabsByStatus(killedSessionIds, ValidationStatus.IN_PROGRESS);
+            Map<UUID, ValidationStatus> sessionStatuses = new HashMap<>();
+            for (UUID sessionId : killedSessionIds) {
+                deferredSearchService.killAllDeferredSearchResultsByExpiredSessionId(sessionId);
+                if (getSessionExecutionConfiguration(sessionId).shouldSendSessionResults()) {
+                    sessionStatuses.put(sessionId, calculateStatusForKilledSession(sessionId));
+                }
+            }
+            potSessionBulkRepository.deleteSessions(killedSessionIds, committedSessionIds ->
+                    committedSessionIds.forEach(sessionId -> notifyAboutKilledSession(sessionId,
+                            inProgressPages.getOrDefault(sessionId, Collections.emptyMap()),
+                            sessionStatuses.get(sessionId))));
+            return killedSessionIds;
         } catch (Exception ex) {
             throw new StoringSessionException(ex);
         }
     }
 
-    private void setValidationStatusesForPagesAndTabsInExpiredSession(PotSessionEntity session) {
-        List<PotSessionPageEntity> pages = session.getPotSessionPageEntities();
-        pages.stream()
-                .filter(page -> page.getValidationStatus().equals(ValidationStatus.IN_PROGRESS))
-                .forEach(page -> {
-                    page.setValidationStatus(ValidationStatus.WARNING);
-                    addValidationStatusForPage(session.getSessionId(), page.getName(), ValidationStatus.WARNING);
-                    page.getPotSessionTabs().forEach(tab -> {
-                        tab.setValidationStatus(ValidationStatus.WARNING);
-                        addValidationStatusForTab(session.getSessionId(), page.getName(), tab.getName(),
-                                ValidationStatus.WARNING);
-                    });
-                });
-        updateSession(session);
+    private ValidationStatus calculateStatusForKilledSession(UUID sessionId) {
+        Set<ValidationStatus> pageStatuses =
+                new HashSet<>(potSessionRepository.getImpactingValidationStatus(sessionId));
+        // Pages in progress are considered as WARNING ones
+        if (pageStatuses.remove(ValidationStatus.IN_PROGRESS)) {
+            pageStatuses.add(ValidationStatus.WARNING);
+        }
+        ValidationStatus sessionStatus = validationService.calculateStatusForSession(pageStatuses);
+        log.info("Session: {}. Got status {} for session", sessionId, sessionStatus);
+        return sessionStatus;
     }
 
-    @Override
-    @Transactional
-    public synchronized void killExpiredSessions() throws StoringSessionException {
+    /**
+     * Sends WARNING status for pages (and their tabs) which were still in progress, status of the session
+     * if it is sent for the session and message about expiration, then removes runtime data of the session.
+     */
+    private void notifyAboutKilledSession(UUID sessionId, Map<String, List<String>> inProgressPages,
+                                          ValidationStatus sessionStatus) {
         try {
-            List<String> sessionsId = sessionServiceImpl.getSessions();
-            List<UUID> ids = sessionsId.stream().map(UUID::fromString).collect(Collectors.toList());
-            List<String> expiredSessions = potSessionRepository.getExpiredSessionId(sessionLifespan, ids);
-            for (String sessionId : expiredSessions) {
-                UUID sessionUuid = UUID.fromString(sessionId);
-                killSession(sessionUuid);
+            inProgressPages.forEach((pageName, tabNames) -> {
+                addValidationStatusForPage(sessionId, pageName, ValidationStatus.WARNING);
+                tabNames.forEach(tabName ->
+                        addValidationStatusForTab(sessionId, pageName, tabName, ValidationStatus.WARNING));
+            });
+            if (Objects.nonNull(sessionStatus)) {
+                getMessageService(sessionId).sendValidationStatusForSession(sessionId, sessionStatus);
             }
-        } catch (Exception ex) {
-            throw new StoringSessionException(ex);
+            getMessageService(sessionId).sendSessionExpiredMessage(sessionId);
+        } catch (RuntimeException ex) {
+            log.error("Notification about killed session {} was not sent.", sessionId, ex);
+        } finally {
+            sessionServiceImpl.removeSession(sessionId);
+            executionVariablesStore.evict(sessionId);
+            log.info("Session {} has been killed!", sessionId);
         }
     }
 
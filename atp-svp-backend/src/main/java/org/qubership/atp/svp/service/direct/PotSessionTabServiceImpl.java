@@ -18,7 +18,6 @@ package org.qubership.atp.svp.service.direct;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.transaction.Transactional;
 
@@ -26,8 +25,6 @@ import org.qubership.atp.svp.core.enums.ValidationStatus;
 import org.qubership.atp.svp.core.exceptions.StoringSessionTabException;
 import org.qubership.atp.svp.core.exceptions.execution.ExecutionPotSessionTabNotFoundException;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
-import org.qubership.atp.svp.model.pot.ExecutionVariable;
-import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionTabRepository;
 import org.qubership.atp.svp.service.AbstractMessagingService;
 import org.qubership.atp.svp.service.PotSessionTabService;
@@ -63,16 +60,6 @@ public class PotSessionTabServiceImpl extends AbstractMessagingService implement
         return potSessionTabRepository.findById(tabId).orElseThrow(ExecutionPotSessionTabNotFoundException::new);
     }
 
-    @Override
-    public SessionExecutionConfiguration getExecutionConfigurationForSession(UUID sessionId) {
-        return potSessionService.getSessionExecutionConfiguration(sessionId);
-    }
-
-    @Override
-    public ConcurrentHashMap<String, ExecutionVariable> getExecutionVariablesForSession(UUID sessionId) {
-        return potSessionService.getVariables(sessionId);
-    }
-
     @Override
     public OffsetDateTime getSessionStartedDate(UUID sessionId) {
         return potSessionService.findSessionById(sessionId).getStarted();
@@ -86,6 +73,7 @@ public class PotSessionTabServiceImpl extends AbstractMessagingService implement
         tab.setAlreadyValidated(true);
         addValidationStatusForTab(sessionId, pageName, tabName, tabStatus);
         updatePotSessionTab(tab);
+        potSessionService.flushVariables(sessionId);
     }
 
     private void updatePotSessionTab(PotSessionTabEntity tab) throws StoringSessionTabException {
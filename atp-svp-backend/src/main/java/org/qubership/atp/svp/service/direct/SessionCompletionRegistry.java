@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of sessions which are awaited by synchronous get info requests.
+ * <br>
+ * Waiting threads register the session and block on the returned future,
+ * which is completed when validation of the session is finished (locally or on another pod).
+ */
+@Component
+@Slf4j
+public class SessionCompletionRegistry {
+
+    private final ConcurrentHashMap<UUID, CompletableFuture<Void>> awaitedSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the session as awaited and returns the future completed after validation of the session.
+     */
+    public CompletableFuture<Void> register(UUID sessionId) {
+        return awaitedSessions.computeIfAbsent(sessionId, id -> new CompletableFuture<>());
+    }
+
+    /**
+     * Removes the future of the session if it is still registered.
+     */
+    public void unregister(UUID sessionId, CompletableFuture<Void> future) {
+        awaitedSessions.remove(sessionId, future);
+    }
+
+    /**
+     * Completes the future of the session if the session is awaited.
+     * In case of active transaction the future is completed after commit,
+     * so waiting threads see the validated session in the database.
+     */
+    public void complete(UUID sessionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    completeNow(sessionId);
+                }
+            });
+        } else {
+            completeNow(sessionId);
+        }
+    }
+
+    private void completeNow(UUID sessionId) {
+        CompletableFuture<Void> future = awaitedSessions.remove(sessionId);
+        if (future != null) {
+            future.complete(null);
+            log.debug("[Session - {}] Waiting for the session was completed.", sessionId);
+        }
+    }
+}
@@ -17,41 +17,105 @@
 package org.qubership.atp.svp.service.direct;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.transaction.Transactional;
 
 import org.qubership.atp.svp.model.db.SessionEntity;
 import org.qubership.atp.svp.repo.jpa.SessionRepository;
 import org.qubership.atp.svp.service.SessionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class SessionServiceImpl implements SessionService {
 
+    private static final int SESSION_PODS_CACHE_SIZE = 10000;
+    private static final long SESSION_PODS_CACHE_TTL_SEC = 60;
+
     private final EurekaDiscoveryServiceImpl eurekaDiscoveryServiceImpl;
     private final SessionRepository sessionRepository;
 
+    /**
+     * Ownership of sessions by the current pod checked by {@link #hasSession(UUID)}.
+     * Web socket of the session can be reconnected to another pod at any time
+     * (pod_name of the session is changed in the database then), so ownership is re-checked
+     * in the database after the short expiration instead of being kept until the session is removed.
+     */
+    private final Cache<UUID, Boolean> ownedSessions;
+
+    /**
+     * Pods of sessions requested by {@link #getSessionPodName(UUID)}.
+     * Sessions without pod are cached too and re-checked after expiration,
+     * because web socket of the session can be connected later.
+     * The cached pod is updated when the session is registered on this pod and is evicted by
+     * {@link #evictSessionPod(UUID)} when the cached pod doesn't hold web socket of the session anymore.
+     */
+    private final Cache<UUID, Optional<String>> sessionPods = CacheBuilder.newBuilder()
+            .maximumSize(SESSION_PODS_CACHE_SIZE)
+            .expireAfterWrite(SESSION_PODS_CACHE_TTL_SEC, TimeUnit.SECONDS)
+            .build();
+
+    /**
+     * Constructor for class.
+     */
+    @Autowired
     public SessionServiceImpl(EurekaDiscoveryServiceImpl eurekaDiscoveryServiceImpl,
-                              SessionRepository sessionRepository) {
+                              SessionRepository sessionRepository,
+                              @Value("${svp.session.ownership.cache.ttl.ms:5000}") long ownershipCacheTtlMs) {
         this.eurekaDiscoveryServiceImpl = eurekaDiscoveryServiceImpl;
         this.sessionRepository = sessionRepository;
+        this.ownedSessions = CacheBuilder.newBuilder()
+                .maximumSize(SESSION_PODS_CACHE_SIZE)
+                .expireAfterWrite(ownershipCacheTtlMs, TimeUnit.MILLISECONDS)
+                .build();
     }
 
     @Override
     public void addNewSession(UUID sessionId) {
         String podName = eurekaDiscoveryServiceImpl.getCurrentPodName();
         sessionRepository.saveAndFlush(new SessionEntity(sessionId, podName));
+        ownedSessions.put(sessionId, true);
+        sessionPods.put(sessionId, Optional.ofNullable(podName));
         log.info(String.format("Session %s was added successfully", sessionId));
     }
 
     @Override
     public boolean hasSession(UUID sessionId) {
-        String podName = eurekaDiscoveryServiceImpl.getCurrentPodName();
-        return sessionRepository.containsSession(sessionId, podName);
+        Boolean owned = ownedSessions.getIfPresent(sessionId);
+        if (owned == null) {
+            owned = sessionRepository.containsSession(sessionId, eurekaDiscoveryServiceImpl.getCurrentPodName());
+            ownedSessions.put(sessionId, owned);
+        }
+        return owned;
+    }
+
+    @Override
+    public Optional<String> getSessionPodName(UUID sessionId) {
+        Optional<String> podName = sessionPods.getIfPresent(sessionId);
+        if (podName == null) {
+            podName = sessionRepository.findById(sessionId).map(SessionEntity::getPodName);
+            sessionPods.put(sessionId, podName);
+            // Web socket of the session is registered on another pod now
+            if (!Objects.equals(podName.orElse(null), eurekaDiscoveryServiceImpl.getCurrentPodName())) {
+                ownedSessions.put(sessionId, false);
+            }
+        }
+        return podName;
+    }
+
+    @Override
+    public void evictSessionPod(UUID sessionId) {
+        sessionPods.invalidate(sessionId);
     }
 
     @Override
@@ -62,6 +126,8 @@ public class SessionServiceImpl implements SessionService {
 
     @Override
     public void removeSession(UUID sessionId) {
+        ownedSessions.invalidate(sessionId);
+        sessionPods.invalidate(sessionId);
         sessionRepository.deleteById(sessionId);
     }
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Source string split into literal parts and variable placeholders like ${variable_name}.
+ * <br>
+ * Source is tokenized once, so substitution of variables is a single pass over the source
+ * regardless of the number of known execution variables.
+ */
+final class SourceTemplate {
+
+    static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+
+    private final String source;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final String[] names;
+
+    private SourceTemplate(String source, List<String> literals, List<String> placeholders) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.names = new String[this.placeholders.length];
+        for (int idx = 0; idx < this.placeholders.length; idx++) {
+            this.names[idx] = normalizeName(this.placeholders[idx]);
+        }
+    }
+
+    /**
+     * Splits source into literal parts and placeholders.
+     * The closest opening before the closing brace starts the placeholder, so in '${a${b}' the placeholder is
+     * '${b}', like in case of searching '${b}' by regexp.
+     */
+    static SourceTemplate parse(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int start = source.indexOf(PLACEHOLDER_START);
+        while (start >= 0) {
+            int end = source.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            int open = source.lastIndexOf(PLACEHOLDER_START, end);
+            literals.add(source.substring(literalStart, open));
+            placeholders.add(source.substring(open + PLACEHOLDER_START.length(), end));
+            literalStart = end + 1;
+            start = source.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(source.substring(literalStart));
+        return new SourceTemplate(source, literals, placeholders);
+    }
+
+    /**
+     * Returns name of the variable in the form used for case-insensitive search.
+     */
+    static String normalizeName(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    boolean hasPlaceholders() {
+        return placeholders.length != 0;
+    }
+
+    /**
+     * Returns source with placeholders replaced by the values.
+     * Placeholders without value are left as is.
+     *
+     * @param values function returning value by normalized variable name or null if there is no value
+     */
+    String substitute(Function<String, String> values) {
+        if (!hasPlaceholders()) {
+            return source;
+        }
+        StringBuilder result = new StringBuilder(source.length());
+        for (int idx = 0; idx < placeholders.length; idx++) {
+            result.append(literals[idx]);
+            String value = values.apply(names[idx]);
+            if (value == null) {
+                result.append(PLACEHOLDER_START).append(placeholders[idx]).append(PLACEHOLDER_END);
+            } else {
+                result.append(value);
+            }
+        }
+        return result.append(literals[placeholders.length]).toString();
+    }
+}
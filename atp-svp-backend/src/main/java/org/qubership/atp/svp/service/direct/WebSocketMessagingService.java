@@ -16,6 +16,7 @@
 
 package org.qubership.atp.svp.service.direct;
 
+import java.util.Objects;
 import java.util.UUID;
 
 import org.qubership.atp.svp.core.enums.ValidationStatus;
@@ -29,6 +30,8 @@ import org.qubership.atp.svp.model.messages.SutParameterResultMessage;
 import org.qubership.atp.svp.model.messages.TabValidationResultMessage;
 import org.qubership.atp.svp.service.MessagingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -48,20 +51,52 @@ public class WebSocketMessagingService implements MessagingService {
     private final String pageInProgressTopic = "/page-in-progress";
 
     private SimpMessagingTemplate messagingTemplate;
+    private final boolean compactParameterResultEnabled;
+    private final long fullParameterResultMaxBytes;
 
     /**
      * The constructor of WebSocketMessagingService.
      */
     @Autowired
-    public WebSocketMessagingService(SimpMessagingTemplate messagingTemplate) {
+    public WebSocketMessagingService(SimpMessagingTemplate messagingTemplate,
+                                     @Value("${svp.websocket.parameter-result-compact.enabled:false}")
+                                     boolean compactParameterResultEnabled,
+                                     @Value("${svp.websocket.parameter-result-full-max-bytes:65536}")
+                                     long fullParameterResultMaxBytes) {
         this.messagingTemplate = messagingTemplate;
+        this.compactParameterResultEnabled = compactParameterResultEnabled;
+        this.fullParameterResultMaxBytes = fullParameterResultMaxBytes;
     }
 
     /**
      * Sends SUT parameter result message to Web Socket.
+     * If compact results are enabled and the result converted by the Web Socket message converter is larger
+     * than the configured limit, only ids and validation status of the parameter are sent,
+     * the full result is requested by the client with get-parameter-result endpoint.
+     * The converted full result is sent as is, so it is serialized once.
      */
     public void sendSutParameterResult(UUID sessionId, PotSessionParameterEntity parameter) {
-        sendMessage(sessionId, parameterResultsDestination, new SutParameterResultMessage(sessionId, parameter));
+        SutParameterResultMessage message = new SutParameterResultMessage(sessionId, parameter);
+        if (!compactParameterResultEnabled) {
+            sendMessage(sessionId, parameterResultsDestination, message);
+            return;
+        }
+        try {
+            Message<?> convertedMessage = messagingTemplate.getMessageConverter().toMessage(message, null);
+            if (isPayloadSizeWithin(convertedMessage, fullParameterResultMaxBytes)) {
+                log.debug("[{}] Sending message to socket topic: {}, message: {}.",
+                        sessionId, parameterResultsDestination, message);
+                messagingTemplate.send(parameterResultsDestination, convertedMessage);
+                return;
+            }
+        } catch (MessagingException ex) {
+            log.error("[{}] Couldn't send message, topic: {}, message: {}.",
+                    sessionId, parameterResultsDestination, message, ex);
+            return;
+        }
+        log.debug("[{}] Result of the parameter {} exceeds {} bytes, compact message is sent.",
+                sessionId, parameter.getParameterId(), fullParameterResultMaxBytes);
+        sendMessage(sessionId, parameterResultsDestination, SutParameterResultMessage.compact(sessionId, parameter));
     }
 
     /**
@@ -122,4 +157,10 @@ public class WebSocketMessagingService implements MessagingService {
     public void sendPageInProgress(UUID sessionId, String pageName) {
         sendMessage(sessionId, pageInProgressTopic, new PageInProgressMessage(sessionId, pageName));
     }
+
+    private static boolean isPayloadSizeWithin(Message<?> message, long maxBytes) {
+        return Objects.nonNull(message)
+                && message.getPayload() instanceof byte[]
+                && ((byte[]) message.getPayload()).length <= maxBytes;
+    }
 }
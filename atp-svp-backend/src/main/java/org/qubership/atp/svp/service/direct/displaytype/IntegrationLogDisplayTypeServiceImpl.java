@@ -160,21 +160,22 @@ public class IntegrationLogDisplayTypeServiceImpl extends DefaultDisplayTypeServ
         List<String> notFindNames = bulkValidatorValidationService.getNotFoundTestCasesByName(bvProjectId,
                 bvValidation, variables);
         bvValidation.checkErrors();
+        String bvTestRunUrlPrefix = Utils.getBvTestRunUrlPrefix(atpIntegrationEnabled, bvUrl, catalogueUiUrl,
+                bvProjectId);
         for (ComponentSearchResults component : searchResult.getComponentSearchResults()) {
-            List<SystemSearchResults> systemSearchResults = component.getSystemSearchResults();
-            for (SystemSearchResults system : systemSearchResults) {
-                List<SearchThreadFindResult> searchThreadResult = system.getSearchThreadResult();
-                for (SearchThreadFindResult thread : searchThreadResult) {
-                    // Analogue of row processing
-                    List<ComparingProcessResponse> comparingResponses =
-                            bulkValidatorValidationService.validateDataWithBulkValidator(bvProjectId, bvValidation,
-                                    thread, diffs, component.getComponentName(), rowIdx);
-                    List<BulkValidatorTestRunInfo> testRunsInfo = bulkValidatorValidationService.getTestRunsInfo(
-                            Utils.getBvTestRunUrlPrefix(atpIntegrationEnabled, bvUrl, catalogueUiUrl, bvProjectId),
-                            comparingResponses);
-                    componentValidationInfo.addBulkValidatorTestRunsInfoForRow(rowIdx, testRunsInfo);
-                    rowIdx++;
-                }
+            // Analogue of rows of the table
+            List<SearchThreadFindResult> threads = new ArrayList<>();
+            for (SystemSearchResults system : component.getSystemSearchResults()) {
+                threads.addAll(system.getSearchThreadResult());
+            }
+            List<List<ComparingProcessResponse>> threadsComparingResponses =
+                    bulkValidatorValidationService.validateRowsWithBulkValidator(bvProjectId, bvValidation,
+                            threads, diffs, component.getComponentName(), rowIdx);
+            for (List<ComparingProcessResponse> comparingResponses : threadsComparingResponses) {
+                List<BulkValidatorTestRunInfo> testRunsInfo = bulkValidatorValidationService.getTestRunsInfo(
+                        bvTestRunUrlPrefix, comparingResponses);
+                componentValidationInfo.addBulkValidatorTestRunsInfoForRow(rowIdx, testRunsInfo);
+                rowIdx++;
             }
             overallValidationInfo.setTableValidations(componentValidationInfo, component.getComponentType());
         }
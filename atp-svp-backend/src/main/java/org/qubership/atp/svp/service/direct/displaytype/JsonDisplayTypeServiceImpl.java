@@ -27,7 +27,6 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import org.apache.commons.lang3.SerializationUtils;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.svp.core.enums.JsonParseViewType;
 import org.qubership.atp.svp.core.exceptions.ConnectionDbException;
@@ -233,7 +232,7 @@ public class JsonDisplayTypeServiceImpl extends DefaultDisplayTypeService {
                         .getSourceWithJsonTableVariables(pathReferenceToSutParameterName, variables);
                 if (referenceJsonTable.isPresent()) {
                     JsonTable jsonTableRef = referenceJsonTable.get();
-                    joinConditionSetting.setReferenceTable(SerializationUtils.clone(jsonTableRef));
+                    joinConditionSetting.setReferenceTable(jsonTableRef);
                     List<String> headerNames = jsonTableRef.getHeaders().stream().map(header ->
                                     header + " (" + pathReferenceToSutParameterName + ")")
                             .collect(Collectors.toList());
@@ -247,96 +246,90 @@ public class JsonDisplayTypeServiceImpl extends DefaultDisplayTypeService {
         });
     }
 
+    /**
+     * Joins rows of reference tables to rows of the primary table.
+     * Reference tables are indexed by key columns once, rows matched by a primary row are consumed.
+     * Cells of reference rows are copied into the join table, reference tables are not changed.
+     */
     private JsonTable createJoinTable(List<JsonJoinConditionSettings> joinConditionSettings, JsonTable primaryTable,
                                       JsonTable joinJsonTable) {
         String noDateValue = "—";
         int primaryHeaderSize = primaryTable.getHeaders().size();
+        List<ReferenceJsonTableIndex> referenceIndexes = joinConditionSettings.stream()
+                .map(joinConditionSetting -> new ReferenceJsonTableIndex(joinConditionSetting.getReferenceTable(),
+                        refRow -> {
+                            List<Integer> idxReferenceHeader = joinConditionSetting.getIdxReferenceHeaderNames();
+                            isJsonSimpleCell(idxReferenceHeader, refRow,
+                                    joinConditionSetting.getPathReferenceSutParameterName());
+                            return getCellValues(idxReferenceHeader, refRow);
+                        }))
+                .collect(Collectors.toList());
         primaryTable.getRows().forEach(primRow -> {
             List<JsonTableRow> tempJoinRowsList = new ArrayList<>();
-            AtomicInteger sumLengthRows = new AtomicInteger(primaryHeaderSize);
+            int sumLengthRows = primaryHeaderSize;
 
-            joinConditionSettings.forEach(joinConditionSetting -> {
-                boolean isStartIterPrimRows = true;
-                int countFoundRef = 0;
-                JsonTable referenceTable = joinConditionSetting.getReferenceTable();
-                int referenceHeaderSize = referenceTable.getHeaders().size();
-                String nameRefParamTable = joinConditionSetting.getPathReferenceSutParameterName();
+            for (int idxCondition = 0; idxCondition < joinConditionSettings.size(); idxCondition++) {
+                JsonJoinConditionSettings joinConditionSetting = joinConditionSettings.get(idxCondition);
+                ReferenceJsonTableIndex referenceIndex = referenceIndexes.get(idxCondition);
+                int referenceHeaderSize = joinConditionSetting.getReferenceTable().getHeaders().size();
                 List<Integer> idxPrimaryHeader = joinConditionSetting.getIdxPrimaryHeaderNames();
-                List<Integer> idxReferenceHeader = joinConditionSetting.getIdxReferenceHeaderNames();
-                isJsonSimpleCell(idxPrimaryHeader, primRow, nameRefParamTable);
+                isJsonSimpleCell(idxPrimaryHeader, primRow, joinConditionSetting.getPathReferenceSutParameterName());
                 List<String> primaryCellValues = getCellValues(idxPrimaryHeader, primRow);
-                List<String> tempRefCellValues = idxReferenceHeader.stream().map(x -> "")
-                        .collect(Collectors.toList());
-                //Iterating over a reference table
-                if (!referenceTable.getRows().isEmpty()) {
-                    for (int idxRefRow = 0; idxRefRow < referenceTable.getRows().size(); ) {
-                        JsonTableRow refRow = referenceTable.getRows().get(idxRefRow);
-                        isJsonSimpleCell(idxReferenceHeader, refRow, nameRefParamTable);
-                        List<String> refCellValues = getCellValues(idxReferenceHeader, refRow);
-                        List<JsonCell> tempJoinRow = new ArrayList<>();
-                        if (primaryCellValues.equals(refCellValues)) {
-                            //Go here if the first key match is found primer tables
-                            if (isStartIterPrimRows) {
-                                if (tempJoinRowsList.isEmpty()) {
-                                    tempJoinRow.addAll(primRow.getCells());
-                                    tempJoinRow.addAll(refRow.getCells());
-                                    tempJoinRowsList.add(new JsonTableRow(tempJoinRow, primRow.getNestingDepth()));
-                                } else {
-                                    tempJoinRowsList.get(countFoundRef).addAllCells(refRow.getCells());
-                                }
-                                countFoundRef++;
-                                referenceTable.getRows().remove(idxRefRow);
-                                isStartIterPrimRows = false;
-                                tempRefCellValues = refCellValues;
-                                continue;
-                                //If the found key matches the previous one in the reference table
-                            } else if (tempRefCellValues.equals(refCellValues)) {
-                                if (tempJoinRowsList.size() > countFoundRef
-                                        && sumLengthRows.get() > primaryHeaderSize) {
-                                    tempJoinRowsList.get(countFoundRef).addAllCells(refRow.getCells());
-                                } else {
-                                    tempJoinRow.addAll(generateJoinRow(primaryHeaderSize, ""));
-                                    tempJoinRow.addAll(generateJoinRow(
-                                            sumLengthRows.get() - primaryHeaderSize, noDateValue));
-                                    tempJoinRow.addAll(refRow.getCells());
-                                    tempJoinRowsList.add(new JsonTableRow(tempJoinRow,
-                                            primRow.getNestingDepth() + 1));
-                                }
-                                countFoundRef++;
-                                referenceTable.getRows().remove(idxRefRow);
-                                tempRefCellValues = refCellValues;
-                                continue;
-                            }
-                            //If the reference table has ended and the primary key has not been found
-                        } else if (idxRefRow + 1 == referenceTable.getRows().size()) {
+                //If you started looking for the primary key in an empty reference table
+                if (referenceIndex.isEmpty()) {
+                    List<JsonCell> tempJoinRow = new ArrayList<>(primRow.getCells());
+                    tempJoinRow.addAll(generateJoinRow(referenceHeaderSize, noDateValue));
+                    tempJoinRowsList.add(new JsonTableRow(tempJoinRow, primRow.getNestingDepth()));
+                } else {
+                    boolean isLastRefRowMatched = referenceIndex.isLastRemainingRowMatched(primaryCellValues);
+                    int countFoundRef = 0;
+                    for (JsonTableRow refRow : referenceIndex.consume(primaryCellValues)) {
+                        List<JsonCell> refCells = copyCells(refRow);
+                        //Go here if the first key match is found primer tables
+                        if (countFoundRef == 0) {
                             if (tempJoinRowsList.isEmpty()) {
-                                tempJoinRow.addAll(primRow.getCells());
-                                tempJoinRow.addAll(generateJoinRow(referenceHeaderSize, noDateValue));
+                                List<JsonCell> tempJoinRow = new ArrayList<>(primRow.getCells());
+                                tempJoinRow.addAll(refCells);
                                 tempJoinRowsList.add(new JsonTableRow(tempJoinRow, primRow.getNestingDepth()));
                             } else {
-                                tempJoinRow.addAll(generateJoinRow(referenceHeaderSize, noDateValue));
-                                IntStream.range(countFoundRef, tempJoinRowsList.size())
-                                        .forEachOrdered(i -> tempJoinRowsList.get(i).addAllCells(tempJoinRow));
+                                tempJoinRowsList.get(countFoundRef).addAllCells(refCells);
                             }
-                            countFoundRef++;
+                            //If the found key matches the previous one in the reference table
+                        } else if (tempJoinRowsList.size() > countFoundRef && sumLengthRows > primaryHeaderSize) {
+                            tempJoinRowsList.get(countFoundRef).addAllCells(refCells);
+                        } else {
+                            List<JsonCell> tempJoinRow = new ArrayList<>(generateJoinRow(primaryHeaderSize, ""));
+                            tempJoinRow.addAll(generateJoinRow(sumLengthRows - primaryHeaderSize, noDateValue));
+                            tempJoinRow.addAll(refCells);
+                            tempJoinRowsList.add(new JsonTableRow(tempJoinRow, primRow.getNestingDepth() + 1));
+                        }
+                        countFoundRef++;
+                    }
+                    //If the reference table has ended and the primary key has not been found
+                    if (!isLastRefRowMatched) {
+                        if (tempJoinRowsList.isEmpty()) {
+                            List<JsonCell> tempJoinRow = new ArrayList<>(primRow.getCells());
+                            tempJoinRow.addAll(generateJoinRow(referenceHeaderSize, noDateValue));
+                            tempJoinRowsList.add(new JsonTableRow(tempJoinRow, primRow.getNestingDepth()));
+                        } else {
+                            IntStream.range(countFoundRef, tempJoinRowsList.size())
+                                    .forEachOrdered(i -> tempJoinRowsList.get(i).addAllCells(
+                                            generateJoinRow(referenceHeaderSize, noDateValue)));
                         }
-                        idxRefRow++;
                     }
-                    //If you started looking for the primary key in an empty reference table
-                } else {
-                    List<JsonCell> tempJoinRow = new ArrayList<>();
-                    tempJoinRow.addAll(primRow.getCells());
-                    tempJoinRow.addAll(generateJoinRow(referenceHeaderSize, noDateValue));
-                    tempJoinRowsList.add(new JsonTableRow(tempJoinRow, primRow.getNestingDepth()));
                 }
-                sumLengthRows.addAndGet(referenceTable.getHeaders().size());
-            });
+                sumLengthRows += referenceHeaderSize;
+            }
             joinJsonTable.addAllJsonTableRows(tempJoinRowsList);
         });
         fillNewHeadersToCellsJoinTable(joinJsonTable);
         return joinJsonTable;
     }
 
+    private List<JsonCell> copyCells(JsonTableRow row) {
+        return row.getCells().stream().map(JsonCell::copy).collect(Collectors.toList());
+    }
+
     private void fillNewHeadersToCellsJoinTable(JsonTable joinJsonTable) {
         int joinHeaderSize = joinJsonTable.getHeaders().size();
         joinJsonTable.getRows().forEach(row -> IntStream.range(0, joinHeaderSize)
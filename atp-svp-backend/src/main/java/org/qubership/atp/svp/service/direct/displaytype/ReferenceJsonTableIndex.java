@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct.displaytype;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.qubership.atp.svp.model.table.JsonTable;
+import org.qubership.atp.svp.model.table.JsonTableRow;
+
+/**
+ * Index of reference table rows by values of the join key columns.
+ * <br>
+ * Rows matched by a primary row are consumed and not matched by next primary rows.
+ * Consumed rows are only marked in the index, the reference table itself is not changed.
+ */
+class ReferenceJsonTableIndex {
+
+    private final List<JsonTableRow> rows;
+    private final List<List<String>> rowKeys;
+    private final Map<List<String>, List<Integer>> rowIndexesByKey = new HashMap<>();
+    private final boolean[] consumed;
+    private int lastRemainingIndex;
+
+    /**
+     * Creates index of all rows of the table.
+     *
+     * @param table reference table
+     * @param keyExtractor returns values of key columns of the row
+     */
+    ReferenceJsonTableIndex(JsonTable table, Function<JsonTableRow, List<String>> keyExtractor) {
+        this.rows = table.getRows();
+        this.rowKeys = new ArrayList<>(rows.size());
+        this.consumed = new boolean[rows.size()];
+        this.lastRemainingIndex = rows.size() - 1;
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            List<String> key = keyExtractor.apply(rows.get(rowIndex));
+            rowKeys.add(key);
+            rowIndexesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(rowIndex);
+        }
+    }
+
+    /**
+     * Checks that all rows are consumed.
+     */
+    boolean isEmpty() {
+        return lastRemainingIndex < 0;
+    }
+
+    /**
+     * Checks that the last not consumed row (in order of the table) has the key.
+     */
+    boolean isLastRemainingRowMatched(List<String> key) {
+        return !isEmpty() && rowKeys.get(lastRemainingIndex).equals(key);
+    }
+
+    /**
+     * Consumes all not consumed rows with the key.
+     *
+     * @return consumed rows in order of the table.
+     */
+    List<JsonTableRow> consume(List<String> key) {
+        List<Integer> rowIndexes = rowIndexesByKey.remove(key);
+        if (rowIndexes == null) {
+            return Collections.emptyList();
+        }
+        List<JsonTableRow> matchedRows = new ArrayList<>(rowIndexes.size());
+        for (Integer rowIndex : rowIndexes) {
+            consumed[rowIndex] = true;
+            matchedRows.add(rows.get(rowIndex));
+        }
+        while (lastRemainingIndex >= 0 && consumed[lastRemainingIndex]) {
+            lastRemainingIndex--;
+        }
+        return matchedRows;
+    }
+}
@@ -19,7 +19,6 @@ package org.qubership.atp.svp.service.direct.displaytype;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -227,16 +226,14 @@ public class TableDisplayTypeServiceImpl extends DefaultDisplayTypeService {
             BulkValidatorTableValidationInfo tableValidationInfo = new BulkValidatorTableValidationInfo();
 
             List<DiffMessage> diffs = new ArrayList<>();
-            List<Map<String, String>> rows = arTable.getRows();
-            for (int rowIdx = 0; rowIdx < rows.size(); rowIdx++) {
-                List<ComparingProcessResponse> comparingResponses =
-                        bulkValidatorValidationService.validateDataWithBulkValidator(
-                                bvProjectId, bvValidation, rows.get(rowIdx), diffs,
-                                arTable.getName(), rowIdx);
+            List<List<ComparingProcessResponse>> rowsComparingResponses =
+                    bulkValidatorValidationService.validateRowsWithBulkValidator(
+                            bvProjectId, bvValidation, arTable.getRows(), diffs, arTable.getName(), 0);
+            String bvTestRunUrlPrefix = Utils.getBvTestRunUrlPrefix(atpIntegrationEnabled, bvUrl, catalogueUiUrl,
+                    bvProjectId);
+            for (int rowIdx = 0; rowIdx < rowsComparingResponses.size(); rowIdx++) {
                 List<BulkValidatorTestRunInfo> testRunsInfo = bulkValidatorValidationService.getTestRunsInfo(
-                        Utils.getBvTestRunUrlPrefix(atpIntegrationEnabled, bvUrl,
-                                catalogueUiUrl,
-                                bvProjectId), comparingResponses);
+                        bvTestRunUrlPrefix, rowsComparingResponses.get(rowIdx));
                 tableValidationInfo.addBulkValidatorTestRunsInfoForRow(rowIdx, testRunsInfo);
             }
 
@@ -65,12 +65,18 @@ public class XmlDisplayTypeServiceImpl extends DefaultDisplayTypeService {
 
     private final ExecutionVariablesServiceImpl executionVariablesService;
     private final CassandraRepository cassandraRepository;
+    private final SoapRepositoryImpl soapRepository;
 
+    /**
+     * Creates XML display type service.
+     */
     @Autowired
     public XmlDisplayTypeServiceImpl(ExecutionVariablesServiceImpl executionVariablesService,
-                                     CassandraRepository cassandraRepository) {
+                                     CassandraRepository cassandraRepository,
+                                     SoapRepositoryImpl soapRepository) {
         this.executionVariablesService = executionVariablesService;
         this.cassandraRepository = cassandraRepository;
+        this.soapRepository = soapRepository;
     }
 
     @Override
@@ -96,7 +102,7 @@ public class XmlDisplayTypeServiceImpl extends DefaultDisplayTypeService {
                     HttpSettings httpSettingsWithVariables =
                             executionVariablesService.getHttpSettingsWithExecutionVariables(
                                     context.getExecutionVariables(), settings);
-                    resultAsString = SoapRepositoryImpl.soapRequest(server, httpSettingsWithVariables);
+                    resultAsString = soapRepository.soapRequest(server, httpSettingsWithVariables);
                     break;
                 default:
                     throw new IllegalStateException("Unexpected EngineType value: "
@@ -16,22 +16,178 @@
 
 package org.qubership.atp.svp.service.direct.displaytype.jsonparse;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
 import org.qubership.atp.svp.utils.Utils;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.spi.json.GsonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.GsonMappingProvider;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class CommonJsonParseService {
 
+    private static final int MAX_COMPILED_PATHS = 1000;
+    // json-smart keeps longer floating point numbers as BigDecimal
+    private static final int MAX_DOUBLE_NUMBER_LENGTH = 18;
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Configuration GSON_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new GsonJsonProvider())
+            .mappingProvider(new GsonMappingProvider())
+            .build();
+
+    private final Cache<String, JsonPath> compiledPaths = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMPILED_PATHS)
+            .build();
+
+    /**
+     * Returns compiled json path, paths are compiled once and reused.
+     *
+     * @param jsonPath Path to the node
+     * @return compiled {@link JsonPath}
+     */
+    public JsonPath compile(String jsonPath) {
+        JsonPath compiledPath = compiledPaths.getIfPresent(jsonPath);
+        if (compiledPath == null) {
+            compiledPath = JsonPath.compile(jsonPath);
+            compiledPaths.put(jsonPath, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    /**
+     * Wraps already parsed json into document which can be read by json paths many times without
+     * serialization and parsing.
+     *
+     * @param json parsed json
+     * @return {@link DocumentContext} backed by Gson tree
+     */
+    public DocumentContext parseDocument(JsonElement json) {
+        return JsonPath.using(GSON_CONFIGURATION).parse(json);
+    }
+
+    /**
+     * Parses json string into document which can be read by json paths many times.
+     * Numbers are normalized as json-smart parser of {@link JsonPath} does it, so values are printed
+     * the same way as before, e.g. "10.50" as "10.5" and "1e3" as "1000.0".
+     *
+     * @param json String json
+     * @return {@link DocumentContext} backed by Gson tree
+     */
+    public DocumentContext parseDocument(String json) {
+        return parseDocument(normalizeNumbers(JsonParser.parseString(json)));
+    }
+
+    /**
+     * Getting json element from parsed document by json path.
+     *
+     * @param document parsed json
+     * @param jsonPath Path to the node
+     * @return JsonElement
+     * @throws PathNotFoundException an exception.
+     */
+    public JsonElement getJsonElementByJsonPath(DocumentContext document, String jsonPath)
+            throws PathNotFoundException {
+        Object resultObj = document.read(compile(jsonPath));
+        return resultObj instanceof JsonElement
+                ? (JsonElement) resultObj
+                : PRETTY_GSON.toJsonTree(resultObj);
+    }
+
+    /**
+     * Getting json element from parsed document by json path.
+     *
+     * @param document parsed json
+     * @param jsonPath Path to the node
+     * @return JsonElement or empty if there is no such node or it is null.
+     */
+    public Optional<JsonElement> findJsonElementByJsonPath(DocumentContext document, String jsonPath) {
+        try {
+            JsonElement element = getJsonElementByJsonPath(document, jsonPath);
+            return Objects.isNull(element) || element.isJsonNull() ? Optional.empty() : Optional.of(element);
+        } catch (PathNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Getting json from parsed document by json path as string.
+     * Result is formatted the same way as {@link #getJsonAsStringByJsonPath(String, String)} does it.
+     *
+     * @param document parsed json
+     * @param jsonPath Path to the node
+     * @return String json
+     * @throws PathNotFoundException an exception.
+     */
+    public String getJsonAsStringByJsonPath(DocumentContext document, String jsonPath)
+            throws PathNotFoundException {
+        return getJsonElementAsString(getJsonElementByJsonPath(document, jsonPath));
+    }
+
+    /**
+     * Returns string primitives as is, other elements as pretty printed json.
+     */
+    public String getJsonElementAsString(JsonElement element) {
+        return isStringPrimitive(element)
+                ? element.getAsString()
+                : PRETTY_GSON.toJson(element);
+    }
+
+    private static JsonElement normalizeNumbers(JsonElement element) {
+        if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                entry.setValue(normalizeNumbers(entry.getValue()));
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, normalizeNumbers(array.get(i)));
+            }
+        } else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber()) {
+            return new JsonPrimitive(normalizeNumber(element.getAsString()));
+        }
+        return element;
+    }
+
+    private static Number normalizeNumber(String number) {
+        if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            return new BigInteger(number);
+        }
+        if (number.length() <= MAX_DOUBLE_NUMBER_LENGTH) {
+            double value = Double.parseDouble(number);
+            if (!Double.isInfinite(value)) {
+                return value;
+            }
+        }
+        return new BigDecimal(number);
+    }
+
+    /**
+     * Checks that element is json string.
+     */
+    public boolean isStringPrimitive(JsonElement element) {
+        return element instanceof JsonPrimitive && ((JsonPrimitive) element).isString();
+    }
+
     /**
      * Getting parsed json string by json path.
      *
@@ -42,7 +198,7 @@ public class CommonJsonParseService {
      */
     public String getJsonAsStringByJsonPath(String json, String jsonPath) throws PathNotFoundException {
         try {
-            Object resultObj = JsonPath.compile(jsonPath).read(json);
+            Object resultObj = compile(jsonPath).read(json);
             return resultObj instanceof String
                     ? resultObj.toString()
                     : getGsonWithPrettyPrinting().toJson(resultObj);
@@ -73,6 +229,6 @@ public class CommonJsonParseService {
     }
 
     public Gson getGsonWithPrettyPrinting() {
-        return new GsonBuilder().setPrettyPrinting().create();
+        return PRETTY_GSON;
     }
 }
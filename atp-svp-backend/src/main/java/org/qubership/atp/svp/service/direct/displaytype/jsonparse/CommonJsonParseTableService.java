@@ -39,7 +39,8 @@ import org.springframework.stereotype.Service;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.jayway.jsonpath.JsonPath;
+import com.google.gson.JsonPrimitive;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.PathNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,14 +60,16 @@ public class CommonJsonParseTableService {
 
     /**
      * We get the Json row of the table.
+     * The row is read by json paths of all columns directly, without serialization and parsing for each cell.
      *
      * @param settings - configuration of json parsing, show how to parse source json
      * @param jsonElement - source json for parsing, representing the data of the row
      * @return list of {@link JsonCell} for row data.
      */
     public List<JsonCell> getJsonTableRowCells(JsonParseSettings settings, JsonElement jsonElement) {
+        DocumentContext rowDocument = getRowDocument(jsonElement);
         return settings.getColumnsData()
-                .stream().map(column -> getTableCellDataAsJsonCell(jsonElement, column, settings))
+                .stream().map(column -> getTableCellDataAsJsonCell(rowDocument, column, settings))
                 .collect(Collectors.toList());
     }
 
@@ -103,8 +106,8 @@ public class CommonJsonParseTableService {
      */
     public JsonArray getJsonArrayByJsonPath(String json, String jsonPath) throws PathNotFoundException {
         try {
-            JsonElement element = commonJsonParseService.getGsonWithPrettyPrinting()
-                    .toJsonTree(JsonPath.compile(jsonPath).read(json));
+            JsonElement element = commonJsonParseService.getJsonElementByJsonPath(
+                    commonJsonParseService.parseDocument(json), jsonPath);
             return getJsonElementAsJsonArray(element);
         } catch (PathNotFoundException e) {
             throw new PathNotFoundException(e.getMessage() + " Json source: " + json);
@@ -138,20 +141,28 @@ public class CommonJsonParseTableService {
         return jsonArray;
     }
 
-    private JsonCell getTableCellDataAsJsonCell(JsonElement cellValueAsJson, JsonDataColumnSettings columnSettings,
-                                                JsonParseSettings settings) {
-        String cellValue = "";
-        if (cellValueAsJson instanceof JsonObject) {
-            cellValue = getCellData(cellValueAsJson.toString(), columnSettings.getJsonPath());
-        } else if (cellValueAsJson instanceof JsonElementNestingDepth) {
-            cellValue = getCellData(((JsonElementNestingDepth) cellValueAsJson).getJsonObject().toString(),
-                    columnSettings.getJsonPath());
+    private DocumentContext getRowDocument(JsonElement jsonElement) {
+        if (jsonElement instanceof JsonObject) {
+            return commonJsonParseService.parseDocument(jsonElement);
+        } else if (jsonElement instanceof JsonElementNestingDepth) {
+            return commonJsonParseService.parseDocument(((JsonElementNestingDepth) jsonElement).getJsonObject());
         }
+        return null;
+    }
+
+    private JsonCell getTableCellDataAsJsonCell(DocumentContext rowDocument, JsonDataColumnSettings columnSettings,
+                                                JsonParseSettings settings) {
+        JsonElement cellValueAsJson = Objects.isNull(rowDocument)
+                ? new JsonPrimitive("")
+                : getCellData(rowDocument, columnSettings.getJsonPath());
         JsonCell jsonCell;
         if (Objects.nonNull(columnSettings.getGroupingJsonPaths()) && columnSettings.getGroupingJsonPaths().isEmpty()) {
-            jsonCell = new JsonSimpleCell(columnSettings.getHeader().toUpperCase(), cellValue);
+            jsonCell = new JsonSimpleCell(columnSettings.getHeader().toUpperCase(),
+                    commonJsonParseService.getJsonElementAsString(cellValueAsJson));
         } else {
-            JsonArray childArrayAsJson = getJsonArrayByJsonPath(cellValue, rootJsonPath);
+            JsonArray childArrayAsJson = commonJsonParseService.isStringPrimitive(cellValueAsJson)
+                    ? getJsonArrayByJsonPath(cellValueAsJson.getAsString(), rootJsonPath)
+                    : getJsonElementAsJsonArray(cellValueAsJson);
             Map<String, String> groupedCellData = getGroupedCellData(childArrayAsJson,
                     columnSettings.getGroupingJsonPaths(), settings);
             jsonCell = new JsonGroupedCell(columnSettings.getHeader().toUpperCase(), groupedCellData);
@@ -159,12 +170,12 @@ public class CommonJsonParseTableService {
         return jsonCell;
     }
 
-    private String getCellData(String cellValue, String jsonPath) {
+    private JsonElement getCellData(DocumentContext document, String jsonPath) {
         try {
-            return commonJsonParseService.getJsonAsStringByJsonPath(cellValue, jsonPath);
+            return commonJsonParseService.getJsonElementByJsonPath(document, jsonPath);
         } catch (PathNotFoundException e) {
-            log.warn("Couldn't parse JsonElement by jsonPath {} with cellValue {}", jsonPath, cellValue);
-            return noParsingResultMessage;
+            log.warn("Couldn't parse JsonElement by jsonPath {} with cellValue {}", jsonPath, document.jsonString());
+            return new JsonPrimitive(noParsingResultMessage);
         }
     }
 
@@ -172,8 +183,10 @@ public class CommonJsonParseTableService {
                                                    JsonParseSettings settings) {
         Map<String, String> groupedCell = new LinkedHashMap<>();
         cellValues.forEach(value -> {
+            DocumentContext valueDocument = commonJsonParseService.parseDocument(value);
             List<String> groupNameParsingResults = groupingJsonPaths.stream()
-                    .map(jsonPath -> getCellData(value.toString(), jsonPath))
+                    .map(jsonPath -> commonJsonParseService.getJsonElementAsString(
+                            getCellData(valueDocument, jsonPath)))
                     .collect(Collectors.toList());
             groupedCell.put(concatStringsWithDivider(groupNameParsingResults, settings),
                     commonJsonParseService.getGsonWithPrettyPrinting().toJson(value));
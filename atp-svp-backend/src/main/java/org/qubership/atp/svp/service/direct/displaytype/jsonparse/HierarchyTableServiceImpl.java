@@ -17,13 +17,19 @@
 package org.qubership.atp.svp.service.direct.displaytype.jsonparse;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.qubership.atp.svp.core.exceptions.GettingValueException;
+import org.qubership.atp.svp.model.impl.JsonHierarchyNodeNames;
 import org.qubership.atp.svp.model.impl.JsonParseSettings;
 import org.qubership.atp.svp.model.pot.values.AbstractValueObject;
 import org.qubership.atp.svp.model.pot.values.TableValueObject;
@@ -38,18 +44,22 @@ import org.springframework.stereotype.Service;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.jayway.jsonpath.Configuration;
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.DocumentContext;
 
 @Service
 public class HierarchyTableServiceImpl implements JsonParseService {
 
     private CommonJsonParseTableService commonJsonParseTableService;
+    private CommonJsonParseService commonJsonParseService;
 
+    /**
+     * Creates service of hierarchy json tables.
+     */
     @Autowired
-    public HierarchyTableServiceImpl(CommonJsonParseTableService commonJsonParseTableService) {
+    public HierarchyTableServiceImpl(CommonJsonParseTableService commonJsonParseTableService,
+                                     CommonJsonParseService commonJsonParseService) {
         this.commonJsonParseTableService = commonJsonParseTableService;
+        this.commonJsonParseService = commonJsonParseService;
     }
 
     @Override
@@ -77,95 +87,84 @@ public class HierarchyTableServiceImpl implements JsonParseService {
         return jsonTable;
     }
 
-    private SortedLevelJsonArray getHierarchySortingJsonRow(JsonArray sourceDataAsJson, JsonParseSettings settings)
-            throws GettingValueException {
-        String idNodeName = settings.getHierarchyNodeNames().getId();
-        String rootIdNodeName = settings.getHierarchyNodeNames().getRootId();
-        String parentIdNodeName = settings.getHierarchyNodeNames().getParentId();
+    /**
+     * Sorts rows in hierarchy order: each root object (rootId equals id) is followed by its children
+     * (depth-first, in order of the source array). Each object is included once.
+     * Ids of all objects are read in one pass, children are found by parentId index,
+     * so the sorting takes linear time and is not limited by depth of the hierarchy.
+     */
+    private SortedLevelJsonArray getHierarchySortingJsonRow(JsonArray sourceDataAsJson, JsonParseSettings settings) {
+        List<HierarchyNode> nodes = new ArrayList<>(sourceDataAsJson.size());
+        Map<JsonElement, List<HierarchyNode>> childrenByParentId = new HashMap<>();
+        for (JsonElement sourceJsonElement : sourceDataAsJson) {
+            HierarchyNode node = new HierarchyNode(sourceJsonElement, settings.getHierarchyNodeNames());
+            nodes.add(node);
+            if (node.id.isPresent() && node.parentId.isPresent()) {
+                childrenByParentId.computeIfAbsent(node.parentId.get(), parentId -> new ArrayList<>()).add(node);
+            }
+        }
         SortedLevelJsonArray sortedLevelJsonArray = new SortedLevelJsonArray();
-        Deque<String> depthStack = new ArrayDeque<>();
-        Set<String> foundIds = new HashSet<>();
-
-        mainLoopSearchingRootObjects(sourceDataAsJson, idNodeName, rootIdNodeName, parentIdNodeName, depthStack,
-                sortedLevelJsonArray, foundIds);
-
+        Set<JsonElement> foundIds = new HashSet<>();
+        for (HierarchyNode node : nodes) {
+            if (node.isRoot()) {
+                addSubtree(node, childrenByParentId, foundIds, sortedLevelJsonArray);
+            }
+        }
         return sortedLevelJsonArray;
     }
 
-    private void mainLoopSearchingRootObjects(JsonArray sourceDataAsJson, String idNodeName, String rootIdNodeName,
-                                              String parentIdNodeName, Deque<String> depthStack,
-                                              SortedLevelJsonArray sortedLevelJsonArray,
-                                              Set<String> foundIds) throws GettingValueException {
-        for (JsonElement sourceJsonElement : sourceDataAsJson) {
-            Optional<String> rootIdValue = getIdNodeNameAsJsonPath(sourceJsonElement,
-                    rootIdNodeName);
-            Optional<String> idValue = getIdNodeNameAsJsonPath(sourceJsonElement, idNodeName);
-            if (rootIdValue.isPresent() && idValue.isPresent() && rootIdValue.equals(idValue)) {
-                sortedLevelJsonArray.add(new JsonElementNestingDepth(depthStack.size(),
-                        sourceJsonElement.getAsJsonObject()));
-                foundIds.add(idValue.get());
-
-                recursiveSearchChildObjects(idValue, sourceDataAsJson, depthStack, sortedLevelJsonArray,
-                        foundIds, idNodeName, parentIdNodeName, 0);
+    private void addSubtree(HierarchyNode root, Map<JsonElement, List<HierarchyNode>> childrenByParentId,
+                            Set<JsonElement> foundIds, SortedLevelJsonArray sortedLevelJsonArray) {
+        sortedLevelJsonArray.add(new JsonElementNestingDepth(0, root.element.getAsJsonObject()));
+        foundIds.add(root.id.get());
+        Deque<Iterator<HierarchyNode>> levels = new ArrayDeque<>();
+        levels.push(getChildren(root, childrenByParentId));
+        while (!levels.isEmpty()) {
+            Optional<HierarchyNode> child = getNextNotFound(levels.peek(), foundIds);
+            if (child.isPresent()) {
+                HierarchyNode childNode = child.get();
+                sortedLevelJsonArray.add(new JsonElementNestingDepth(levels.size(),
+                        childNode.element.getAsJsonObject()));
+                foundIds.add(childNode.id.get());
+                levels.push(getChildren(childNode, childrenByParentId));
+            } else {
+                levels.pop();
             }
         }
     }
 
-    private void recursiveSearchChildObjects(Optional<String> desiredIdValue, JsonArray sourceDataAsJson,
-                                             Deque<String> depthStack,
-                                             SortedLevelJsonArray sortedLevelJsonArray, Set<String> foundIds,
-                                             String idNodeName, String parentIdNodeName,
-                                             int recursiveCount) throws GettingValueException {
-
-        for (JsonElement sourceJsonElement : sourceDataAsJson) {
-            Optional<String> parentIdValue = getIdNodeNameAsJsonPath(sourceJsonElement, parentIdNodeName);
-            Optional<String> childIdValue = getIdNodeNameAsJsonPath(sourceJsonElement, idNodeName);
-
-            //We are looking for a child object and go down to its level.
-            goToDownLevel(desiredIdValue, sourceDataAsJson, depthStack, sortedLevelJsonArray, foundIds,
-                    idNodeName, parentIdNodeName, recursiveCount, parentIdValue, childIdValue, sourceJsonElement);
-
-            //If there are no more child objects then we go up a level.
-            goToUpLevel(sourceDataAsJson, depthStack, sortedLevelJsonArray, foundIds, idNodeName, parentIdNodeName,
-                    recursiveCount, sourceJsonElement);
-        }
+    private Iterator<HierarchyNode> getChildren(HierarchyNode node,
+                                                Map<JsonElement, List<HierarchyNode>> childrenByParentId) {
+        return childrenByParentId.getOrDefault(node.id.get(), Collections.emptyList()).iterator();
     }
 
-    private void goToDownLevel(Optional<String> desiredIdValue, JsonArray sourceDataAsJson,
-                               Deque<String> depthStack,
-                               SortedLevelJsonArray sortedLevelJsonArray, Set<String> foundIds,
-                               String idNodeName, String parentIdNodeName,
-                               int recursiveCount, Optional<String> parentIdValue, Optional<String> childIdValue,
-                               JsonElement sourceJsonElement) throws GettingValueException {
-        if (desiredIdValue.isPresent() && parentIdValue.isPresent() && childIdValue.isPresent()
-                && desiredIdValue.equals(parentIdValue) && !foundIds.contains(childIdValue.get())) {
-            commonJsonParseTableService.safeRecursionLimitProtect(++recursiveCount);
-            depthStack.addLast(parentIdValue.get());
-            sortedLevelJsonArray.add(new JsonElementNestingDepth(depthStack.size(),
-                    sourceJsonElement.getAsJsonObject()));
-            foundIds.add(childIdValue.get());
-            desiredIdValue = childIdValue;
-            recursiveSearchChildObjects(desiredIdValue, sourceDataAsJson, depthStack, sortedLevelJsonArray,
-                    foundIds, idNodeName, parentIdNodeName, recursiveCount);
+    private Optional<HierarchyNode> getNextNotFound(Iterator<HierarchyNode> children, Set<JsonElement> foundIds) {
+        while (children.hasNext()) {
+            HierarchyNode child = children.next();
+            if (!foundIds.contains(child.id.get())) {
+                return Optional.of(child);
+            }
         }
+        return Optional.empty();
     }
 
-    private void goToUpLevel(JsonArray sourceDataAsJson, Deque<String> depthStack,
-                             SortedLevelJsonArray sortedLevelJsonArray, Set<String> foundIds, String idNodeName,
-                             String parentIdNodeName, int recursiveCount, JsonElement sourceJsonElement)
-            throws GettingValueException {
-        JsonElement lastElement = sourceDataAsJson.get(sourceDataAsJson.size() - 1);
-        if (sourceJsonElement.equals(lastElement) && depthStack.size() != 0) {
-            commonJsonParseTableService.safeRecursionLimitProtect(--recursiveCount);
-            Optional<String> desiredIdValue = Optional.ofNullable(depthStack.pollLast());
-            recursiveSearchChildObjects(desiredIdValue, sourceDataAsJson, depthStack, sortedLevelJsonArray,
-                    foundIds, idNodeName, parentIdNodeName, recursiveCount);
+    private class HierarchyNode {
+
+        private final JsonElement element;
+        private final Optional<JsonElement> id;
+        private final Optional<JsonElement> rootId;
+        private final Optional<JsonElement> parentId;
+
+        private HierarchyNode(JsonElement element, JsonHierarchyNodeNames nodeNames) {
+            DocumentContext document = commonJsonParseService.parseDocument(element);
+            this.element = element;
+            this.id = commonJsonParseService.findJsonElementByJsonPath(document, nodeNames.getId());
+            this.rootId = commonJsonParseService.findJsonElementByJsonPath(document, nodeNames.getRootId());
+            this.parentId = commonJsonParseService.findJsonElementByJsonPath(document, nodeNames.getParentId());
         }
-    }
 
-    private Optional<String> getIdNodeNameAsJsonPath(JsonElement sourceJsonElement, String nameField) {
-        Configuration conf = Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
-        return Optional.ofNullable(JsonPath.using(conf).parse(sourceJsonElement.toString())
-                .read(JsonPath.compile(nameField)));
+        private boolean isRoot() {
+            return id.isPresent() && id.equals(rootId);
+        }
     }
 }
@@ -22,6 +22,7 @@ import static org.qubership.atp.svp.core.RegexpConstants.URI_REGEXP;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +33,7 @@ import java.util.regex.Matcher;
 
 import javax.annotation.Nullable;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.poi.xwpf.usermodel.BreakType;
 import org.apache.poi.xwpf.usermodel.UnderlinePatterns;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
@@ -118,6 +120,13 @@ public class WordDocumentPotGenerator implements PotGenerator {
 
     @Override
     public byte[] generatePotFile(PotSessionEntity session, boolean isFullInfoNeededInPot) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writePotFile(session, isFullInfoNeededInPot, baos);
+        return baos.toByteArray();
+    }
+
+    @Override
+    public void writePotFile(PotSessionEntity session, boolean isFullInfoNeededInPot, OutputStream outputStream) {
         log.info("[Session - {}] Generating MS Word document with POT", session.getSessionId());
         try {
             XWPFDocument potDocument = new XWPFDocument();
@@ -148,12 +157,10 @@ public class WordDocumentPotGenerator implements PotGenerator {
                     potDocument.createParagraph().createRun().addBreak();
                 }
             }
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            potDocument.write(baos);
+            // The document is written as a zip package, the shield keeps the target stream open
+            potDocument.write(CloseShieldOutputStream.wrap(outputStream));
             potDocument.close();
-            baos.close();
             log.info("[Session - {}] Document with POT was generated successfully.", session.getSessionId());
-            return baos.toByteArray();
         } catch (IOException ioEx) {
             log.error("POT generation I/O error!" + ioEx.getMessage(), ioEx);
             throw new PotUnexpectedException();
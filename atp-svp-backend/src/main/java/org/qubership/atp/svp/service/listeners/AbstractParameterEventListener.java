@@ -86,13 +86,21 @@ public abstract class AbstractParameterEventListener {
 
     protected void processParameterResults(AbstractParameterExecutionContext executionContext) {
         executionContext.setNoneValidationStatusInsteadInProgressForParameter();
-        potSessionParameterService.updatePotSessionParameter(executionContext);
-        potSessionParameterService.sendParameterResultToSession(executionContext);
+        storeParameterResults(executionContext);
         executionContext.setParameterResultAsVariable(executionVariablesService);
         potSessionParameterService.addVariable(executionContext);
         executionContext.decrementCountOfUnprocessedParameters();
     }
 
+    /**
+     * Stores results of the parameter and sends them to the session.
+     * Results are written immediately by default.
+     */
+    protected void storeParameterResults(AbstractParameterExecutionContext executionContext) {
+        potSessionParameterService.updatePotSessionParameter(executionContext);
+        potSessionParameterService.sendParameterResultToSession(executionContext);
+    }
+
     protected void startParameterValidationProcess(AbstractParameterExecutionContext executionContext) {
         try {
             log.info("[Session - {}] Validation process for parameter: {} was started",
@@ -165,7 +165,7 @@ public class CommonParametersExecutionEventListener {
                 .sessionId(session.getSessionId())
                 .parameterStarted(OffsetDateTime.now())
                 .sessionConfiguration(session.getExecutionConfiguration())
-                .executionVariables(session.getExecutionVariables())
+                .executionVariables(potSessionService.getVariables(session.getSessionId()))
                 .parameter(parameter)
                 .isDeferredSearchResult(parameter.hasDeferredResults())
                 .countOfUnprocessedCommonParameters(commonParametersCount)
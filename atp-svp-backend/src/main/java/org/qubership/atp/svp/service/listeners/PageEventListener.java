@@ -35,7 +35,7 @@ import org.qubership.atp.svp.model.events.GetInfoForTabsUnderPageEvent;
 import org.qubership.atp.svp.model.events.ValidatePageEvent;
 import org.qubership.atp.svp.model.events.ValidateSessionEvent;
 import org.qubership.atp.svp.model.pot.ExecutionVariable;
-import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 import org.qubership.atp.svp.model.pot.SutParameterExecutionContext;
 import org.qubership.atp.svp.service.PotSessionPageService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -77,7 +77,7 @@ public class PageEventListener {
     @Async("GettingInfoProcessExecutor")
     @EventListener(condition = "#getInfoForPageEvent.onlyForPreconfiguredParams == false")
     public void handleGetInfoForPageEvent(GetInfoForPageEvent getInfoForPageEvent) {
-        startGettingInfoForPage(getInfoForPageEvent.getSessionId(),
+        startGettingInfoForPage(getInfoForPageEvent.getExecutionContext(),
                 getInfoForPageEvent.getPageConfiguration(),
                 getInfoForPageEvent.getOnlyForPreconfiguredParams(),
                 getInfoForPageEvent.getCountOfUnprocessedPagesUnderSession());
@@ -100,28 +100,29 @@ public class PageEventListener {
      */
     @EventListener(condition = "#getInfoForPageEvent.onlyForPreconfiguredParams == true")
     public void handleGetInfoForPageEventSynchronously(GetInfoForPageEvent getInfoForPageEvent) {
-        startGettingInfoForPage(getInfoForPageEvent.getSessionId(),
+        startGettingInfoForPage(getInfoForPageEvent.getExecutionContext(),
                 getInfoForPageEvent.getPageConfiguration(),
                 getInfoForPageEvent.getOnlyForPreconfiguredParams(),
                 getInfoForPageEvent.getCountOfUnprocessedPagesUnderSession());
     }
 
-    private void startGettingInfoForPage(UUID sessionId,
+    private void startGettingInfoForPage(SessionExecutionContext executionContext,
                                          PageConfigurationEntity pageConfiguration,
                                          boolean onlyForPreconfiguredParams,
                                          AtomicInteger countOfUnprocessedPagesUnderSession) {
+        UUID sessionId = executionContext.getSessionId();
         try {
             log.info("[Session - {}] Started getting info for page {}.", sessionId, pageConfiguration.getName());
 
             PotSessionPageEntity page = PotSessionPageEntity.createPotSessionPage(pageConfiguration);
             potSessionPageService.addPageToSession(sessionId, page);
             if (page.containsSynchronousLoadingParameters()) {
-                startGettingInfoForSynchronousLoadingParametersUnderPage(sessionId, page,
+                startGettingInfoForSynchronousLoadingParametersUnderPage(executionContext, page,
                         onlyForPreconfiguredParams, countOfUnprocessedPagesUnderSession);
                 log.info("[Session - {}] Successfully started getting info for synchronous loading params under page "
                         + "(events for each synchronous parameter was published).", sessionId);
             } else {
-                startGettingInfoForTabsUnderPage(sessionId, page.getName(),
+                startGettingInfoForTabsUnderPage(executionContext, page.getName(),
                         onlyForPreconfiguredParams, countOfUnprocessedPagesUnderSession);
                 log.info("[Session - {}] Successfully started getting info for Tabs under page: {} "
                         + "(event was published).", sessionId, page.getName());
@@ -136,23 +137,21 @@ public class PageEventListener {
         }
     }
 
-    private void startGettingInfoForSynchronousLoadingParametersUnderPage(UUID sessionId,
+    private void startGettingInfoForSynchronousLoadingParametersUnderPage(SessionExecutionContext executionContext,
                                                                           PotSessionPageEntity page,
                                                                           boolean onlyForPreconfiguredParams,
                                                                           AtomicInteger countOfUnprocessedPages) {
-        SessionExecutionConfiguration executionConfigurationForSession =
-                potSessionPageService.getExecutionConfigurationForSession(sessionId);
         ConcurrentHashMap<String, ExecutionVariable> executionVariablesForSession =
-                potSessionPageService.getExecutionVariablesForSession(sessionId);
+                executionContext.getExecutionVariables();
         List<PotSessionParameterEntity> synchronousParameters =
                 getSynchronousParametersForPage(page, onlyForPreconfiguredParams);
         AtomicInteger countOfUnprocessedSynchronousParameters = new AtomicInteger(synchronousParameters.size());
         AtomicInteger zeroCounter = new AtomicInteger();
         for (PotSessionParameterEntity parameter : synchronousParameters) {
             SutParameterExecutionContext parameterExecutionContext = SutParameterExecutionContext.builder()
-                    .sessionId(sessionId)
+                    .sessionId(executionContext.getSessionId())
                     .parameterStarted(OffsetDateTime.now())
-                    .sessionConfiguration(executionConfigurationForSession)
+                    .sessionConfiguration(executionContext.getExecutionConfiguration())
                     .executionVariables(executionVariablesForSession)
                     .parameter(parameter)
                     .isDeferredSearchResult(parameter.hasDeferredResults())
@@ -160,6 +159,7 @@ public class PageEventListener {
                     .countOfUnprocessedParametersUnderTab(zeroCounter)
                     .countOfUnprocessedTabsUnderPage(zeroCounter)
                     .countOfUnprocessedPagesUnderSession(countOfUnprocessedPages)
+                    .sessionExecutionContext(executionContext)
                     .build();
             GetInfoForParameterEvent getInfoForParameterEvent = GetInfoForParameterEvent.builder()
                     .parameterExecutionContext(parameterExecutionContext)
@@ -177,16 +177,17 @@ public class PageEventListener {
                 .collect(Collectors.toList());
     }
 
-    private void startGettingInfoForTabsUnderPage(UUID sessionId,
+    private void startGettingInfoForTabsUnderPage(SessionExecutionContext executionContext,
                                                   String pageName,
                                                   boolean onlyForPreconfiguredParams,
                                                   AtomicInteger countOfUnprocessedPagesUnderSession) {
         GetInfoForTabsUnderPageEvent getInfoForTabsUnderPageEvent = GetInfoForTabsUnderPageEvent.builder()
-                .sessionId(sessionId)
+                .sessionId(executionContext.getSessionId())
                 .pageName(pageName)
                 .onlyForPreconfiguredParams(onlyForPreconfiguredParams)
                 .countOfUnprocessedPagesUnderSession(countOfUnprocessedPagesUnderSession)
                 .countOfUnprocessedSynchronousParametersUnderPage(new AtomicInteger())
+                .executionContext(executionContext)
                 .build();
         eventPublisher.publishEvent(getInfoForTabsUnderPageEvent);
     }
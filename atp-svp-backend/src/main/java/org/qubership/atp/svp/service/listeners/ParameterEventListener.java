@@ -16,9 +16,11 @@
 
 package org.qubership.atp.svp.service.listeners;
 
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.events.GenerateLogCollectorLinkToTemplateEvent;
 import org.qubership.atp.svp.model.events.GetInfoForParameterEvent;
 import org.qubership.atp.svp.model.events.GetInfoForTabsUnderPageEvent;
@@ -26,8 +28,10 @@ import org.qubership.atp.svp.model.events.ReloadSutParameterEvent;
 import org.qubership.atp.svp.model.events.ValidateParameterEvent;
 import org.qubership.atp.svp.model.events.ValidateTabEvent;
 import org.qubership.atp.svp.model.pot.AbstractParameterExecutionContext;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 import org.qubership.atp.svp.model.pot.SutParameterExecutionContext;
 import org.qubership.atp.svp.service.DeferredSearchService;
+import org.qubership.atp.svp.service.direct.ParameterResultsWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
@@ -40,10 +44,13 @@ import lombok.extern.slf4j.Slf4j;
 public class ParameterEventListener extends AbstractParameterEventListener {
 
     private final DeferredSearchService deferredSearchService;
+    private final ParameterResultsWriter parameterResultsWriter;
 
     @Autowired
-    public ParameterEventListener(DeferredSearchService deferredSearchService) {
+    public ParameterEventListener(DeferredSearchService deferredSearchService,
+                                  ParameterResultsWriter parameterResultsWriter) {
         this.deferredSearchService = deferredSearchService;
+        this.parameterResultsWriter = parameterResultsWriter;
     }
 
     /**
@@ -204,12 +211,31 @@ public class ParameterEventListener extends AbstractParameterEventListener {
         super.getEventPublisher().publishEvent(validateParameterEvent);
     }
 
+    /**
+     * Results of parameters under tabs are written by batches of the tab,
+     * the written result is sent to the session after it is written.
+     * Results of synchronous loading parameters are written immediately,
+     * because tabs of the page are started after them.
+     */
+    @Override
+    protected void storeParameterResults(AbstractParameterExecutionContext executionContext) {
+        PotSessionParameterEntity parameter = executionContext.getParameter();
+        if (parameter.isSynchronousLoading() || Objects.isNull(parameter.getPotSessionTabEntity())) {
+            super.storeParameterResults(executionContext);
+        } else {
+            UUID sessionId = executionContext.getSessionId();
+            parameterResultsWriter.write(parameter.getPotSessionTabEntity().getId(), parameter,
+                    writtenParameter -> getPotSessionParameterService()
+                            .sendParameterResultToSession(sessionId, writtenParameter));
+        }
+    }
+
     @Override
     protected void processParameterResults(AbstractParameterExecutionContext executionContext) {
         SutParameterExecutionContext sutParameterExecutionContext = (SutParameterExecutionContext) executionContext;
         super.processParameterResults(sutParameterExecutionContext);
         if (sutParameterExecutionContext.getParameter().isSynchronousLoading()) {
-            startGettingInfoForTabsUnderPage(executionContext.getSessionId(),
+            startGettingInfoForTabsUnderPage(sutParameterExecutionContext.getSessionExecutionContext(),
                     sutParameterExecutionContext.getParameter().getPage(),
                     sutParameterExecutionContext.getSessionConfiguration().getOnlyForPreconfiguredParams(),
                     sutParameterExecutionContext.getCountOfUnprocessedPagesUnderSession(),
@@ -227,17 +253,18 @@ public class ParameterEventListener extends AbstractParameterEventListener {
         }
     }
 
-    private void startGettingInfoForTabsUnderPage(UUID sessionId,
+    private void startGettingInfoForTabsUnderPage(SessionExecutionContext sessionExecutionContext,
                                                   String pageName,
                                                   boolean onlyForPreconfiguredParams,
                                                   AtomicInteger countOfUnprocessedPagesUnderSession,
                                                   AtomicInteger countOfUnprocessedSynchronousParametersUnderPage) {
         GetInfoForTabsUnderPageEvent getInfoForTabsUnderPageEvent = GetInfoForTabsUnderPageEvent.builder()
-                .sessionId(sessionId)
+                .sessionId(sessionExecutionContext.getSessionId())
                 .pageName(pageName)
                 .onlyForPreconfiguredParams(onlyForPreconfiguredParams)
                 .countOfUnprocessedPagesUnderSession(countOfUnprocessedPagesUnderSession)
                 .countOfUnprocessedSynchronousParametersUnderPage(countOfUnprocessedSynchronousParametersUnderPage)
+                .executionContext(sessionExecutionContext)
                 .build();
         super.getEventPublisher().publishEvent(getInfoForTabsUnderPageEvent);
     }
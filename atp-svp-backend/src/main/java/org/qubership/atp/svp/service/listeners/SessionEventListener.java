@@ -26,6 +26,7 @@ import org.qubership.atp.svp.model.events.GetInfoForSessionEvent;
 import org.qubership.atp.svp.model.events.GetInfoForSessionPagesEvent;
 import org.qubership.atp.svp.model.events.ValidateSessionEvent;
 import org.qubership.atp.svp.service.PotSessionService;
+import org.qubership.atp.svp.service.direct.SessionCompletionRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
@@ -41,11 +42,17 @@ public class SessionEventListener {
 
     private final ApplicationEventPublisher eventPublisher;
     private final PotSessionService potSessionService;
+    private final SessionCompletionRegistry sessionCompletionRegistry;
 
+    /**
+     * Constructor for SessionEventListener.
+     */
     @Autowired
-    public SessionEventListener(ApplicationEventPublisher eventPublisher, PotSessionService potSessionService) {
+    public SessionEventListener(ApplicationEventPublisher eventPublisher, PotSessionService potSessionService,
+                                SessionCompletionRegistry sessionCompletionRegistry) {
         this.eventPublisher = eventPublisher;
         this.potSessionService = potSessionService;
+        this.sessionCompletionRegistry = sessionCompletionRegistry;
     }
 
     /**
@@ -187,6 +194,7 @@ public class SessionEventListener {
         try {
             log.info("[Session - {}] Validation process for session started", sessionId);
             potSessionService.addValidationStatusForSession(potSession);
+            sessionCompletionRegistry.complete(sessionId);
             log.info("[Session - {}] Validation process for session was finished successfully", sessionId);
         } catch (ExecutionSessionNotFoundException sessionNotFoundEx) {
             log.error("Unexpected end of session: " + sessionId + "!", sessionNotFoundEx);
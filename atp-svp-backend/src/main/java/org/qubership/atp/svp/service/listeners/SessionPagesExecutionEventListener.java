@@ -30,6 +30,7 @@ import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
 import org.qubership.atp.svp.model.events.GetInfoForPageEvent;
 import org.qubership.atp.svp.model.events.GetInfoForSessionPagesEvent;
 import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 import org.qubership.atp.svp.service.AbstractMessagingService;
 import org.qubership.atp.svp.service.PotSessionService;
 import org.qubership.atp.svp.service.jpa.PageConfigurationServiceJpa;
@@ -123,7 +124,8 @@ public class SessionPagesExecutionEventListener extends AbstractMessagingService
                     sessionExecutionConfiguration.getIsPotGenerationMode());
 
             startGettingInfoForPagesByConfiguration(pageConfigurations, sessionId,
-                    sessionExecutionConfiguration.getOnlyForPreconfiguredParams());
+                    sessionExecutionConfiguration.getOnlyForPreconfiguredParams(),
+                    potSessionService.createExecutionContext(session));
 
             session.setSessionPagesLoadingAlreadyStarted(true);
             potSessionService.updateSession(session);
@@ -157,7 +159,8 @@ public class SessionPagesExecutionEventListener extends AbstractMessagingService
     }
 
     private void startGettingInfoForPagesByConfiguration(List<PageConfigurationEntity> pageConfigurations,
-                                                         UUID sessionId, boolean onlyForPreconfiguredParams) {
+                                                         UUID sessionId, boolean onlyForPreconfiguredParams,
+                                                         SessionExecutionContext executionContext) {
         AtomicInteger countOfUnprocessedPages = new AtomicInteger(pageConfigurations.size());
         int countParameters = 0;
         for (PageConfigurationEntity pageConfiguration : pageConfigurations) {
@@ -172,6 +175,7 @@ public class SessionPagesExecutionEventListener extends AbstractMessagingService
                     .pageConfiguration(pageConfiguration)
                     .onlyForPreconfiguredParams(onlyForPreconfiguredParams)
                     .countOfUnprocessedPagesUnderSession(countOfUnprocessedPages)
+                    .executionContext(executionContext)
                     .build();
             eventPublisher.publishEvent(getInfoForPageEvent);
         }
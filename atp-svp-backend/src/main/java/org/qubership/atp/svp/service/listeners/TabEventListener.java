@@ -33,9 +33,10 @@ import org.qubership.atp.svp.model.events.GetInfoForTabEvent;
 import org.qubership.atp.svp.model.events.ValidatePageEvent;
 import org.qubership.atp.svp.model.events.ValidateTabEvent;
 import org.qubership.atp.svp.model.pot.ExecutionVariable;
-import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 import org.qubership.atp.svp.model.pot.SutParameterExecutionContext;
 import org.qubership.atp.svp.service.PotSessionTabService;
+import org.qubership.atp.svp.service.direct.ParameterResultsWriter;
 import org.qubership.atp.svp.service.direct.PotSessionParameterServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -52,6 +53,7 @@ public class TabEventListener {
     private final ApplicationEventPublisher eventPublisher;
     private final PotSessionTabService potSessionTabService;
     private final PotSessionParameterServiceImpl potSessionParameterService;
+    private final ParameterResultsWriter parameterResultsWriter;
 
     /**
      * Constructor of TabEventListener.
@@ -59,10 +61,12 @@ public class TabEventListener {
     @Autowired
     public TabEventListener(ApplicationEventPublisher eventPublisher,
                             PotSessionTabService potSessionTabService,
-                            PotSessionParameterServiceImpl potSessionParameterService) {
+                            PotSessionParameterServiceImpl potSessionParameterService,
+                            ParameterResultsWriter parameterResultsWriter) {
         this.eventPublisher = eventPublisher;
         this.potSessionTabService = potSessionTabService;
         this.potSessionParameterService = potSessionParameterService;
+        this.parameterResultsWriter = parameterResultsWriter;
     }
 
     /**
@@ -79,7 +83,7 @@ public class TabEventListener {
     @Async("GettingInfoProcessExecutor")
     @EventListener(condition = "#getInfoForTabEvent.onlyForPreconfiguredParams == false")
     public void handleGetInfoForTabEvent(GetInfoForTabEvent getInfoForTabEvent) {
-        startGettingInfoForTab(getInfoForTabEvent.getSessionId(), getInfoForTabEvent.getTabId(),
+        startGettingInfoForTab(getInfoForTabEvent.getExecutionContext(), getInfoForTabEvent.getTabId(),
                 getInfoForTabEvent.getTabName(),
                 getInfoForTabEvent.getCountOfUnprocessedTabsUnderPage(),
                 getInfoForTabEvent.getCountOfUnprocessedPagesUnderSession());
@@ -98,21 +102,20 @@ public class TabEventListener {
      */
     @EventListener(condition = "#getInfoForTabEvent.onlyForPreconfiguredParams == true")
     public void handleGetInfoForTabEventSynchronously(GetInfoForTabEvent getInfoForTabEvent) {
-        startGettingInfoForTab(getInfoForTabEvent.getSessionId(), getInfoForTabEvent.getTabId(),
+        startGettingInfoForTab(getInfoForTabEvent.getExecutionContext(), getInfoForTabEvent.getTabId(),
                 getInfoForTabEvent.getTabName(),
                 getInfoForTabEvent.getCountOfUnprocessedTabsUnderPage(),
                 getInfoForTabEvent.getCountOfUnprocessedPagesUnderSession());
     }
 
-    private void startGettingInfoForTab(UUID sessionId, UUID tabId, String tabName,
+    private void startGettingInfoForTab(SessionExecutionContext executionContext, UUID tabId, String tabName,
                                         AtomicInteger countOfUnprocessedTabsUnderPage,
                                         AtomicInteger countOfUnprocessedPagesUnderSession) {
+        UUID sessionId = executionContext.getSessionId();
         try {
             log.info("[Session - {}] Started getting info for tab {}.", sessionId, tabName);
-            SessionExecutionConfiguration executionConfigurationForSession =
-                    potSessionTabService.getExecutionConfigurationForSession(sessionId);
             ConcurrentHashMap<String, ExecutionVariable> executionVariablesForSession =
-                    potSessionTabService.getExecutionVariablesForSession(sessionId);
+                    executionContext.getExecutionVariables();
             AtomicInteger zeroCount = new AtomicInteger();
             List<PotSessionParameterEntity> list = potSessionParameterService.getPotSessionParameters(tabId, false);
             AtomicInteger parametersCount = new AtomicInteger(list.size());
@@ -120,7 +123,7 @@ public class TabEventListener {
                 SutParameterExecutionContext parameterExecutionContext = SutParameterExecutionContext.builder()
                         .sessionId(sessionId)
                         .parameterStarted(OffsetDateTime.now())
-                        .sessionConfiguration(executionConfigurationForSession)
+                        .sessionConfiguration(executionContext.getExecutionConfiguration())
                         .executionVariables(executionVariablesForSession)
                         .parameter(parameter)
                         .isDeferredSearchResult(parameter.hasDeferredResults())
@@ -128,6 +131,7 @@ public class TabEventListener {
                         .countOfUnprocessedTabsUnderPage(countOfUnprocessedTabsUnderPage)
                         .countOfUnprocessedPagesUnderSession(countOfUnprocessedPagesUnderSession)
                         .countOfUnprocessedSynchronousParametersUnderPage(zeroCount)
+                        .sessionExecutionContext(executionContext)
                         .build();
                 GetInfoForParameterEvent getInfoForParameterEvent = GetInfoForParameterEvent.builder()
                         .parameterExecutionContext(parameterExecutionContext)
@@ -183,6 +187,7 @@ public class TabEventListener {
             + "&& #validateTabEvent.onlyForPreconfiguredParams == true")
     public void handleValidateTabEventSynchronously(ValidateTabEvent validateTabEvent) {
         UUID tabId = validateTabEvent.getTabId();
+        parameterResultsWriter.flushTab(tabId);
         PotSessionTabEntity potSessionTabEntity = potSessionTabService.getTabById(tabId);
         validateTab(validateTabEvent.getSessionId(),
                 validateTabEvent.getPageName(),
@@ -199,6 +204,8 @@ public class TabEventListener {
         String pageName = validateTabEvent.getPageName();
         String tabName = validateTabEvent.getTabName();
         synchronized (validateTabEvent.getCountOfUnprocessedParameters()) {
+            // Results of the tab parameters are written (and sent) before the tab status
+            parameterResultsWriter.flushTab(tabId);
             PotSessionTabEntity potSessionTabEntity = potSessionTabService.getTabById(tabId);
             if (!potSessionTabEntity.isAlreadyValidated()) {
                 validateTab(sessionId, pageName, tabName, potSessionTabEntity,
@@ -32,6 +32,7 @@ import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
 import org.qubership.atp.svp.model.events.GetInfoForTabEvent;
 import org.qubership.atp.svp.model.events.GetInfoForTabsUnderPageEvent;
 import org.qubership.atp.svp.model.events.ValidatePageEvent;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
 import org.qubership.atp.svp.service.PotSessionPageService;
 import org.qubership.atp.svp.service.direct.PotSessionTabServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -106,7 +107,7 @@ public class TabsExecutionEventListener {
         pageAsOptional.ifPresent(page -> {
                     synchronized (getInfoForTabsEvent.getCountOfUnprocessedSynchronousParametersUnderPage()) {
                         if (!page.isTabsLoadingAlreadyStarted()) {
-                            startGettingInfoForTabsUnderPage(sessionId, page,
+                            startGettingInfoForTabsUnderPage(getInfoForTabsEvent.getExecutionContext(), page,
                                     getInfoForTabsEvent.getOnlyForPreconfiguredParams(),
                                     getInfoForTabsEvent.getCountOfUnprocessedPagesUnderSession());
                         }
@@ -124,10 +125,11 @@ public class TabsExecutionEventListener {
         }
     }
 
-    private void startGettingInfoForTabsUnderPage(UUID sessionId,
+    private void startGettingInfoForTabsUnderPage(SessionExecutionContext executionContext,
                                                   PotSessionPageEntity page,
                                                   boolean onlyForPreconfiguredParams,
                                                   AtomicInteger countOfUnprocessedPagesUnderSession) {
+        UUID sessionId = executionContext.getSessionId();
         try {
             log.info("[Session - {}] Start getting Tabs under page: {}", sessionId, page.getName());
             List<PotSessionTabEntity> tabs = page.getPotSessionTabs();
@@ -145,7 +147,7 @@ public class TabsExecutionEventListener {
                         zeroCounter, countOfUnprocessedPagesUnderSession);
             } else {
                 AtomicInteger countOfUnprocessedTabs = new AtomicInteger(tabsWithAsynchronousLoading.size());
-                tabsWithAsynchronousLoading.forEach(tab -> startGettingInfoForTab(sessionId, tab,
+                tabsWithAsynchronousLoading.forEach(tab -> startGettingInfoForTab(executionContext, tab,
                         onlyForPreconfiguredParams, countOfUnprocessedTabs,
                         countOfUnprocessedPagesUnderSession));
                 page.setTabsLoadingAlreadyStarted(true);
@@ -176,18 +178,19 @@ public class TabsExecutionEventListener {
         eventPublisher.publishEvent(validatePageEvent);
     }
 
-    private void startGettingInfoForTab(UUID sessionId,
+    private void startGettingInfoForTab(SessionExecutionContext executionContext,
                                         PotSessionTabEntity tab,
                                         boolean onlyForPreconfiguredParams,
                                         AtomicInteger countOfUnprocessedTabs,
                                         AtomicInteger countOfUnprocessedPagesUnderSession) {
         GetInfoForTabEvent getInfoForTabEvent = GetInfoForTabEvent.builder()
-                .sessionId(sessionId)
+                .sessionId(executionContext.getSessionId())
                 .tabId(tab.getId())
                 .tabName(tab.getName())
                 .onlyForPreconfiguredParams(onlyForPreconfiguredParams)
                 .countOfUnprocessedTabsUnderPage(countOfUnprocessedTabs)
                 .countOfUnprocessedPagesUnderSession(countOfUnprocessedPagesUnderSession)
+                .executionContext(executionContext)
                 .build();
         eventPublisher.publishEvent(getInfoForTabEvent);
     }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.core.executor;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.svp.core.enums.EngineType;
+
+public class EngineTypeConcurrencyLimiterTest {
+
+    @Test(timeout = 10_000)
+    public void tryAcquire_engineTypeLimitIsReached_permitIsNotAcquiredUntilRelease() throws InterruptedException {
+        EngineTypeConcurrencyLimiter limiter = new EngineTypeConcurrencyLimiter(2);
+
+        Assert.assertTrue(limiter.tryAcquire(EngineType.SQL, 0));
+        Assert.assertTrue(limiter.tryAcquire(EngineType.SQL, 0));
+        Assert.assertFalse(limiter.tryAcquire(EngineType.SQL, 50));
+        limiter.release(EngineType.SQL);
+        Assert.assertTrue(limiter.tryAcquire(EngineType.SQL, 0));
+    }
+
+    @Test(timeout = 10_000)
+    public void tryAcquire_engineTypeLimitIsReached_otherEngineTypesAreNotLimited() throws InterruptedException {
+        EngineTypeConcurrencyLimiter limiter = new EngineTypeConcurrencyLimiter(1);
+
+        Assert.assertTrue(limiter.tryAcquire(EngineType.SQL, 0));
+        Assert.assertTrue(limiter.tryAcquire(EngineType.CASSANDRA, 0));
+        Assert.assertTrue(limiter.tryAcquire(null, 0));
+        Assert.assertTrue(limiter.tryAcquire(null, 0));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.core.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.svp.mdc.MdcField;
+import org.slf4j.MDC;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SessionFairTaskExecutorTest {
+
+    private static final long SOURCE_DELAY_MS = 10;
+    private static final int POOL_SIZE = 8;
+    private static final int SESSION_LIMIT = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, AtomicInteger> runningBySession = new ConcurrentHashMap<>();
+    private final AtomicInteger maxRunningOfSession = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger tasksOfWrongSession = new AtomicInteger();
+    private SessionFairTaskExecutor executor;
+
+    @After
+    public void shutdown() {
+        MDC.clear();
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void execute_fiftyConcurrentSessions_smallSessionsAreNotDelayedByLargeSession() throws Exception {
+        executor = new SessionFairTaskExecutor("test", POOL_SIZE, POOL_SIZE, 100_000, SESSION_LIMIT,
+                meterRegistry);
+        String largeSession = UUID.randomUUID().toString();
+        int largeSessionTasks = 1000;
+        CountDownLatch largeSessionDone = new CountDownLatch(largeSessionTasks);
+        AtomicLong largeSessionFinishedNanos = new AtomicLong();
+        MDC.put(MdcField.SESSION_ID.toString(), largeSession);
+        for (int i = 0; i < largeSessionTasks; i++) {
+            executor.execute(() -> {
+                loadSource(largeSession);
+                largeSessionDone.countDown();
+                if (largeSessionDone.getCount() == 0) {
+                    largeSessionFinishedNanos.set(System.nanoTime());
+                }
+            });
+        }
+
+        // Each small session starts one tab which starts its parameters from the executor thread
+        int smallSessions = 49;
+        int parametersPerSession = 5;
+        CountDownLatch smallSessionsDone = new CountDownLatch(smallSessions * parametersPerSession);
+        for (int i = 0; i < smallSessions; i++) {
+            String session = UUID.randomUUID().toString();
+            MDC.put(MdcField.SESSION_ID.toString(), session);
+            executor.execute(() -> {
+                for (int j = 0; j < parametersPerSession; j++) {
+                    executor.execute(() -> {
+                        loadSource(session);
+                        smallSessionsDone.countDown();
+                    });
+                }
+            });
+        }
+        MDC.remove(MdcField.SESSION_ID.toString());
+
+        Assert.assertTrue(smallSessionsDone.await(20, TimeUnit.SECONDS));
+        long smallSessionsFinishedNanos = System.nanoTime();
+        Assert.assertTrue(largeSessionDone.await(20, TimeUnit.SECONDS));
+
+        Assert.assertTrue("Small sessions waited for the large session",
+                smallSessionsFinishedNanos < largeSessionFinishedNanos.get());
+        Assert.assertEquals(0, tasksOfWrongSession.get());
+        Assert.assertTrue(maxRunningOfSession.get() <= SESSION_LIMIT);
+        Assert.assertTrue(maxRunning.get() <= POOL_SIZE);
+        Assert.assertEquals(0, executor.getRejectedTasks());
+        long executedTasks = largeSessionTasks + smallSessions * (parametersPerSession + 1);
+        Assert.assertEquals(executedTasks, meterRegistry.get("atp.svp.executor.task.execution")
+                .tag("name", "test").timer().count());
+        Assert.assertEquals(executedTasks, meterRegistry.get("atp.svp.executor.task.wait")
+                .tag("name", "test").timer().count());
+    }
+
+    @Test(timeout = 10_000)
+    public void execute_queueIsFull_taskIsRunInCallerThreadAndCountedAsRejected() throws Exception {
+        executor = new SessionFairTaskExecutor("test", 1, 1, 1, SESSION_LIMIT, meterRegistry);
+        CountDownLatch taskStarted = new CountDownLatch(1);
+        CountDownLatch releaseTask = new CountDownLatch(1);
+        executor.execute(() -> {
+            taskStarted.countDown();
+            awaitQuietly(releaseTask);
+        });
+        Assert.assertTrue(taskStarted.await(5, TimeUnit.SECONDS));
+        Future<?> queuedTask = executor.submit(() -> { });
+        List<Thread> threadsOfRejectedTask = new ArrayList<>();
+
+        executor.execute(() -> threadsOfRejectedTask.add(Thread.currentThread()));
+
+        Assert.assertEquals(Thread.currentThread(), threadsOfRejectedTask.get(0));
+        Assert.assertEquals(1, meterRegistry.get("atp.svp.executor.rejected.tasks")
+                .tag("name", "test").functionCounter().count(), 0);
+        Assert.assertEquals(1, meterRegistry.get("atp.svp.executor.queued.tasks")
+                .tag("name", "test").gauge().value(), 0);
+        Assert.assertEquals(1, meterRegistry.get("atp.svp.executor.active.tasks")
+                .tag("name", "test").gauge().value(), 0);
+        releaseTask.countDown();
+        queuedTask.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test(timeout = 10_000)
+    public void execute_zeroQueueCapacityAndAllThreadsAreBusy_taskIsRunInCallerThread() throws Exception {
+        executor = new SessionFairTaskExecutor("test", 2, 2, 0, SESSION_LIMIT, meterRegistry);
+        CountDownLatch tasksStarted = new CountDownLatch(2);
+        CountDownLatch releaseTasks = new CountDownLatch(1);
+        List<Future<?>> runningTasks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            runningTasks.add(executor.submit(() -> {
+                tasksStarted.countDown();
+                awaitQuietly(releaseTasks);
+            }));
+        }
+        Assert.assertTrue(tasksStarted.await(5, TimeUnit.SECONDS));
+        List<Thread> threadsOfRejectedTask = new ArrayList<>();
+
+        executor.execute(() -> threadsOfRejectedTask.add(Thread.currentThread()));
+
+        Assert.assertEquals(Thread.currentThread(), threadsOfRejectedTask.get(0));
+        Assert.assertEquals(1, executor.getRejectedTasks());
+        releaseTasks.countDown();
+        for (Future<?> runningTask : runningTasks) {
+            runningTask.get(5, TimeUnit.SECONDS);
+        }
+        while (executor.getActiveTasks() > 0) {
+            Thread.sleep(10);
+        }
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(1, executor.getRejectedTasks());
+    }
+
+    @Test(timeout = 10_000)
+    public void execute_sessionLimitIsReached_tasksOfOtherSessionAreExecuted() throws Exception {
+        executor = new SessionFairTaskExecutor("test", 2, 2, 100, 1, null);
+        CountDownLatch releaseTask = new CountDownLatch(1);
+        MDC.put(MdcField.SESSION_ID.toString(), "busy");
+        executor.execute(() -> awaitQuietly(releaseTask));
+        Future<?> secondTaskOfBusySession = executor.submit(() -> { });
+        MDC.put(MdcField.SESSION_ID.toString(), "other");
+
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+
+        Assert.assertFalse(secondTaskOfBusySession.isDone());
+        releaseTask.countDown();
+        secondTaskOfBusySession.get(5, TimeUnit.SECONDS);
+    }
+
+    private void loadSource(String session) {
+        if (!session.equals(SessionFairTaskExecutor.currentSessionKey())) {
+            tasksOfWrongSession.incrementAndGet();
+        }
+        AtomicInteger runningOfSession = runningBySession.computeIfAbsent(session, key -> new AtomicInteger());
+        maxRunningOfSession.accumulateAndGet(runningOfSession.incrementAndGet(), Math::max);
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(SOURCE_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+            runningOfSession.decrementAndGet();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.qubership.atp.svp.model.api.kafka.EventType;
 import org.qubership.atp.svp.model.api.kafka.ProjectEvent;
 import org.qubership.atp.svp.model.db.ProjectConfigsEntity;
 import org.qubership.atp.svp.repo.impl.AuthTokenProvider;
+import org.qubership.atp.svp.repo.impl.EnvironmentRepository;
 import org.qubership.atp.svp.repo.impl.FilePageConfigurationRepository;
 import org.qubership.atp.svp.repo.impl.GitPageConfigurationRepository;
 import org.qubership.atp.svp.service.direct.IntegrationServiceImpl;
@@ -76,6 +77,8 @@ public class ProjectEventKafkaListenerUnitTest extends TestWithTestData {
     FilePageConfigurationRepository filePageConfigurationRepository;
     @MockBean
     GitPageConfigurationRepository gitPageConfigurationRepository;
+    @MockBean
+    EnvironmentRepository environmentRepository;
 
     @Test
     public void listen_projectEventCreateType_successAddedProject() throws JsonProcessingException {
@@ -118,5 +121,6 @@ public class ProjectEventKafkaListenerUnitTest extends TestWithTestData {
         projectEventKafkaListener.listen(projectEvent);
 
         Mockito.verify(projectService, Mockito.times(1)).deleteProjectConfigEntity(any());
+        Mockito.verify(environmentRepository, Mockito.times(1)).evictProject(projectEvent.getProjectId());
     }
 }
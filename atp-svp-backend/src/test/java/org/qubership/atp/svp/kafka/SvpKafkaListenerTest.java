@@ -25,8 +25,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.powermock.modules.junit4.PowerMockRunnerDelegate;
@@ -46,6 +49,7 @@ import org.qubership.atp.svp.repo.jpa.SessionRepository;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionParameterRepository;
 import org.qubership.atp.svp.service.direct.EurekaDiscoveryServiceImpl;
 import org.qubership.atp.svp.service.direct.KafkaMessagingService;
+import org.qubership.atp.svp.service.direct.SessionCompletionRegistry;
 import org.qubership.atp.svp.service.direct.SessionServiceImpl;
 import org.qubership.atp.svp.service.direct.WebSocketMessagingService;
 import org.qubership.atp.svp.tests.TestWithTestData;
@@ -62,6 +66,8 @@ public class SvpKafkaListenerTest extends TestWithTestData {
     SvpKafkaListener svpKafkaListener;
     @SpyBean
     SessionServiceImpl sessionServiceImpl;
+    @SpyBean
+    SessionCompletionRegistry sessionCompletionRegistry;
     @MockBean
     PotSessionParameterRepository repository;
     @SpyBean
@@ -82,7 +88,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
     public void listen_SvpKafkaMessageParameterType_SendToWebSocket() throws IOException {
         UUID sessionId = UUID.randomUUID();
         String testPodName = "testName";
-        when(sessionRepository.containsSession(any(), anyString())).thenReturn(true);
+        sessionServiceImpl.addNewSession(sessionId);
         when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn(testPodName);
 
         String file = loadFileToString("src/test/resources/test_data/webSocket/PotSessionParameter.json");
@@ -91,7 +97,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
                 null, parameter.getParameterId().toString(), 0, null);
         when(repository.findByParameterId(UUID.fromString(kafkaMessage.getParameterId()))).thenReturn(parameter);
 
-        svpKafkaListener.listen(sessionId, kafkaMessage);
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
 
         verify(webSocketMessagingService, times(1)).sendSutParameterResult(sessionId, parameter);
     }
@@ -100,7 +106,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
     public void listen_SvpKafkaMessageTabType_SendToWebSocket() {
         UUID sessionId = UUID.randomUUID();
         String testPodName = "testName";
-        when(sessionRepository.containsSession(any(), anyString())).thenReturn(true);
+        sessionServiceImpl.addNewSession(sessionId);
         when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn(testPodName);
 
         String pageName = "testPage";
@@ -109,7 +115,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
         SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.TAB, pageName,
                 tabName, null, 0, tabStatus);
 
-        svpKafkaListener.listen(sessionId, kafkaMessage);
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
 
         verify(webSocketMessagingService, times(1)).sendValidationStatusForTab(sessionId, pageName, tabName, tabStatus);
     }
@@ -118,7 +124,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
     public void listen_SvpKafkaMessagePageType_SendToWebSocket() {
         UUID sessionId = UUID.randomUUID();
         String testPodName = "testName";
-        when(sessionRepository.containsSession(any(), anyString())).thenReturn(true);
+        sessionServiceImpl.addNewSession(sessionId);
         when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn(testPodName);
 
         String pageName = "testPage";
@@ -126,7 +132,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
         SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.PAGE, pageName,
                 null, null, 0, status);
 
-        svpKafkaListener.listen(sessionId, kafkaMessage);
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
 
         verify(webSocketMessagingService, times(1)).sendValidationStatusForPage(sessionId, pageName, status);
     }
@@ -135,30 +141,43 @@ public class SvpKafkaListenerTest extends TestWithTestData {
     public void listen_SvpKafkaMessageSessionType_SendToWebSocket() {
         UUID sessionId = UUID.randomUUID();
         String testPodName = "testName";
-        when(sessionRepository.containsSession(any(), anyString())).thenReturn(true);
+        sessionServiceImpl.addNewSession(sessionId);
         when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn(testPodName);
 
         ValidationStatus status = ValidationStatus.PASSED;
         SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.SESSION, null,
                 null, null, 0, status);
 
-        svpKafkaListener.listen(sessionId, kafkaMessage);
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
 
         verify(webSocketMessagingService, times(1)).sendValidationStatusForSession(sessionId, status);
     }
 
+    @Test
+    public void listen_SvpKafkaMessageSessionTypeForNotOwnedSession_CompletesAwaitedSession() {
+        UUID sessionId = UUID.randomUUID();
+        CompletableFuture<Void> completion = sessionCompletionRegistry.register(sessionId);
+        SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.SESSION, null,
+                null, null, 0, ValidationStatus.PASSED);
+
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
+
+        Assert.assertTrue(completion.isDone());
+        verify(webSocketMessagingService, never()).sendValidationStatusForSession(any(), any());
+    }
+
     @Test
     public void listen_SvpKafkaMessageCountType_SendToWebSocket() {
         UUID sessionId = UUID.randomUUID();//
         String testPodName = "testName";
-        when(sessionRepository.containsSession(any(), anyString())).thenReturn(true);
+        sessionServiceImpl.addNewSession(sessionId);
         when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn(testPodName);
 
         int countParameters = 1;
         SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.COUNT_PARAMETER, null,
                 null, null, countParameters, null);
 
-        svpKafkaListener.listen(sessionId, kafkaMessage);
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
 
         verify(webSocketMessagingService, times(1)).sendCountDownloadingParameters(sessionId, countParameters);
     }
@@ -169,7 +188,7 @@ public class SvpKafkaListenerTest extends TestWithTestData {
         SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.SESSION, null,
                 null, null, 0, null);
 
-        svpKafkaListener.listen(sessionId, kafkaMessage);
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
 
         verify(webSocketMessagingService, never()).sendSutParameterResult(any(), any());
         verify(webSocketMessagingService, never()).sendValidationStatusForTab(any(), anyString(), anyString(), any());
@@ -178,4 +197,28 @@ public class SvpKafkaListenerTest extends TestWithTestData {
         verify(webSocketMessagingService, never()).sendCountDownloadingParameters(any(), anyInt());
         verify(webSocketMessagingService, never()).sendSessionExpiredMessage(any());
     }
+
+    @Test
+    public void listen_messageAddressedToPodWithoutSession_evictsSessionPodAndBroadcastsMessage() {
+        UUID sessionId = UUID.randomUUID();
+        SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.TAB, "testPage",
+                "testTab", null, 0, ValidationStatus.NONE);
+
+        svpKafkaListener.listen(sessionId, kafkaMessage, "testName".getBytes(StandardCharsets.UTF_8));
+
+        verify(sessionServiceImpl, times(1)).evictSessionPod(sessionId);
+        verify(kafkaSendlerService, times(1)).broadcastMessage(sessionId, kafkaMessage);
+        verify(webSocketMessagingService, never()).sendValidationStatusForTab(any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void listen_messageForAllPodsWithoutSession_messageIsNotBroadcastAgain() {
+        UUID sessionId = UUID.randomUUID();
+        SvpKafkaMessage kafkaMessage = new SvpKafkaMessage(ResultType.TAB, "testPage",
+                "testTab", null, 0, ValidationStatus.NONE);
+
+        svpKafkaListener.listen(sessionId, kafkaMessage, null);
+
+        verify(kafkaSendlerService, never()).broadcastMessage(any(), any());
+    }
 }
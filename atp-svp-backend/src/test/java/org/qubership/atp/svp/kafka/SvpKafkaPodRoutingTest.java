@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.serialization.UUIDDeserializer;
+import org.apache.kafka.common.serialization.UUIDSerializer;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import org.qubership.atp.svp.core.enums.ResultType;
+import org.qubership.atp.svp.core.enums.ValidationStatus;
+import org.qubership.atp.svp.model.kafka.SvpKafkaMessage;
+
+public class SvpKafkaPodRoutingTest {
+
+    private static final String TOPIC = "svp_pod_routing_test";
+    private static final List<String> PODS = new ArrayList<>();
+    private static final int PARAMETERS_PER_SESSION = 10;
+
+    static {
+        PODS.add("pod-1:atp-svp:8080");
+        PODS.add("pod-2:atp-svp:8080");
+        PODS.add("pod-3:atp-svp:8080");
+    }
+
+    @ClassRule
+    public static KafkaContainer kafka =
+            new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:5.4.3"));
+
+    @Test
+    public void sendMessage_sessionsOfThreePods_eachPodDeserializesOnlyItsMessagesAndSessionCompletions() {
+        Map<UUID, String> sessionPods = new HashMap<>();
+        PODS.forEach(pod -> sessionPods.put(UUID.randomUUID(), pod));
+        KafkaTemplate<UUID, String> kafkaTemplate = createKafkaTemplate();
+        KafkaSendlerService sendlerService = new KafkaSendlerService(TOPIC, kafkaTemplate,
+                sessionId -> Optional.ofNullable(sessionPods.get(sessionId)));
+
+        sessionPods.keySet().forEach(sessionId -> {
+            for (int i = 0; i < PARAMETERS_PER_SESSION; i++) {
+                sendlerService.sendMessage(sessionId, new SvpKafkaMessage(ResultType.PARAMETER, null, null,
+                        UUID.randomUUID().toString(), 0, null));
+            }
+            sendlerService.sendMessage(sessionId, new SvpKafkaMessage(ResultType.SESSION, null, null,
+                    null, 0, ValidationStatus.PASSED));
+        });
+        kafkaTemplate.flush();
+
+        int sentMessages = PODS.size() * (PARAMETERS_PER_SESSION + 1);
+        for (String pod : PODS) {
+            List<SvpKafkaMessage> deserialized = consumeAsPod(pod, sentMessages);
+            long parameters = deserialized.stream().filter(msg -> msg.getType() == ResultType.PARAMETER).count();
+            long sessions = deserialized.stream().filter(msg -> msg.getType() == ResultType.SESSION).count();
+            Assert.assertEquals(PARAMETERS_PER_SESSION, parameters);
+            Assert.assertEquals(PODS.size(), sessions);
+        }
+    }
+
+    private KafkaTemplate<UUID, String> createKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, UUIDSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps));
+    }
+
+    /**
+     * Reads all sent messages as the pod and returns deserialized ones (addressed to the pod or to all pods).
+     */
+    private List<SvpKafkaMessage> consumeAsPod(String pod, int sentMessages) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, pod);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        JsonDeserializer<SvpKafkaMessage> jsonDeserializer = new JsonDeserializer<>(SvpKafkaMessage.class);
+        jsonDeserializer.addTrustedPackages("*");
+        List<SvpKafkaMessage> deserialized = new ArrayList<>();
+        int received = 0;
+        try (KafkaConsumer<UUID, SvpKafkaMessage> consumer = new KafkaConsumer<>(configProps,
+                new UUIDDeserializer(), new PodAddressedDeserializer<>(jsonDeserializer, pod))) {
+            consumer.subscribe(Collections.singletonList(TOPIC));
+            long deadline = System.currentTimeMillis() + 30000;
+            while (received < sentMessages && System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<UUID, SvpKafkaMessage> record : consumer.poll(Duration.ofMillis(500))) {
+                    received++;
+                    if (record.value() != null) {
+                        deserialized.add(record.value());
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(sentMessages, received);
+        return deserialized;
+    }
+}
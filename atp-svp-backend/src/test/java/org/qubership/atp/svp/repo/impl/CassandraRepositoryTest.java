@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.qubership.atp.svp.model.environments.Connection;
+import org.qubership.atp.svp.model.environments.DBServer;
+import org.qubership.atp.svp.model.environments.Server;
+import org.qubership.atp.svp.repo.impl.pool.CassandraSessionPool;
+import org.qubership.atp.svp.repo.impl.pool.CassandraSessionPool.CassandraSessionLease;
+import org.qubership.atp.svp.utils.CryptoUtilsTest;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+public class CassandraRepositoryTest extends CryptoUtilsTest {
+
+    private Session session;
+    private CassandraSessionLease lease;
+    private CassandraRepository repository;
+    private DBServer server;
+
+    @Before
+    public void init() throws Exception {
+        session = mock(Session.class);
+        lease = mock(CassandraSessionLease.class);
+        when(lease.getSession()).thenReturn(session);
+        CassandraSessionPool sessionPool = mock(CassandraSessionPool.class);
+        when(sessionPool.acquire(any())).thenReturn(lease);
+        Row row = mock(Row.class);
+        when(row.getString(0)).thenReturn("value");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.one()).thenReturn(row);
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        when(future.get(anyLong(), any())).thenReturn(resultSet);
+        when(session.executeAsync(any(Statement.class))).thenReturn(future);
+        repository = new CassandraRepository(sessionPool);
+        Connection connection = new Connection();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("db_host", "localhost");
+        parameters.put("db_port", "9042");
+        parameters.put("db_name", "keyspace");
+        parameters.put("db_login", "login");
+        parameters.put("db_password", "password");
+        connection.setParameters(parameters);
+        server = new DBServer(new Server(connection, "cassandra"));
+    }
+
+    @Test
+    public void executeQueryAndGetFirstValue_queryWithSubstitutedValues_executedAsSimpleStatement() throws Exception {
+        String value = repository.executeQueryAndGetFirstValue(server,
+                "select name from customers where id = 'a?b:c'");
+
+        Assert.assertEquals("value", value);
+        ArgumentCaptor<Statement> statement = ArgumentCaptor.forClass(Statement.class);
+        verify(session).executeAsync(statement.capture());
+        Assert.assertTrue(statement.getValue() instanceof SimpleStatement);
+    }
+}
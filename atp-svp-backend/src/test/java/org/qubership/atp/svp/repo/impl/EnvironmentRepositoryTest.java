@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.svp.model.environments.Environment;
+import org.qubership.atp.svp.model.environments.LazyEnvironment;
+import org.qubership.atp.svp.model.environments.System;
+import org.qubership.atp.svp.repo.feign.EnvironmentFeignClient;
+import org.qubership.atp.svp.repo.feign.EnvironmentsProjectFeignClient;
+import org.qubership.atp.svp.utils.DtoConvertService;
+import org.springframework.http.ResponseEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EnvironmentRepositoryTest {
+
+    private static final UUID PROJECT_ID = UUID.fromString("86ad1b70-79e0-4eca-93d2-cec7d8225f19");
+    private static final UUID ENVIRONMENT_ID = UUID.fromString("0f1b4a1e-7a8c-4d5e-9f60-1a2b3c4d5e6f");
+
+    private EnvironmentFeignClient environmentFeignClient;
+    private EnvironmentsProjectFeignClient environmentsProjectFeignClient;
+    private DtoConvertService dtoConvertService;
+    private SimpleMeterRegistry meterRegistry;
+    private EnvironmentRepository repository;
+
+    @Before
+    public void setUp() {
+        environmentFeignClient = mock(EnvironmentFeignClient.class);
+        environmentsProjectFeignClient = mock(EnvironmentsProjectFeignClient.class);
+        dtoConvertService = mock(DtoConvertService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        Environment environment = new Environment();
+        environment.setId(ENVIRONMENT_ID);
+        environment.setProjectId(PROJECT_ID);
+        when(environmentFeignClient.getEnvironment(any(), anyBoolean())).thenReturn(ResponseEntity.ok(null));
+        when(environmentFeignClient.getSystemV2(any(), anyString(), anyBoolean()))
+                .thenReturn(ResponseEntity.ok(Collections.emptyList()));
+        when(environmentsProjectFeignClient.getEnvironmentsShort(any()))
+                .thenReturn(ResponseEntity.ok(Collections.emptyList()));
+        when(dtoConvertService.convert(any(), eq(Environment.class))).thenReturn(environment);
+        when(dtoConvertService.convertList(any(), eq(System.class))).thenReturn(Collections.emptyList());
+        repository = createRepository(60);
+    }
+
+    @After
+    public void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    public void getEnvironmentById_requestedManyTimes_environmentRequestedFromEnvironmentsOnce() {
+        for (int i = 0; i < 10; i++) {
+            Environment environment = repository.getEnvironmentById(ENVIRONMENT_ID);
+            Assert.assertEquals(PROJECT_ID, environment.getProjectId());
+        }
+
+        verify(environmentFeignClient, times(1)).getEnvironment(ENVIRONMENT_ID, true);
+        Assert.assertEquals(9, getCount("atp.svp.environments.environments", "hit"), 0);
+        Assert.assertEquals(1, getCount("atp.svp.environments.environments", "miss"), 0);
+    }
+
+    @Test
+    public void getSystemsByEnvironmentId_requestedManyTimes_systemsRequestedFromEnvironmentsOnce() {
+        for (int i = 0; i < 10; i++) {
+            List<System> systems = repository.getSystemsByEnvironmentId(ENVIRONMENT_ID);
+            Assert.assertTrue(systems.isEmpty());
+        }
+
+        verify(environmentFeignClient, times(1)).getSystemV2(ENVIRONMENT_ID, "Business Solution", true);
+    }
+
+    @Test
+    public void evictProject_environmentOfProjectCached_environmentRequestedAgain() {
+        repository.getEnvironmentById(ENVIRONMENT_ID);
+        repository.getSystemsByEnvironmentId(ENVIRONMENT_ID);
+
+        repository.evictProject(PROJECT_ID);
+        repository.getEnvironmentById(ENVIRONMENT_ID);
+        repository.getSystemsByEnvironmentId(ENVIRONMENT_ID);
+
+        verify(environmentFeignClient, times(2)).getEnvironment(ENVIRONMENT_ID, true);
+        verify(environmentFeignClient, times(2)).getSystemV2(ENVIRONMENT_ID, "Business Solution", true);
+    }
+
+    @Test
+    public void evictProject_environmentOfAnotherProjectCached_environmentIsNotRequestedAgain() {
+        repository.getEnvironmentById(ENVIRONMENT_ID);
+
+        repository.evictProject(UUID.randomUUID());
+        repository.getEnvironmentById(ENVIRONMENT_ID);
+
+        verify(environmentFeignClient, times(1)).getEnvironment(ENVIRONMENT_ID, true);
+    }
+
+    @Test
+    public void evictProject_systemsOfProjectEnvironmentAndOfAnotherProjectCached_onlyProjectSystemsEvicted() {
+        UUID anotherEnvironmentId = UUID.randomUUID();
+        when(dtoConvertService.convertList(any(), eq(LazyEnvironment.class))).thenReturn(Collections.singletonList(
+                LazyEnvironment.builder().id(ENVIRONMENT_ID.toString()).projectId(PROJECT_ID.toString()).build()));
+        repository.getSystemsByEnvironmentId(ENVIRONMENT_ID);
+        repository.getSystemsByEnvironmentId(anotherEnvironmentId);
+
+        repository.evictProject(PROJECT_ID);
+        repository.getSystemsByEnvironmentId(ENVIRONMENT_ID);
+        repository.getSystemsByEnvironmentId(anotherEnvironmentId);
+
+        verify(environmentFeignClient, times(2)).getSystemV2(ENVIRONMENT_ID, "Business Solution", true);
+        verify(environmentFeignClient, times(1)).getSystemV2(anotherEnvironmentId, "Business Solution", true);
+    }
+
+    @Test
+    public void getEnvironmentById_refreshPeriodPassed_cachedEnvironmentReturnedAndReloadedInBackground()
+            throws InterruptedException {
+        repository.shutdown();
+        repository = createRepository(1);
+        Environment cachedEnvironment = repository.getEnvironmentById(ENVIRONMENT_ID);
+
+        Thread.sleep(1100);
+
+        Assert.assertSame(cachedEnvironment, repository.getEnvironmentById(ENVIRONMENT_ID));
+        verify(environmentFeignClient, timeout(5000).times(2)).getEnvironment(ENVIRONMENT_ID, true);
+    }
+
+    @Test
+    public void getEnvironmentById_environmentsFailed_originalExceptionThrownAndNotCached() {
+        IllegalStateException expectedException = new IllegalStateException("atp-environments is not available");
+        when(environmentFeignClient.getEnvironment(any(), anyBoolean())).thenThrow(expectedException);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                repository.getEnvironmentById(ENVIRONMENT_ID);
+                Assert.fail("Exception is expected");
+            } catch (IllegalStateException e) {
+                Assert.assertSame(expectedException, e);
+            }
+        }
+        verify(environmentFeignClient, times(2)).getEnvironment(ENVIRONMENT_ID, true);
+    }
+
+    private EnvironmentRepository createRepository(long refreshSec) {
+        return new EnvironmentRepository(dtoConvertService, environmentFeignClient,
+                environmentsProjectFeignClient, 100, refreshSec, 600, meterRegistry);
+    }
+
+    private double getCount(String cacheName, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", result)
+                .functionCounter().count();
+    }
+}
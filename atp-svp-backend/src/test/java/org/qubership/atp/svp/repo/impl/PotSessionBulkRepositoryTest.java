@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import org.qubership.atp.svp.core.enums.ValidationStatus;
+
+public class PotSessionBulkRepositoryTest {
+
+    private static final int SESSIONS = 100;
+    private static final int PARAMETERS_PER_SESSION = 5000;
+    private static final String PASSWORD = "svp";
+
+    @ClassRule
+    public static GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:13"))
+            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private JdbcTemplate jdbcTemplate;
+    private PotSessionBulkRepository repository;
+
+    @Before
+    public void init() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:postgresql://" + postgres.getHost()
+                + ":" + postgres.getMappedPort(5432) + "/postgres", "postgres", PASSWORD);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS pot_session_parameter, pot_session_tab, pot_session_page, "
+                + "pot_sessions");
+        jdbcTemplate.execute("CREATE TABLE pot_sessions (session_id uuid PRIMARY KEY, started timestamp)");
+        jdbcTemplate.execute("CREATE TABLE pot_session_page (id uuid PRIMARY KEY, name varchar, "
+                + "validation_status integer, pot_session_id uuid REFERENCES pot_sessions ON DELETE CASCADE)");
+        jdbcTemplate.execute("CREATE TABLE pot_session_tab (id uuid PRIMARY KEY, name varchar, "
+                + "validation_status integer, pot_session_page_id uuid REFERENCES pot_session_page ON DELETE CASCADE)");
+        jdbcTemplate.execute("CREATE TABLE pot_session_parameter (parameter_id uuid PRIMARY KEY, name varchar, "
+                + "pot_session_id uuid REFERENCES pot_sessions ON DELETE CASCADE, "
+                + "pot_session_tab_id uuid REFERENCES pot_session_tab ON DELETE CASCADE)");
+        jdbcTemplate.execute("CREATE INDEX ON pot_session_page (pot_session_id)");
+        jdbcTemplate.execute("CREATE INDEX ON pot_session_tab (pot_session_page_id)");
+        jdbcTemplate.execute("CREATE INDEX ON pot_session_parameter (pot_session_tab_id)");
+        jdbcTemplate.execute("CREATE INDEX ON pot_session_parameter (pot_session_id)");
+        repository = new PotSessionBulkRepository(dataSource, new DataSourceTransactionManager(dataSource), 20);
+    }
+
+    @Test
+    public void deleteSessions_hundredSessionsWithFiveThousandParameters_allRowsOfSessionsAreDeleted() {
+        List<UUID> sessionIds = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            sessionIds.add(createSession(ValidationStatus.PASSED));
+        }
+        UUID aliveSessionId = createSession(ValidationStatus.PASSED);
+
+        List<UUID> committedSessionIds = new ArrayList<>();
+
+        long started = System.nanoTime();
+        int deleted = repository.deleteSessions(sessionIds, committedSessionIds::addAll);
+        long deletionMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        Assert.assertEquals(SESSIONS, deleted);
+        Assert.assertEquals(sessionIds, committedSessionIds);
+        Assert.assertEquals(Collections.singleton(aliveSessionId), repository.findExistingSessionIds(
+                Collections.singletonList(aliveSessionId)));
+        Assert.assertEquals(Integer.valueOf(1), count("pot_sessions"));
+        Assert.assertEquals(Integer.valueOf(PARAMETERS_PER_SESSION), count("pot_session_parameter"));
+        Assert.assertEquals(Integer.valueOf(1), count("pot_session_page"));
+        Assert.assertEquals(Integer.valueOf(1), count("pot_session_tab"));
+        Assert.assertTrue("Sessions were deleted in " + deletionMs + " ms", deletionMs < 60_000);
+    }
+
+    @Test
+    public void deleteSessions_batchIsCommitted_callbackSeesSessionsDeleted() {
+        List<UUID> sessionIds = Arrays.asList(createSession(ValidationStatus.PASSED),
+                createSession(ValidationStatus.PASSED));
+        List<UUID> existingAtCallback = new ArrayList<>();
+
+        repository.deleteSessions(sessionIds, committedSessionIds ->
+                existingAtCallback.addAll(repository.findExistingSessionIds(committedSessionIds)));
+
+        Assert.assertTrue(existingAtCallback.isEmpty());
+        Assert.assertEquals(Integer.valueOf(0), count("pot_sessions"));
+    }
+
+    @Test
+    public void findPagesAndTabsByStatus_pageInProgress_returnsPageWithItsTabs() {
+        UUID inProgressSessionId = createSession(ValidationStatus.IN_PROGRESS);
+        UUID passedSessionId = createSession(ValidationStatus.PASSED);
+
+        Map<UUID, Map<String, List<String>>> pages = repository.findPagesAndTabsByStatus(
+                Arrays.asList(inProgressSessionId, passedSessionId), ValidationStatus.IN_PROGRESS);
+
+        Assert.assertEquals(Collections.singleton(inProgressSessionId), pages.keySet());
+        Assert.assertEquals(Collections.singletonList("Tab"), pages.get(inProgressSessionId).get("Page"));
+    }
+
+    /**
+     * Creates session with one page and one tab, half of parameters are in the tab and others are common.
+     */
+    private UUID createSession(ValidationStatus pageStatus) {
+        UUID sessionId = UUID.randomUUID();
+        UUID pageId = UUID.randomUUID();
+        UUID tabId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO pot_sessions (session_id, started) VALUES (?, now())", sessionId);
+        jdbcTemplate.update("INSERT INTO pot_session_page (id, name, validation_status, pot_session_id) "
+                + "VALUES (?, 'Page', ?, ?)", pageId, pageStatus.ordinal(), sessionId);
+        jdbcTemplate.update("INSERT INTO pot_session_tab (id, name, validation_status, pot_session_page_id) "
+                + "VALUES (?, 'Tab', ?, ?)", tabId, pageStatus.ordinal(), pageId);
+        jdbcTemplate.update("INSERT INTO pot_session_parameter (parameter_id, name, pot_session_id, "
+                + "pot_session_tab_id) SELECT md5(random()::text || i)::uuid, 'param' || i, ?, "
+                + "CASE WHEN i % 2 = 0 THEN ?::uuid END FROM generate_series(1, ?) i",
+                sessionId, tabId, PARAMETERS_PER_SESSION);
+        return sessionId;
+    }
+
+    private Integer count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+}
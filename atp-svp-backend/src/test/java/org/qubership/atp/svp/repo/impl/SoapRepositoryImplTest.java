@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+
+import org.qubership.atp.svp.model.environments.Connection;
+import org.qubership.atp.svp.model.environments.Server;
+import org.qubership.atp.svp.model.impl.HttpSettings;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class SoapRepositoryImplTest {
+
+    private static final String SOAP_RESPONSE = "<soap:Envelope><soap:Body><result>OK</result></soap:Body>"
+            + "</soap:Envelope>";
+
+    private final Set<SocketAddress> clientConnections = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> lastRequestHeaders = new ConcurrentHashMap<>();
+    private ExecutorService serverExecutor;
+    private HttpServer stubServer;
+    private volatile int responseStatus = 200;
+    private volatile String responseBody = SOAP_RESPONSE;
+    private volatile long responseDelayMs;
+    private SoapRepositoryImpl soapRepository;
+
+    @Before
+    public void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", this::handle);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        stubServer.setExecutor(serverExecutor);
+        stubServer.start();
+    }
+
+    @After
+    public void stopStubServer() {
+        if (soapRepository != null) {
+            soapRepository.close();
+        }
+        stubServer.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void soapRequest_sequentialRequestsToSameServer_oneConnectionReused() {
+        soapRepository = new SoapRepositoryImpl(10, 5000, 60000, 5000, 1024 * 1024);
+
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(SOAP_RESPONSE, soapRepository.soapRequest(createServer(), createSettings()));
+        }
+
+        Assert.assertEquals(1, clientConnections.size());
+    }
+
+    @Test
+    public void soapRequest_concurrentRequests_connectionsLimitedByPoolSize() throws Exception {
+        soapRepository = new SoapRepositoryImpl(2, 5000, 60000, 5000, 1024 * 1024);
+        responseDelayMs = 50;
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(10);
+        List<String> responses = new ArrayList<>();
+        try {
+            List<Future<String>> futures = clientExecutor.invokeAll(IntStream.range(0, 10)
+                    .mapToObj(i -> (Callable<String>) () -> soapRepository.soapRequest(createServer(),
+                            createSettings()))
+                    .collect(Collectors.toList()));
+            for (Future<String> future : futures) {
+                responses.add(future.get());
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+
+        Assert.assertEquals(Collections.nCopies(10, SOAP_RESPONSE), responses);
+        Assert.assertTrue("Opened connections: " + clientConnections.size(), clientConnections.size() <= 2);
+    }
+
+    @Test
+    public void soapRequest_soapFaultWithServerErrorStatus_returnsFaultBody() {
+        soapRepository = new SoapRepositoryImpl(10, 5000, 60000, 5000, 1024 * 1024);
+        responseStatus = 500;
+        responseBody = "<soap:Envelope><soap:Body><soap:Fault/></soap:Body></soap:Envelope>";
+
+        Assert.assertEquals(responseBody, soapRepository.soapRequest(createServer(), createSettings()));
+    }
+
+    @Test
+    public void soapRequest_customHeaders_sentWithSoapDefaults() {
+        soapRepository = new SoapRepositoryImpl(10, 5000, 60000, 5000, 1024 * 1024);
+        HttpSettings settings = createSettings();
+        settings.getHeaders().put("X-Custom", "value");
+
+        soapRepository.soapRequest(createServer(), settings);
+
+        Assert.assertEquals("text/xml", lastRequestHeaders.get("Content-type"));
+        Assert.assertEquals("", lastRequestHeaders.get("Soapaction"));
+        Assert.assertEquals("value", lastRequestHeaders.get("X-custom"));
+    }
+
+    @Test
+    public void soapRequest_responseBiggerThanLimit_throwsException() {
+        soapRepository = new SoapRepositoryImpl(10, 5000, 60000, 5000, 1024);
+        responseBody = StringUtils.repeat("a", 2048);
+
+        try {
+            soapRepository.soapRequest(createServer(), createSettings());
+            Assert.fail("Response bigger than limit must not be read");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(hasCause(e, DataBufferLimitException.class));
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientConnections.add(exchange.getRemoteAddress());
+        exchange.getRequestHeaders().forEach((name, values) -> lastRequestHeaders.put(name, values.get(0)));
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            while (requestBody.read() != -1) {
+                // request body is not checked, only consumed to keep connection alive
+            }
+        }
+        if (responseDelayMs > 0) {
+            try {
+                Thread.sleep(responseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream responseStream = exchange.getResponseBody()) {
+            responseStream.write(body);
+        }
+    }
+
+    private Server createServer() {
+        Connection connection = new Connection();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("url", "http://localhost:" + stubServer.getAddress().getPort());
+        connection.setParameters(parameters);
+        return new Server(connection, "soap");
+    }
+
+    private HttpSettings createSettings() {
+        HttpSettings settings = new HttpSettings();
+        settings.setQuery("/ws/service");
+        settings.setBody("<soap:Envelope><soap:Body><request/></soap:Body></soap:Envelope>");
+        return settings;
+    }
+
+    private static boolean hasCause(Throwable throwable, Class<? extends Throwable> causeClass) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (causeClass.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl;
+
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import org.qubership.atp.svp.model.environments.Connection;
+import org.qubership.atp.svp.model.environments.DBServer;
+import org.qubership.atp.svp.model.environments.Server;
+import org.qubership.atp.svp.model.table.Table;
+import org.qubership.atp.svp.repo.impl.pool.DiffServerConnection;
+import org.qubership.atp.svp.repo.impl.pool.DiffServersConnectionPool;
+import org.qubership.atp.svp.utils.CryptoUtilsTest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+public class SqlRepositoryReadingTest extends CryptoUtilsTest {
+
+    private static final int ROWS_COUNT = 20000;
+    private static final String SELECT_ROWS = "select id, name from reading_test order by id";
+
+    private DBServer dbServer;
+    private DiffServersConnectionPool pool;
+
+    @Before
+    public void init() throws Exception {
+        Connection ncConn = new Connection();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("jdbc_url", "jdbc:h2:mem:sql_repository_reading_test;DB_CLOSE_DELAY=-1");
+        parameters.put("db_login", "sa");
+        parameters.put("db_password", "");
+        ncConn.setParameters(parameters);
+        dbServer = new DBServer(new Server(ncConn, "db"));
+        pool = new DiffServersConnectionPool("100", "60", 2, 5000, 60000, null);
+        try (DiffServerConnection connection = pool.createAndGetConnection(dbServer);
+             Statement statement = connection.getConnection().createStatement()) {
+            statement.execute("drop table if exists reading_test");
+            statement.execute("create table reading_test (id int primary key, name varchar(50), doc clob)");
+            statement.execute("insert into reading_test select x, 'name_' || x, cast(repeat('a', 100) as clob) "
+                    + "from system_range(1, " + ROWS_COUNT + ")");
+        }
+    }
+
+    @After
+    public void restoreDefaults() {
+        new SqlRepository(pool, 500, 0, 0, 0);
+        pool.closeAll();
+    }
+
+    @Test
+    public void executeQuery_resultWithinLimits_allRowsReadWithUpperCaseHeaders() {
+        new SqlRepository(pool, 500, ROWS_COUNT, Long.MAX_VALUE, 1000);
+
+        Table table = SqlRepository.executeQuery(dbServer, SELECT_ROWS);
+
+        Assert.assertEquals(ROWS_COUNT, table.getRows().size());
+        Assert.assertFalse(table.isTruncated());
+        Assert.assertEquals("name_1", table.getRow(0).get("NAME"));
+        Assert.assertTrue(table.getHeaders().contains("ID"));
+    }
+
+    @Test
+    public void executeQuery_resultExceedsMaxRows_truncatedTable() {
+        new SqlRepository(pool, 500, 100, Long.MAX_VALUE, 1000);
+
+        Table table = SqlRepository.executeQuery(dbServer, SELECT_ROWS);
+
+        Assert.assertEquals(100, table.getRows().size());
+        Assert.assertTrue(table.isTruncated());
+    }
+
+    @Test
+    public void executeQuery_resultExceedsMaxBytes_truncatedTable() {
+        new SqlRepository(pool, 500, ROWS_COUNT, 10000, 1000);
+
+        Table table = SqlRepository.executeQuery(dbServer, SELECT_ROWS);
+
+        Assert.assertTrue(table.getRows().size() < ROWS_COUNT);
+        Assert.assertTrue(table.isTruncated());
+    }
+
+    @Test
+    public void executeQuery_clobLongerThanMaxClobChars_clobValueReadPartially() {
+        new SqlRepository(pool, 500, ROWS_COUNT, Long.MAX_VALUE, 10);
+
+        Table table = SqlRepository.executeQuery(dbServer, "select doc from reading_test where id = 1");
+
+        Assert.assertEquals("aaaaaaaaaa", table.getRow(0).get("DOC"));
+        Assert.assertTrue(table.isTruncated());
+    }
+
+    @Test
+    public void executeQueryAndGetFirstValue_manyRows_firstValueReturned() {
+        new SqlRepository(pool, 500, ROWS_COUNT, Long.MAX_VALUE, 1000);
+
+        String value = SqlRepository.executeQueryAndGetFirstValue(dbServer,
+                "select name from reading_test order by id");
+
+        Assert.assertEquals("name_1", value);
+    }
+
+    @Test
+    public void executeQueryAndGetFirstValue_manyRowsWithMaxRowsLimit_truncationIsNotLogged() {
+        new SqlRepository(pool, 500, 100, Long.MAX_VALUE, 1000);
+        Logger logger = (Logger) LoggerFactory.getLogger(SqlRepository.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            String value = SqlRepository.executeQueryAndGetFirstValue(dbServer,
+                    "select name from reading_test order by id");
+
+            Assert.assertEquals("name_1", value);
+            Assert.assertTrue(appender.list.stream().noneMatch(event -> event.getLevel() == Level.WARN));
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    public void executeQuery_defaultLimits_wholeResultReadNotTruncated() {
+        new SqlRepository(pool, 500, 0, 0, 0);
+
+        Table table = SqlRepository.executeQuery(dbServer, "select id, doc from reading_test order by id");
+
+        Assert.assertEquals(ROWS_COUNT, table.getRows().size());
+        Assert.assertEquals(100, table.getRow(0).get("DOC").length());
+        Assert.assertFalse(table.isTruncated());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl.pool;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.qubership.atp.svp.model.environments.Connection;
+import org.qubership.atp.svp.model.environments.DBServer;
+import org.qubership.atp.svp.model.environments.Server;
+import org.qubership.atp.svp.repo.impl.pool.CassandraSessionPool.CassandraSessionLease;
+import org.qubership.atp.svp.utils.CryptoUtilsTest;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Session;
+
+public class CassandraSessionPoolTest extends CryptoUtilsTest {
+
+    private Cluster cluster;
+    private Session session;
+    private AtomicInteger createdClusters;
+    private CassandraSessionPool pool;
+
+    @Before
+    public void init() {
+        cluster = mock(Cluster.class);
+        session = mock(Session.class);
+        when(cluster.connect(anyString())).thenReturn(session);
+        createdClusters = new AtomicInteger();
+        pool = new CassandraSessionPool("100", server -> {
+            createdClusters.incrementAndGet();
+            return cluster;
+        });
+    }
+
+    @After
+    public void closePool() {
+        pool.closeAll();
+    }
+
+    @Test
+    public void acquire_hundredQueriesToSameServer_oneClusterCreated() {
+        for (int i = 0; i < 100; i++) {
+            try (CassandraSessionLease lease = pool.acquire(createServer("host", "user"))) {
+                Assert.assertSame(session, lease.getSession());
+            }
+        }
+
+        Assert.assertEquals(1, createdClusters.get());
+        verify(cluster, times(1)).connect("scheme");
+    }
+
+    @Test
+    public void acquire_differentCredentials_separateClusters() {
+        pool.acquire(createServer("host", "user")).close();
+        pool.acquire(createServer("host", "another_user")).close();
+
+        Assert.assertEquals(2, createdClusters.get());
+    }
+
+    @Test
+    public void closeIdleSessions_sessionIsLeased_sessionNotClosed() {
+        CassandraSessionLease lease = pool.acquire(createServer("host", "user"));
+
+        pool.closeIdleSessions(Long.MAX_VALUE);
+
+        verify(cluster, never()).closeAsync();
+        lease.close();
+    }
+
+    @Test
+    public void closeIdleSessions_sessionReleased_sessionClosedAndCreatedAgainOnNextRequest() {
+        pool.acquire(createServer("host", "user")).close();
+
+        pool.closeIdleSessions(Long.MAX_VALUE);
+
+        verify(session, times(1)).closeAsync();
+        verify(cluster, times(1)).closeAsync();
+        pool.acquire(createServer("host", "user")).close();
+        Assert.assertEquals(2, createdClusters.get());
+    }
+
+    private DBServer createServer(String host, String user) {
+        Connection connection = new Connection();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("db_host", host);
+        parameters.put("db_port", "9042");
+        parameters.put("db_name", "scheme");
+        parameters.put("db_login", user);
+        parameters.put("db_password", "password");
+        connection.setParameters(parameters);
+        return new DBServer(new Server(connection, "db"));
+    }
+}
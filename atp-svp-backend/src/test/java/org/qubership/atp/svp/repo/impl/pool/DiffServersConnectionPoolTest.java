@@ -16,99 +16,181 @@
 
 package org.qubership.atp.svp.repo.impl.pool;
 
-import static org.powermock.api.mockito.PowerMockito.spy;
-
-import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.powermock.core.classloader.annotations.PowerMockIgnore;
-import org.powermock.core.classloader.annotations.PrepareForTest;
-import org.powermock.modules.junit4.PowerMockRunner;
-import org.powermock.modules.junit4.PowerMockRunnerDelegate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import org.qubership.atp.svp.core.exceptions.ConnectionDbException;
 import org.qubership.atp.svp.model.environments.Connection;
 import org.qubership.atp.svp.model.environments.DBServer;
 import org.qubership.atp.svp.model.environments.Server;
-import org.qubership.atp.svp.utils.CryptoUtils;
 import org.qubership.atp.svp.utils.CryptoUtilsTest;
 
-@RunWith(PowerMockRunner.class)
-@PowerMockRunnerDelegate(SpringRunner.class)
-@PowerMockIgnore(value = {"javax.management.*"})
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(SpringRunner.class)
 @SpringBootTest(classes = {DiffServersConnectionPool.class},
         properties = {"spring.cloud.vault.enabled=false", "spring.cloud.consul.config.enabled=false"})
-@PrepareForTest({DiffServerConnection.class})
 public class DiffServersConnectionPoolTest extends CryptoUtilsTest {
 
     private static DBServer dbServer;
-    // it's SpyBean
+    @Autowired
+    private DiffServersConnectionPool springPool;
     private DiffServersConnectionPool pool;
 
     @Before
-    public void init() throws SQLException {
+    public void init() {
         Connection ncConn = new Connection();
         Map<String, String> parameters = new HashMap<String, String>() {{
-            put("jdbc_url", "jdbc:h2:~/test");
+            put("jdbc_url", "jdbc:h2:mem:pool_test;DB_CLOSE_DELAY=-1");
             put("db_login", "sa");
             put("db_password", "");
         }};
         ncConn.setParameters(parameters);
         dbServer = new DBServer(new Server(ncConn, "db"));
-            // avoid bug when we can't open the first connection
-            DriverManager.getConnection(
-                    dbServer.getConnectionStr(), dbServer.getUser(), CryptoUtils.decryptValue(dbServer.getPassword()));
+    }
 
+    @After
+    public void closePool() {
+        if (pool != null) {
+            pool.closeAll();
+        }
     }
 
     @Test
-    public void createAndGetConnectionNew() {
-        pool = spy(new DiffServersConnectionPool("100", "-1"));
-        HashSet<java.sql.Connection> h = new HashSet<>();
-        DiffServerConnection conn = pool.createAndGetConnection(dbServer);
-        java.sql.Connection consql = conn.getConnection();
-        h.add(consql);
-        conn = pool.createAndGetConnection(dbServer);
-        h.add(conn.getConnection());
-        Assert.assertEquals(2, h.size());
-        Assert.assertNotEquals(consql, conn.getConnection());
+    public void createAndGetConnection_springBean_returnsOpenedConnection() throws SQLException {
+        try (DiffServerConnection conn = springPool.createAndGetConnection(dbServer)) {
+            Assert.assertFalse(conn.getConnection().isClosed());
+        }
     }
 
     @Test
-    public void createAndGetConnectionReuse() {
-        pool = spy(new DiffServersConnectionPool("100", "-1"));
-        HashSet<java.sql.Connection> h = new HashSet<>();
-        DiffServerConnection conn = pool.createAndGetConnection(dbServer);
-        java.sql.Connection consql = conn.getConnection();
-        h.add(consql);
-        conn.close();
-        conn = pool.createAndGetConnection(dbServer);
-        h.add(conn.getConnection());
-        Assert.assertEquals(1, h.size());
-        Assert.assertEquals(consql, conn.getConnection());
+    public void createAndGetConnection_connectionIsBusy_anotherPhysicalConnection() throws SQLException {
+        pool = new DiffServersConnectionPool("100", "-1", 2, 1000, 60000, null);
+        try (DiffServerConnection first = pool.createAndGetConnection(dbServer);
+             DiffServerConnection second = pool.createAndGetConnection(dbServer)) {
+            Assert.assertNotEquals(physical(first), physical(second));
+        }
     }
 
     @Test
-    public void createAndGetConnectionNewBecauseTimeout() throws InterruptedException {
-        pool = spy(new DiffServersConnectionPool("3", "-1"));
-        HashSet<java.sql.Connection> h = new HashSet<>();
-        DiffServerConnection conn = pool.createAndGetConnection(dbServer);
-        java.sql.Connection consql = conn.getConnection();
-        h.add(consql);
-        conn.close();
-        Thread.sleep(7000);
-        conn = pool.createAndGetConnection(dbServer);
-        h.add(conn.getConnection());
-        Assert.assertEquals(2, h.size());
-        Assert.assertNotEquals(consql, conn.getConnection());
+    public void createAndGetConnection_connectionReturned_physicalConnectionReused() throws SQLException {
+        pool = new DiffServersConnectionPool("100", "-1", 2, 1000, 60000, null);
+        java.sql.Connection firstPhysical;
+        try (DiffServerConnection conn = pool.createAndGetConnection(dbServer)) {
+            firstPhysical = physical(conn);
+        }
+        try (DiffServerConnection conn = pool.createAndGetConnection(dbServer)) {
+            Assert.assertSame(firstPhysical, physical(conn));
+        }
+    }
+
+    @Test(expected = ConnectionDbException.class)
+    public void createAndGetConnection_poolExhausted_throwsExceptionAfterConnectionTimeout() {
+        pool = new DiffServersConnectionPool("100", "-1", 1, 250, 60000, null);
+        try (DiffServerConnection conn = pool.createAndGetConnection(dbServer)) {
+            pool.createAndGetConnection(dbServer);
+        }
+    }
+
+    @Test
+    public void createAndGetConnection_parallelQueries_connectionsBoundedByMaxPoolSize() throws Exception {
+        int maxPoolSize = 4;
+        int threads = 32;
+        pool = new DiffServersConnectionPool("100", "-1", maxPoolSize, 10000, 60000, null);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        Set<java.sql.Connection> physicalConnections = Collections.synchronizedSet(new HashSet<>());
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < threads * 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try (DiffServerConnection conn = pool.createAndGetConnection(dbServer);
+                     Statement statement = conn.getConnection().createStatement()) {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    physicalConnections.add(physical(conn));
+                    try (ResultSet rs = statement.executeQuery("SELECT 1")) {
+                        rs.next();
+                        Thread.sleep(5);
+                        return rs.getInt(1);
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<Integer> result : results) {
+            Assert.assertEquals(Integer.valueOf(1), result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        Assert.assertTrue(maxActive.get() <= maxPoolSize);
+        Assert.assertTrue(physicalConnections.size() <= maxPoolSize);
+        Assert.assertEquals(0, pool.getPoolStatistics(dbServer).getActiveConnections());
+        Assert.assertEquals(0, pool.getPoolStatistics(dbServer).getThreadsAwaitingConnection());
+    }
+
+    @Test
+    public void createAndGetConnection_meterRegistry_gaugesReflectPoolState() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pool = new DiffServersConnectionPool("100", "-1", 2, 1000, 60000, meterRegistry);
+        try (DiffServerConnection conn = pool.createAndGetConnection(dbServer)) {
+            Assert.assertEquals(1, gauge(meterRegistry, "atp.svp.db.pool.connections.active"), 0);
+            Assert.assertEquals(0, gauge(meterRegistry, "atp.svp.db.pool.connections.pending"), 0);
+        }
+        Assert.assertEquals(0, gauge(meterRegistry, "atp.svp.db.pool.connections.active"), 0);
+        Assert.assertEquals(1, gauge(meterRegistry, "atp.svp.db.pool.connections.idle"), 0);
+    }
+
+    @Test
+    public void createAndGetConnection_meterRegistry_connectionStringIsNotExposedInTags() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pool = new DiffServersConnectionPool("100", "-1", 2, 1000, 60000, meterRegistry);
+        pool.createAndGetConnection(dbServer).close();
+
+        meterRegistry.getMeters().forEach(meter -> meter.getId().getTags().forEach(tag ->
+                Assert.assertFalse(tag.getValue().contains(dbServer.getConnectionStr()))));
+    }
+
+    @Test
+    public void closeUnusedPools_poolNotUsedLongerThanCloseDelay_poolClosed() throws InterruptedException {
+        pool = new DiffServersConnectionPool("1", "-1", 2, 1000, 60000, null);
+        pool.createAndGetConnection(dbServer).close();
+        Assert.assertNotNull(pool.getPoolStatistics(dbServer));
+        Thread.sleep(3000);
+        Assert.assertNull(pool.getPoolStatistics(dbServer));
+    }
+
+    private static java.sql.Connection physical(DiffServerConnection conn) throws SQLException {
+        return conn.getConnection().unwrap(java.sql.Connection.class);
     }
-}
 
+    private static double gauge(SimpleMeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).tag("server", DiffServersConnectionPool.getServerId(dbServer)).gauge().value();
+    }
+}
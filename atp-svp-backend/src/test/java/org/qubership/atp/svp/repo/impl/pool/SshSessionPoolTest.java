@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.impl.pool;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.svp.model.environments.Connection;
+import org.qubership.atp.svp.model.environments.Server;
+import org.qubership.atp.svp.repo.impl.pool.SshSessionPool.SshSessionLease;
+import org.qubership.atp.svp.utils.CryptoUtilsTest;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+
+public class SshSessionPoolTest extends CryptoUtilsTest {
+
+    private final List<Session> createdSessions = new ArrayList<>();
+    private SshSessionPool pool;
+
+    @After
+    public void closePool() {
+        pool.closeAll();
+    }
+
+    @Test
+    public void acquire_hundredCommandsToSameServer_oneSessionConnected() throws JSchException {
+        pool = createPool(10, 30000);
+
+        for (int i = 0; i < 100; i++) {
+            try (SshSessionLease lease = pool.acquire(createServer("user"))) {
+                Assert.assertSame(createdSessions.get(0), lease.getSession());
+            }
+        }
+
+        Assert.assertEquals(1, createdSessions.size());
+        verify(createdSessions.get(0), times(1)).connect();
+    }
+
+    @Test
+    public void acquire_differentUsers_separateSessions() throws JSchException {
+        pool = createPool(10, 30000);
+
+        pool.acquire(createServer("user")).close();
+        pool.acquire(createServer("another_user")).close();
+
+        Assert.assertEquals(2, createdSessions.size());
+    }
+
+    @Test
+    public void acquire_sessionDisconnected_newSessionConnected() throws JSchException {
+        pool = createPool(10, 30000);
+        pool.acquire(createServer("user")).close();
+        when(createdSessions.get(0).isConnected()).thenReturn(false);
+
+        try (SshSessionLease lease = pool.acquire(createServer("user"))) {
+            Assert.assertSame(createdSessions.get(1), lease.getSession());
+        }
+        verify(createdSessions.get(0)).disconnect();
+    }
+
+    @Test
+    public void acquire_aliveCheckFailed_newSessionConnected() throws Exception {
+        pool = createPool(10, 0);
+        pool.acquire(createServer("user")).close();
+        Channel channel = createdSessions.get(0).openChannel("session");
+        doThrow(new JSchException("connection reset")).when(channel).connect(anyInt());
+
+        try (SshSessionLease lease = pool.acquire(createServer("user"))) {
+            Assert.assertSame(createdSessions.get(1), lease.getSession());
+        }
+        verify(channel).disconnect();
+        verify(createdSessions.get(0)).disconnect();
+    }
+
+    @Test
+    public void acquire_aliveCheckFailedWhileSessionIsLeased_brokenSessionDisconnectedAfterLeaseClosed()
+            throws Exception {
+        pool = createPool(10, 0);
+        SshSessionLease firstLease = pool.acquire(createServer("user"));
+        Channel channel = createdSessions.get(0).openChannel("session");
+        doThrow(new JSchException("connection reset")).when(channel).connect(anyInt());
+
+        try (SshSessionLease lease = pool.acquire(createServer("user"))) {
+            Assert.assertSame(createdSessions.get(1), lease.getSession());
+        }
+        verify(createdSessions.get(0), times(0)).disconnect();
+
+        firstLease.close();
+        verify(createdSessions.get(0)).disconnect();
+    }
+
+    @Test
+    public void acquire_sessionIsConnecting_poolNotBlockedAndSessionConnectedOnce() throws Exception {
+        CountDownLatch connectStarted = new CountDownLatch(1);
+        CountDownLatch connectAllowed = new CountDownLatch(1);
+        pool = new SshSessionPool(10, 30000, 300, server -> {
+            Session session = createSession();
+            doAnswer(invocation -> {
+                connectStarted.countDown();
+                connectAllowed.await();
+                return null;
+            }).when(session).connect();
+            return session;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<Session> first = executor.submit(() -> acquireAndClose(createServer("user")));
+            Assert.assertTrue(connectStarted.await(5, TimeUnit.SECONDS));
+            Future<Session> second = executor.submit(() -> acquireAndClose(createServer("user")));
+
+            executor.submit(() -> pool.closeIdleSessions(Long.MAX_VALUE)).get(5, TimeUnit.SECONDS);
+            Assert.assertFalse(second.isDone());
+            connectAllowed.countDown();
+
+            Assert.assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, createdSessions.size());
+        } finally {
+            connectAllowed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = JSchException.class)
+    public void acquire_allChannelsOfSessionBusy_throwsExceptionAfterConnectTimeout() throws JSchException {
+        pool = createPool(2, 30000);
+        Server server = createServer("user");
+        pool.acquire(server);
+        pool.acquire(server);
+
+        pool.acquire(server);
+    }
+
+    @Test
+    public void closeIdleSessions_sessionReleased_sessionDisconnected() throws JSchException {
+        pool = createPool(10, 30000);
+        pool.acquire(createServer("user")).close();
+
+        pool.closeIdleSessions(Long.MAX_VALUE);
+
+        verify(createdSessions.get(0)).disconnect();
+        pool.acquire(createServer("user")).close();
+        Assert.assertEquals(2, createdSessions.size());
+    }
+
+    @Test
+    public void closeIdleSessions_sessionIsLeased_sessionNotDisconnected() throws JSchException {
+        pool = createPool(10, 30000);
+        SshSessionLease lease = pool.acquire(createServer("user"));
+
+        pool.closeIdleSessions(Long.MAX_VALUE);
+
+        verify(createdSessions.get(0), times(0)).disconnect();
+        lease.close();
+    }
+
+    private SshSessionPool createPool(int maxChannels, long keepAliveCheckMs) {
+        return new SshSessionPool(maxChannels, keepAliveCheckMs, 300, server -> createSession());
+    }
+
+    private synchronized Session createSession() throws JSchException {
+        Session session = mock(Session.class);
+        Channel channel = mock(Channel.class);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel(anyString())).thenReturn(channel);
+        createdSessions.add(session);
+        return session;
+    }
+
+    private Session acquireAndClose(Server server) throws JSchException {
+        try (SshSessionLease lease = pool.acquire(server)) {
+            return lease.getSession();
+        }
+    }
+
+    private Server createServer(String user) {
+        Connection connection = new Connection();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("ssh_host", "localhost:2222");
+        parameters.put("ssh_login", user);
+        parameters.put("ssh_password", "password");
+        parameters.put("ssh_timeout_connect", "100");
+        connection.setParameters(parameters);
+        return new Server(connection, "ssh");
+    }
+}
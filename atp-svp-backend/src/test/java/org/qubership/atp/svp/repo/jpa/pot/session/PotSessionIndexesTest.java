@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.jpa.pot.session;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+
+/**
+ * Checks that queries which are run on each execution use indexes of the v6 changelog on 1M-row tables.
+ */
+public class PotSessionIndexesTest {
+
+    private static final int SESSIONS = 100_000;
+    private static final int PAGES_PER_SESSION = 10;
+    private static final String PASSWORD = "svp";
+
+    @ClassRule
+    public static GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:13"))
+            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private static JdbcTemplate jdbcTemplate;
+    private static UUID sessionId;
+    private static UUID pageId;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:postgresql://" + postgres.getHost()
+                + ":" + postgres.getMappedPort(5432) + "/postgres", "postgres", PASSWORD);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        createTables();
+        seed();
+        try (Connection connection = dataSource.getConnection()) {
+            new Liquibase("changelog/v6/changelog.xml", new ClassLoaderResourceAccessor(),
+                    new JdbcConnection(connection)).update(new Contexts(), new LabelExpression());
+        }
+        jdbcTemplate.execute("ANALYZE");
+        sessionId = jdbcTemplate.queryForObject("SELECT session_id FROM pot_sessions LIMIT 1", UUID.class);
+        pageId = jdbcTemplate.queryForObject("SELECT id FROM pot_session_page WHERE pot_session_id = ? LIMIT 1",
+                UUID.class, sessionId);
+    }
+
+    @Test
+    public void getExpiredSessionId_usesIndexScan() {
+        assertIndexScan(explain("select cast(session_id as varchar) session_id from pot_sessions where started  < "
+                + "now() - make_interval(secs => 1800) and session_id in ('" + sessionId + "', '"
+                + UUID.randomUUID() + "')"), "pot_sessions");
+    }
+
+    @Test
+    public void isAlreadyValidated_usesIndexScan() {
+        assertIndexScan(explain("select already_validated from pot_sessions where session_id = '" + sessionId
+                + "'"), "pot_sessions_pkey");
+    }
+
+    @Test
+    public void getImpactingValidationStatusOfSession_usesPartialIndex() {
+        assertIndexScan(explain("select distinct validation_status from pot_session_page where pot_session_id = '"
+                + sessionId + "' and validation_status != '0' and  validation_status != '5' and  "
+                + "validation_status != '3'"), "pot_session_page_impacting_status_idx");
+    }
+
+    @Test
+    public void getImpactingValidationStatusOfPage_usesPartialIndex() {
+        assertIndexScan(explain("select distinct validation_status  from pot_session_tab pst where "
+                + "pot_session_page_id = '" + pageId + "' and validation_status != '0' and  validation_status "
+                + "!= '5'"), "pot_session_tab_impacting_status_idx");
+    }
+
+    @Test
+    public void findPagesBySessionId_usesIndexScan() {
+        assertIndexScan(explain("select * from pot_session_page where pot_session_id = '" + sessionId + "'"),
+                "pot_session_page");
+    }
+
+    @Test
+    public void findPageBySessionIdAndName_usesIndexScan() {
+        assertIndexScan(explain("select * from pot_session_page where pot_session_id = '" + sessionId
+                + "' and name = 'Page 1'"), "pot_session_page_session_id_name_idx");
+    }
+
+    private static void createTables() {
+        jdbcTemplate.execute("CREATE TABLE pot_sessions (session_id uuid PRIMARY KEY, execution_configuration jsonb,"
+                + " execution_variables jsonb, already_validated boolean, session_pages_loading_already_started "
+                + "boolean, key_parameter jsonb, started timestamp, page_order text)");
+        jdbcTemplate.execute("CREATE TABLE pot_session_page (id uuid PRIMARY KEY, already_validated boolean, "
+                + "tabs_loading_already_started boolean, name varchar(1000), validation_status integer, "
+                + "page_config_id uuid, pot_session_id uuid REFERENCES pot_sessions ON DELETE CASCADE, "
+                + "started timestamp NOT NULL DEFAULT now(), project_id uuid)");
+        jdbcTemplate.execute("CREATE TABLE pot_session_tab (id uuid PRIMARY KEY, already_validated boolean, "
+                + "synchronous_loading boolean, name varchar(1000), validation_status integer, "
+                + "pot_session_page_id uuid REFERENCES pot_session_page ON DELETE CASCADE)");
+        jdbcTemplate.execute("CREATE TABLE pot_session_parameter (parameter_id uuid PRIMARY KEY, "
+                + "synchronous_loading boolean NOT NULL, page varchar(1000), tab varchar(1000), "
+                + "pot_session_id uuid REFERENCES pot_sessions ON DELETE CASCADE, "
+                + "pot_session_tab_id uuid REFERENCES pot_session_tab ON DELETE CASCADE)");
+    }
+
+    /**
+     * Seeds sessions with pages and one tab per page (1M pages and 1M tabs),
+     * most of pages and tabs are PASSED, others are IN_PROGRESS, FAILED or NONE.
+     */
+    private static void seed() {
+        jdbcTemplate.update("INSERT INTO pot_sessions (session_id, already_validated, started) "
+                + "SELECT md5('session' || i)::uuid, false, now() - (i % 3600) * interval '1 second' "
+                + "FROM generate_series(1, ?) i", SESSIONS);
+        jdbcTemplate.update("INSERT INTO pot_session_page (id, name, validation_status, pot_session_id) "
+                + "SELECT md5('page' || i)::uuid, 'Page ' || (i / ?), "
+                + "CASE WHEN i % 10 = 0 THEN 1 WHEN i % 25 = 0 THEN 4 WHEN i % 50 = 1 THEN 0 ELSE 3 END, "
+                + "md5('session' || (i % ? + 1))::uuid FROM generate_series(1, ?) i",
+                SESSIONS, SESSIONS, SESSIONS * PAGES_PER_SESSION);
+        jdbcTemplate.update("INSERT INTO pot_session_tab (id, name, validation_status, pot_session_page_id) "
+                + "SELECT md5('tab' || id)::uuid, 'Tab', validation_status, id FROM pot_session_page");
+    }
+
+    private static String explain(String query) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + query, String.class);
+        return String.join("\n", plan);
+    }
+
+    private static void assertIndexScan(String plan, String index) {
+        Assert.assertFalse("Sequential scan is used:\n" + plan, plan.contains("Seq Scan"));
+        Assert.assertTrue("Index is not used:\n" + plan, plan.contains("Index") && plan.contains(index));
+    }
+}
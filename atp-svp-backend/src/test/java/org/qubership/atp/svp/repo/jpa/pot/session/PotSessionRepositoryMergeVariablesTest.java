@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.repo.jpa.pot.session;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import org.qubership.atp.svp.model.pot.ExecutionVariable;
+import org.qubership.atp.svp.model.pot.SimpleExecutionVariable;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
+import org.qubership.atp.svp.service.direct.ExecutionVariablesStore;
+import org.qubership.atp.svp.tests.PostgresJpaTestUtils;
+import org.qubership.atp.svp.utils.Utils;
+
+/**
+ * Checks the native jsonb merge query of {@link PotSessionRepository#mergeVariables(String, UUID)}
+ * and variables written by {@link ExecutionVariablesStore} on PostgreSQL, statements are counted by Hibernate.
+ */
+public class PotSessionRepositoryMergeVariablesTest {
+
+    private static final String PASSWORD = "svp";
+
+    @ClassRule
+    public static GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:13"))
+            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private final List<String> executedStatements = Collections.synchronizedList(new ArrayList<>());
+    private EntityManagerFactory entityManagerFactory;
+    private PotSessionRepository potSessionRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void init() {
+        entityManagerFactory = PostgresJpaTestUtils.createEntityManagerFactory(postgres, PASSWORD, sql -> {
+            executedStatements.add(sql);
+            return sql;
+        });
+        potSessionRepository = new JpaRepositoryFactory(SharedEntityManagerCreator
+                .createSharedEntityManager(entityManagerFactory)).getRepository(PotSessionRepository.class);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:postgresql://" + postgres.getHost()
+                + ":" + postgres.getMappedPort(5432) + "/postgres", "postgres", PASSWORD));
+    }
+
+    @After
+    public void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    public void mergeVariables_existingVariables_newVariablesAddedAndChangedReplaced() throws Exception {
+        UUID sessionId = createSession(variables(
+                new SimpleExecutionVariable("KEY", "value"),
+                new SimpleExecutionVariable("GROUP.CHANGED", "old")));
+
+        mergeVariables(Utils.mapper.writeValueAsString(variables(
+                new SimpleExecutionVariable("GROUP.CHANGED", "new"),
+                new SimpleExecutionVariable("GROUP.NEW", "added"))), sessionId);
+
+        Assert.assertEquals("value", getVariableValue(sessionId, "KEY"));
+        Assert.assertEquals("new", getVariableValue(sessionId, "GROUP.CHANGED"));
+        Assert.assertEquals("added", getVariableValue(sessionId, "GROUP.NEW"));
+    }
+
+    @Test
+    public void mergeVariables_variablesAreNull_variablesCreated() throws Exception {
+        UUID sessionId = createSession(variables());
+        jdbcTemplate.update("UPDATE pot_sessions SET execution_variables = NULL WHERE session_id = ?", sessionId);
+
+        mergeVariables(Utils.mapper.writeValueAsString(variables(
+                new SimpleExecutionVariable("GROUP.NEW", "added"))), sessionId);
+
+        Assert.assertEquals("added", getVariableValue(sessionId, "GROUP.NEW"));
+    }
+
+    @Test
+    public void flush_variablesWrittenByAnotherPod_allVariablesKept() throws Exception {
+        UUID sessionId = createSession(variables(new SimpleExecutionVariable("KEY", "value")));
+        ExecutionVariablesStore store = createStore(sessionId);
+        // Variable of the session is added by another pod
+        mergeVariables(Utils.mapper.writeValueAsString(variables(
+                new SimpleExecutionVariable("GROUP.OTHER_POD", "other"))), sessionId);
+
+        addVariable(store, sessionId, "GROUP.NEW", "new");
+        flush(store, sessionId);
+
+        Assert.assertEquals("value", getVariableValue(sessionId, "KEY"));
+        Assert.assertEquals("other", getVariableValue(sessionId, "GROUP.OTHER_POD"));
+        Assert.assertEquals("new", getVariableValue(sessionId, "GROUP.NEW"));
+    }
+
+    @Test
+    public void flush_thousandParametersInTenTabs_oneUpdatePerTabAndAllVariablesMerged() throws Exception {
+        int tabs = 10;
+        int parametersPerTab = 100;
+        UUID sessionId = createSession(variables(new SimpleExecutionVariable("KEY", "value")));
+        ExecutionVariablesStore store = createStore(sessionId);
+        executedStatements.clear();
+
+        for (int tab = 0; tab < tabs; tab++) {
+            for (int parameter = 0; parameter < parametersPerTab; parameter++) {
+                addVariable(store, sessionId, "GROUP.PARAMETER_" + tab + "_" + parameter, "value " + parameter);
+            }
+            flush(store, sessionId);
+        }
+
+        // Variables are written only by the merge query, one statement per tab
+        Assert.assertEquals(tabs, executedStatements.size());
+        executedStatements.forEach(sql -> Assert.assertTrue(sql, sql.trim().startsWith("UPDATE pot_sessions")));
+        Assert.assertEquals(Integer.valueOf(tabs * parametersPerTab + 1), jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pot_sessions, jsonb_object_keys(execution_variables) WHERE session_id = ?",
+                Integer.class, sessionId));
+        Assert.assertEquals("value", getVariableValue(sessionId, "KEY"));
+        Assert.assertEquals("value 0", getVariableValue(sessionId, "GROUP.PARAMETER_0_0"));
+        Assert.assertEquals("value 99", getVariableValue(sessionId, "GROUP.PARAMETER_9_99"));
+    }
+
+    private UUID createSession(Map<String, ExecutionVariable> variables) throws Exception {
+        UUID sessionId = PostgresJpaTestUtils.createSession(entityManagerFactory, 0, 0).getSessionId();
+        jdbcTemplate.update("UPDATE pot_sessions SET execution_variables = cast(? as jsonb) WHERE session_id = ?",
+                Utils.mapper.writeValueAsString(variables), sessionId);
+        return sessionId;
+    }
+
+    private ExecutionVariablesStore createStore(UUID sessionId) {
+        ExecutionVariablesStore store = new ExecutionVariablesStore(potSessionRepository,
+                mock(PotSessionBulkRepository.class), 600);
+        store.register(sessionId, variables(new SimpleExecutionVariable("KEY", "value")));
+        return store;
+    }
+
+    private static void addVariable(ExecutionVariablesStore store, UUID sessionId, String name, String value) {
+        ConcurrentHashMap<String, ExecutionVariable> contextVariables = store.getVariables(sessionId,
+                ConcurrentHashMap::new);
+        contextVariables.put(name, new SimpleExecutionVariable(name, value));
+        store.addVariables(sessionId, contextVariables, ConcurrentHashMap::new);
+    }
+
+    /**
+     * Flushes the store in transaction as {@link ExecutionVariablesStore#flush(UUID)} is called by Spring.
+     */
+    private void flush(ExecutionVariablesStore store, UUID sessionId) {
+        transactionTemplate.executeWithoutResult(status -> store.flush(sessionId));
+    }
+
+    private void mergeVariables(String variables, UUID sessionId) {
+        transactionTemplate.executeWithoutResult(status -> potSessionRepository.mergeVariables(variables, sessionId));
+    }
+
+    private String getVariableValue(UUID sessionId, String name) {
+        return jdbcTemplate.queryForObject("SELECT execution_variables -> ? ->> 'simpleValue' FROM pot_sessions "
+                + "WHERE session_id = ?", String.class, name, sessionId);
+    }
+
+    private static ConcurrentHashMap<String, ExecutionVariable> variables(ExecutionVariable... variables) {
+        ConcurrentHashMap<String, ExecutionVariable> variablesByName = new ConcurrentHashMap<>();
+        for (ExecutionVariable variable : variables) {
+            variablesByName.put(variable.getName(), variable);
+        }
+        return variablesByName;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.svp.core.exceptions.InvalidBulkValidatorApiUsageException;
+import org.qubership.atp.svp.core.exceptions.ValidationException;
+import org.qubership.atp.svp.model.bulkvalidator.ComparingProcessResponse;
+import org.qubership.atp.svp.model.bulkvalidator.GettingTestCaseIdsResponse;
+import org.qubership.atp.svp.model.bulkvalidator.TestRunCreationResponse;
+import org.qubership.atp.svp.model.bulkvalidator.ValidationObject;
+import org.qubership.atp.svp.model.impl.BulkValidatorValidation;
+import org.qubership.atp.svp.model.impl.BulkValidatorValidationItem;
+import org.qubership.atp.svp.repo.impl.BulkValidatorRepository;
+import org.qubership.atp.svp.service.ExecutionVariablesService;
+import org.qubership.automation.pc.compareresult.DiffMessage;
+import org.qubership.automation.pc.compareresult.ResultType;
+
+public class BulkValidatorValidationServiceTest {
+
+    private static final long BV_RESPONSE_DELAY_MS = 20;
+    private static final int PARALLELISM = 10;
+    private static final UUID BV_PROJECT_ID = UUID.randomUUID();
+
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private BulkValidatorRepository bulkValidatorRepository;
+    private ExecutionVariablesService executionVariablesService;
+    private BulkValidatorValidationService bulkValidatorValidationService;
+
+    @Before
+    public void init() {
+        bulkValidatorRepository = mock(BulkValidatorRepository.class);
+        executionVariablesService = mock(ExecutionVariablesService.class);
+        bulkValidatorValidationService = new BulkValidatorValidationService(bulkValidatorRepository,
+                executionVariablesService, PARALLELISM, 300);
+        // Stand-in of Bulk Validator: test run id is the validated value, value "FAILED" is not identical
+        when(bulkValidatorRepository.createTestRun(any(), any(), anyList())).thenAnswer(invocation -> {
+            List<ValidationObject> validationObjects = invocation.getArgument(2);
+            TestRunCreationResponse response = new TestRunCreationResponse();
+            response.setTrId(UUID.nameUUIDFromBytes(validationObjects.get(0).getAr().getBytes()));
+            simulateBvResponseTime();
+            return response;
+        });
+        when(bulkValidatorRepository.compare(any(), anyList())).thenAnswer(invocation -> {
+            List<UUID> testRunIds = invocation.getArgument(1);
+            UUID failedTestRunId = UUID.nameUUIDFromBytes("FAILED".getBytes());
+            List<ComparingProcessResponse> responses = new ArrayList<>();
+            for (UUID testRunId : testRunIds) {
+                ComparingProcessResponse response = new ComparingProcessResponse();
+                response.setTrId(testRunId);
+                response.setResultLink("/tr/" + testRunId);
+                response.setCompareResult(testRunId.equals(failedTestRunId)
+                        ? ResultType.MODIFIED : ResultType.IDENTICAL);
+                responses.add(response);
+            }
+            simulateBvResponseTime();
+            return responses;
+        });
+    }
+
+    @After
+    public void shutdown() {
+        bulkValidatorValidationService.shutdown();
+    }
+
+    @Test(timeout = 30_000)
+    public void validateRowsWithBulkValidator_200Rows_rowsAreValidatedConcurrentlyInRowsOrder()
+            throws ValidationException {
+        int rowsCount = 200;
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int rowIdx = 0; rowIdx < rowsCount; rowIdx++) {
+            rows.add(createRow(rowIdx % 50 == 7 ? "FAILED" : "value" + rowIdx));
+        }
+        List<DiffMessage> diffs = new ArrayList<>();
+
+        long started = System.nanoTime();
+        List<List<ComparingProcessResponse>> responses = bulkValidatorValidationService
+                .validateRowsWithBulkValidator(BV_PROJECT_ID, createValidation(), rows, diffs, "table", 0);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Sequential validation takes 200 rows * 2 requests * 20 ms
+        long sequentialMs = rowsCount * 2 * BV_RESPONSE_DELAY_MS;
+        Assert.assertTrue("200 rows were validated in " + elapsedMs + " ms", elapsedMs < sequentialMs / 2);
+        Assert.assertTrue(maxConcurrentRequests.get() > 1);
+        Assert.assertTrue(maxConcurrentRequests.get() <= PARALLELISM);
+        Assert.assertEquals(rowsCount, responses.size());
+        for (int rowIdx = 0; rowIdx < rowsCount; rowIdx++) {
+            String value = rows.get(rowIdx).get("STATUS");
+            Assert.assertEquals(UUID.nameUUIDFromBytes(value.getBytes()), responses.get(rowIdx).get(0).getTrId());
+        }
+        Assert.assertEquals(Arrays.asList("table|7|STATUS", "table|57|STATUS", "table|107|STATUS",
+                        "table|157|STATUS"),
+                Arrays.asList(diffs.get(0).getActual(), diffs.get(1).getActual(), diffs.get(2).getActual(),
+                        diffs.get(3).getActual()));
+        Assert.assertEquals(4, diffs.size());
+    }
+
+    @Test(timeout = 30_000)
+    public void validateRowsWithBulkValidator_bulkValidatorFails_throwsValidationException() {
+        when(bulkValidatorRepository.compare(any(), anyList()))
+                .thenThrow(new InvalidBulkValidatorApiUsageException("BV is unavailable", new RuntimeException()));
+        List<Map<String, String>> rows = Arrays.asList(createRow("value1"), createRow("value2"));
+
+        try {
+            bulkValidatorValidationService.validateRowsWithBulkValidator(BV_PROJECT_ID, createValidation(), rows,
+                    new ArrayList<>(), "table", 0);
+            Assert.fail("ValidationException is expected");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("BV is unavailable"));
+            Assert.assertTrue(e.getCause() instanceof InvalidBulkValidatorApiUsageException);
+        }
+    }
+
+    @Test
+    public void getNotFoundTestCasesByName_sameNamesTwice_testCaseIdsAreRequestedOnce() throws ValidationException {
+        String testCaseId = UUID.randomUUID().toString();
+        String explicitTestCaseId = UUID.randomUUID().toString();
+        GettingTestCaseIdsResponse response = new GettingTestCaseIdsResponse();
+        Map<String, List<String>> testCases = new HashMap<>();
+        testCases.put("testCaseName", Collections.singletonList(testCaseId));
+        response.setTestCases(testCases);
+        response.setNotFoundTcNames(Collections.singletonList("lostName"));
+        when(bulkValidatorRepository.getTestCaseIds(any(), anyList())).thenReturn(response);
+        when(executionVariablesService.getTestCaseNamesFromVariable(anyList(), any()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<String>>getArgument(0)));
+
+        BulkValidatorValidation firstValidation = createValidation("testCaseName", explicitTestCaseId);
+        List<String> firstNotFound = bulkValidatorValidationService.getNotFoundTestCasesByName(BV_PROJECT_ID,
+                firstValidation, null);
+        BulkValidatorValidation secondValidation = createValidation("testCaseName", explicitTestCaseId);
+        List<String> secondNotFound = bulkValidatorValidationService.getNotFoundTestCasesByName(BV_PROJECT_ID,
+                secondValidation, null);
+
+        verify(bulkValidatorRepository, times(1)).getTestCaseIds(eq(BV_PROJECT_ID), anyList());
+        Assert.assertEquals(Collections.singletonList("lostName"), firstNotFound);
+        Assert.assertNull(secondNotFound);
+        Assert.assertEquals(Arrays.asList(explicitTestCaseId, testCaseId), firstValidation.getTestCaseIds());
+        Assert.assertEquals(Arrays.asList(explicitTestCaseId, testCaseId), secondValidation.getTestCaseIds());
+    }
+
+    private void simulateBvResponseTime() throws InterruptedException {
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(BV_RESPONSE_DELAY_MS);
+        } finally {
+            concurrentRequests.decrementAndGet();
+        }
+    }
+
+    private Map<String, String> createRow(String status) {
+        Map<String, String> row = new HashMap<>();
+        row.put("STATUS", status);
+        return row;
+    }
+
+    private BulkValidatorValidation createValidation(String... testCaseIds) {
+        BulkValidatorValidation validation = new BulkValidatorValidation();
+        validation.setValidationItem(Collections.singletonList(new BulkValidatorValidationItem("status", "STATUS")));
+        validation.setTestCaseIds(testCaseIds.length == 0
+                ? Collections.singletonList(UUID.randomUUID().toString())
+                : new ArrayList<>(Arrays.asList(testCaseIds)));
+        return validation;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.svp.core.enums.ValidationStatus;
+import org.qubership.atp.svp.core.enums.ValidationType;
+import org.qubership.atp.svp.core.exceptions.ValidationException;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.model.impl.TableValidationSettings;
+import org.qubership.atp.svp.model.pot.validation.TableVsTableValidationInfo;
+import org.qubership.atp.svp.model.pot.values.TableValueObject;
+import org.qubership.atp.svp.model.table.Table;
+import org.qubership.atp.svp.tests.DbMockEntity;
+import org.qubership.automation.pc.compareresult.DiffMessage;
+import org.qubership.automation.pc.compareresult.ResultType;
+
+import com.sun.management.ThreadMXBean;
+
+public class CompareTablesServiceTest {
+
+    private static final List<String> HEADERS = Arrays.asList("ID", "VALUE");
+
+    private final CompareTablesService compareTablesService = new CompareTablesService();
+
+    @Test
+    public void compareTables_arRowsWithOtherKeys_arRowsAlignedByErKeys() throws IOException, ValidationException {
+        Table er = createTable(row("1", "a"), row("2", "b"), row("3", "c"));
+        Table ar = createTable(row("3", "c"), row("4", "d"), row("1", "a"));
+        PotSessionParameterEntity parameter = createParameter(er, ar);
+
+        compareTablesService.compareTables(parameter, true);
+
+        Assert.assertEquals(Arrays.asList(row("1", "a"), Collections.emptyMap(), row("3", "c"), row("4", "d")),
+                ar.getRows());
+        Assert.assertEquals(ValidationStatus.FAILED, parameter.getValidationInfo().getStatus());
+    }
+
+    @Test
+    public void compareTables_sameRowsInOtherOrder_passedWithoutDiffs() throws IOException, ValidationException {
+        Table er = createTable(row("1", "a"), row("2", "b"), row("2", "b"));
+        Table ar = createTable(row("2", "b"), row("1", "a"), row("2", "b"));
+        PotSessionParameterEntity parameter = createParameter(er, ar);
+
+        compareTablesService.compareTables(parameter, true);
+
+        TableVsTableValidationInfo info = (TableVsTableValidationInfo) parameter.getValidationInfo();
+        Assert.assertEquals(ValidationStatus.PASSED, info.getStatus());
+        Assert.assertTrue(info.getTableValidations().get(0).getDiffs().isEmpty());
+    }
+
+    @Test(timeout = 30000)
+    public void compareTables_hundredThousandRowsInReversedOrder_passed() throws IOException, ValidationException {
+        int rowsCount = 100000;
+        List<Map<String, String>> erRows = new ArrayList<>(rowsCount);
+        List<Map<String, String>> arRows = new ArrayList<>(rowsCount);
+        for (int i = 0; i < rowsCount; i++) {
+            erRows.add(row(String.valueOf(i), "value " + i));
+            arRows.add(row(String.valueOf(rowsCount - 1 - i), "value " + (rowsCount - 1 - i)));
+        }
+        PotSessionParameterEntity parameter = createParameter(new Table(HEADERS, erRows),
+                new Table(HEADERS, arRows));
+
+        compareTablesService.compareTables(parameter, true);
+
+        Assert.assertEquals(ValidationStatus.PASSED, parameter.getValidationInfo().getStatus());
+    }
+
+    @Test
+    public void compareTables_differentCells_cellsHighlightedInComparatorFormat()
+            throws IOException, ValidationException {
+        Table er = new Table("Table", HEADERS, new ArrayList<>(Arrays.asList(row("1", "a"), row("2", "b"),
+                row("3", "c"))));
+        Table ar = new Table("Table", HEADERS, new ArrayList<>(Arrays.asList(row("3", "c"), row("4", "d"),
+                row("1", "x"))));
+        PotSessionParameterEntity parameter = createParameter(er, ar);
+
+        compareTablesService.compareTables(parameter, true);
+
+        List<DiffMessage> diffs = ((TableVsTableValidationInfo) parameter.getValidationInfo())
+                .getTableValidations().get(0).getDiffs();
+        Assert.assertEquals(ValidationStatus.FAILED, parameter.getValidationInfo().getStatus());
+        Assert.assertEquals(5, diffs.size());
+        assertDiff(diffs.get(0), ResultType.MODIFIED, "Table|0|VALUE", "a", "Table|0|VALUE", "x");
+        assertDiff(diffs.get(1), ResultType.MISSED, "Table|1|ID", "2", "Table|1|ID", null);
+        assertDiff(diffs.get(2), ResultType.MISSED, "Table|1|VALUE", "b", "Table|1|VALUE", null);
+        assertDiff(diffs.get(3), ResultType.EXTRA, null, null, "Table|3|ID", "4");
+        assertDiff(diffs.get(4), ResultType.EXTRA, null, null, "Table|3|VALUE", "d");
+    }
+
+    @Test(timeout = 30000)
+    public void compareTables_hundredThousandDifferentRows_allocatesLessThanOldPath()
+            throws IOException, ValidationException {
+        int rowsCount = 100000;
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // Old path aligned rows as equal tables are aligned, then compared JSON of both tables.
+        // Serialization alone is taken as the lower bound of the comparator
+        PotSessionParameterEntity equalParameter = createParameter(createDifferentErTable(rowsCount),
+                createDifferentErTable(rowsCount));
+        long alignAllocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long alignStarted = System.nanoTime();
+        compareTablesService.compareTables(equalParameter, true);
+        long alignMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - alignStarted);
+        long alignAllocated = threadBean.getThreadAllocatedBytes(threadId) - alignAllocatedBefore;
+        Table erForJson = createDifferentErTable(rowsCount);
+        Table arForJson = createDifferentArTable(rowsCount);
+        long jsonAllocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long jsonStarted = System.nanoTime();
+        int jsonLength = erForJson.toString().length() + arForJson.toString().length();
+        long jsonMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - jsonStarted);
+        long jsonAllocated = threadBean.getThreadAllocatedBytes(threadId) - jsonAllocatedBefore;
+        PotSessionParameterEntity parameter = createParameter(createDifferentErTable(rowsCount),
+                createDifferentArTable(rowsCount));
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        compareTablesService.compareTables(parameter, true);
+        long compareMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        List<DiffMessage> diffs = ((TableVsTableValidationInfo) parameter.getValidationInfo())
+                .getTableValidations().get(0).getDiffs();
+        Assert.assertEquals(ValidationStatus.FAILED, parameter.getValidationInfo().getStatus());
+        Map<ResultType, Long> diffsByResult = diffs.stream()
+                .collect(Collectors.groupingBy(DiffMessage::getResult, Collectors.counting()));
+        // First thousand ER rows are missed, each tenth row is modified, last thousand AR rows are extra
+        Assert.assertEquals(Long.valueOf(2000), diffsByResult.get(ResultType.MISSED));
+        Assert.assertEquals(Long.valueOf(9900), diffsByResult.get(ResultType.MODIFIED));
+        Assert.assertEquals(Long.valueOf(2000), diffsByResult.get(ResultType.EXTRA));
+        Assert.assertTrue("Compare allocated " + allocated + " bytes in " + compareMs + " ms, old path allocated "
+                        + alignAllocated + " bytes in " + alignMs + " ms to align rows and " + jsonAllocated
+                        + " bytes in " + jsonMs + " ms for JSON of " + jsonLength + " chars",
+                allocated < alignAllocated + jsonAllocated);
+    }
+
+    private Table createDifferentErTable(int rowsCount) {
+        List<Map<String, String>> rows = new ArrayList<>(rowsCount);
+        for (int i = 0; i < rowsCount; i++) {
+            rows.add(row(String.valueOf(i), "value " + i));
+        }
+        return new Table(HEADERS, rows);
+    }
+
+    private Table createDifferentArTable(int rowsCount) {
+        List<Map<String, String>> rows = new ArrayList<>(rowsCount);
+        for (int i = rowsCount + 999; i >= 1000; i--) {
+            rows.add(row(String.valueOf(i), (i % 10 == 0 ? "changed " : "value ") + i));
+        }
+        return new Table(HEADERS, rows);
+    }
+
+    private void assertDiff(DiffMessage diff, ResultType result, String expected, String expectedValue,
+                            String actual, String actualValue) {
+        Assert.assertEquals(result, diff.getResult());
+        Assert.assertEquals(expected, diff.getExpected());
+        Assert.assertEquals(expectedValue, diff.getExpectedValue());
+        Assert.assertEquals(actual, diff.getActual());
+        Assert.assertEquals(actualValue, diff.getActualValue());
+    }
+
+    private PotSessionParameterEntity createParameter(Table er, Table ar) throws IOException {
+        PotSessionParameterEntity parameter = DbMockEntity.generatePotSessionParameterForTable(ValidationType.CUSTOM,
+                0);
+        parameter.getParameterConfig().getErConfig().setTableValidationSettings(
+                new TableValidationSettings(Collections.singletonList("id"), new ArrayList<>()));
+        parameter.setEr(new TableValueObject(er));
+        parameter.addArValue(new TableValueObject(ar));
+        return parameter;
+    }
+
+    @SafeVarargs
+    private final Table createTable(Map<String, String>... rows) {
+        return new Table(HEADERS, new ArrayList<>(Arrays.asList(rows)));
+    }
+
+    private static Map<String, String> row(String id, String value) {
+        Map<String, String> row = new HashMap<>();
+        row.put("ID", id);
+        row.put("VALUE", value);
+        return row;
+    }
+}
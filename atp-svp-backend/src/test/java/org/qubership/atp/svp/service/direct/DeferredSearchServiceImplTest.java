@@ -23,12 +23,19 @@ import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.modules.junit4.PowerMockRunnerDelegate;
@@ -36,13 +43,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.junit4.SpringRunner;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import org.qubership.atp.svp.core.enums.ValidationStatus;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
-import org.qubership.atp.svp.model.pot.AbstractParameterExecutionContext;
 import org.qubership.atp.svp.model.pot.SutParameterExecutionContext;
+import org.qubership.atp.svp.model.pot.validation.ValidationInfo;
 import org.qubership.atp.svp.repo.impl.LogCollectorRepository;
 import org.qubership.atp.svp.tests.DbMockEntity;
 import org.qubership.atp.svp.tests.TestWithTestData;
@@ -82,21 +88,18 @@ public class DeferredSearchServiceImplTest extends TestWithTestData {
                 currentTime.minusDays(1), expiredParameter, expiredId);
         SutParameterExecutionContext parameterExecutionContext = generateParameterExecutionContext(sessionId,
                 currentTime, parameter, searchId);
-        ConcurrentHashMap<UUID, AbstractParameterExecutionContext> currentLogCollectorSearches
-                = new ConcurrentHashMap<>();
-        currentLogCollectorSearches.put(expiredId, expiredParameterExecutionContext);
-        currentLogCollectorSearches.put(searchId, parameterExecutionContext);
         Mockito.doReturn(true).when(sessionServiceImpl).hasSession(any());
         Mockito.doNothing().when(messagingService).sendSutParameterResult(any(), any());
-        ReflectionTestUtils.setField(deferredSearchService, "deferredSearches",
-                currentLogCollectorSearches);
+        deferredSearchService.storeContextByRequestSearchId(expiredId, expiredParameterExecutionContext);
+        deferredSearchService.storeContextByRequestSearchId(searchId, parameterExecutionContext);
 
         deferredSearchService.killExpiredDeferredSearchResults();
 
         Assert.assertEquals(ValidationStatus.WARNING, expiredParameter.getValidationInfo().getStatus());
         Assert.assertEquals(ValidationStatus.IN_PROGRESS, parameter.getValidationInfo().getStatus());
         verify(logCollectorRepository, times(1)).cancelSearches(any());
-        Assert.assertEquals(1, currentLogCollectorSearches.size());
+        Assert.assertFalse(deferredSearchService.findContextByRequestSearchId(expiredId).isPresent());
+        Assert.assertTrue(deferredSearchService.findContextByRequestSearchId(searchId).isPresent());
         verify(messagingService).sendSutParameterResult(sessionId, expiredParameter);
     }
 
@@ -113,22 +116,169 @@ public class DeferredSearchServiceImplTest extends TestWithTestData {
                 currentTime, parameter1, searchId2);
         SutParameterExecutionContext parameterExecutionContext2 = generateParameterExecutionContext(sessionId,
                 currentTime, parameter2, searchId);
-        ConcurrentHashMap<UUID, AbstractParameterExecutionContext> currentLogCollectorSearches
-                = new ConcurrentHashMap<>();
-        currentLogCollectorSearches.put(searchId, parameterExecutionContext1);
-        currentLogCollectorSearches.put(searchId2, parameterExecutionContext2);
         Mockito.doReturn(true).when(sessionServiceImpl).hasSession(any());
         Mockito.doNothing().when(messagingService).sendSutParameterResult(any(), any());
-        ReflectionTestUtils.setField(deferredSearchService, "deferredSearches",
-                currentLogCollectorSearches);
+        deferredSearchService.storeContextByRequestSearchId(searchId, parameterExecutionContext1);
+        deferredSearchService.storeContextByRequestSearchId(searchId2, parameterExecutionContext2);
 
         deferredSearchService.killExpiredDeferredSearchResults();
 
         Assert.assertEquals(ValidationStatus.IN_PROGRESS, parameter1.getValidationInfo().getStatus());
         Assert.assertEquals(ValidationStatus.IN_PROGRESS, parameter2.getValidationInfo().getStatus());
         verify(logCollectorRepository, never()).cancelSearches(any());
-        Assert.assertEquals(2, currentLogCollectorSearches.size());
+        Assert.assertTrue(deferredSearchService.findContextByRequestSearchId(searchId).isPresent());
+        Assert.assertTrue(deferredSearchService.findContextByRequestSearchId(searchId2).isPresent());
         Mockito.doReturn(true).when(sessionServiceImpl).hasSession(any());
         verify(messagingService, never()).sendSutParameterResult(any(), any());
     }
+
+    @Test
+    public void killAllDeferredSearchResultsByExpiredSessionId_searchesOfSeveralSessions_onlySessionSearchesAreKilled()
+            throws IOException {
+        UUID sessionId = UUID.randomUUID();
+        UUID otherSessionId = UUID.randomUUID();
+        UUID searchId = UUID.randomUUID();
+        UUID otherSearchId = UUID.randomUUID();
+        PotSessionParameterEntity parameter = createParameter();
+        PotSessionParameterEntity otherParameter = createParameter();
+        Mockito.doReturn(true).when(sessionServiceImpl).hasSession(any());
+        deferredSearchService.storeContextByRequestSearchId(searchId,
+                generateParameterExecutionContext(sessionId, OffsetDateTime.now(), parameter, UUID.randomUUID()));
+        deferredSearchService.storeContextByRequestSearchId(otherSearchId, generateParameterExecutionContext(
+                otherSessionId, OffsetDateTime.now(), otherParameter, UUID.randomUUID()));
+
+        deferredSearchService.killAllDeferredSearchResultsByExpiredSessionId(sessionId);
+        deferredSearchService.killAllDeferredSearchResultsByExpiredSessionId(sessionId);
+
+        Assert.assertEquals(ValidationStatus.WARNING, parameter.getValidationInfo().getStatus());
+        Assert.assertFalse(deferredSearchService.findContextByRequestSearchId(searchId).isPresent());
+        Assert.assertTrue(deferredSearchService.findContextByRequestSearchId(otherSearchId).isPresent());
+        verify(messagingService, times(1)).sendSutParameterResult(any(), any());
+        verify(logCollectorRepository, times(1)).cancelSearches(any());
+    }
+
+    @Test
+    public void killExpiredDeferredSearchResults_searchWasEvictedBeforeExpiration_searchIsNotKilled()
+            throws IOException {
+        UUID searchId = UUID.randomUUID();
+        deferredSearchService.storeContextByRequestSearchId(searchId, generateParameterExecutionContext(
+                UUID.randomUUID(), OffsetDateTime.now().minusDays(1), createParameter(), UUID.randomUUID()));
+        deferredSearchService.evictContextByRequestSearchId(searchId);
+
+        deferredSearchService.killExpiredDeferredSearchResults();
+
+        verify(messagingService, never()).sendSutParameterResult(any(), any());
+        verify(logCollectorRepository, never()).cancelSearches(any());
+    }
+
+    @Test
+    public void killExpiredDeferredSearchResults_searchWasReplacedBeforeExpiration_replacingSearchIsNotKilled()
+            throws IOException {
+        UUID searchId = UUID.randomUUID();
+        PotSessionParameterEntity expiredParameter = createParameter();
+        PotSessionParameterEntity replacingParameter = createParameter();
+        deferredSearchService.storeContextByRequestSearchId(searchId, generateParameterExecutionContext(
+                UUID.randomUUID(), OffsetDateTime.now().minusDays(1), expiredParameter, UUID.randomUUID()));
+        deferredSearchService.storeContextByRequestSearchId(searchId, generateParameterExecutionContext(
+                UUID.randomUUID(), OffsetDateTime.now(), replacingParameter, UUID.randomUUID()));
+
+        deferredSearchService.killExpiredDeferredSearchResults();
+
+        Assert.assertEquals(ValidationStatus.IN_PROGRESS, replacingParameter.getValidationInfo().getStatus());
+        Assert.assertSame(replacingParameter,
+                deferredSearchService.findContextByRequestSearchId(searchId).get().getParameter());
+        verify(messagingService, never()).sendSutParameterResult(any(), any());
+        verify(logCollectorRepository, never()).cancelSearches(any());
+    }
+
+    @Test(timeout = 30_000)
+    public void killDeferredSearchResults_tenThousandConcurrentSearches_onlyAffectedSearchesAreVisited()
+            throws Exception {
+        int sessionsCount = 100;
+        int searchesPerSession = 100;
+        List<UUID> sessionIds = new ArrayList<>();
+        IntStream.range(0, sessionsCount).forEach(i -> sessionIds.add(UUID.randomUUID()));
+        OffsetDateTime now = OffsetDateTime.now();
+        Mockito.doReturn(true).when(sessionServiceImpl).hasSession(any());
+        ExecutorService storingExecutor = Executors.newFixedThreadPool(8);
+        List<Future<?>> storing = new ArrayList<>();
+        for (UUID sessionId : sessionIds) {
+            storing.add(storingExecutor.submit(() -> {
+                for (int i = 0; i < searchesPerSession; i++) {
+                    // Half of searches of each session is expired
+                    OffsetDateTime started = i % 2 == 0 ? now.minusDays(1) : now;
+                    deferredSearchService.storeContextByRequestSearchId(UUID.randomUUID(),
+                            generateParameterExecutionContext(sessionId, started, createParameter(),
+                                    UUID.randomUUID()));
+                }
+            }));
+        }
+        for (Future<?> future : storing) {
+            future.get();
+        }
+        storingExecutor.shutdown();
+
+        long killSessionStarted = System.nanoTime();
+        deferredSearchService.killAllDeferredSearchResultsByExpiredSessionId(sessionIds.get(0));
+        long killSessionMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - killSessionStarted);
+        deferredSearchService.killExpiredDeferredSearchResults();
+
+        ArgumentCaptor<List<UUID>> cancelledSearches = ArgumentCaptor.forClass(List.class);
+        verify(logCollectorRepository, times(2)).cancelSearches(cancelledSearches.capture());
+        Assert.assertEquals(searchesPerSession, cancelledSearches.getAllValues().get(0).size());
+        Assert.assertEquals((sessionsCount - 1) * searchesPerSession / 2,
+                cancelledSearches.getAllValues().get(1).size());
+        verify(messagingService, times(searchesPerSession + (sessionsCount - 1) * searchesPerSession / 2))
+                .sendSutParameterResult(any(), any());
+        // Killing of one session does not depend on the count of other searches
+        Assert.assertTrue("Searches of the session were killed in " + killSessionMs + " ms", killSessionMs < 1_000);
+    }
+
+    @Test(timeout = 30_000)
+    public void killAllDeferredSearchResultsByExpiredSessionId_searchesStoredWhileOthersEvicted_allSearchesAreKilled()
+            throws Exception {
+        int searchesCount = 10_000;
+        UUID sessionId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        Mockito.doReturn(true).when(sessionServiceImpl).hasSession(any());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Evicted searches empty the index of the session while the kept searches are added to it
+            Future<?> evicting = executor.submit(() -> {
+                for (int i = 0; i < searchesCount; i++) {
+                    UUID searchId = UUID.randomUUID();
+                    deferredSearchService.storeContextByRequestSearchId(searchId,
+                            generateParameterExecutionContext(sessionId, now, createParameter(), UUID.randomUUID()));
+                    deferredSearchService.evictContextByRequestSearchId(searchId);
+                }
+                return null;
+            });
+            Future<?> storing = executor.submit(() -> {
+                for (int i = 0; i < searchesCount; i++) {
+                    deferredSearchService.storeContextByRequestSearchId(UUID.randomUUID(),
+                            generateParameterExecutionContext(sessionId, now, createParameter(), UUID.randomUUID()));
+                }
+                return null;
+            });
+            evicting.get();
+            storing.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        deferredSearchService.killAllDeferredSearchResultsByExpiredSessionId(sessionId);
+
+        ArgumentCaptor<List<UUID>> cancelledSearches = ArgumentCaptor.forClass(List.class);
+        verify(logCollectorRepository, times(1)).cancelSearches(cancelledSearches.capture());
+        Assert.assertEquals(searchesCount, cancelledSearches.getValue().size());
+    }
+
+    private PotSessionParameterEntity createParameter() {
+        PotSessionTabEntity tab = new PotSessionTabEntity();
+        tab.setId(UUID.randomUUID());
+        PotSessionParameterEntity parameter = new PotSessionParameterEntity();
+        parameter.setPotSessionTabEntity(tab);
+        parameter.setValidationInfo(new ValidationInfo(ValidationStatus.IN_PROGRESS));
+        return parameter;
+    }
 }
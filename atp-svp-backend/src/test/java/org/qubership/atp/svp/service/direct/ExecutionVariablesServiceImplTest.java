@@ -83,6 +83,70 @@ public class ExecutionVariablesServiceImplTest {
         Assert.assertEquals(initialScript, arScript);
     }
 
+    @Test
+    public void getSourceWithExecutionVariables_placeholderInsideUnclosedPlaceholder_substitutesInnerPlaceholder() {
+        ConcurrentHashMap<String, ExecutionVariable> executionVariables = new ConcurrentHashMap<>();
+        executionVariables.put("KEY1", new SimpleExecutionVariable("key1", "keyValue1"));
+
+        String arScript = executionVariablesService.getSourceWithExecutionVariables(
+                "select '${a${Key1}' from dual", executionVariables);
+
+        Assert.assertEquals("select '${akeyValue1' from dual", arScript);
+    }
+
+    @Test
+    public void getSourceWithExecutionVariables_valueWithReplacementChars_valueInsertedAsIs() {
+        ConcurrentHashMap<String, ExecutionVariable> executionVariables = new ConcurrentHashMap<>();
+        executionVariables.put("KEY1", new SimpleExecutionVariable("key1", "$1\\value1"));
+
+        String arScript = executionVariablesService.getSourceWithExecutionVariables(
+                "select ${key1} and ${key1} from dual", executionVariables);
+
+        Assert.assertEquals("select $1\\value1 and $1\\value1 from dual", arScript);
+    }
+
+    @Test(expected = VariableException.class)
+    public void getSourceWithExecutionVariables_valueWithVariable_variableFromValueNotSubstituted() {
+        ConcurrentHashMap<String, ExecutionVariable> executionVariables = new ConcurrentHashMap<>();
+        executionVariables.put("KEY1", new SimpleExecutionVariable("key1", "${key2}"));
+        executionVariables.put("KEY2", new SimpleExecutionVariable("key2", "value2"));
+
+        executionVariablesService.getSourceWithExecutionVariables("select ${key1} from dual", executionVariables);
+    }
+
+    @Test(expected = VariableException.class)
+    public void getSourceWithExecutionVariables_variableWithEmptyValue_throwsVariableException() {
+        ConcurrentHashMap<String, ExecutionVariable> executionVariables = new ConcurrentHashMap<>();
+        executionVariables.put("KEY1", new SimpleExecutionVariable("key1", ""));
+
+        executionVariablesService.getSourceWithExecutionVariables("select ${key1} from dual", executionVariables);
+    }
+
+    @Test(timeout = 10_000)
+    public void getSourceWithExecutionVariables_manyVariablesAndLargeSource_substitutesInSinglePass() {
+        int variablesCount = 2_000;
+        ConcurrentHashMap<String, ExecutionVariable> executionVariables = new ConcurrentHashMap<>();
+        for (int idx = 0; idx < variablesCount; idx++) {
+            String name = "env.system" + idx + ".param";
+            executionVariables.put(name.toUpperCase(), new SimpleExecutionVariable(name, "value" + idx));
+        }
+        StringBuilder source = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int idx = 0; source.length() < 50 * 1024; idx++) {
+            int variableIdx = idx * 7 % variablesCount;
+            source.append("select * from table_").append(idx).append(" where col = '${ENV.System")
+                    .append(variableIdx).append(".param}';\n");
+            expected.append("select * from table_").append(idx).append(" where col = 'value")
+                    .append(variableIdx).append("';\n");
+        }
+
+        for (int iteration = 0; iteration < 200; iteration++) {
+            String arScript = executionVariablesService.getSourceWithExecutionVariables(source.toString(),
+                    executionVariables);
+            Assert.assertEquals(expected.toString(), arScript);
+        }
+    }
+
     @Test
     public void getHttpSettingsWithExecutionVariables_HttpSettingsWithAllFieldsVariables_returnsHttpSettingsWithParameterValues() {
         String mapKeyErParam = "key = commonValue1";
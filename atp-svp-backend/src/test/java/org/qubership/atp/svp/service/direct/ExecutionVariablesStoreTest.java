@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.qubership.atp.svp.model.pot.ExecutionVariable;
+import org.qubership.atp.svp.model.pot.SimpleExecutionVariable;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepository;
+
+public class ExecutionVariablesStoreTest {
+
+    private PotSessionRepository potSessionRepository;
+    private PotSessionBulkRepository potSessionBulkRepository;
+    private ExecutionVariablesStore store;
+    private UUID sessionId;
+
+    @Before
+    public void init() {
+        potSessionRepository = mock(PotSessionRepository.class);
+        potSessionBulkRepository = mock(PotSessionBulkRepository.class);
+        store = new ExecutionVariablesStore(potSessionRepository, potSessionBulkRepository, 600);
+        sessionId = UUID.randomUUID();
+        ConcurrentHashMap<String, ExecutionVariable> variables = new ConcurrentHashMap<>();
+        variables.put("KEY", new SimpleExecutionVariable("KEY", "value"));
+        store.register(sessionId, variables);
+    }
+
+    @Test
+    public void getVariables_variableAddedByUpstreamParameter_visibleWithoutReloading() {
+        AtomicInteger loads = new AtomicInteger();
+        ConcurrentHashMap<String, ExecutionVariable> upstreamVariables = store.getVariables(sessionId, () -> {
+            loads.incrementAndGet();
+            return new ConcurrentHashMap<>();
+        });
+        upstreamVariables.put("GROUP.UPSTREAM", new SimpleExecutionVariable("GROUP.UPSTREAM", "42"));
+        store.addVariables(sessionId, upstreamVariables, ConcurrentHashMap::new);
+
+        ConcurrentHashMap<String, ExecutionVariable> downstreamVariables = store.getVariables(sessionId, () -> {
+            loads.incrementAndGet();
+            return new ConcurrentHashMap<>();
+        });
+
+        Assert.assertEquals("42",
+                ((SimpleExecutionVariable) downstreamVariables.get("GROUP.UPSTREAM")).getSimpleValue());
+        Assert.assertTrue(downstreamVariables.containsKey("KEY"));
+        Assert.assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void flush_variablesNotChanged_noUpdate() {
+        ConcurrentHashMap<String, ExecutionVariable> contextVariables = store.getVariables(sessionId,
+                ConcurrentHashMap::new);
+        store.addVariables(sessionId, contextVariables, ConcurrentHashMap::new);
+
+        store.flush(sessionId);
+
+        verify(potSessionRepository, never()).mergeVariables(anyString(), eq(sessionId));
+    }
+
+    @Test
+    public void flush_variableChanged_onlyChangedVariableWritten() {
+        ConcurrentHashMap<String, ExecutionVariable> contextVariables = store.getVariables(sessionId,
+                ConcurrentHashMap::new);
+        contextVariables.put("GROUP.NEW", new SimpleExecutionVariable("GROUP.NEW", "new"));
+        store.addVariables(sessionId, contextVariables, ConcurrentHashMap::new);
+
+        store.flush(sessionId);
+
+        ArgumentCaptor<String> written = ArgumentCaptor.forClass(String.class);
+        verify(potSessionRepository).mergeVariables(written.capture(), eq(sessionId));
+        Assert.assertTrue(written.getValue().contains("GROUP.NEW"));
+        Assert.assertFalse(written.getValue().contains("\"KEY\""));
+    }
+
+    @Test
+    public void evictRemovedSessions_sessionDeletedByAnotherPod_variablesLoadedFromDatabaseAgain() {
+        when(potSessionBulkRepository.findExistingSessionIds(anyList())).thenReturn(Collections.emptySet());
+
+        store.evictRemovedSessions();
+
+        AtomicInteger loads = new AtomicInteger();
+        store.getVariables(sessionId, () -> {
+            loads.incrementAndGet();
+            return new ConcurrentHashMap<>();
+        });
+        Assert.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void evictRemovedSessions_sessionExists_variablesKeptInMemory() {
+        when(potSessionBulkRepository.findExistingSessionIds(anyList()))
+                .thenReturn(Collections.singleton(sessionId));
+
+        store.evictRemovedSessions();
+
+        Assert.assertTrue(store.getVariables(sessionId, ConcurrentHashMap::new).containsKey("KEY"));
+    }
+
+    @Test
+    public void getVariables_sessionNotAccessedDuringExpiration_variablesLoadedFromDatabaseAgain()
+            throws InterruptedException {
+        store = new ExecutionVariablesStore(potSessionRepository, potSessionBulkRepository, 1);
+        store.register(sessionId, new ConcurrentHashMap<>());
+
+        Thread.sleep(1100);
+
+        AtomicInteger loads = new AtomicInteger();
+        store.getVariables(sessionId, () -> {
+            loads.incrementAndGet();
+            return new ConcurrentHashMap<>();
+        });
+        Assert.assertEquals(1, loads.get());
+    }
+}
@@ -43,6 +43,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 
 import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
 import org.qubership.atp.svp.clients.api.logcollector.dto.public_api.ConfigurationDto;
+import org.qubership.atp.svp.core.exceptions.execution.ExecutionSessionNotFoundException;
 import org.qubership.atp.svp.model.api.GetInfoRequest;
 import org.qubership.atp.svp.model.db.FolderEntity;
 import org.qubership.atp.svp.model.db.ProjectConfigsEntity;
@@ -61,6 +62,7 @@ import org.qubership.atp.svp.repo.impl.EnvironmentRepository;
 import org.qubership.atp.svp.repo.impl.FilePageConfigurationRepository;
 import org.qubership.atp.svp.repo.impl.GitPageConfigurationRepository;
 import org.qubership.atp.svp.repo.impl.LogCollectorRepository;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepository;
 import org.qubership.atp.svp.service.PotGenerationEngine;
 import org.qubership.atp.svp.service.jpa.FolderServiceJpa;
@@ -80,6 +82,10 @@ public class ExecutorServiceImplTest {
     @SpyBean
     PotSessionServiceImpl potSessionService;
     @SpyBean
+    ExecutionVariablesStore executionVariablesStore;
+    @SpyBean
+    SessionCompletionRegistry sessionCompletionRegistry;
+    @SpyBean
     LogCollectorRepository logCollectorRepository;
 
     @MockBean
@@ -123,6 +129,8 @@ public class ExecutorServiceImplTest {
     @MockBean
     PotSessionRepository potSessionRepository;
     @MockBean
+    PotSessionBulkRepository potSessionBulkRepository;
+    @MockBean
     FolderServiceJpa folderServiceJpa;
     @MockBean
     SessionServiceImpl sessionServiceImpl;
@@ -317,6 +325,78 @@ public class ExecutorServiceImplTest {
 //                null);
 //    }
 
+    @Test
+    public void getStreamingPotReportForSession_sessionOfOtherProject_throwsSessionNotFoundBeforeGeneration() {
+        sessionConfiguration.getEnvironment().setProjectId(UUID.randomUUID());
+        PotSessionEntity session = new PotSessionEntity();
+        session.setSessionId(UUID.randomUUID());
+        session.setExecutionConfiguration(sessionConfiguration);
+        Mockito.when(potSessionRepository.findBySessionId(session.getSessionId())).thenReturn(Optional.of(session));
+
+        Assert.assertThrows(ExecutionSessionNotFoundException.class,
+                () -> executorService.getStreamingPotReportForSession(UUID.randomUUID(), session.getSessionId()));
+        Mockito.verify(potGenerationEngine, Mockito.never()).generateStreamingPot(any());
+    }
+
+    @Test
+    public void getStreamingPotReportForSession_sessionOfProject_generatesPot() {
+        UUID projectId = UUID.randomUUID();
+        sessionConfiguration.getEnvironment().setProjectId(projectId);
+        PotSessionEntity session = new PotSessionEntity();
+        session.setSessionId(UUID.randomUUID());
+        session.setExecutionConfiguration(sessionConfiguration);
+        Mockito.when(potSessionRepository.findBySessionId(session.getSessionId())).thenReturn(Optional.of(session));
+
+        executorService.getStreamingPotReportForSession(projectId, session.getSessionId());
+
+        Mockito.verify(potGenerationEngine).generateStreamingPot(session);
+    }
+
+    @Test
+    public void getStreamingPotReportForSessions_sessionOfOtherProject_throwsSessionNotFoundBeforeGeneration() {
+        UUID projectId = UUID.randomUUID();
+        sessionConfiguration.getEnvironment().setProjectId(projectId);
+        Environment otherEnvironment = new Environment();
+        otherEnvironment.setProjectId(UUID.randomUUID());
+        SessionExecutionConfiguration otherConfiguration = SessionExecutionConfiguration.builder()
+                .environment(otherEnvironment)
+                .pagesName(Collections.emptyList())
+                .logCollectorConfigurations(Collections.emptyList())
+                .shouldHighlightDiffs(false)
+                .shouldSendSessionResults(false)
+                .isFullInfoNeededInPot(false)
+                .onlyForPreconfiguredParams(false)
+                .isPotGenerationMode(false)
+                .onlyCommonParametersExecuted(false)
+                .forcedLoadingCommonParameters(false)
+                .build();
+        UUID sessionId = UUID.randomUUID();
+        UUID otherSessionId = UUID.randomUUID();
+        Mockito.doReturn(sessionConfiguration).when(potSessionService).getSessionExecutionConfiguration(sessionId);
+        Mockito.doReturn(otherConfiguration).when(potSessionService)
+                .getSessionExecutionConfiguration(otherSessionId);
+
+        Assert.assertThrows(ExecutionSessionNotFoundException.class,
+                () -> executorService.getStreamingPotReportForSessions(projectId,
+                        Arrays.asList(sessionId, otherSessionId)));
+        Mockito.verify(potGenerationEngine, Mockito.never()).generateStreamingPotArchive(any(), any());
+        Mockito.verify(potSessionRepository, Mockito.never()).findBySessionId(any());
+    }
+
+    @Test
+    public void getStreamingPotReportForSessions_sessionsOfProject_sessionsAreLoadedByArchive() {
+        UUID projectId = UUID.randomUUID();
+        sessionConfiguration.getEnvironment().setProjectId(projectId);
+        List<UUID> sessionIds = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+        sessionIds.forEach(sessionId -> Mockito.doReturn(sessionConfiguration).when(potSessionService)
+                .getSessionExecutionConfiguration(sessionId));
+
+        executorService.getStreamingPotReportForSessions(projectId, sessionIds);
+
+        Mockito.verify(potGenerationEngine).generateStreamingPotArchive(Mockito.eq(sessionIds), any());
+        Mockito.verify(potSessionRepository, Mockito.never()).findBySessionId(any());
+    }
+
     private ProjectConfigsEntity getProjectConfiguration(UUID projectId) {
         ProjectConfigsEntity config =  new ProjectConfigsEntity();
         config.setProjectId(projectId);
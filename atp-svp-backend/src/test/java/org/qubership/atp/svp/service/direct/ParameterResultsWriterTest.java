@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import org.qubership.atp.svp.core.enums.ValidationStatus;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
+import org.qubership.atp.svp.model.pot.validation.ValidationInfo;
+import org.qubership.atp.svp.model.pot.values.SimpleValueObject;
+import org.qubership.atp.svp.repo.impl.PotSessionParameterBatchRepository;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionParameterRepository;
+import org.qubership.atp.svp.tests.PostgresJpaTestUtils;
+
+/**
+ * Counts statements executed by Hibernate on PostgreSQL for results of parameters written by the tab batches.
+ */
+public class ParameterResultsWriterTest {
+
+    private static final int PARAMETERS = 1000;
+    private static final int BATCH_SIZE = 50;
+    private static final long FLUSH_INTERVAL_MS = 60000;
+    private static final String PASSWORD = "svp";
+
+    @ClassRule
+    public static GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:13"))
+            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private PotSessionParameterRepository potSessionParameterRepository;
+    private ParameterResultsWriter writer;
+    private PotSessionTabEntity tab;
+
+    @Before
+    public void init() {
+        entityManagerFactory = PostgresJpaTestUtils.createEntityManagerFactory(postgres, PASSWORD);
+        statistics = PostgresJpaTestUtils.getStatistics(entityManagerFactory);
+        potSessionParameterRepository = new JpaRepositoryFactory(SharedEntityManagerCreator
+                .createSharedEntityManager(entityManagerFactory)).getRepository(PotSessionParameterRepository.class);
+        PotSessionParameterBatchRepository batchRepository = new PotSessionParameterBatchRepository(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                new JpaTransactionManager(entityManagerFactory));
+        writer = new ParameterResultsWriter(batchRepository, BATCH_SIZE, FLUSH_INTERVAL_MS);
+        tab = PostgresJpaTestUtils.createSession(entityManagerFactory, 1, PARAMETERS)
+                .getPotSessionPageEntities().get(0).getPotSessionTabs().get(0);
+    }
+
+    @After
+    public void shutdown() {
+        writer.shutdown();
+        entityManagerFactory.close();
+    }
+
+    @Test
+    public void write_thousandParametersOfTab_writtenByJdbcBatchesAndSentInOrderAfterWrite() {
+        List<PotSessionParameterEntity> parameters = tab.getPotSessionParameterEntities();
+        List<String> sentResults = Collections.synchronizedList(new ArrayList<>());
+        statistics.clear();
+
+        for (int i = 0; i < PARAMETERS; i++) {
+            int index = i;
+            writer.write(tab.getId(), setResult(parameters.get(i), "value " + i), writtenParameter -> {
+                Assert.assertTrue("Result is sent before it is written",
+                        statistics.getEntityUpdateCount() > index);
+                sentResults.add(((SimpleValueObject) writtenParameter.getEr()).getValue());
+            });
+        }
+        writer.flushTab(tab.getId());
+
+        int batches = PARAMETERS / BATCH_SIZE;
+        Assert.assertEquals(PARAMETERS, statistics.getEntityUpdateCount());
+        Assert.assertEquals(batches, statistics.getSuccessfulTransactionCount());
+        // Each batch is one prepared statement sent with JDBC batches, parameters are not read before the update
+        Assert.assertEquals(batches, statistics.getPrepareStatementCount());
+        Assert.assertEquals(0, statistics.getEntityLoadCount());
+        Assert.assertEquals(PARAMETERS, sentResults.size());
+        for (int i = 0; i < PARAMETERS; i++) {
+            Assert.assertEquals("value " + i, sentResults.get(i));
+        }
+        potSessionParameterRepository.findByPotSessionTabEntityIdAndSynchronousLoading(tab.getId(), false)
+                .forEach(parameter -> Assert.assertEquals(ValidationStatus.PASSED,
+                        parameter.getValidationInfo().getStatus()));
+    }
+
+    @Test
+    public void write_parameterIsChangedAfterWrite_queuedResultIsWrittenAndSent() {
+        PotSessionParameterEntity parameter = setResult(tab.getPotSessionParameterEntities().get(0), "queued");
+        List<PotSessionParameterEntity> sentParameters = new ArrayList<>();
+
+        writer.write(tab.getId(), parameter, sentParameters::add);
+        setResult(parameter, "changed").setValidationStatus(ValidationStatus.FAILED);
+        parameter.addArValue(new SimpleValueObject("added"));
+        writer.flushTab(tab.getId());
+
+        PotSessionParameterEntity storedParameter = potSessionParameterRepository
+                .findByParameterId(parameter.getParameterId());
+        Assert.assertEquals("queued", ((SimpleValueObject) storedParameter.getEr()).getValue());
+        Assert.assertEquals(ValidationStatus.PASSED, storedParameter.getValidationInfo().getStatus());
+        Assert.assertEquals(1, sentParameters.size());
+        Assert.assertNotSame(parameter, sentParameters.get(0));
+        Assert.assertEquals("queued", ((SimpleValueObject) sentParameters.get(0).getEr()).getValue());
+        Assert.assertTrue(storedParameter.getArValues().isEmpty());
+        Assert.assertTrue(sentParameters.get(0).getArValues().isEmpty());
+    }
+
+    @Test
+    public void write_batchOfTabIsBeingSent_resultIsAddedWithoutWaiting() throws Exception {
+        List<PotSessionParameterEntity> parameters = tab.getPotSessionParameterEntities();
+        CountDownLatch sendingStarted = new CountDownLatch(1);
+        CountDownLatch sendingReleased = new CountDownLatch(1);
+        List<String> sentResults = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> fullBatch = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                writer.write(tab.getId(), setResult(parameters.get(i), "value " + i), writtenParameter -> {
+                    sendingStarted.countDown();
+                    awaitQuietly(sendingReleased);
+                    sentResults.add(((SimpleValueObject) writtenParameter.getEr()).getValue());
+                });
+            }
+        });
+        Assert.assertTrue(sendingStarted.await(30, TimeUnit.SECONDS));
+
+        CompletableFuture.runAsync(() -> writer.write(tab.getId(),
+                        setResult(parameters.get(BATCH_SIZE), "value " + BATCH_SIZE),
+                        writtenParameter -> sentResults.add(((SimpleValueObject) writtenParameter.getEr()).getValue())))
+                .get(5, TimeUnit.SECONDS);
+        sendingReleased.countDown();
+        fullBatch.get(30, TimeUnit.SECONDS);
+        writer.flushTab(tab.getId());
+
+        Assert.assertEquals(BATCH_SIZE + 1, sentResults.size());
+        for (int i = 0; i <= BATCH_SIZE; i++) {
+            Assert.assertEquals("value " + i, sentResults.get(i));
+        }
+    }
+
+    @Test
+    public void flushTab_batchContainsMissingParameter_otherParametersWrittenOneByOne() {
+        List<PotSessionParameterEntity> parameters = tab.getPotSessionParameterEntities();
+        PotSessionParameterEntity missingParameter = new PotSessionParameterEntity();
+        missingParameter.setParameterId(UUID.randomUUID());
+        missingParameter.setParameterConfig(parameters.get(0).getParameterConfig());
+        missingParameter.setPotSessionTabEntity(tab);
+        List<PotSessionParameterEntity> sentParameters = Collections.synchronizedList(new ArrayList<>());
+
+        writer.write(tab.getId(), setResult(parameters.get(0), "first"), sentParameters::add);
+        writer.write(tab.getId(), setResult(missingParameter, "missing"), sentParameters::add);
+        writer.write(tab.getId(), setResult(parameters.get(1), "second"), sentParameters::add);
+        writer.flushTab(tab.getId());
+
+        Assert.assertEquals(2, sentParameters.size());
+        Assert.assertEquals(parameters.get(0).getParameterId(), sentParameters.get(0).getParameterId());
+        Assert.assertEquals(parameters.get(1).getParameterId(), sentParameters.get(1).getParameterId());
+        Assert.assertEquals("second", ((SimpleValueObject) potSessionParameterRepository
+                .findByParameterId(parameters.get(1).getParameterId()).getEr()).getValue());
+    }
+
+    @Test
+    public void write_afterTabFlushed_newBatchIsStarted() {
+        List<PotSessionParameterEntity> parameters = tab.getPotSessionParameterEntities();
+        List<PotSessionParameterEntity> sentParameters = Collections.synchronizedList(new ArrayList<>());
+        statistics.clear();
+
+        writer.write(tab.getId(), setResult(parameters.get(0), "first"), sentParameters::add);
+        writer.flushTab(tab.getId());
+        writer.write(tab.getId(), setResult(parameters.get(1), "second"), sentParameters::add);
+        writer.flushAll();
+
+        Assert.assertEquals(2, statistics.getSuccessfulTransactionCount());
+        Assert.assertEquals(2, sentParameters.size());
+    }
+
+    private static PotSessionParameterEntity setResult(PotSessionParameterEntity parameter, String value) {
+        parameter.setEr(new SimpleValueObject(value));
+        parameter.setValidationInfo(new ValidationInfo(ValidationStatus.PASSED));
+        return parameter;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
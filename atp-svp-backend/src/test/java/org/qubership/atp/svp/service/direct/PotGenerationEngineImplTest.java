@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.svp.core.enums.DisplayType;
+import org.qubership.atp.svp.model.db.SutParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionPageEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
+import org.qubership.atp.svp.model.environments.Environment;
+import org.qubership.atp.svp.model.pot.PotFile;
+import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.StreamingPotFile;
+import org.qubership.atp.svp.model.pot.values.SimpleValueObject;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionPageRepository;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionParameterRepository;
+import org.qubership.atp.svp.service.direct.pot.WordDocumentPotGenerator;
+
+public class PotGenerationEngineImplTest {
+
+    private static final int SESSIONS = 20;
+    private static final int VALUE_LINES = 1000;
+
+    private PotSessionPageRepository potSessionPageRepository;
+    private PotSessionParameterRepository potSessionParameterRepository;
+    private PotGenerationEngineImpl engine;
+
+    @Before
+    public void init() {
+        potSessionPageRepository = mock(PotSessionPageRepository.class);
+        potSessionParameterRepository = mock(PotSessionParameterRepository.class);
+        when(potSessionPageRepository.findByPotSessionEntitySessionId(any())).thenReturn(Collections.emptyList());
+        when(potSessionParameterRepository.findByPotSessionEntitySessionId(any()))
+                .thenReturn(Collections.emptyList());
+        WordDocumentPotGenerator potGenerator = new WordDocumentPotGenerator(potSessionPageRepository,
+                potSessionParameterRepository);
+        engine = new PotGenerationEngineImpl(potGenerator, potSessionPageRepository, mock(MetricsService.class));
+    }
+
+    @Test
+    public void generateStreamingPotArchive_twentySessions_eachDocumentIsWrittenBeforeNextSessionIsLoaded()
+            throws IOException {
+        Map<UUID, PotSessionEntity> sessions = new LinkedHashMap<>();
+        IntStream.range(0, SESSIONS).forEach(i -> {
+            PotSessionEntity session = createSession(false);
+            when(potSessionParameterRepository.findByPotSessionEntitySessionId(session.getSessionId()))
+                    .thenReturn(Collections.singletonList(createCommonParameter(session, "Session " + i)));
+            sessions.put(session.getSessionId(), session);
+        });
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        List<Integer> writtenBytesBeforeLoading = new ArrayList<>();
+
+        StreamingPotFile potFile = engine.generateStreamingPotArchive(new ArrayList<>(sessions.keySet()),
+                sessionId -> {
+                    writtenBytesBeforeLoading.add(response.size());
+                    return sessions.get(sessionId);
+                });
+        Assert.assertTrue(writtenBytesBeforeLoading.isEmpty());
+        potFile.writeTo(response);
+
+        // Document of the previous session is already in the response when the next session is loaded
+        Assert.assertEquals(SESSIONS, writtenBytesBeforeLoading.size());
+        for (int i = 1; i < SESSIONS; i++) {
+            Assert.assertTrue(writtenBytesBeforeLoading.get(i) > writtenBytesBeforeLoading.get(i - 1));
+        }
+        Map<String, byte[]> entries = getZipEntries(response.toByteArray());
+        Assert.assertEquals(SESSIONS, entries.size());
+        List<UUID> sessionIds = new ArrayList<>(sessions.keySet());
+        List<String> entryNames = new ArrayList<>(entries.keySet());
+        for (int i = 0; i < SESSIONS; i++) {
+            Assert.assertTrue(entryNames.get(i).matches(sessionIds.get(i) + "/POT_Test_Env_\\d{14}\\.docx"));
+            Assert.assertTrue(getText(entries.get(entryNames.get(i))).contains("Session " + i + " line 0"));
+        }
+        Assert.assertTrue(potFile.getName().matches("POT_\\d{14}\\.zip"));
+    }
+
+    @Test
+    public void generateStreamingPotArchive_fullInfoSession_documentAndFilesAreWrittenToSessionFolder()
+            throws IOException {
+        PotSessionEntity shortSession = createSession(false);
+        PotSessionEntity fullSession = createSession(true);
+        when(potSessionPageRepository.findByPotSessionEntitySessionId(fullSession.getSessionId()))
+                .thenReturn(Collections.singletonList(createPageWithFile("log.txt")));
+        Map<UUID, PotSessionEntity> sessions = new HashMap<>();
+        sessions.put(shortSession.getSessionId(), shortSession);
+        sessions.put(fullSession.getSessionId(), fullSession);
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        engine.generateStreamingPotArchive(Arrays.asList(shortSession.getSessionId(), fullSession.getSessionId()),
+                sessions::get).writeTo(archive);
+
+        List<String> entries = new ArrayList<>(getZipEntries(archive.toByteArray()).keySet());
+        Assert.assertEquals(3, entries.size());
+        Assert.assertTrue(entries.get(0).matches(shortSession.getSessionId() + "/POT_Test_Env_\\d{14}\\.docx"));
+        Assert.assertTrue(entries.get(1).matches(fullSession.getSessionId() + "/POT_Test_Env_\\d{14}\\.docx"));
+        Assert.assertEquals(fullSession.getSessionId() + "/log.txt", entries.get(2));
+    }
+
+    @Test
+    public void generateStreamingPot_shortSession_documentIsWrittenToStream() throws IOException {
+        PotSessionEntity session = createSession(false);
+        when(potSessionParameterRepository.findByPotSessionEntitySessionId(session.getSessionId()))
+                .thenReturn(Collections.singletonList(createCommonParameter(session, "Short")));
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        StreamingPotFile potFile = engine.generateStreamingPot(session);
+        Assert.assertEquals(0, response.size());
+        potFile.writeTo(response);
+
+        Assert.assertTrue(potFile.getName().matches("POT_Test_Env_\\d{14}\\.docx"));
+        Assert.assertTrue(getText(response.toByteArray()).contains("Short line 0"));
+    }
+
+    @Test
+    public void generateStreamingPot_fullInfoSession_pagesAreLoadedBeforeWriting() throws IOException {
+        PotSessionEntity session = createSession(true);
+        when(potSessionPageRepository.findByPotSessionEntitySessionId(session.getSessionId()))
+                .thenReturn(Collections.singletonList(createPageWithFile("log.txt")));
+
+        StreamingPotFile potFile = engine.generateStreamingPot(session);
+
+        verify(potSessionPageRepository).findByPotSessionEntitySessionId(session.getSessionId());
+        Assert.assertTrue(potFile.getName().matches("POT_Test_Env_\\d{14}\\.zip"));
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        potFile.writeTo(archive);
+        Assert.assertEquals(Arrays.asList(potFile.getName().replace(".zip", ".docx"), "log.txt"),
+                new ArrayList<>(getZipEntries(archive.toByteArray()).keySet()));
+    }
+
+    private PotSessionEntity createSession(boolean isFullInfoNeededInPot) {
+        Environment environment = new Environment();
+        environment.setName("Test Env");
+        environment.setProjectId(UUID.randomUUID());
+        SessionExecutionConfiguration configuration = SessionExecutionConfiguration.builder()
+                .environment(environment)
+                .pagesName(Collections.emptyList())
+                .logCollectorConfigurations(Collections.emptyList())
+                .shouldHighlightDiffs(false)
+                .shouldSendSessionResults(false)
+                .isFullInfoNeededInPot(isFullInfoNeededInPot)
+                .onlyForPreconfiguredParams(false)
+                .isPotGenerationMode(true)
+                .onlyCommonParametersExecuted(false)
+                .forcedLoadingCommonParameters(false)
+                .build();
+        PotSessionEntity session = new PotSessionEntity();
+        session.setSessionId(UUID.randomUUID());
+        session.setExecutionConfiguration(configuration);
+        session.setPageOrder(Collections.emptyList());
+        return session;
+    }
+
+    private PotSessionParameterEntity createCommonParameter(PotSessionEntity session, String valuePrefix) {
+        SutParameterEntity parameterConfig = new SutParameterEntity()
+                .setName("Parameter")
+                .setDisplayType(DisplayType.PARAM);
+        PotSessionParameterEntity parameter = new PotSessionParameterEntity(session, parameterConfig);
+        String value = IntStream.range(0, VALUE_LINES)
+                .mapToObj(line -> valuePrefix + " line " + line)
+                .collect(Collectors.joining("\n"));
+        parameter.setArValues(Collections.singletonList(new SimpleValueObject(value)));
+        return parameter;
+    }
+
+    private PotSessionPageEntity createPageWithFile(String fileName) {
+        SimpleValueObject arValue = new SimpleValueObject("value");
+        arValue.setValueAsFile(new PotFile(fileName, "content".getBytes()));
+        PotSessionParameterEntity parameter = new PotSessionParameterEntity();
+        parameter.setArValues(Collections.singletonList(arValue));
+        PotSessionTabEntity tab = new PotSessionTabEntity();
+        tab.setPotSessionParameterEntities(Collections.singletonList(parameter));
+        PotSessionPageEntity page = new PotSessionPageEntity();
+        page.setPotSessionTabs(Collections.singletonList(tab));
+        return page;
+    }
+
+    private Map<String, byte[]> getZipEntries(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toByteArray(zis));
+            }
+        }
+        return entries;
+    }
+
+    private String getText(byte[] document) throws IOException {
+        try (XWPFWordExtractor extractor = new XWPFWordExtractor(
+                new XWPFDocument(new ByteArrayInputStream(document)))) {
+            return extractor.getText();
+        }
+    }
+}
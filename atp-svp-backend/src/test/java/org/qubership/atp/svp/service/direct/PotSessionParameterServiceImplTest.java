@@ -0,0 +1,219 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.svp.core.enums.DisplayType;
+import org.qubership.atp.svp.core.enums.EngineType;
+import org.qubership.atp.svp.core.enums.ValidationType;
+import org.qubership.atp.svp.core.executor.EngineTypeConcurrencyLimiter;
+import org.qubership.atp.svp.model.db.SutParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.model.environments.Environment;
+import org.qubership.atp.svp.model.impl.ErConfig;
+import org.qubership.atp.svp.model.impl.Source;
+import org.qubership.atp.svp.model.pot.AbstractParameterExecutionContext;
+import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+import org.qubership.atp.svp.model.pot.SutParameterExecutionContext;
+import org.qubership.atp.svp.model.pot.validation.ValidationInfo;
+import org.qubership.atp.svp.model.pot.values.AbstractValueObject;
+import org.qubership.atp.svp.model.pot.values.ErrorValueObject;
+import org.qubership.atp.svp.model.pot.values.SimpleValueObject;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionParameterRepository;
+import org.qubership.atp.svp.service.DisplayTypeService;
+import org.qubership.atp.svp.service.DisplayTypeServiceFactory;
+import org.qubership.atp.svp.service.PotSessionService;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class PotSessionParameterServiceImplTest {
+
+    private static final long SOURCE_DELAY_MS = 300;
+
+    private final AtomicInteger maxConcurrentSources = new AtomicInteger();
+    private final AtomicInteger concurrentSources = new AtomicInteger();
+    private ThreadPoolTaskExecutor executor;
+    private DisplayTypeServiceFactory displayTypeServiceFactory;
+
+    @Before
+    public void init() throws Exception {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        displayTypeServiceFactory = mock(DisplayTypeServiceFactory.class);
+        DisplayTypeService slowDisplayTypeService = mock(DisplayTypeService.class);
+        when(slowDisplayTypeService.getValueFromSource(any(), any())).thenAnswer(invocation -> {
+            Source source = invocation.getArgument(0);
+            long delay = Long.parseLong(source.getScript());
+            maxConcurrentSources.accumulateAndGet(concurrentSources.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delay);
+            } finally {
+                concurrentSources.decrementAndGet();
+            }
+            return new SimpleValueObject(source.getSystem());
+        });
+        when(displayTypeServiceFactory.getServiceForType(any())).thenReturn(slowDisplayTypeService);
+    }
+
+    @After
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test(timeout = 10_000)
+    public void startGettingInfoForParameter_slowAdditionalSources_latencyIsMaxOfSourcesAndOrderIsKept() {
+        PotSessionParameterEntity parameter = createParameter(EngineType.SQL,
+                Arrays.asList(createSource("additional1", EngineType.SQL, SOURCE_DELAY_MS),
+                        createSource("additional2", EngineType.CASSANDRA, SOURCE_DELAY_MS / 3),
+                        createSource("additional3", EngineType.REST, SOURCE_DELAY_MS)),
+                createSource("er", EngineType.SSH, SOURCE_DELAY_MS));
+        PotSessionParameterServiceImpl service = createService(60_000);
+
+        long started = System.nanoTime();
+        service.startGettingInfoForParameter(createContext(parameter));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Sequential loading would take 5 sources * 300 ms
+        Assert.assertTrue("Sources were loaded in " + elapsedMs + " ms", elapsedMs < 4 * SOURCE_DELAY_MS);
+        Assert.assertEquals(5, maxConcurrentSources.get());
+        Assert.assertEquals(Arrays.asList("main", "additional1", "additional2", "additional3"),
+                getArSystems(parameter));
+        Assert.assertEquals("er", ((SimpleValueObject) parameter.getEr()).getValue());
+    }
+
+    @Test(timeout = 10_000)
+    public void startGettingInfoForParameter_sourceExceedsDeadline_errorValueInsteadOfResult() {
+        PotSessionParameterEntity parameter = createParameter(EngineType.SQL,
+                Arrays.asList(createSource("additional1", EngineType.SQL, 5_000),
+                        createSource("additional2", EngineType.SQL, 0)),
+                null);
+        PotSessionParameterServiceImpl service = createService(SOURCE_DELAY_MS * 2);
+
+        long started = System.nanoTime();
+        service.startGettingInfoForParameter(createContext(parameter));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        Assert.assertTrue("Sources were loaded in " + elapsedMs + " ms", elapsedMs < 2_000);
+        List<AbstractValueObject> arValues = parameter.getArValues();
+        Assert.assertEquals(3, arValues.size());
+        Assert.assertEquals("main", ((SimpleValueObject) arValues.get(0)).getValue());
+        Assert.assertTrue(arValues.get(1) instanceof ErrorValueObject);
+        Assert.assertEquals("additional2", ((SimpleValueObject) arValues.get(2)).getValue());
+    }
+
+    @Test(timeout = 10_000)
+    public void startGettingInfoForParameter_logCollectorAdditionalSource_sourcesAreLoadedSequentially() {
+        PotSessionParameterEntity parameter = createParameter(EngineType.SQL,
+                Arrays.asList(createSource("additional1", EngineType.SQL, 50),
+                        createSource("additional2", EngineType.LOG_COLLECTOR, 50)),
+                null);
+
+        createService(60_000).startGettingInfoForParameter(createContext(parameter));
+
+        Assert.assertEquals(1, maxConcurrentSources.get());
+        Assert.assertEquals(Arrays.asList("main", "additional1", "additional2"), getArSystems(parameter));
+    }
+
+    private PotSessionParameterServiceImpl createService(long timeoutMs) {
+        return new PotSessionParameterServiceImpl(displayTypeServiceFactory,
+                mock(PotSessionParameterRepository.class), mock(PotSessionService.class), executor, timeoutMs,
+                new EngineTypeConcurrencyLimiter(50));
+    }
+
+    private List<String> getArSystems(PotSessionParameterEntity parameter) {
+        return parameter.getArValues().stream()
+                .map(value -> ((SimpleValueObject) value).getValue())
+                .collect(Collectors.toList());
+    }
+
+    private PotSessionParameterEntity createParameter(EngineType mainEngineType, List<Source> additionalSources,
+                                                      Source erSource) {
+        ErConfig erConfig = new ErConfig();
+        erConfig.setType(erSource == null ? ValidationType.NONE : ValidationType.CUSTOM);
+        erConfig.setDataSource(erSource);
+        SutParameterEntity sutParameter = new SutParameterEntity();
+        sutParameter.setName("SOME SUT PARAM");
+        sutParameter.setDisplayType(DisplayType.PARAM);
+        sutParameter.setSource(createSource("main", mainEngineType, SOURCE_DELAY_MS));
+        sutParameter.setAdditionalSources(new ArrayList<>(additionalSources));
+        sutParameter.setErConfig(erConfig);
+        PotSessionParameterEntity parameter = new PotSessionParameterEntity();
+        parameter.setPage("TestPage");
+        parameter.setTab("TestTab");
+        parameter.setGroup("TestGroup");
+        parameter.setParameterConfig(sutParameter);
+        parameter.setValidationInfo(new ValidationInfo());
+        return parameter;
+    }
+
+    private Source createSource(String system, EngineType engineType, long delayMs) {
+        Source source = new Source();
+        source.setSystem(system);
+        source.setConnection("SOME CONNECTION");
+        source.setEngineType(engineType);
+        source.setScript(String.valueOf(delayMs));
+        source.setSettings(Collections.emptySet());
+        return source;
+    }
+
+    private AbstractParameterExecutionContext createContext(PotSessionParameterEntity parameter) {
+        SessionExecutionConfiguration configuration = SessionExecutionConfiguration.builder()
+                .environment(new Environment())
+                .pagesName(Collections.emptyList())
+                .logCollectorConfigurations(Collections.emptyList())
+                .shouldHighlightDiffs(false)
+                .shouldSendSessionResults(false)
+                .isFullInfoNeededInPot(false)
+                .onlyForPreconfiguredParams(false)
+                .isPotGenerationMode(false)
+                .onlyCommonParametersExecuted(false)
+                .forcedLoadingCommonParameters(false)
+                .build();
+        return SutParameterExecutionContext.builder()
+                .sessionId(UUID.randomUUID())
+                .parameterStarted(OffsetDateTime.now())
+                .sessionConfiguration(configuration)
+                .executionVariables(new ConcurrentHashMap<>())
+                .parameter(parameter)
+                .isDeferredSearchResult(false)
+                .countOfUnprocessedParametersUnderTab(new AtomicInteger())
+                .countOfUnprocessedSynchronousParametersUnderPage(new AtomicInteger())
+                .countOfUnprocessedTabsUnderPage(new AtomicInteger())
+                .countOfUnprocessedPagesUnderSession(new AtomicInteger())
+                .build();
+    }
+}
@@ -18,6 +18,9 @@ package org.qubership.atp.svp.service.direct;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,13 +28,22 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.MockitoAnnotations;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.modules.junit4.PowerMockRunnerDelegate;
@@ -48,10 +60,12 @@ import org.qubership.atp.svp.kafka.KafkaSendlerService;
 import org.qubership.atp.svp.model.api.GetParameterResultRequest;
 import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
 import org.qubership.atp.svp.repo.impl.LogCollectorRepository;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
 import org.qubership.atp.svp.repo.jpa.SessionRepository;
 import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepository;
 import org.qubership.atp.svp.tests.DbMockEntity;
 import org.qubership.atp.svp.tests.TestWithTestData;
+import org.qubership.atp.svp.utils.Utils;
 
 @RunWith(PowerMockRunner.class)
 @PowerMockRunnerDelegate(SpringRunner.class)
@@ -79,6 +93,8 @@ public class PotSessionServiceImplTest extends TestWithTestData {
 
     @MockBean
     PotSessionRepository potSessionRepository;
+    @MockBean
+    PotSessionBulkRepository potSessionBulkRepository;
 
     @MockBean
     KafkaSendlerService kafkaSendlerService;
@@ -86,6 +102,8 @@ public class PotSessionServiceImplTest extends TestWithTestData {
     LogCollectorRepository logCollectorRepository;
     @SpyBean
     private SessionServiceImpl sessionServiceImpl;
+    @SpyBean
+    private ExecutionVariablesStore executionVariablesStore;
 
     @Before
     public void init() {
@@ -101,9 +119,14 @@ public class PotSessionServiceImplTest extends TestWithTestData {
         when(potSessionRepository.getExpiredSessionId(anyInt(), any()))
                 .thenReturn(Collections.singletonList(expiredSessionId.toString()));
         PotSessionEntity session = DbMockEntity.generatePotSessionEntity(expiredSessionId);
-        when(potSessionRepository.findBySessionId(expiredSessionId)).thenReturn(Optional.of(session));
+        when(potSessionRepository.getSessionExecutionConfiguration(expiredSessionId))
+                .thenReturn(Utils.mapper.writeValueAsString(session.getExecutionConfiguration()));
+        when(potSessionBulkRepository.findExistingSessionIds(Collections.singletonList(expiredSessionId)))
+                .thenReturn(new HashSet<>(Collections.singletonList(expiredSessionId)));
+        commitDeletedSessions();
         PotSessionServiceImpl service = new PotSessionServiceImpl(deferredSearchService,
-                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl);
+                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
 
         service.setSocketService(messagingService);
         service.setKafkaService(kafkaMessagingService);
@@ -111,26 +134,118 @@ public class PotSessionServiceImplTest extends TestWithTestData {
 
         service.killExpiredSessions();
 
-        verify(potSessionRepository, times(1)).deleteBySessionId(expiredSessionId);
+        InOrder inOrder = inOrder(potSessionBulkRepository, messagingService);
+        inOrder.verify(potSessionBulkRepository, times(1))
+                .deleteSessions(eq(Collections.singletonList(expiredSessionId)), any());
+        inOrder.verify(messagingService).sendSessionExpiredMessage(expiredSessionId);
         Assert.assertFalse(sessionServiceImpl.hasSession(expiredSessionId));
     }
 
+    @Test
+    public void killExpiredSessions_deletionIsNotCommitted_sessionIsNotNotified() throws Exception {
+        UUID expiredSessionId = UUID.randomUUID();
+        sessionServiceImpl.addNewSession(expiredSessionId);
+        when(potSessionRepository.getExpiredSessionId(anyInt(), any()))
+                .thenReturn(Collections.singletonList(expiredSessionId.toString()));
+        PotSessionEntity session = DbMockEntity.generatePotSessionEntity(expiredSessionId);
+        when(potSessionRepository.getSessionExecutionConfiguration(expiredSessionId))
+                .thenReturn(Utils.mapper.writeValueAsString(session.getExecutionConfiguration()));
+        when(potSessionBulkRepository.findExistingSessionIds(Collections.singletonList(expiredSessionId)))
+                .thenReturn(new HashSet<>(Collections.singletonList(expiredSessionId)));
+        when(potSessionBulkRepository.deleteSessions(any(), any())).thenThrow(new IllegalStateException("rollback"));
+        PotSessionServiceImpl service = new PotSessionServiceImpl(deferredSearchService,
+                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
+        service.setSocketService(messagingService);
+        service.setKafkaService(kafkaMessagingService);
+        service.setSessionService(sessionServiceImpl);
+
+        Assert.assertThrows(StoringSessionException.class, service::killExpiredSessions);
+
+        verify(messagingService, never()).sendSessionExpiredMessage(any());
+        Assert.assertTrue(sessionServiceImpl.hasSession(expiredSessionId));
+    }
+
+    @Test
+    public void killSession_noSession_throwsStoringSessionExceptionCausedBySessionNotFound() {
+        PotSessionServiceImpl service = new PotSessionServiceImpl(deferredSearchService,
+                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
+
+        StoringSessionException exception = Assert.assertThrows(StoringSessionException.class,
+                () -> service.killSession(UUID.randomUUID()));
+
+        Assert.assertTrue(exception.getCause() instanceof ExecutionSessionNotFoundException);
+        verify(potSessionBulkRepository, never()).deleteSessions(any(), any());
+    }
+
+    @Test(timeout = 10_000)
+    public void killSession_sessionIsBeingKilledByAnotherThread_killingIsRetriedAfterIt() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        PotSessionEntity session = DbMockEntity.generatePotSessionEntity(sessionId);
+        when(potSessionRepository.getSessionExecutionConfiguration(sessionId))
+                .thenReturn(Utils.mapper.writeValueAsString(session.getExecutionConfiguration()));
+        CountDownLatch firstKillStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstKill = new CountDownLatch(1);
+        when(potSessionBulkRepository.findExistingSessionIds(Collections.singletonList(sessionId)))
+                .thenAnswer(invocation -> {
+                    firstKillStarted.countDown();
+                    releaseFirstKill.await(5, TimeUnit.SECONDS);
+                    return new HashSet<>(Collections.singletonList(sessionId));
+                })
+                .thenReturn(Collections.emptySet());
+        commitDeletedSessions();
+        PotSessionServiceImpl service = new PotSessionServiceImpl(deferredSearchService,
+                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
+        service.setSocketService(messagingService);
+        service.setKafkaService(kafkaMessagingService);
+        service.setSessionService(sessionServiceImpl);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> firstKill = executor.submit(() -> {
+                service.killSession(sessionId);
+                return null;
+            });
+            Assert.assertTrue(firstKillStarted.await(5, TimeUnit.SECONDS));
+            executor.submit(() -> {
+                Thread.sleep(200);
+                releaseFirstKill.countDown();
+                return null;
+            });
+
+            // The second kill is skipped while the first one holds the session, then it is retried
+            // and finds the session deleted
+            StoringSessionException exception = Assert.assertThrows(StoringSessionException.class,
+                    () -> service.killSession(sessionId));
+
+            firstKill.get(5, TimeUnit.SECONDS);
+            Assert.assertTrue(exception.getCause() instanceof ExecutionSessionNotFoundException);
+            verify(potSessionBulkRepository, times(2)).findExistingSessionIds(Collections.singletonList(sessionId));
+            verify(potSessionBulkRepository, times(1)).deleteSessions(any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void killExpiredSessions_twoSessions_noneIsExpired_noSessionsDeleted() throws StoringSessionException {
         when(potSessionRepository.getExpiredSessionId(anyInt(), any()))
                 .thenReturn(Collections.emptyList());
         PotSessionServiceImpl service = new PotSessionServiceImpl(deferredSearchService,
-                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl);
+                executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
 
         service.killExpiredSessions();
 
-        verify(potSessionRepository, never()).deleteBySessionId(any());
+        verify(potSessionBulkRepository, never()).deleteSessions(any());
     }
 
     @Test(expected = ExecutionSessionNotFoundException.class)
     public void getParameterResult_noSession_throwsSessionNotFound()  {
         PotSessionServiceImpl service = new PotSessionServiceImpl(
-                deferredSearchService, executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl);
+                deferredSearchService, executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
 
         service.getParameterResult(new GetParameterResultRequest(UUID.randomUUID(), "",
                 "", "", "", false));
@@ -141,7 +256,8 @@ public class PotSessionServiceImplTest extends TestWithTestData {
         UUID sessionId = UUID.randomUUID();
         PotSessionEntity session = DbMockEntity.generatePotSessionEntity(sessionId);
         PotSessionServiceImpl service = new PotSessionServiceImpl(
-                deferredSearchService, executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl);
+                deferredSearchService, executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
         when(potSessionRepository.findBySessionId(sessionId)).thenReturn(Optional.of(session));
 
         service.getParameterResult(new GetParameterResultRequest(sessionId, "",
@@ -153,10 +269,23 @@ public class PotSessionServiceImplTest extends TestWithTestData {
         UUID sessionId = UUID.randomUUID();
         PotSessionEntity session = DbMockEntity.generatePotSessionEntity(sessionId);
         PotSessionServiceImpl service = new PotSessionServiceImpl(
-                deferredSearchService, executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl);
+                deferredSearchService, executionVariablesService, validationService, 30, potSessionRepository, sessionServiceImpl,
+                executionVariablesStore, potSessionBulkRepository);
         when(potSessionRepository.findBySessionId(sessionId)).thenReturn(Optional.of(session));
 
         service.getParameterResult(new GetParameterResultRequest(sessionId, "",
                 "", "", "", true));
     }
+
+    /**
+     * Calls the after commit callback of the deletion, as the committed transaction does.
+     */
+    private void commitDeletedSessions() {
+        doAnswer(invocation -> {
+            List<UUID> sessionIds = invocation.getArgument(0);
+            Consumer<List<UUID>> onCommitted = invocation.getArgument(1);
+            onCommitted.accept(sessionIds);
+            return sessionIds.size();
+        }).when(potSessionBulkRepository).deleteSessions(any(), any());
+    }
 }
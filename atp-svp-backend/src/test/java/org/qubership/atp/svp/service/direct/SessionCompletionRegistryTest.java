@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SessionCompletionRegistryTest {
+
+    private final SessionCompletionRegistry registry = new SessionCompletionRegistry();
+
+    @Test
+    public void complete_sessionAwaited_waitingThreadReleasedWithoutPolling() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        CompletableFuture<Void> completion = registry.register(sessionId);
+        long started = System.nanoTime();
+
+        new Thread(() -> registry.complete(sessionId)).start();
+        completion.get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue(completion.isDone());
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+    }
+
+    @Test
+    public void register_sameSessionTwice_returnsSameFuture() {
+        UUID sessionId = UUID.randomUUID();
+
+        Assert.assertSame(registry.register(sessionId), registry.register(sessionId));
+    }
+
+    @Test
+    public void complete_sessionNotAwaited_nothingHappens() {
+        UUID sessionId = UUID.randomUUID();
+
+        registry.complete(sessionId);
+
+        Assert.assertFalse(registry.register(sessionId).isDone());
+    }
+
+    @Test
+    public void unregister_sessionAwaited_laterCompletionNotDelivered() {
+        UUID sessionId = UUID.randomUUID();
+        CompletableFuture<Void> completion = registry.register(sessionId);
+
+        registry.unregister(sessionId, completion);
+        registry.complete(sessionId);
+
+        Assert.assertFalse(completion.isDone());
+    }
+}
@@ -18,8 +18,12 @@ package org.qubership.atp.svp.service.direct;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.Assert;
@@ -31,6 +35,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import org.qubership.atp.svp.model.db.SessionEntity;
 import org.qubership.atp.svp.repo.jpa.SessionRepository;
 
 @RunWith(SpringRunner.class)
@@ -51,12 +56,23 @@ public class SessionServiceImplTest {
     public void hasSession_SessionExist_returnTrue() {
         UUID newSessionId = UUID.randomUUID();
         String testPodName = "testName";
-        when(sessionRepository.containsSession(any(), anyString())).thenReturn(true);
         when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn(testPodName);
+        sessionServiceImpl.addNewSession(newSessionId);
 
-       boolean sessionExist = sessionServiceImpl.hasSession(newSessionId);
+        boolean sessionExist = sessionServiceImpl.hasSession(newSessionId);
 
         Assert.assertTrue(sessionExist);
+        verify(sessionRepository, never()).containsSession(any(), anyString());
+    }
+
+    @Test
+    public void hasSession_SessionRemoved_returnFalse() {
+        UUID newSessionId = UUID.randomUUID();
+        sessionServiceImpl.addNewSession(newSessionId);
+
+        sessionServiceImpl.removeSession(newSessionId);
+
+        Assert.assertFalse(sessionServiceImpl.hasSession(newSessionId));
     }
 
     @Test
@@ -67,4 +83,61 @@ public class SessionServiceImplTest {
 
         Assert.assertFalse(sessionExist);
     }
+
+    @Test
+    public void hasSession_SessionRegisteredOnCurrentPodInDatabase_checkedInDatabaseOnce() {
+        UUID sessionId = UUID.randomUUID();
+        when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn("currentPod");
+        when(sessionRepository.containsSession(sessionId, "currentPod")).thenReturn(true);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(sessionServiceImpl.hasSession(sessionId));
+        }
+
+        verify(sessionRepository, times(1)).containsSession(sessionId, "currentPod");
+    }
+
+    @Test
+    public void hasSession_SessionReconnectedToAnotherPod_returnFalse() {
+        UUID sessionId = UUID.randomUUID();
+        when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn("currentPod");
+        when(sessionRepository.containsSession(sessionId, "currentPod")).thenReturn(true);
+        Assert.assertTrue(sessionServiceImpl.hasSession(sessionId));
+        when(sessionRepository.findById(sessionId))
+                .thenReturn(Optional.of(new SessionEntity(sessionId, "anotherPod")));
+
+        Assert.assertEquals(Optional.of("anotherPod"), sessionServiceImpl.getSessionPodName(sessionId));
+        Assert.assertFalse(sessionServiceImpl.hasSession(sessionId));
+    }
+
+    @Test
+    public void getSessionPodName_sessionOfAnotherPod_podNameRequestedFromDatabaseOnce() {
+        UUID sessionId = UUID.randomUUID();
+        when(sessionRepository.findById(sessionId))
+                .thenReturn(Optional.of(new SessionEntity(sessionId, "anotherPod")));
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(Optional.of("anotherPod"), sessionServiceImpl.getSessionPodName(sessionId));
+        }
+
+        verify(sessionRepository, times(1)).findById(sessionId);
+    }
+
+    @Test
+    public void getSessionPodName_sessionAddedOnCurrentPod_podNameReturnedWithoutDatabase() {
+        UUID sessionId = UUID.randomUUID();
+        when(eurekaDiscoveryServiceImpl.getCurrentPodName()).thenReturn("currentPod");
+        sessionServiceImpl.addNewSession(sessionId);
+
+        Assert.assertEquals(Optional.of("currentPod"), sessionServiceImpl.getSessionPodName(sessionId));
+        verify(sessionRepository, never()).findById(sessionId);
+    }
+
+    @Test
+    public void getSessionPodName_sessionNotRegistered_returnEmpty() {
+        UUID sessionId = UUID.randomUUID();
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.empty());
+
+        Assert.assertFalse(sessionServiceImpl.getSessionPodName(sessionId).isPresent());
+    }
 }
@@ -16,20 +16,34 @@
 
 package org.qubership.atp.svp.service.direct;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.powermock.modules.junit4.PowerMockRunnerDelegate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -42,8 +56,13 @@ import org.qubership.atp.svp.model.messages.SessionExpiredMessage;
 import org.qubership.atp.svp.model.messages.SessionValidationResultMessage;
 import org.qubership.atp.svp.model.messages.SutParameterResultMessage;
 import org.qubership.atp.svp.model.messages.TabValidationResultMessage;
+import org.qubership.atp.svp.model.pot.values.TableValueObject;
+import org.qubership.atp.svp.model.table.Table;
+import org.qubership.atp.svp.utils.Utils;
 import org.qubership.atp.svp.tests.TestWithTestData;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 @RunWith(SpringRunner.class)
 @PowerMockRunnerDelegate(SpringRunner.class)
 @SpringBootTest(classes = WebSocketMessagingService.class,
@@ -85,6 +104,77 @@ public class WebSocketMessagingServiceTest extends TestWithTestData {
         verify(messagingTemplate, times(1)).convertAndSend(topic, expectedMessage);
     }
 
+    @Test
+    public void sendSutParameterResult_largeTableParameterAndCompactResultsDisabled_fullMessageSent()
+            throws IOException {
+        UUID sessionId = UUID.randomUUID();
+        PotSessionParameterEntity parameter = loadParameter();
+        parameter.setArValues(Collections.singletonList(new TableValueObject(createTable(1000, 10))));
+
+        webSocketMessagingService.sendSutParameterResult(sessionId, parameter);
+
+        verify(messagingTemplate, times(1)).convertAndSend("/parameter-results",
+                new SutParameterResultMessage(sessionId, parameter));
+    }
+
+    @Test
+    public void sendSutParameterResult_largeTableParameterAndCompactResultsEnabled_compactMessageSent()
+            throws IOException {
+        UUID sessionId = UUID.randomUUID();
+        PotSessionParameterEntity parameter = loadParameter();
+        parameter.setArValues(Collections.singletonList(new TableValueObject(createTable(1000, 10))));
+        SimpMessagingTemplate template = createTemplateWithJsonConverter();
+        ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+
+        new WebSocketMessagingService(template, true, 65536).sendSutParameterResult(sessionId, parameter);
+
+        verify(template, times(1)).convertAndSend(eq("/parameter-results"), messageCaptor.capture());
+        SutParameterResultMessage message = (SutParameterResultMessage) messageCaptor.getValue();
+        Assert.assertFalse(message.isFullResult());
+        Assert.assertEquals(parameter.getParameterId(), message.getParameterId());
+        Assert.assertTrue(message.getParameter().getArValues().isEmpty());
+        Assert.assertEquals(parameter.getValidationInfo().getStatus(),
+                message.getParameter().getValidationInfo().getStatus());
+    }
+
+    @Test
+    public void sendSutParameterResult_smallParameterAndCompactResultsEnabled_convertedFullMessageSentAsIs()
+            throws IOException {
+        UUID sessionId = UUID.randomUUID();
+        PotSessionParameterEntity parameter = loadParameter();
+        SimpMessagingTemplate template = createTemplateWithJsonConverter();
+        ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+
+        new WebSocketMessagingService(template, true, 65536).sendSutParameterResult(sessionId, parameter);
+
+        verify(template, times(1)).send(eq("/parameter-results"), messageCaptor.capture());
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+        JsonNode message = Utils.mapper.readTree((byte[]) messageCaptor.getValue().getPayload());
+        Assert.assertTrue(message.get("fullResult").asBoolean());
+        Assert.assertEquals(parameter.getParameterId().toString(), message.get("parameterId").asText());
+    }
+
+    @Test
+    public void compactSutParameterResult_representativeTables_sizeDoesNotDependOnTableSize() throws IOException {
+        UUID sessionId = UUID.randomUUID();
+        String file = loadFileToString("src/test/resources/test_data/webSocket/PotSessionParameter.json");
+        PotSessionParameterEntity parameter = objectMapper.readValue(file, PotSessionParameterEntity.class);
+        int compactSizeOfSmallestTable = -1;
+        for (int rows : new int[]{10, 100, 1000, 10000}) {
+            parameter.setArValues(Collections.singletonList(new TableValueObject(createTable(rows, 10))));
+
+            int fullSize = Utils.mapper.writeValueAsBytes(new SutParameterResultMessage(sessionId, parameter)).length;
+            int compactSize = Utils.mapper.writeValueAsBytes(
+                    SutParameterResultMessage.compact(sessionId, parameter)).length;
+
+            Assert.assertTrue(compactSize < fullSize);
+            if (compactSizeOfSmallestTable < 0) {
+                compactSizeOfSmallestTable = compactSize;
+            }
+            Assert.assertEquals(compactSizeOfSmallestTable, compactSize);
+        }
+    }
+
     @Test
     public void sendValidationStatusForTab_sessionExistInPod_SenToWebSocket() {
         UUID sessionId = UUID.randomUUID();
@@ -197,4 +287,33 @@ public class WebSocketMessagingServiceTest extends TestWithTestData {
 
         verify(messagingTemplate, times(1)).convertAndSend(topic, message);
     }
+
+    private static Table createTable(int rowsCount, int columnsCount) {
+        List<String> headers = new ArrayList<>();
+        for (int column = 0; column < columnsCount; column++) {
+            headers.add("column_" + column);
+        }
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int row = 0; row < rowsCount; row++) {
+            Map<String, String> cells = new HashMap<>();
+            for (String header : headers) {
+                cells.put(header, header + "_value_" + row);
+            }
+            rows.add(cells);
+        }
+        return new Table(headers, rows);
+    }
+
+    private PotSessionParameterEntity loadParameter() throws IOException {
+        String file = loadFileToString("src/test/resources/test_data/webSocket/PotSessionParameter.json");
+        return objectMapper.readValue(file, PotSessionParameterEntity.class);
+    }
+
+    private SimpMessagingTemplate createTemplateWithJsonConverter() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(Utils.mapper);
+        SimpMessagingTemplate template = spy(new SimpMessagingTemplate(messageChannel));
+        template.setMessageConverter(converter);
+        return template;
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct.displaytype;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.svp.model.table.JsonCell;
+import org.qubership.atp.svp.model.table.JsonSimpleCell;
+import org.qubership.atp.svp.model.table.JsonTable;
+import org.qubership.atp.svp.model.table.JsonTableRow;
+
+public class ReferenceJsonTableIndexTest {
+
+    private static final int ROWS_COUNT = 20000;
+
+    @Test
+    public void consume_keyMatchesSeveralRows_rowsReturnedInTableOrderOnce() {
+        JsonTable table = createTable("a", "b", "a", "c");
+        ReferenceJsonTableIndex index = createIndex(table);
+
+        List<JsonTableRow> matchedRows = index.consume(Collections.singletonList("a"));
+
+        Assert.assertEquals(Arrays.asList(table.getRows().get(0), table.getRows().get(2)), matchedRows);
+        Assert.assertTrue(index.consume(Collections.singletonList("a")).isEmpty());
+        Assert.assertEquals(4, table.getRows().size());
+    }
+
+    @Test
+    public void isLastRemainingRowMatched_lastRowsConsumed_checksLastNotConsumedRow() {
+        ReferenceJsonTableIndex index = createIndex(createTable("a", "b", "c", "c"));
+
+        Assert.assertTrue(index.isLastRemainingRowMatched(Collections.singletonList("c")));
+        index.consume(Collections.singletonList("c"));
+        Assert.assertTrue(index.isLastRemainingRowMatched(Collections.singletonList("b")));
+        index.consume(Collections.singletonList("b"));
+        index.consume(Collections.singletonList("a"));
+        Assert.assertTrue(index.isEmpty());
+        Assert.assertFalse(index.isLastRemainingRowMatched(Collections.singletonList("a")));
+    }
+
+    @Test(timeout = 10000)
+    public void consume_twentyThousandPrimaryKeysOverTwentyThousandRows_eachRowMatchedOnce() {
+        String[] keys = new String[ROWS_COUNT];
+        for (int i = 0; i < ROWS_COUNT; i++) {
+            keys[i] = "key_" + (ROWS_COUNT - 1 - i);
+        }
+        ReferenceJsonTableIndex index = createIndex(createTable(keys));
+
+        int matchedRowsCount = 0;
+        for (int i = 0; i < ROWS_COUNT; i++) {
+            matchedRowsCount += index.consume(Collections.singletonList("key_" + i)).size();
+        }
+
+        Assert.assertEquals(ROWS_COUNT, matchedRowsCount);
+        Assert.assertTrue(index.isEmpty());
+    }
+
+    private ReferenceJsonTableIndex createIndex(JsonTable table) {
+        return new ReferenceJsonTableIndex(table, row -> Collections.singletonList(
+                ((JsonSimpleCell) row.getCells().get(0)).getSimpleValue()));
+    }
+
+    private JsonTable createTable(String... keys) {
+        List<JsonTableRow> rows = Arrays.stream(keys)
+                .map(key -> new JsonTableRow(new ArrayList<JsonCell>(Arrays.asList(
+                        new JsonSimpleCell("KEY", key), new JsonSimpleCell("VALUE", "value of " + key)))))
+                .collect(Collectors.toList());
+        return new JsonTable(Collections.singletonList("KEY"), rows);
+    }
+}
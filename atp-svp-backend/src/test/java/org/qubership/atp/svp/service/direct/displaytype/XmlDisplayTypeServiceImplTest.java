@@ -34,7 +34,6 @@ import javax.xml.transform.stream.StreamResult;
 import org.apache.xml.serializer.OutputPropertiesFactory;
 import org.junit.Assert;
 import org.junit.Before;
-import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -97,6 +96,8 @@ public class XmlDisplayTypeServiceImplTest extends TestWithTestData {
     SessionExecutionConfiguration sessionExecutionConfiguration;
     @MockBean
     CassandraRepository cassandraRepository;
+    @MockBean
+    SoapRepositoryImpl soapRepository;
 
     @Before
     public void init() {
@@ -173,20 +174,17 @@ public class XmlDisplayTypeServiceImplTest extends TestWithTestData {
         Assert.assertEquals(prettyPrintXml(DisplayTypeTestConstants.XML_CORRECT_VALUE), ((SimpleValueObject) actualResult).getValue());
     }
 
-    //    TODO Fix this test
     @Test
-    @Ignore
     public void getValueFromSource_tableDataEngineTypeSOAP_returnsSimpleValueObjectWithFirstCellData() throws GettingValueException {
         Source source = new Source("", "", EngineType.SOAP, "", Collections.singleton(new HttpSettings()));
 
-        //        HttpSettings httpSettings = new HttpSettings();
-        Mockito.when(SoapRepositoryImpl.soapRequest(Mockito.any(), Mockito.any()))
-                .thenReturn(null);
+        Mockito.when(soapRepository.soapRequest(Mockito.any(), Mockito.any()))
+                .thenReturn(DisplayTypeTestConstants.XML_CORRECT_VALUE);
 
         AbstractValueObject actualResult = xmlDisplayTypeService.getValueFromSource(source, parameterExecutionContext);
 
         Assert.assertTrue(actualResult instanceof SimpleValueObject);
-        Assert.assertEquals(DisplayTypeTestConstants.XML_CORRECT_VALUE, ((SimpleValueObject) actualResult).getValue());
+        Assert.assertEquals(prettyPrintXml(DisplayTypeTestConstants.XML_CORRECT_VALUE), ((SimpleValueObject) actualResult).getValue());
     }
 
     /* VALIDATION PROCESS */
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.direct.displaytype.jsonparse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.svp.core.enums.JsonParseViewType;
+import org.qubership.atp.svp.core.exceptions.GettingValueException;
+import org.qubership.atp.svp.model.impl.JsonDataColumnSettings;
+import org.qubership.atp.svp.model.impl.JsonHierarchyNodeNames;
+import org.qubership.atp.svp.model.impl.JsonParseSettings;
+import org.qubership.atp.svp.model.pot.values.TableValueObject;
+import org.qubership.atp.svp.model.table.JsonGroupedCell;
+import org.qubership.atp.svp.model.table.JsonSimpleCell;
+import org.qubership.atp.svp.model.table.JsonTable;
+import org.qubership.atp.svp.model.table.JsonTableRow;
+
+public class JsonParseTableServicesTest {
+
+    private static final int ROWS_COUNT = 10000;
+    private static final int HIERARCHY_ROOTS_COUNT = 25;
+    private static final int HIERARCHY_DEPTH = 2000;
+
+    private final CommonJsonParseService commonJsonParseService = new CommonJsonParseService();
+    private final CommonJsonParseTableService commonJsonParseTableService =
+            new CommonJsonParseTableService(commonJsonParseService);
+    private final TableServiceImpl tableService = new TableServiceImpl(commonJsonParseTableService);
+    private final HierarchyTableServiceImpl hierarchyTableService =
+            new HierarchyTableServiceImpl(commonJsonParseTableService, commonJsonParseService);
+
+    @Test(timeout = 30000)
+    @SuppressWarnings("unchecked")
+    public void parse_tableWithTenThousandRows_allCellsExtracted() throws GettingValueException {
+        JsonParseSettings settings = createSettings(JsonParseViewType.TABLE, "$.items[*]");
+
+        JsonTable table = (JsonTable) ((TableValueObject) tableService.parse(createTablePayload(), settings))
+                .getTable();
+
+        Assert.assertEquals(ROWS_COUNT, table.getRows().size());
+        List<Object> lastRowValues = getCellValues(table.getRows().get(ROWS_COUNT - 1));
+        Assert.assertEquals("id_9999", lastRowValues.get(0));
+        Assert.assertEquals("name 9999", lastRowValues.get(1));
+        Assert.assertEquals("9999", lastRowValues.get(2));
+        Assert.assertEquals("{\n  \"code\": 9999\n}", lastRowValues.get(3));
+        Assert.assertEquals("—", lastRowValues.get(4));
+        Map<String, String> groupedTags = (Map<String, String>) lastRowValues.get(5);
+        Assert.assertEquals(Arrays.asList("a", "b"), new ArrayList<>(groupedTags.keySet()));
+        Assert.assertEquals("{\n  \"type\": \"b\",\n  \"value\": 9999\n}", groupedTags.get("b"));
+    }
+
+    @Test
+    public void parse_hierarchyTable_rowsSortedByHierarchy() throws GettingValueException {
+        JsonParseSettings settings = createSettings(JsonParseViewType.HIERARCHY_TABLE, "$.items[*]");
+        settings.setHierarchyNodeNames(new JsonHierarchyNodeNames("id", "rootId", "parentId"));
+        String payload = "{\"items\": ["
+                + "{\"id\": \"C\", \"rootId\": \"A\", \"parentId\": \"B\", \"name\": \"c\"},"
+                + "{\"id\": \"A\", \"rootId\": \"A\", \"name\": \"a\"},"
+                + "{\"id\": \"D\", \"rootId\": \"D\", \"name\": \"d\"},"
+                + "{\"id\": \"B\", \"rootId\": \"A\", \"parentId\": \"A\", \"name\": \"b\"}"
+                + "]}";
+
+        JsonTable table = (JsonTable) ((TableValueObject) hierarchyTableService.parse(payload, settings)).getTable();
+
+        List<String> ids = table.getRows().stream()
+                .map(row -> ((JsonSimpleCell) row.getCells().get(0)).getSimpleValue())
+                .collect(Collectors.toList());
+        List<Integer> depths = table.getRows().stream()
+                .map(JsonTableRow::getNestingDepth)
+                .collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("A", "B", "C", "D"), ids);
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 0), depths);
+    }
+
+    @Test(timeout = 30000)
+    public void parse_hierarchyTableWithFiftyThousandNodesAndDepthTwoThousand_rowsSortedByHierarchy()
+            throws GettingValueException {
+        JsonParseSettings settings = createSettings(JsonParseViewType.HIERARCHY_TABLE, "$.items[*]");
+        settings.setColumnsData(Collections.singletonList(
+                new JsonDataColumnSettings("id", "$.id", Collections.emptyList())));
+        settings.setHierarchyNodeNames(new JsonHierarchyNodeNames("id", "rootId", "parentId"));
+
+        JsonTable table = (JsonTable) ((TableValueObject) hierarchyTableService.parse(createHierarchyPayload(),
+                settings)).getTable();
+
+        Assert.assertEquals(HIERARCHY_ROOTS_COUNT * HIERARCHY_DEPTH, table.getRows().size());
+        for (int root = 0; root < HIERARCHY_ROOTS_COUNT; root++) {
+            for (int level = 0; level < HIERARCHY_DEPTH; level++) {
+                JsonTableRow row = table.getRows().get(root * HIERARCHY_DEPTH + level);
+                Assert.assertEquals(level, row.getNestingDepth());
+                Assert.assertEquals(root + "_" + level, ((JsonSimpleCell) row.getCells().get(0)).getSimpleValue());
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parse_decimalAndExponentNumbers_printedAsJsonSmartNumbers() throws GettingValueException {
+        JsonParseSettings settings = createSettings(JsonParseViewType.TABLE, "$.items[*]");
+        settings.setColumnsData(Arrays.asList(
+                new JsonDataColumnSettings("decimal", "$.decimal", Collections.emptyList()),
+                new JsonDataColumnSettings("exponent", "$.exponent", Collections.emptyList()),
+                new JsonDataColumnSettings("negativeExponent", "$.negativeExponent", Collections.emptyList()),
+                new JsonDataColumnSettings("integer", "$.integer", Collections.emptyList()),
+                new JsonDataColumnSettings("details", "$.details", Collections.emptyList()),
+                new JsonDataColumnSettings("tags", "$.tags", Collections.singletonList("$.type"))));
+        String payload = "{\"items\": [{\"decimal\": 10.50, \"exponent\": 1e3, \"negativeExponent\": 1.5E-7, "
+                + "\"integer\": 10, \"details\": {\"amount\": 2.50}, "
+                + "\"tags\": [{\"type\": \"a\", \"value\": 0.10}]}]}";
+
+        JsonTable table = (JsonTable) ((TableValueObject) tableService.parse(payload, settings)).getTable();
+
+        List<Object> values = getCellValues(table.getRows().get(0));
+        Assert.assertEquals("10.5", values.get(0));
+        Assert.assertEquals("1000.0", values.get(1));
+        Assert.assertEquals("1.5E-7", values.get(2));
+        Assert.assertEquals("10", values.get(3));
+        Assert.assertEquals("{\n  \"amount\": 2.5\n}", values.get(4));
+        Assert.assertEquals("{\n  \"type\": \"a\",\n  \"value\": 0.1\n}",
+                ((Map<String, String>) values.get(5)).get("a"));
+    }
+
+    @Test
+    public void compile_sameJsonPath_compiledOnce() {
+        Assert.assertSame(commonJsonParseService.compile("$.items[*].id"),
+                commonJsonParseService.compile("$.items[*].id"));
+    }
+
+    private JsonParseSettings createSettings(JsonParseViewType viewType, String jsonPath) {
+        JsonParseSettings settings = new JsonParseSettings();
+        settings.setJsonViewType(viewType);
+        settings.setJsonPath(jsonPath);
+        settings.setGroupNameDivider("_");
+        settings.setColumnsData(Arrays.asList(
+                new JsonDataColumnSettings("id", "$.id", Collections.emptyList()),
+                new JsonDataColumnSettings("name", "$.name", Collections.emptyList()),
+                new JsonDataColumnSettings("count", "$.count", Collections.emptyList()),
+                new JsonDataColumnSettings("details", "$.details", Collections.emptyList()),
+                new JsonDataColumnSettings("missing", "$.missing", Collections.emptyList()),
+                new JsonDataColumnSettings("tags", "$.tags", Collections.singletonList("$.type"))));
+        return settings;
+    }
+
+    private String createTablePayload() {
+        StringBuilder payload = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < ROWS_COUNT; i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append("{\"id\": \"id_").append(i)
+                    .append("\", \"name\": \"name ").append(i)
+                    .append("\", \"count\": ").append(i)
+                    .append(", \"details\": {\"code\": ").append(i)
+                    .append("}, \"tags\": [{\"type\": \"a\", \"value\": 0}, {\"type\": \"b\", \"value\": ")
+                    .append(i).append("}]}");
+        }
+        return payload.append("]}").toString();
+    }
+
+    /**
+     * Chains of nodes, children are placed before their parents in the array.
+     */
+    private String createHierarchyPayload() {
+        List<String> nodes = new ArrayList<>();
+        for (int level = HIERARCHY_DEPTH - 1; level >= 0; level--) {
+            for (int root = 0; root < HIERARCHY_ROOTS_COUNT; root++) {
+                StringBuilder node = new StringBuilder();
+                node.append("{\"id\": \"").append(root).append('_').append(level)
+                        .append("\", \"rootId\": \"").append(root).append("_0\"");
+                if (level > 0) {
+                    node.append(", \"parentId\": \"").append(root).append('_').append(level - 1).append('"');
+                }
+                nodes.add(node.append('}').toString());
+            }
+        }
+        return "{\"items\": [" + String.join(",", nodes) + "]}";
+    }
+
+    private List<Object> getCellValues(JsonTableRow row) {
+        return row.getCells().stream()
+                .map(cell -> cell instanceof JsonSimpleCell
+                        ? ((JsonSimpleCell) cell).getSimpleValue()
+                        : ((JsonGroupedCell) cell).getGroupedValue())
+                .collect(Collectors.toList());
+    }
+}
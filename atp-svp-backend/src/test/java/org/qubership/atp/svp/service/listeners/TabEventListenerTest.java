@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.service.listeners;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import org.qubership.atp.svp.core.executor.EngineTypeConcurrencyLimiter;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
+import org.qubership.atp.svp.model.events.GetInfoForParameterEvent;
+import org.qubership.atp.svp.model.events.GetInfoForTabEvent;
+import org.qubership.atp.svp.model.pot.SessionExecutionContext;
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepository;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionParameterRepository;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepository;
+import org.qubership.atp.svp.service.DisplayTypeServiceFactory;
+import org.qubership.atp.svp.service.PotSessionTabService;
+import org.qubership.atp.svp.service.ValidationService;
+import org.qubership.atp.svp.service.direct.DeferredSearchServiceImpl;
+import org.qubership.atp.svp.service.direct.ExecutionVariablesServiceImpl;
+import org.qubership.atp.svp.service.direct.ExecutionVariablesStore;
+import org.qubership.atp.svp.service.direct.ParameterResultsWriter;
+import org.qubership.atp.svp.service.direct.PotSessionParameterServiceImpl;
+import org.qubership.atp.svp.service.direct.PotSessionServiceImpl;
+import org.qubership.atp.svp.service.direct.SessionServiceImpl;
+import org.qubership.atp.svp.tests.PostgresJpaTestUtils;
+
+/**
+ * Counts statements executed by Hibernate on PostgreSQL for tabs of one session.
+ */
+public class TabEventListenerTest {
+
+    private static final int TABS = 500;
+    private static final int PARAMETERS_PER_TAB = 10;
+    private static final String PASSWORD = "svp";
+
+    @ClassRule
+    public static GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:13"))
+            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private ApplicationEventPublisher eventPublisher;
+    private PotSessionTabService potSessionTabService;
+    private PotSessionServiceImpl potSessionService;
+    private PotSessionParameterServiceImpl potSessionParameterService;
+    private ExecutionVariablesStore executionVariablesStore;
+    private TabEventListener listener;
+
+    @Before
+    public void init() {
+        entityManagerFactory = PostgresJpaTestUtils.createEntityManagerFactory(postgres, PASSWORD);
+        statistics = PostgresJpaTestUtils.getStatistics(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        PotSessionRepository potSessionRepository = repositoryFactory.getRepository(PotSessionRepository.class);
+        executionVariablesStore = new ExecutionVariablesStore(potSessionRepository,
+                mock(PotSessionBulkRepository.class), 600);
+        potSessionService = new PotSessionServiceImpl(mock(DeferredSearchServiceImpl.class),
+                mock(ExecutionVariablesServiceImpl.class), mock(ValidationService.class), 1,
+                potSessionRepository, mock(SessionServiceImpl.class), executionVariablesStore,
+                mock(PotSessionBulkRepository.class));
+        potSessionParameterService = new PotSessionParameterServiceImpl(mock(DisplayTypeServiceFactory.class),
+                repositoryFactory.getRepository(PotSessionParameterRepository.class), potSessionService,
+                mock(AsyncTaskExecutor.class), 300000, new EngineTypeConcurrencyLimiter(50));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        potSessionTabService = mock(PotSessionTabService.class);
+        listener = new TabEventListener(eventPublisher, potSessionTabService, potSessionParameterService,
+                mock(ParameterResultsWriter.class));
+    }
+
+    @After
+    public void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    public void handleGetInfoForTabEvent_fiveHundredTabs_onlyParametersOfTabsAreRead() {
+        PotSessionEntity createdSession = PostgresJpaTestUtils.createSession(entityManagerFactory, TABS,
+                PARAMETERS_PER_TAB);
+        UUID sessionId = createdSession.getSessionId();
+        List<UUID> tabIds = createdSession.getPotSessionPageEntities().get(0).getPotSessionTabs().stream()
+                .map(PotSessionTabEntity::getId)
+                .collect(Collectors.toList());
+        // Session is loaded once for the execution, variables are registered when the session is started
+        PotSessionEntity session = potSessionService.findSessionById(sessionId);
+        executionVariablesStore.register(sessionId, session.getExecutionVariables());
+        SessionExecutionContext executionContext = potSessionService.createExecutionContext(session);
+
+        statistics.clear();
+        tabIds.forEach(tabId -> potSessionParameterService.getPotSessionParameters(tabId, false));
+        long parametersLoadingStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        AtomicInteger countOfUnprocessedTabs = new AtomicInteger(TABS);
+        AtomicInteger countOfUnprocessedPages = new AtomicInteger(1);
+        for (UUID tabId : tabIds) {
+            listener.handleGetInfoForTabEventSynchronously(GetInfoForTabEvent.builder()
+                    .sessionId(sessionId)
+                    .tabId(tabId)
+                    .tabName("Tab")
+                    .onlyForPreconfiguredParams(true)
+                    .countOfUnprocessedTabsUnderPage(countOfUnprocessedTabs)
+                    .countOfUnprocessedPagesUnderSession(countOfUnprocessedPages)
+                    .executionContext(executionContext)
+                    .build());
+        }
+
+        // Tabs execute exactly the statements of loading their parameters, the session is not read again
+        Assert.assertEquals(parametersLoadingStatements, statistics.getPrepareStatementCount());
+        Assert.assertEquals(TABS, statistics.getQueryExecutionCount());
+        Assert.assertEquals(1, statistics.getQueries().length);
+        Assert.assertTrue(statistics.getQueries()[0].contains(PotSessionParameterEntity.class.getSimpleName()));
+        ArgumentCaptor<GetInfoForParameterEvent> events = ArgumentCaptor.forClass(GetInfoForParameterEvent.class);
+        verify(eventPublisher, times(TABS * PARAMETERS_PER_TAB)).publishEvent(events.capture());
+        events.getAllValues().forEach(event ->
+                Assert.assertSame(executionContext, event.getParameterExecutionContext().getSessionExecutionContext()));
+        verifyNoInteractions(potSessionTabService);
+        Assert.assertEquals(TABS, countOfUnprocessedTabs.get());
+    }
+}
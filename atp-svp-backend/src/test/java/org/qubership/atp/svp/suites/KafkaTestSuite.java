@@ -23,6 +23,7 @@ import org.junit.runners.Suite;
 import org.qubership.atp.svp.controllers.ExecutorControllerMockedIntegrationTest;
 import org.qubership.atp.svp.kafka.LogCollectorEventKafkaListenerTest;
 import org.qubership.atp.svp.kafka.ProjectEventKafkaListenerTest;
+import org.qubership.atp.svp.kafka.SvpKafkaPodRoutingTest;
 
 // TODO It is necessary to implement the performance of tests on CI/CD.
 @Ignore("Ignored because tests do not work on CI/CD. Work locally with Docker installed.")
@@ -30,6 +31,7 @@ import org.qubership.atp.svp.kafka.ProjectEventKafkaListenerTest;
 @Suite.SuiteClasses({
         LogCollectorEventKafkaListenerTest.class,
         ProjectEventKafkaListenerTest.class,
+        SvpKafkaPodRoutingTest.class,
         ExecutorControllerMockedIntegrationTest.class
 })
 public class KafkaTestSuite {
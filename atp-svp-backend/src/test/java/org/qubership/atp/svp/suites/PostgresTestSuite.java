@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.suites;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.testcontainers.DockerClientFactory;
+
+import org.qubership.atp.svp.repo.impl.PotSessionBulkRepositoryTest;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionIndexesTest;
+import org.qubership.atp.svp.repo.jpa.pot.session.PotSessionRepositoryMergeVariablesTest;
+import org.qubership.atp.svp.service.direct.ParameterResultsWriterTest;
+import org.qubership.atp.svp.service.listeners.TabEventListenerTest;
+
+/**
+ * Tests which run on PostgreSQL started by Testcontainers.
+ * The suite is skipped (not failed) on environments without Docker.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+        PotSessionRepositoryMergeVariablesTest.class,
+        PotSessionBulkRepositoryTest.class,
+        PotSessionIndexesTest.class,
+        TabEventListenerTest.class,
+        ParameterResultsWriterTest.class
+})
+public class PostgresTestSuite {
+
+    @BeforeClass
+    public static void checkDocker() {
+        Assume.assumeTrue("Docker is not available", DockerClientFactory.instance().isDockerAvailable());
+    }
+}
@@ -19,6 +19,8 @@ package org.qubership.atp.svp.suites;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
+import org.qubership.atp.svp.core.executor.EngineTypeConcurrencyLimiterTest;
+import org.qubership.atp.svp.core.executor.SessionFairTaskExecutorTest;
 import org.qubership.atp.svp.kafka.ProjectEventKafkaListenerUnitTest;
 import org.qubership.atp.svp.kafka.SvpKafkaListenerTest;
 import org.qubership.atp.svp.migration.ProjectMigrationToDataBaseServiceTest;
@@ -27,16 +29,28 @@ import org.qubership.atp.svp.model.bulkvalidator.ComparingProcessRequestTest;
 import org.qubership.atp.svp.model.bulkvalidator.ComparingProcessResponseTest;
 import org.qubership.atp.svp.model.impl.SourceTest;
 import org.qubership.atp.svp.model.impl.TableValidationTest;
+import org.qubership.atp.svp.repo.impl.CassandraRepositoryTest;
+import org.qubership.atp.svp.repo.impl.EnvironmentRepositoryTest;
 import org.qubership.atp.svp.repo.impl.FilePageConfigurationRepositoryTest;
+import org.qubership.atp.svp.repo.impl.SoapRepositoryImplTest;
+import org.qubership.atp.svp.repo.impl.SqlRepositoryReadingTest;
 import org.qubership.atp.svp.repo.impl.SqlRepositoryTest;
+import org.qubership.atp.svp.repo.impl.pool.CassandraSessionPoolTest;
 import org.qubership.atp.svp.repo.impl.pool.DiffServersConnectionPoolTest;
+import org.qubership.atp.svp.repo.impl.pool.SshSessionPoolTest;
 import org.qubership.atp.svp.service.DefaultDisplayTypeServiceTest;
 import org.qubership.atp.svp.service.ProjectConfigServiceTest;
+import org.qubership.atp.svp.service.direct.BulkValidatorValidationServiceTest;
+import org.qubership.atp.svp.service.direct.CompareTablesServiceTest;
 import org.qubership.atp.svp.service.direct.DeferredSearchServiceImplTest;
 import org.qubership.atp.svp.service.direct.ExecutionVariablesServiceImplTest;
+import org.qubership.atp.svp.service.direct.ExecutionVariablesStoreTest;
 import org.qubership.atp.svp.service.direct.ExecutorServiceImplTest;
 import org.qubership.atp.svp.service.direct.GitProjectServiceImplTest;
+import org.qubership.atp.svp.service.direct.PotGenerationEngineImplTest;
+import org.qubership.atp.svp.service.direct.PotSessionParameterServiceImplTest;
 import org.qubership.atp.svp.service.direct.PotSessionServiceImplTest;
+import org.qubership.atp.svp.service.direct.SessionCompletionRegistryTest;
 import org.qubership.atp.svp.service.direct.SessionDtoProcessorServiceTest;
 import org.qubership.atp.svp.service.direct.SessionServiceImplTest;
 import org.qubership.atp.svp.service.direct.WebSocketMessagingServiceTest;
@@ -44,8 +58,10 @@ import org.qubership.atp.svp.service.direct.displaytype.IntegrationLogDisplayTyp
 import org.qubership.atp.svp.service.direct.displaytype.JsonDisplayTypeServiceImplTest;
 import org.qubership.atp.svp.service.direct.displaytype.LinkDisplayTypeServiceImplTest;
 import org.qubership.atp.svp.service.direct.displaytype.ParamDisplayTypeServiceImplTest;
+import org.qubership.atp.svp.service.direct.displaytype.ReferenceJsonTableIndexTest;
 import org.qubership.atp.svp.service.direct.displaytype.TableDisplayTypeServiceImplTest;
 import org.qubership.atp.svp.service.direct.displaytype.XmlDisplayTypeServiceImplTest;
+import org.qubership.atp.svp.service.direct.displaytype.jsonparse.JsonParseTableServicesTest;
 import org.qubership.atp.svp.service.direct.validation.ValidationServiceImplPageValidationParametrizedTest;
 import org.qubership.atp.svp.service.direct.validation.ValidationServiceImplSessionValidationParametrizedTest;
 import org.qubership.atp.svp.service.direct.validation.ValidationServiceImplTabValidationParametrizedTest;
@@ -58,21 +74,31 @@ import org.qubership.atp.svp.service.direct.validation.ValidationServiceImplTabV
         SourceTest.class,
         TableValidationTest.class,
         DiffServersConnectionPoolTest.class,
+        CassandraSessionPoolTest.class,
+        SshSessionPoolTest.class,
         FilePageConfigurationRepositoryTest.class,
+        EnvironmentRepositoryTest.class,
         SqlRepositoryTest.class,
+        SqlRepositoryReadingTest.class,
+        SoapRepositoryImplTest.class,
         IntegrationLogDisplayTypeServiceImplTest.class,
         JsonDisplayTypeServiceImplTest.class,
         LinkDisplayTypeServiceImplTest.class,
         ParamDisplayTypeServiceImplTest.class,
+        ReferenceJsonTableIndexTest.class,
         TableDisplayTypeServiceImplTest.class,
         XmlDisplayTypeServiceImplTest.class,
+        JsonParseTableServicesTest.class,
         ValidationServiceImplTabValidationParametrizedTest.class,
         ValidationServiceImplPageValidationParametrizedTest.class,
         ValidationServiceImplSessionValidationParametrizedTest.class,
         ExecutorServiceImplTest.class,
+        CompareTablesServiceTest.class,
+        BulkValidatorValidationServiceTest.class,
         DeferredSearchServiceImplTest.class,
         GitProjectServiceImplTest.class,
         PotSessionServiceImplTest.class,
+        PotSessionParameterServiceImplTest.class,
         DefaultDisplayTypeServiceTest.class,
         ProjectConfigServiceTest.class,
         SessionDtoProcessorServiceTest.class,
@@ -81,7 +107,13 @@ import org.qubership.atp.svp.service.direct.validation.ValidationServiceImplTabV
         WebSocketMessagingServiceTest.class,
         SvpKafkaListenerTest.class,
         ProjectEventKafkaListenerUnitTest.class,
-        ExecutionVariablesServiceImplTest.class
+        ExecutionVariablesServiceImplTest.class,
+        ExecutionVariablesStoreTest.class,
+        SessionCompletionRegistryTest.class,
+        SessionFairTaskExecutorTest.class,
+        EngineTypeConcurrencyLimiterTest.class,
+        PotGenerationEngineImplTest.class,
+        CassandraRepositoryTest.class
 })
 public class UnitTestSuite {
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is provided "AS IS", without warranties
+ * or conditions of any kind, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.atp.svp.tests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.GenericContainer;
+
+import org.qubership.atp.svp.core.enums.EngineType;
+import org.qubership.atp.svp.core.enums.ValidationStatus;
+import org.qubership.atp.svp.model.db.SutParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionPageEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionParameterEntity;
+import org.qubership.atp.svp.model.db.pot.session.PotSessionTabEntity;
+import org.qubership.atp.svp.model.environments.Environment;
+import org.qubership.atp.svp.model.impl.Source;
+import org.qubership.atp.svp.model.pot.SessionExecutionConfiguration;
+
+/**
+ * Hibernate on PostgreSQL started by Testcontainers for tests which count statements of the POT session entities.
+ * The schema is created from the entities, statistics are enabled as in application.properties.
+ */
+public class PostgresJpaTestUtils {
+
+    /**
+     * Creates entity manager factory of the SVP entities on the database of the container.
+     */
+    public static EntityManagerFactory createEntityManagerFactory(GenericContainer<?> postgres, String password) {
+        return createEntityManagerFactory(postgres, password, null);
+    }
+
+    /**
+     * Creates entity manager factory of the SVP entities on the database of the container,
+     * SQL of all statements executed by Hibernate (including native queries) is passed to the inspector.
+     */
+    public static EntityManagerFactory createEntityManagerFactory(GenericContainer<?> postgres, String password,
+                                                                  StatementInspector statementInspector) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:postgresql://" + postgres.getHost()
+                + ":" + postgres.getMappedPort(5432) + "/postgres", "postgres", password);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", PostgreSQL10Dialect.class.getName());
+        properties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.put("hibernate.hbm2ddl.auto", "create");
+        properties.put("hibernate.generate_statistics", "true");
+        properties.put("hibernate.jdbc.batch_size", "50");
+        properties.put("hibernate.jdbc.batch_versioned_data", "true");
+        properties.put("hibernate.order_updates", "true");
+        if (Objects.nonNull(statementInspector)) {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+        }
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.qubership.atp.svp.model.db");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    public static Statistics getStatistics(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Stores session with one page with the tabs, parameters of the tabs are loaded asynchronously.
+     */
+    public static PotSessionEntity createSession(EntityManagerFactory entityManagerFactory,
+                                                 int tabs, int parametersPerTab) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            SutParameterEntity parameterConfig = new SutParameterEntity()
+                    .setParameterId(UUID.randomUUID())
+                    .setName("Parameter")
+                    .setSource(new Source("System", "Connection", EngineType.SQL, "select 1",
+                            Collections.emptySet()));
+            entityManager.persist(parameterConfig);
+            PotSessionEntity session = new PotSessionEntity(getExecutionConfiguration(), new HashMap<>(),
+                    new ConcurrentHashMap<>(), Collections.singletonList("Page"));
+            PotSessionPageEntity page = new PotSessionPageEntity();
+            page.setName("Page");
+            page.setValidationStatus(ValidationStatus.IN_PROGRESS);
+            page.setPotSessionEntity(session);
+            page.setPotSessionTabs(new ArrayList<>());
+            for (int i = 0; i < tabs; i++) {
+                PotSessionTabEntity tab = new PotSessionTabEntity();
+                tab.setName("Tab " + i);
+                tab.setValidationStatus(ValidationStatus.IN_PROGRESS);
+                tab.setPotSessionPageEntity(page);
+                List<PotSessionParameterEntity> parameters = new ArrayList<>();
+                for (int j = 0; j < parametersPerTab; j++) {
+                    parameters.add(new PotSessionParameterEntity(parameterConfig, tab, page.getName(),
+                            "Group " + j, false));
+                }
+                tab.setPotSessionParameterEntities(parameters);
+                page.getPotSessionTabs().add(tab);
+            }
+            session.setPotSessionPageEntities(Collections.singletonList(page));
+            session.setCommonParameters(new ArrayList<>());
+            entityManager.persist(session);
+            entityManager.getTransaction().commit();
+            return session;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static SessionExecutionConfiguration getExecutionConfiguration() {
+        return SessionExecutionConfiguration.builder()
+                .environment(new Environment())
+                .pagesName(Collections.singletonList("Page"))
+                .logCollectorConfigurations(Collections.emptyList())
+                .shouldHighlightDiffs(false)
+                .shouldSendSessionResults(false)
+                .isFullInfoNeededInPot(false)
+                .onlyForPreconfiguredParams(false)
+                .isPotGenerationMode(false)
+                .onlyCommonParametersExecuted(false)
+                .forcedLoadingCommonParameters(false)
+                .build();
+    }
+}
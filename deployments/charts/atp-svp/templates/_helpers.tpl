@@ -158,6 +158,7 @@ SVP_GETTING_INFO_THREAD_POOL_QUEUE_CAPACITY: "{{ .Values.SVP_GETTING_INFO_THREAD
 SVP_VALIDATION_THREAD_POOL_CORE_SIZE: "{{ .Values.SVP_VALIDATION_THREAD_POOL_CORE_SIZE }}"
 SVP_VALIDATION_THREAD_POOL_MAX_SIZE: "{{ .Values.SVP_VALIDATION_THREAD_POOL_MAX_SIZE }}"
 SVP_VALIDATION_THREAD_POOL_QUEUE_CAPACITY: "{{ .Values.SVP_VALIDATION_THREAD_POOL_QUEUE_CAPACITY }}"
+SVP_EXECUTOR_SESSION_CONCURRENCY_LIMIT: "{{ .Values.SVP_EXECUTOR_SESSION_CONCURRENCY_LIMIT }}"
 SWAGGER_ENABLED: "{{ .Values.SWAGGER_ENABLED }}"
 UNDERTOW_THREADS_IO: '{{ .Values.UNDERTOW_THREADS_IO }}'
 UNDERTOW_THREADS_WORKER: '{{ .Values.UNDERTOW_THREADS_WORKER }}'